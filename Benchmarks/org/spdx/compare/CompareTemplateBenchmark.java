@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.licenseTemplate.LicenseTemplateRuleException;
+import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
+import org.spdx.rdfparser.license.LicenseParserException;
+
+/**
+ * Benchmarks comparing license texts to license templates using the
+ * <code>TestFiles/*.template.txt</code> templates and their matching license texts
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompareTemplateBenchmark {
+
+	static final String TEST_FILES_DIR = "TestFiles";
+
+	@Param({"AAL", "AFL-3.0", "AGPL-3.0-only", "Adobe-Glyph", "Apache-1.0", "BSD-1-Clause",
+		"BSD-2-Clause-NetBSD", "BSD-2-Clause", "BSD-4-Clause-UC", "BSD-4-Clause", "CECILL-2.0",
+		"Condor-1.1", "Crossword", "D-FSL-1.0", "HPND", "ISC", "LPPL-1.3a", "LPPL-1.3c", "MPL-1.0",
+		"ODbL-1.0", "RPSL-1.0", "RSCPL", "SSPL-1.0", "Sleepycat"})
+	String licenseId;
+
+	String template;
+	String text;
+
+	@Setup
+	public void setUp() throws IOException {
+		template = readTestFile(licenseId + ".template.txt");
+		text = readTestFile(licenseId + ".txt");
+	}
+
+	static String readTestFile(String fileName) throws IOException {
+		return new String(Files.readAllBytes(new File(TEST_FILES_DIR, fileName).toPath()), StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public boolean compareTextToTemplate() throws IOException, LicenseTemplateRuleException, LicenseParserException {
+		CompareTemplateOutputHandler compareHandler = new CompareTemplateOutputHandler(text);
+		SpdxLicenseTemplateHelper.parseTemplate(template, compareHandler);
+		return compareHandler.matches();
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+
+/**
+ * Benchmarks for matching license text to the SPDX listed licenses using the
+ * license texts in <code>TestFiles</code>.  Only the license list included in the
+ * resources is used.
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSPDXParser.OnlyUseLocalLicenses=true")
+public class LicenseCompareBenchmark {
+
+	@Param({"AAL", "AFL-3.0", "AGPL-3.0-only", "Apache-1.0", "BSD-2-Clause", "BSD-4-Clause",
+		"CECILL-2.0", "ISC", "LPPL-1.3c", "MPL-1.0", "SSPL-1.0", "Sleepycat"})
+	String licenseId;
+
+	String text;
+	String reformattedText;
+	SpdxListedLicense license;
+
+	@Setup
+	public void setUp() throws IOException, InvalidSPDXAnalysisException {
+		text = CompareTemplateBenchmark.readTestFile(licenseId + ".txt");
+		// Same text with different white space and line breaks
+		reformattedText = text.replaceAll("\\s+", " ").replace(". ", ".\n");
+		license = LicenseInfoFactory.getListedLicenseById(licenseId);
+	}
+
+	@Benchmark
+	public DifferenceDescription isTextStandardLicense() throws SpdxCompareException {
+		return LicenseCompareHelper.isTextStandardLicense(license, text);
+	}
+
+	@Benchmark
+	public String[] matchingStandardLicenseIds() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		return LicenseCompareHelper.matchingStandardLicenseIds(text);
+	}
+
+	@Benchmark
+	public boolean isLicenseTextEquivalent() {
+		return LicenseCompareHelper.isLicenseTextEquivalent(text, reformattedText);
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.rdfparser.DocumentParseBenchmark;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.SyntheticDocuments;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+/**
+ * Benchmarks for comparing SPDX documents.  The documents are read from the same file twice so
+ * that the comparison does not find any differences.
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSPDXParser.OnlyUseLocalLicenses=true")
+public class SpdxComparerBenchmark {
+
+	/**
+	 * Number of files in the compared documents - 0 for the example document
+	 */
+	@Param({"0", "1000", "5000"})
+	int numFiles;
+
+	SpdxDocument docA;
+	SpdxDocument docB;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, InvalidSPDXAnalysisException {
+		if (numFiles == 0) {
+			docA = SPDXDocumentFactory.createSpdxDocument(DocumentParseBenchmark.EXAMPLE_RDF);
+			docB = SPDXDocumentFactory.createSpdxDocument(DocumentParseBenchmark.EXAMPLE_RDF);
+		} else {
+			File file = File.createTempFile("synthetic", ".rdf");
+			try {
+				SyntheticDocuments.writeDocument(file, 10, numFiles / 10, numFiles);
+				docA = SPDXDocumentFactory.createSpdxDocument(file.getPath());
+				docB = SPDXDocumentFactory.createSpdxDocument(file.getPath());
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean compare() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		SpdxComparer comparer = new SpdxComparer();
+		comparer.compare(docA, docB);
+		return comparer.isDifferenceFound();
+	}
+}
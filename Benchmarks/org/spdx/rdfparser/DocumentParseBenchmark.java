@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+/**
+ * Benchmarks for reading SPDX documents from the <code>Examples</code> directory and
+ * from synthetic documents
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSPDXParser.OnlyUseLocalLicenses=true")
+public class DocumentParseBenchmark {
+
+	public static final String EXAMPLE_RDF = "Examples" + File.separator + "SPDXRdfExample-v2.1.rdf";
+
+	/**
+	 * A synthetic document written to a temporary file
+	 */
+	@State(Scope.Benchmark)
+	public static class SyntheticDocumentFile {
+		@Param({"1000", "10000"})
+		int numFiles;
+
+		File file;
+
+		@Setup(Level.Trial)
+		public void setUp() throws IOException, InvalidSPDXAnalysisException {
+			file = File.createTempFile("synthetic", ".rdf");
+			SyntheticDocuments.writeDocument(file, 10, numFiles / 10, numFiles);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			file.delete();
+		}
+	}
+
+	@Benchmark
+	public SpdxDocument parseExample() throws IOException, InvalidSPDXAnalysisException {
+		return SPDXDocumentFactory.createSpdxDocument(EXAMPLE_RDF);
+	}
+
+	@Benchmark
+	public SpdxDocument parseSynthetic(SyntheticDocumentFile synthetic) throws IOException, InvalidSPDXAnalysisException {
+		return SPDXDocumentFactory.createSpdxDocument(synthetic.file.getPath());
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.tools.GenerateSyntheticDocument;
+
+/**
+ * Creates deterministic synthetic SPDX documents and files for benchmarks
+ * @author agent
+ *
+ */
+public class SyntheticDocuments {
+
+	public static final String[] LICENSE_IDS = new String[] {"Apache-2.0", "MIT", "BSD-3-Clause", "GPL-2.0-or-later", "EPL-1.0"};
+	public static final int FILES_PER_DIRECTORY = 50;
+
+	/**
+	 * Create synthetic SPDX files
+	 * @param packageName name of the package used in the file paths
+	 * @param numFiles number of files
+	 * @param random source of the random license choices
+	 * @return files with deterministic names, checksums and licenses
+	 */
+	public static SpdxFile[] createFiles(String packageName, int numFiles, Random random) throws InvalidSPDXAnalysisException {
+		AnyLicenseInfo[] licenses = new AnyLicenseInfo[LICENSE_IDS.length];
+		for (int i = 0; i < LICENSE_IDS.length; i++) {
+			licenses[i] = LicenseInfoFactory.getListedLicenseById(LICENSE_IDS[i]);
+		}
+		SpdxFile[] files = new SpdxFile[numFiles];
+		for (int i = 0; i < numFiles; i++) {
+			String path = "./" + packageName + "/dir" + (i / FILES_PER_DIRECTORY) + "/file" + i + ".c";
+			AnyLicenseInfo license = licenses[random.nextInt(licenses.length)];
+			files[i] = new SpdxFile(path, new FileType[] {FileType.fileType_source}, GenerateSyntheticDocument.sha1(path),
+					new SpdxNoAssertionLicense(), new AnyLicenseInfo[] {license}, null,
+					"Copyright (c) " + (2000 + random.nextInt(20)) + " Contributor " + random.nextInt(100),
+					null, null);
+		}
+		return files;
+	}
+
+	/**
+	 * Create a synthetic SPDX document
+	 * @param numPackages number of packages described by the document
+	 * @param filesPerPackage number of files in each package
+	 * @param seed seed for the random choices - the same seed creates the same document
+	 * @return document container for the synthetic document
+	 */
+	public static SpdxDocumentContainer createDocument(int numPackages, int filesPerPackage, long seed) throws InvalidSPDXAnalysisException {
+		return GenerateSyntheticDocument.createDocument(new GenerateSyntheticDocument.Parameters(
+				numPackages, numPackages * filesPerPackage, 0, 0, 0, 0, seed));
+	}
+
+	/**
+	 * Write a synthetic SPDX document in RDF/XML format
+	 * @param file file to write the document to
+	 * @param numPackages number of packages described by the document
+	 * @param filesPerPackage number of files in each package
+	 * @param seed seed for the random choices - the same seed creates the same document
+	 */
+	public static void writeDocument(File file, int numPackages, int filesPerPackage, long seed) throws InvalidSPDXAnalysisException, IOException {
+		SpdxDocumentContainer container = createDocument(numPackages, filesPerPackage, seed);
+		try (OutputStream out = new FileOutputStream(file)) {
+			container.getModel().write(out, "RDF/XML-ABBREV");
+		}
+	}
+}
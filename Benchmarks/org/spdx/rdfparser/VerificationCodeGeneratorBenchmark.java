@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.rdfparser.model.SpdxFile;
+
+/**
+ * Benchmarks for generating package verification codes from SPDX files and from a directory
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSPDXParser.OnlyUseLocalLicenses=true")
+public class VerificationCodeGeneratorBenchmark {
+
+	@Param({"1000", "10000"})
+	int numFiles;
+
+	SpdxFile[] spdxFiles;
+	File sourceDirectory;
+	VerificationCodeGenerator generator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws InvalidSPDXAnalysisException, NoSuchAlgorithmException, IOException {
+		generator = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+		spdxFiles = SyntheticDocuments.createFiles("package", numFiles, new Random(numFiles));
+		sourceDirectory = Files.createTempDirectory("verificationcode").toFile();
+		for (int i = 0; i < numFiles; i++) {
+			File dir = new File(sourceDirectory, "dir" + (i / SyntheticDocuments.FILES_PER_DIRECTORY));
+			dir.mkdirs();
+			Files.write(new File(dir, "file" + i + ".c").toPath(),
+					("/* file " + i + " */\nint main() { return " + i + "; }\n").getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		deleteAll(sourceDirectory);
+	}
+
+	private static void deleteAll(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child:children) {
+				deleteAll(child);
+			}
+		}
+		file.delete();
+	}
+
+	@Benchmark
+	public SpdxPackageVerificationCode fromSpdxFiles() throws NoSuchAlgorithmException {
+		return generator.generatePackageVerificationCode(spdxFiles, new String[0]);
+	}
+
+	@Benchmark
+	public SpdxPackageVerificationCode fromDirectory() throws NoSuchAlgorithmException, IOException {
+		return generator.generatePackageVerificationCode(sourceDirectory, new File[0]);
+	}
+}
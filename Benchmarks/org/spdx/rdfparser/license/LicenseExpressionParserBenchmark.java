@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.license;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+
+/**
+ * Benchmarks for parsing license expressions
+ * @author agent
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSPDXParser.OnlyUseLocalLicenses=true")
+public class LicenseExpressionParserBenchmark {
+
+	static final String[] LICENSE_IDS = new String[] {"Apache-2.0", "MIT", "BSD-3-Clause", "GPL-2.0-or-later",
+			"LGPL-2.1-only", "MPL-2.0", "EPL-1.0", "LicenseRef-1", "ISC", "Zlib"};
+
+	@Param({"1", "5", "50"})
+	int numLicenses;
+
+	String expression;
+
+	@Setup
+	public void setUp() {
+		if (numLicenses == 1) {
+			expression = LICENSE_IDS[0];
+			return;
+		}
+		// alternate conjunctions and disjunctions with nested parenthesis and a license exception
+		StringBuilder sb = new StringBuilder("(");
+		for (int i = 0; i < numLicenses; i++) {
+			if (i > 0) {
+				sb.append(i % 2 == 0 ? " AND " : " OR ");
+				if (i % 5 == 0) {
+					sb.append('(');
+				}
+			}
+			sb.append(LICENSE_IDS[i % LICENSE_IDS.length]);
+			if (i % 7 == 3) {
+				sb.append(" WITH Classpath-exception-2.0");
+			}
+		}
+		sb.append(')');
+		for (int i = 5; i < numLicenses; i += 5) {
+			sb.append(')');
+		}
+		expression = sb.toString();
+	}
+
+	@Benchmark
+	public AnyLicenseInfo parseLicenseExpression() throws InvalidSPDXAnalysisException {
+		return LicenseExpressionParser.parseLicenseExpression(expression, null);
+	}
+}
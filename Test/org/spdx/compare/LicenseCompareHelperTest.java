@@ -31,6 +31,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.spdx.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.licenseTemplate.LicenseTemplateRuleException;
+import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.ConjunctiveLicenseSet;
@@ -574,6 +576,28 @@ public class LicenseCompareHelperTest {
 		assertEquals(54,tokenToLocation.get(10).getColumn());
 	}
 
+	@Test
+	public void testTokenLocations() {
+		String test = "Now is the.time,\nfor? \"all\" good men.";
+		TokenLocations tokenLocations = new TokenLocations(2);
+		String[] result = LicenseCompareHelper.tokenizeLicenseText(test, tokenLocations);
+		assertEquals(14, result.length);
+		assertEquals(14, tokenLocations.size());
+		assertEquals(1, tokenLocations.getLine(4));
+		assertEquals(11, tokenLocations.getColumn(4));
+		assertEquals(4, tokenLocations.getLength(4));
+		assertEquals(2, tokenLocations.getLine(6));
+		assertEquals(0, tokenLocations.getColumn(6));
+		assertFalse(tokenLocations.hasLocation(14));
+		assertNull(tokenLocations.getLineColumn(14));
+		assertEquals(16, tokenLocations.getLineColumn(12).getColumn());
+		assertEquals("time,\nfor", LicenseCompareHelper.locateOriginalText(test, 4, 6, tokenLocations, result));
+		assertEquals("good men.", LicenseCompareHelper.locateOriginalText(test, 11, 20, tokenLocations, result));
+		TokenLocations range = tokenLocations.copyOfRange(6, 20);
+		assertEquals(8, range.size());
+		assertEquals(2, range.getLine(0));
+	}
+
 	@Test
 	public void testOddChars() {
 		String test = "COPYRIGHT   I B M   CORPORATION 2002";
@@ -620,6 +644,17 @@ public class LicenseCompareHelperTest {
 //		assertTrue(result[1].startsWith("GPL-2"));
 	}
 	
+	@Test
+	public void testMatchingStandardLicenseIdsExactText() throws InvalidSPDXAnalysisException, SpdxCompareException, LicenseTemplateRuleException {
+		SpdxListedLicense zpl = LicenseInfoFactory.getListedLicenseById("ZPL-2.1");
+		String defaultText = SpdxLicenseTemplateHelper.templateToText(zpl.getStandardLicenseTemplate());
+		String[] result = LicenseCompareHelper.matchingStandardLicenseIds("/*\n" + defaultText.toUpperCase() + "\n*/");
+		assertEquals(1, result.length);
+		assertEquals("ZPL-2.1", result[0]);
+		assertFalse(LicenseCompareHelper.isTextStandardLicense(zpl, defaultText).isDifferenceFound());
+		assertTrue(ListedLicenseTextIndex.getListedLicenseTextIndex().getMatchingLicenseIds("Not a license text").isEmpty());
+	}
+
 	@Test
 	public void testIsTextStandardLicenseGpl3() throws InvalidSPDXAnalysisException, SpdxCompareException, IOException {
 		SpdxListedLicense gpl3 = ListedLicenses.getListedLicenses().getListedLicenseById("GPL-3.0");
@@ -697,4 +732,91 @@ public class LicenseCompareHelperTest {
 		DifferenceDescription diff = LicenseCompareHelper.isTextStandardLicense(license, testText.substring(matcher.start(), matcher.end()));
 		assertFalse(diff.isDifferenceFound());
 	}
+
+	@Test
+	public void testWorkBudget() throws IOException, InvalidSPDXAnalysisException, SpdxCompareException {
+		String iscTemplate = UnitTestHelper.fileToText(ISC_TEMPLATE);
+		// a different copyright holder so that the text is compared to the template rather than the default text
+		String iscText = UnitTestHelper.fileToText(ISC).replace("Internet Software Consortium", "Example Consortium");
+		SpdxListedLicense license = new SpdxListedLicense("ISC", "ISC", "", new String[] {},
+				"", "", iscTemplate, false, false);
+		DifferenceDescription diff = LicenseCompareHelper.isTextStandardLicense(license, iscText, 10);
+		assertTrue(diff.isDifferenceFound());
+		assertTrue(diff.isWorkBudgetExceeded());
+		diff = LicenseCompareHelper.isTextStandardLicense(license, iscText, 0);
+		assertFalse(diff.isDifferenceFound());
+		assertFalse(diff.isWorkBudgetExceeded());
+		diff = LicenseCompareHelper.isTextStandardLicense(license, "Not the ISC license");
+		assertTrue(diff.isDifferenceFound());
+		assertFalse(diff.isWorkBudgetExceeded());
+		System.setProperty(CompareTemplateOutputHandler.MAX_WORK_PROPERTY, "10");
+		try {
+			assertEquals(10, CompareTemplateOutputHandler.getConfiguredMaxWork());
+			assertTrue(LicenseCompareHelper.isTextStandardLicense(license, iscText).isWorkBudgetExceeded());
+		} finally {
+			System.clearProperty(CompareTemplateOutputHandler.MAX_WORK_PROPERTY);
+		}
+		assertEquals(CompareTemplateOutputHandler.DEFAULT_MAX_WORK, CompareTemplateOutputHandler.getConfiguredMaxWork());
+		assertFalse(LicenseCompareHelper.isTextStandardLicense(license, iscText).isDifferenceFound());
+	}
+
+	@Test
+	public void testTokenIds() {
+		assertEquals(LicenseTokenDictionary.getTokenId("Licence"), LicenseTokenDictionary.getTokenId("license"));
+		assertEquals(LicenseTokenDictionary.getTokenId("non-commercial"), LicenseTokenDictionary.getTokenId("noncommercial"));
+		assertNotEquals(LicenseTokenDictionary.getTokenId("license"), LicenseTokenDictionary.getTokenId("licensed"));
+		assertTrue(LicenseTokenDictionary.isSkippable(LicenseTokenDictionary.getTokenId("//")));
+		assertFalse(LicenseTokenDictionary.isSkippable(LicenseTokenDictionary.getTokenId("license")));
+		assertEquals(LicenseTokenDictionary.NO_TOKEN, LicenseTokenDictionary.getTokenId(null));
+		assertFalse(LicenseTokenDictionary.isSkippable(LicenseTokenDictionary.NO_TOKEN));
+		TokenizedLicenseText text = LicenseCompareHelper.tokenizeLicenseText("The Licence\nis free");
+		assertEquals(4, text.size());
+		assertEquals(LicenseTokenDictionary.getTokenId("license"), text.getTokenId(1));
+		assertEquals(LicenseTokenDictionary.NO_TOKEN, text.getTokenId(4));
+		assertEquals(2, text.getLocation(2).getLine());
+		TokenizedLicenseText range = text.copyOfRange(1, 10);
+		assertEquals(3, range.size());
+		assertEquals("is", range.getToken(1));
+	}
+
+	@Test
+	public void testTokenDictionaryBounded() {
+		LicenseTokenDictionary dictionary = new LicenseTokenDictionary(20);
+		int licenseId = dictionary.idFor("License");
+		for (int i = 0; i < 100; i++) {
+			dictionary.idFor("token" + i);
+		}
+		assertEquals(20, dictionary.size());
+		assertEquals(licenseId, dictionary.idFor("license"));
+		// tokens seen after the dictionary is full still compare correctly
+		int unseenId = dictionary.idFor("Unseen-Token");
+		assertTrue(LicenseTokenDictionary.isUninterned(unseenId));
+		assertEquals(unseenId, dictionary.idFor("UNSEEN-token"));
+		assertNotEquals(unseenId, dictionary.idFor("other"));
+		assertNotEquals(dictionary.idFor("token98"), dictionary.idFor("token99"));
+		assertTrue(LicenseTokenDictionary.isSkippable(dictionary.idFor("//")));
+		assertFalse(LicenseTokenDictionary.isSkippable(unseenId));
+		assertEquals(20, dictionary.size());
+	}
+
+	@Test
+	public void testUninternedTokensWithSameId() {
+		int sharedId = LicenseTokenDictionary.FIRST_UNINTERNED_ID + 7;
+		assertTrue(LicenseTokenDictionary.sameToken(sharedId, "Token", sharedId, "token"));
+		assertFalse(LicenseTokenDictionary.sameToken(sharedId, "token", sharedId, "other"));
+		int licenseId = LicenseTokenDictionary.getTokenId("license");
+		assertTrue(LicenseTokenDictionary.sameToken(licenseId, "license", licenseId, "licence"));
+		// texts whose different uninterned tokens share an ID are not equivalent
+		TokenizedLicenseText textA = new TokenizedLicenseText(new String[] {"license", "token"},
+				new int[] {licenseId, sharedId}, null);
+		TokenizedLicenseText textB = new TokenizedLicenseText(new String[] {"license", "other"},
+				new int[] {licenseId, sharedId}, null);
+		TokenizedLicenseText textC = new TokenizedLicenseText(new String[] {"License", "TOKEN"},
+				new int[] {licenseId, sharedId}, null);
+		assertFalse(LicenseCompareHelper.isLicenseTextEquivalent(textA, textB));
+		assertTrue(LicenseCompareHelper.isLicenseTextEquivalent(textA, textC));
+		assertFalse(textA.sameToken(1, textB, 1));
+		assertTrue(textA.sameToken(1, textC, 1));
+		assertNull(textA.getLocation(0));
+	}
 }
@@ -26,6 +26,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.spdx.compare.CompareTemplateOutputHandler.DifferenceDescription;
 import org.spdx.licenseTemplate.LicenseTemplateRule;
 import org.spdx.licenseTemplate.LicenseTemplateRuleException;
 import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
@@ -572,4 +573,53 @@ public class TestCompareTemplateOutputHandler {
 			fail(templateOutputHandler.getDifferences().getDifferenceMessage());
 		}
 	}
+
+	@Test
+	public void testDifferenceDescriptionNullDifferences() {
+		DifferenceDescription description = new DifferenceDescription(false, "No difference found", null);
+		assertFalse(description.isDifferenceFound());
+		assertEquals(0, description.getDifferences().size());
+		description.setDifferences(null);
+		assertEquals(0, description.getDifferences().size());
+	}
+
+	@Test
+	public void testWorkBudget() throws IOException, LicenseTemplateRuleException, LicenseParserException {
+		String compareText = UnitTestHelper.fileToText(ADOBE_GLYPH_TEXT);
+		String templateText = UnitTestHelper.fileToText(ADOBE_GLYPH_TEMPLATE);
+		CompareTemplateOutputHandler templateOutputHandler = new CompareTemplateOutputHandler(compareText, 10);
+		SpdxLicenseTemplateHelper.parseTemplate(templateText, templateOutputHandler);
+		assertFalse(templateOutputHandler.matches());
+		assertTrue(templateOutputHandler.isWorkBudgetExceeded());
+		assertTrue(templateOutputHandler.getDifferences().getDifferenceMessage().startsWith("Gave up"));
+		assertTrue(templateOutputHandler.getDifferences().isWorkBudgetExceeded());
+
+		templateOutputHandler = new CompareTemplateOutputHandler(compareText);
+		SpdxLicenseTemplateHelper.parseTemplate(templateText, templateOutputHandler);
+		assertTrue(templateOutputHandler.matches());
+		assertFalse(templateOutputHandler.isWorkBudgetExceeded());
+		assertTrue(templateOutputHandler.getWork() > 0);
+		assertFalse(templateOutputHandler.getDifferences().isWorkBudgetExceeded());
+	}
+
+	@Test
+	public void testTextEquivalentWorkBudget() throws IOException {
+		CompareTemplateOutputHandler ctoh = new CompareTemplateOutputHandler("This is a test of the work budget", 3);
+		assertTrue(ctoh.textEquivalent("This is a test of the work budget", 0) < 0);
+		assertTrue(ctoh.isWorkBudgetExceeded());
+	}
+
+	@Test
+	public void testPathologicalVariableRule() throws IOException, LicenseTemplateRuleException, LicenseParserException {
+		StringBuilder sb = new StringBuilder("Start ");
+		for (int i = 0; i < 60; i++) {
+			sb.append('a');
+		}
+		sb.append(" end of the text");
+		CompareTemplateOutputHandler templateOutputHandler = new CompareTemplateOutputHandler(sb.toString());
+		SpdxLicenseTemplateHelper.parseTemplate("Start <<var;name=\"slow\";original=\"a\";match=\"(.*a){20}c\">> end of the text",
+				templateOutputHandler);
+		assertFalse(templateOutputHandler.matches());
+		assertTrue(templateOutputHandler.isWorkBudgetExceeded());
+	}
 }
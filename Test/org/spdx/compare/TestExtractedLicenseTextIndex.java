@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+
+/**
+ * @author agent
+ *
+ */
+public class TestExtractedLicenseTextIndex {
+
+	@Test
+	public void testFindEquivalent() {
+		ExtractedLicenseTextIndex indexA = new ExtractedLicenseTextIndex(new ExtractedLicenseInfo[] {
+				new ExtractedLicenseInfo("LicenseRef-1", "This is the licence text."),
+				new ExtractedLicenseInfo("LicenseRef-2", "Some other text"),
+				new ExtractedLicenseInfo("LicenseRef-3", null)
+		});
+		ExtractedLicenseTextIndex indexB = new ExtractedLicenseTextIndex(new ExtractedLicenseInfo[] {
+				new ExtractedLicenseInfo("LicenseRef-a", "Unrelated"),
+				new ExtractedLicenseInfo("LicenseRef-b", "// This is the\n license text."),
+				new ExtractedLicenseInfo("LicenseRef-c", "this is the LICENSE text."),
+				new ExtractedLicenseInfo("LicenseRef-d", ""),
+				new ExtractedLicenseInfo("LicenseRef-e", " ")
+		});
+		assertEquals(Arrays.asList(1, 2), indexA.findEquivalent(0, indexB));
+		assertTrue(indexA.findEquivalent(1, indexB).isEmpty());
+		assertEquals(Arrays.asList(3), indexA.findEquivalent(2, indexB));
+		assertEquals(Arrays.asList(0), indexB.findEquivalent(2, indexA));
+	}
+}
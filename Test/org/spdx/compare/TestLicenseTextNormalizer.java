@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ *
+ */
+public class TestLicenseTextNormalizer {
+
+	@Test
+	public void testNormalizeText() {
+		assertEquals("'a' \"b\" \"c\"", LicenseTextNormalizer.normalizeText("‘a’ ''b'' “c”"));
+		assertEquals("https://example.com HTTP://", LicenseTextNormalizer.normalizeText("http://example.com HTTP://"));
+		assertEquals("a - b\nc d", LicenseTextNormalizer.normalizeText("a — b\u2028c\u00A0d"));
+		assertEquals("\"'", LicenseTextNormalizer.normalizeText("'''"));
+		assertEquals("Copyright Holders a\u202Fb", LicenseTextNormalizer.normalizeText("Copyright Holders a\u202Fb"));
+	}
+
+	@Test
+	public void testNormalizeForTokenizing() {
+		assertEquals("copyright-holders and copyright-owner", LicenseTextNormalizer.normalizeForTokenizing("Copyright Holders and COPYRIGHT\u202FOwner"));
+		assertEquals("the copyright-holders\n may", LicenseTextNormalizer.normalizeForTokenizing("The copyright\n holders may"));
+		assertEquals("100 percent -c- 2020", LicenseTextNormalizer.normalizeForTokenizing("100 Per Cent (C) 2020"));
+		assertEquals("per\ncent", LicenseTextNormalizer.normalizeForTokenizing("per\ncent"));
+		assertEquals("copyright  holders", LicenseTextNormalizer.normalizeForTokenizing("Copyright  Holders"));
+		assertEquals("https://spdx.org", LicenseTextNormalizer.normalizeForTokenizing("http://SPDX.org"));
+	}
+
+	@Test
+	public void testTokenLocations() {
+		Map<Integer, LineColumn> locations = new HashMap<Integer, LineColumn>();
+		String[] tokens = LicenseCompareHelper.tokenizeLicenseText("Copyright (c) 2020\r\n  The “Holder”,\rall rights.", locations);
+		assertArrayEquals(new String[] {"copyright", "-c-", "2020", "the", "\"", "holder", "\"", ",", "all", "rights", "."}, tokens);
+		assertEquals(1, locations.get(1).getLine());
+		assertEquals(10, locations.get(1).getColumn());
+		assertEquals(3, locations.get(1).getLen());
+		assertEquals(2, locations.get(3).getLine());
+		assertEquals(2, locations.get(3).getColumn());
+		assertEquals(6, locations.get(4).getColumn());
+		assertEquals(3, locations.get(8).getLine());
+		assertEquals(0, locations.get(8).getColumn());
+		assertEquals("the", LicenseCompareHelper.getFirstLicenseToken(" ; The License"));
+	}
+}
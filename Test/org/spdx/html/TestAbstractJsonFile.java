@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.html;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Test;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+
+import com.google.common.collect.Maps;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+
+/**
+ * @author agent
+ *
+ */
+public class TestAbstractJsonFile {
+
+	static class TestJsonFile extends AbstractJsonFile {
+		JSONObject jsonObject;
+		TestJsonFile(JSONObject jsonObject) {
+			this.jsonObject = jsonObject;
+		}
+		@Override
+		protected JSONObject getJsonObject() {
+			return jsonObject;
+		}
+	}
+
+	/**
+	 * @param jsonFile
+	 * @return the JSON pretty-printed by re-parsing the JSON string with Gson
+	 */
+	private static String gsonPrettyPrint(AbstractJsonFile jsonFile) {
+		return new GsonBuilder().setPrettyPrinting().create().toJson(
+				new JsonParser().parse(jsonFile.getJsonObject().toJSONString()));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteJson() throws Exception {
+		JSONObject jsonObject = new JSONObject();
+		jsonObject.put("text", "<a href=\"x\">Tom & Jerry's</a> = \\/\n\té \u0001");
+		jsonObject.put("null", null);
+		jsonObject.put("int", 12);
+		jsonObject.put("long", 12345678901L);
+		jsonObject.put("double", 1.5e20);
+		jsonObject.put("nan", Double.NaN);
+		jsonObject.put("bool", true);
+		jsonObject.put("emptyObject", new JSONObject());
+		jsonObject.put("emptyArray", new JSONArray());
+		JSONArray array = new JSONArray();
+		array.add("a");
+		array.add(null);
+		array.add(false);
+		JSONObject nested = new JSONObject();
+		nested.put("key", "value");
+		nested.put("nullValue", null);
+		array.add(nested);
+		jsonObject.put("array", array);
+		TestJsonFile jsonFile = new TestJsonFile(jsonObject);
+		StringWriter writer = new StringWriter();
+		jsonFile.writeJson(writer);
+		assertEquals(gsonPrettyPrint(jsonFile), writer.toString());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteCollectionsAndArrays() throws Exception {
+		JSONObject jsonObject = new JSONObject();
+		jsonObject.put("set", new TreeSet<String>(Arrays.asList("b", "a")));
+		jsonObject.put("collection", Collections.unmodifiableCollection(Arrays.asList(1, 2)));
+		jsonObject.put("objectArray", new Object[] {"x", null, new String[] {"nested"}});
+		jsonObject.put("intArray", new int[] {1, 2, 3});
+		jsonObject.put("booleanArray", new boolean[] {true, false});
+		TestJsonFile jsonFile = new TestJsonFile(jsonObject);
+		StringWriter writer = new StringWriter();
+		jsonFile.writeJson(writer);
+		assertEquals(gsonPrettyPrint(jsonFile), writer.toString());
+		assertTrue(writer.toString().contains("\"set\": [\n    \"a\",\n    \"b\"\n  ]"));
+	}
+
+	@Test
+	public void testWriteLicenseJson() throws Exception {
+		LicenseJSONFile jsonFile = new LicenseJSONFile();
+		jsonFile.setLicense((SpdxListedLicense)LicenseInfoFactory.parseSPDXLicenseString("Apache-2.0"), false);
+		StringWriter writer = new StringWriter();
+		jsonFile.writeJson(writer);
+		assertEquals(gsonPrettyPrint(jsonFile), writer.toString());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWriteToFiles() throws Exception {
+		File tempDir = Files.createTempDirectory("spdxjson").toFile();
+		try {
+			Map<File, TestJsonFile> jsonFiles = Maps.newHashMap();
+			for (int i = 0; i < 20; i++) {
+				JSONObject jsonObject = new JSONObject();
+				jsonObject.put("id", "license-" + i);
+				jsonFiles.put(new File(tempDir, "license-" + i + ".json"), new TestJsonFile(jsonObject));
+			}
+			AbstractJsonFile.writeToFiles(jsonFiles);
+			for (Map.Entry<File, TestJsonFile> entry:jsonFiles.entrySet()) {
+				assertEquals(gsonPrettyPrint(entry.getValue()),
+						new String(Files.readAllBytes(entry.getKey().toPath()), StandardCharsets.UTF_8));
+			}
+		} finally {
+			for (File file:tempDir.listFiles()) {
+				file.delete();
+			}
+			tempDir.delete();
+		}
+	}
+}
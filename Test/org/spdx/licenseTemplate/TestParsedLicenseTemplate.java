@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.licenseTemplate;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.spdx.licenseTemplate.LicenseTemplateRule.RuleType;
+import org.spdx.licenseTemplate.ParsedLicenseTemplate.OptionalNode;
+import org.spdx.licenseTemplate.ParsedLicenseTemplate.TemplateNode;
+import org.spdx.licenseTemplate.ParsedLicenseTemplate.TextNode;
+import org.spdx.licenseTemplate.ParsedLicenseTemplate.VariableNode;
+
+/**
+ * @author agent
+ *
+ */
+public class TestParsedLicenseTemplate {
+
+	static final String TEMPLATE = "Start <<var;name=\"copyright\";original=\"Copyright 2020\";match=\".+\">> text" +
+			"<< beginOptional;name=\"outer\" >>outer text<<beginOptional>>inner text<<endOptional>><<endOptional>>\n end";
+
+	@Test
+	public void testParse() throws LicenseTemplateRuleException {
+		ParsedLicenseTemplate parsed = ParsedLicenseTemplate.parse(TEMPLATE);
+		List<TemplateNode> nodes = parsed.getNodes();
+		assertEquals(5, nodes.size());
+		assertEquals("Start ", ((TextNode)nodes.get(0)).getText());
+		LicenseTemplateRule varRule = ((VariableNode)nodes.get(1)).getRule();
+		assertEquals(RuleType.VARIABLE, varRule.getType());
+		assertEquals("copyright", varRule.getName());
+		assertEquals("Copyright 2020", varRule.getOriginal());
+		assertEquals(" text", ((TextNode)nodes.get(2)).getText());
+		OptionalNode outer = (OptionalNode)nodes.get(3);
+		assertEquals("outer", outer.getBeginRule().getName());
+		assertEquals(RuleType.END_OPTIONAL, outer.getEndRule().getType());
+		assertEquals(2, outer.getChildren().size());
+		assertEquals("outer text", ((TextNode)outer.getChildren().get(0)).getText());
+		OptionalNode inner = (OptionalNode)outer.getChildren().get(1);
+		assertEquals("inner text", ((TextNode)inner.getChildren().get(0)).getText());
+		assertEquals("\n end", ((TextNode)nodes.get(4)).getText());
+	}
+
+	@Test
+	public void testParseErrors() {
+		try {
+			ParsedLicenseTemplate.parse("text<<endOptional>>");
+			fail("Unmatched end optional");
+		} catch (LicenseTemplateRuleException e) {
+			// expected
+		}
+		try {
+			ParsedLicenseTemplate.parse("<<beginOptional>>text");
+			fail("Missing end optional");
+		} catch (LicenseTemplateRuleException e) {
+			// expected
+		}
+		try {
+			ParsedLicenseTemplate.parse("<<var;name=\"a\">>");
+			fail("Missing original text");
+		} catch (LicenseTemplateRuleException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testReplay() throws Exception {
+		ParsedLicenseTemplate parsed = SpdxLicenseTemplateHelper.getParsedTemplate(TEMPLATE);
+		assertSame(parsed, SpdxLicenseTemplateHelper.getParsedTemplate(TEMPLATE));
+		TextTemplateOutputHandler textOutput = new TextTemplateOutputHandler();
+		parsed.replay(textOutput);
+		assertEquals("Start Copyright 2020 textouter textinner text\n end", textOutput.getText());
+		assertEquals(textOutput.getText(), SpdxLicenseTemplateHelper.templateToText(TEMPLATE));
+		// rules passed to the handler are copies
+		((VariableNode)parsed.getNodes().get(1)).getRule().setOriginal("changed");
+		assertEquals(textOutput.getText(), SpdxLicenseTemplateHelper.templateToText(TEMPLATE));
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.merge;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXCreatorInformation;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxPackage;
+
+/**
+ * @author agent
+ *
+ */
+public class SpdxStreamingMergerTest {
+
+	static final String LICENSE_TEXT1 = "This is the first license text.\nAll rights reserved.";
+	static final String LICENSE_TEXT1_REFORMATTED = "This is the first   license text.  All\nrights reserved.";
+	static final String LICENSE_TEXT2 = "A completely different license text";
+	static final String SHA1_A = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+	static final String SHA1_B = "de9f2c7fd25e1b3afad3e85a0bd17d9b100db4b3";
+	static final String SHA1_C = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+
+	SpdxDocument doc1;
+	SpdxDocument doc2;
+	SpdxDocumentContainer output;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		SpdxDocumentContainer container1 = new SpdxDocumentContainer("http://spdx.org/documents/merge1");
+		doc1 = container1.getSpdxDocument();
+		doc1.setCreationInfo(new SPDXCreatorInformation(new String[] {"Tool: test"}, "2020-01-01T00:00:00Z", "master", null));
+		ExtractedLicenseInfo lic1 = new ExtractedLicenseInfo("LicenseRef-1", LICENSE_TEXT1);
+		container1.addExtractedLicenseInfos(lic1);
+		SpdxPackage pkg1 = createPackage("package", new SpdxFile[] {
+				createFile("./a.c", SHA1_A, lic1), createFile("./b.c", SHA1_B, lic1)});
+		container1.addElement(pkg1);
+		doc1.addRelationship(new Relationship(pkg1, RelationshipType.DESCRIBES, ""));
+
+		SpdxDocumentContainer container2 = new SpdxDocumentContainer("http://spdx.org/documents/merge2");
+		doc2 = container2.getSpdxDocument();
+		ExtractedLicenseInfo lic2a = new ExtractedLicenseInfo("LicenseRef-1", LICENSE_TEXT2);
+		ExtractedLicenseInfo lic2b = new ExtractedLicenseInfo("LicenseRef-2", LICENSE_TEXT1_REFORMATTED);
+		container2.addExtractedLicenseInfos(lic2a);
+		container2.addExtractedLicenseInfos(lic2b);
+		SpdxPackage pkg2 = createPackage("package", new SpdxFile[] {
+				createFile("./b.c", SHA1_B, lic2b), createFile("./c.c", SHA1_C, lic2a)});
+		container2.addElement(pkg2);
+		doc2.addRelationship(new Relationship(pkg2, RelationshipType.DESCRIBES, ""));
+
+		output = new SpdxDocumentContainer("http://spdx.org/documents/merge1-merged");
+	}
+
+	private SpdxFile createFile(String name, String sha1, AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		return new SpdxFile(name, new FileType[] {FileType.fileType_source}, sha1,
+				license, new AnyLicenseInfo[] {license}, null, "NOASSERTION", null, null);
+	}
+
+	private SpdxPackage createPackage(String name, SpdxFile[] files) {
+		return new SpdxPackage(name, new SpdxNoAssertionLicense(), new AnyLicenseInfo[0],
+				"NOASSERTION", new SpdxNoAssertionLicense(), "NOASSERTION", files, null);
+	}
+
+	@Test
+	public void testMergeFiles() throws InvalidSPDXAnalysisException {
+		SpdxStreamingMerger merger = new SpdxStreamingMerger(output);
+		merger.merge(doc1);
+		merger.merge(doc2);
+		merger.finish();
+		List<SpdxFile> files = output.findAllFiles();
+		assertEquals(3, files.size());
+		assertEquals(3, merger.getNumFilesMerged());
+		assertEquals(1, merger.getNumDuplicateFiles());
+		List<SpdxPackage> packages = output.findAllPackages();
+		assertEquals(1, packages.size());
+		assertEquals(3, packages.get(0).getFiles().length);
+		assertEquals(1, output.getSpdxDocument().getDocumentDescribes().length);
+		assertEquals("master", output.getSpdxDocument().getCreationInfo().getComment());
+	}
+
+	@Test
+	public void testMergeFilesWithoutSha1() throws InvalidSPDXAnalysisException {
+		SpdxDocument[] docs = new SpdxDocument[2];
+		for (int i = 0; i < docs.length; i++) {
+			SpdxDocumentContainer container = new SpdxDocumentContainer("http://spdx.org/documents/nosha1-" + i);
+			docs[i] = container.getSpdxDocument();
+			SpdxFile md5Only = createFile("./md5.c", null, new SpdxNoAssertionLicense());
+			md5Only.setChecksums(new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, null),
+					new Checksum(ChecksumAlgorithm.checksumAlgorithm_md5, "D41D8CD98F00B204E9800998ECF8427E")});
+			SpdxFile noChecksum = createFile("./none.c", null, new SpdxNoAssertionLicense());
+			assertNull(noChecksum.getSha1());
+			SpdxPackage pkg = createPackage("package", new SpdxFile[] {md5Only, noChecksum,
+					createFile("./sha1.c", SHA1_A, new SpdxNoAssertionLicense())});
+			container.addElement(pkg);
+			docs[i].addRelationship(new Relationship(pkg, RelationshipType.DESCRIBES, ""));
+		}
+		SpdxStreamingMerger merger = new SpdxStreamingMerger(output);
+		merger.merge(docs[0]);
+		merger.merge(docs[1]);
+		merger.finish();
+		assertEquals(3, output.findAllFiles().size());
+		assertEquals(3, merger.getNumDuplicateFiles());
+	}
+
+	@Test
+	public void testMergeExtractedLicenses() throws InvalidSPDXAnalysisException {
+		SpdxStreamingMerger merger = new SpdxStreamingMerger(output);
+		merger.merge(doc1);
+		merger.merge(doc2);
+		merger.finish();
+		ExtractedLicenseInfo[] licenses = output.getExtractedLicenseInfos();
+		assertEquals(2, licenses.length);
+		ExtractedLicenseInfo first = output.getExtractedLicense("LicenseRef-1");
+		assertEquals(LICENSE_TEXT1, first.getExtractedText());
+		for (SpdxFile file:output.findAllFiles()) {
+			ExtractedLicenseInfo concluded = (ExtractedLicenseInfo)file.getLicenseConcluded();
+			if ("./c.c".equals(file.getName())) {
+				assertEquals(LICENSE_TEXT2, concluded.getExtractedText());
+				assertFalse("LicenseRef-1".equals(concluded.getLicenseId()));
+			} else {
+				assertEquals("LicenseRef-1", concluded.getLicenseId());
+			}
+		}
+	}
+}
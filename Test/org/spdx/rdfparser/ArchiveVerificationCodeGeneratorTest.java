@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.SortedMap;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.ArchiveVerificationCodeGenerator.ArchiveVerificationResult;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class ArchiveVerificationCodeGeneratorTest {
+
+	static final File SOURCE_DIRECTORY = new File(VerificationCodeGeneratorTest.SOURCE_PATH);
+	static final String SKIPPED_FILE_NAME = "org/spdx/rdfparser/DOAPProject.java";
+
+	File tempDir;
+	List<File> sourceFiles;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdxArchive").toFile();
+		sourceFiles = Lists.newArrayList();
+		collectFiles(SOURCE_DIRECTORY, sourceFiles);
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		File[] files = tempDir.listFiles();
+		if (files != null) {
+			for (File file:files) {
+				file.delete();
+			}
+		}
+		tempDir.delete();
+	}
+
+	private void collectFiles(File dir, List<File> files) {
+		File[] children = dir.listFiles();
+		if (children != null) {
+			for (File child:children) {
+				if (child.isDirectory()) {
+					collectFiles(child, files);
+				} else {
+					files.add(child);
+				}
+			}
+		}
+	}
+
+	private String entryName(File file) {
+		return file.getAbsolutePath().substring(SOURCE_DIRECTORY.getAbsolutePath().length() + 1).replace('\\', '/');
+	}
+
+	private File writeTar(String name, boolean xz) throws IOException {
+		File archive = new File(tempDir, name);
+		try (OutputStream fileOut = new FileOutputStream(archive);
+				OutputStream compressedOut = xz ? new XZCompressorOutputStream(fileOut) : new GzipCompressorOutputStream(fileOut);
+				TarArchiveOutputStream tarOut = new TarArchiveOutputStream(compressedOut)) {
+			tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+			TarArchiveEntry dirEntry = new TarArchiveEntry("org/");
+			tarOut.putArchiveEntry(dirEntry);
+			tarOut.closeArchiveEntry();
+			for (File file:sourceFiles) {
+				writeEntry(tarOut, new TarArchiveEntry(file, entryName(file)), file);
+			}
+			TarArchiveEntry link = new TarArchiveEntry("link.java", TarArchiveEntry.LF_SYMLINK);
+			link.setLinkName(SKIPPED_FILE_NAME);
+			tarOut.putArchiveEntry(link);
+			tarOut.closeArchiveEntry();
+		}
+		return archive;
+	}
+
+	private File writeZip(String name) throws IOException {
+		File archive = new File(tempDir, name);
+		try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(archive)) {
+			for (File file:sourceFiles) {
+				writeEntry(zipOut, new ZipArchiveEntry(file, entryName(file)), file);
+			}
+		}
+		return archive;
+	}
+
+	private void writeEntry(ArchiveOutputStream out, ArchiveEntry entry, File file) throws IOException {
+		out.putArchiveEntry(entry);
+		Files.copy(file.toPath(), out);
+		out.closeArchiveEntry();
+	}
+
+	@Test
+	public void testGenerateTarGz() throws Exception {
+		assertMatchesDirectory(writeTar("source.tar.gz", false));
+	}
+
+	@Test
+	public void testGenerateTarXz() throws Exception {
+		assertMatchesDirectory(writeTar("source.tar.xz", true));
+	}
+
+	@Test
+	public void testGenerateZip() throws Exception {
+		assertMatchesDirectory(writeZip("source.zip"));
+	}
+
+	private void assertMatchesDirectory(File archive) throws Exception {
+		VerificationCodeGenerator directoryGenerator = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+		SpdxPackageVerificationCode expected = directoryGenerator.generatePackageVerificationCode(SOURCE_DIRECTORY,
+				relativePath -> relativePath.replace('\\', '/').equals(SKIPPED_FILE_NAME));
+		ArchiveVerificationCodeGenerator archiveGenerator = new ArchiveVerificationCodeGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256);
+		ArchiveVerificationResult result = archiveGenerator.generate(archive, entryName -> entryName.equals(SKIPPED_FILE_NAME));
+		assertEquals(expected.getValue(), result.getVerificationCode().getValue());
+		assertArrayEquals(expected.getExcludedFileNames(), result.getVerificationCode().getExcludedFileNames());
+		SortedMap<String, Checksum[]> fileChecksums = result.getFileChecksums();
+		assertEquals(sourceFiles.size() - 1, fileChecksums.size());
+		JavaSha1ChecksumGenerator sha1Generator = new JavaSha1ChecksumGenerator();
+		for (File file:sourceFiles) {
+			String fileName = VerificationCodeGenerator.normalizeFilePath(entryName(file));
+			if (entryName(file).equals(SKIPPED_FILE_NAME)) {
+				assertFalse(fileChecksums.containsKey(fileName));
+			} else {
+				Checksum[] checksums = fileChecksums.get(fileName);
+				assertEquals(2, checksums.length);
+				assertEquals(ChecksumAlgorithm.checksumAlgorithm_sha1, checksums[0].getAlgorithm());
+				assertEquals(sha1Generator.getFileChecksum(file), checksums[0].getValue());
+				assertEquals(ChecksumAlgorithm.checksumAlgorithm_sha256, checksums[1].getAlgorithm());
+				assertEquals(64, checksums[1].getValue().length());
+			}
+		}
+	}
+
+	private void writeHardLink(TarArchiveOutputStream tarOut, String name, String target) throws IOException {
+		TarArchiveEntry link = new TarArchiveEntry(name, TarArchiveEntry.LF_LINK);
+		link.setLinkName(target);
+		tarOut.putArchiveEntry(link);
+		tarOut.closeArchiveEntry();
+	}
+
+	@Test
+	public void testHardLinks() throws Exception {
+		File file = sourceFiles.get(0);
+		File skippedFile = new File(SOURCE_DIRECTORY, SKIPPED_FILE_NAME);
+		File archive = new File(tempDir, "links.tar");
+		try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new FileOutputStream(archive))) {
+			tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+			writeEntry(tarOut, new TarArchiveEntry(file, entryName(file)), file);
+			writeEntry(tarOut, new TarArchiveEntry(skippedFile, SKIPPED_FILE_NAME), skippedFile);
+			writeHardLink(tarOut, "copy.java", "./" + entryName(file));
+			writeHardLink(tarOut, "skippedCopy.java", SKIPPED_FILE_NAME);
+		}
+		ArchiveVerificationCodeGenerator archiveGenerator = new ArchiveVerificationCodeGenerator();
+		ArchiveVerificationResult result = archiveGenerator.generate(archive, entryName -> entryName.equals(SKIPPED_FILE_NAME));
+		SortedMap<String, Checksum[]> fileChecksums = result.getFileChecksums();
+		JavaSha1ChecksumGenerator sha1Generator = new JavaSha1ChecksumGenerator();
+		assertEquals(3, fileChecksums.size());
+		assertEquals(sha1Generator.getFileChecksum(file), fileChecksums.get("./copy.java")[0].getValue());
+		assertEquals(sha1Generator.getFileChecksum(skippedFile), fileChecksums.get("./skippedCopy.java")[0].getValue());
+		assertEquals(fileChecksums.get(VerificationCodeGenerator.normalizeFilePath(entryName(file)))[0].getValue(),
+				fileChecksums.get("./copy.java")[0].getValue());
+		assertArrayEquals(new String[] {VerificationCodeGenerator.normalizeFilePath(SKIPPED_FILE_NAME)},
+				result.getVerificationCode().getExcludedFileNames());
+	}
+
+	@Test
+	public void testHardLinkMissingTarget() throws Exception {
+		File archive = new File(tempDir, "missingLink.tar");
+		try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new FileOutputStream(archive))) {
+			writeHardLink(tarOut, "copy.java", "missing.java");
+		}
+		try {
+			new ArchiveVerificationCodeGenerator().generate(archive, entryName -> false);
+			fail("Hard link to a missing file accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnsupportedFormat() throws Exception {
+		ArchiveVerificationCodeGenerator archiveGenerator = new ArchiveVerificationCodeGenerator();
+		try {
+			archiveGenerator.generate(sourceFiles.get(0), entryName -> false);
+			fail("Unsupported archive format accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnsupportedAlgorithm() throws Exception {
+		try {
+			new ArchiveVerificationCodeGenerator(ChecksumAlgorithm.checksumAlgorithm_md6);
+			fail("Unsupported algorithm accepted");
+		} catch (NoSuchAlgorithmException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+
+/**
+ * @author agent
+ *
+ */
+public class TestCompactFileStore {
+
+	static final String URI_PREFIX = "http://spdx.org/test#SPDXRef-File";
+	static final String SHA1 = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+	static final String MD5 = "9e107d9d372bb6826bd81d3542a419d6";
+
+	private void assertChecksumsEqual(Checksum[] expected, Checksum[] result) {
+		assertEquals(expected.length, result.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertTrue(expected[i].equivalent(result[i]));
+		}
+	}
+
+	@Test
+	public void testUpdateFile() {
+		CompactFileStore store = new CompactFileStore();
+		AnyLicenseInfo license1 = new ExtractedLicenseInfo("LicenseRef-1", "text1");
+		AnyLicenseInfo license2 = new ExtractedLicenseInfo("LicenseRef-2", "text2");
+		Checksum sha1 = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1);
+		Checksum md5 = new Checksum(ChecksumAlgorithm.checksumAlgorithm_md5, MD5);
+		int row = store.updateFile(URI_PREFIX + "1", "./dir/file1.c", new Checksum[] {sha1, md5},
+				new FileType[] {FileType.fileType_source, FileType.fileType_text}, license1,
+				new AnyLicenseInfo[] {license2, license1}, "Copyright 1", new String[] {"Contributor"}, "Notice");
+		assertEquals(0, row);
+		assertEquals(1, store.size());
+		assertEquals(row, store.getRow(URI_PREFIX + "1"));
+		assertEquals(URI_PREFIX + "1", store.getUri(row));
+		assertEquals("./dir/file1.c", store.getName(row));
+		assertEquals(SHA1, store.getSha1(row));
+		assertChecksumsEqual(new Checksum[] {sha1, md5}, store.getChecksums(row));
+		assertArrayEquals(new FileType[] {FileType.fileType_source, FileType.fileType_text}, store.getFileTypes(row));
+		assertEquals(license1, store.getLicenseConcluded(row));
+		assertArrayEquals(new AnyLicenseInfo[] {license2, license1}, store.getLicenseInfoInFiles(row));
+		assertEquals("Copyright 1", store.getCopyrightText(row));
+		assertArrayEquals(new String[] {"Contributor"}, store.getContributors(row));
+		assertEquals("Notice", store.getNoticeText(row));
+
+		// updating the same URI replaces the values
+		assertEquals(row, store.updateFile(URI_PREFIX + "1", "file1.c", null, null, null, null, null, null, null));
+		assertEquals(1, store.size());
+		assertEquals("file1.c", store.getName(row));
+		assertEquals("", store.getSha1(row));
+		assertEquals(0, store.getChecksums(row).length);
+		assertEquals(0, store.getFileTypes(row).length);
+		assertNull(store.getLicenseConcluded(row));
+		assertEquals(0, store.getLicenseInfoInFiles(row).length);
+		assertNull(store.getCopyrightText(row));
+		assertEquals(0, store.getContributors(row).length);
+		assertNull(store.getNoticeText(row));
+		assertEquals(-1, store.getRow(URI_PREFIX + "2"));
+	}
+
+	@Test
+	public void testChecksumsKeptExactly() {
+		CompactFileStore store = new CompactFileStore();
+		Checksum upperSha1 = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1.toUpperCase());
+		Checksum md5 = new Checksum(ChecksumAlgorithm.checksumAlgorithm_md5, MD5);
+		Checksum sha1 = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1);
+		int row1 = store.updateFile(URI_PREFIX + "1", "file1", new Checksum[] {upperSha1}, null, null, null, null, null, null);
+		int row2 = store.updateFile(URI_PREFIX + "2", "file2", new Checksum[] {md5, sha1}, null, null, null, null, null, null);
+		assertEquals(SHA1.toUpperCase(), store.getSha1(row1));
+		assertChecksumsEqual(new Checksum[] {upperSha1}, store.getChecksums(row1));
+		assertEquals(SHA1, store.getSha1(row2));
+		assertChecksumsEqual(new Checksum[] {md5, sha1}, store.getChecksums(row2));
+	}
+
+	@Test
+	public void testManyFiles() {
+		CompactFileStore store = new CompactFileStore();
+		AnyLicenseInfo license = new SpdxNoAssertionLicense();
+		int numFiles = 1000;
+		for (int i = 0; i < numFiles; i++) {
+			String sha1 = String.format("%040x", i);
+			assertEquals(i, store.updateFile(URI_PREFIX + i, "./dir" + (i % 10) + "/file" + i,
+					new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, sha1)},
+					new FileType[] {FileType.fileType_source}, license, new AnyLicenseInfo[] {license},
+					"NOASSERTION", null, null));
+		}
+		assertEquals(numFiles, store.size());
+		for (int i = 0; i < numFiles; i++) {
+			assertEquals(i, store.getRow(URI_PREFIX + i));
+			assertEquals("./dir" + (i % 10) + "/file" + i, store.getName(i));
+			assertEquals(String.format("%040x", i), store.getSha1(i));
+			assertEquals(license, store.getLicenseConcluded(i));
+			assertEquals("NOASSERTION", store.getCopyrightText(i));
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.junit.Test;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class TestNodeModelRegistry {
+
+	static final String SHA1 = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+
+	@Test
+	public void testRegister() {
+		NodeModelRegistry registry = new NodeModelRegistry();
+		Node node = NodeFactory.createURI("http://spdx.org/test#node");
+		Checksum first = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1);
+		first.setSingleObjectForSameNode();
+		assertEquals(1, registry.register(node, first));
+		assertFalse(first.isRefreshOnGet());
+		// registering the same object again should not change anything
+		assertEquals(1, registry.register(node, first));
+		assertFalse(first.isRefreshOnGet());
+		Checksum second = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1);
+		assertEquals(2, registry.register(node, second));
+		assertTrue(first.isRefreshOnGet());
+		assertEquals(2, registry.getNumObjects(node));
+		assertEquals(0, registry.getNumObjects(NodeFactory.createURI("http://spdx.org/test#other")));
+	}
+
+	@Test
+	public void testConcurrentRegister() throws Exception {
+		final NodeModelRegistry registry = new NodeModelRegistry();
+		final Node node = NodeFactory.createURI("http://spdx.org/test#node");
+		final List<Checksum> checksums = Lists.newArrayList();
+		for (int i = 0; i < 200; i++) {
+			checksums.add(new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> results = Lists.newArrayList();
+			for (final Checksum checksum:checksums) {
+				results.add(executor.submit(() -> registry.register(node, checksum)));
+			}
+			for (Future<Integer> result:results) {
+				assertTrue(result.get() >= 1);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(checksums.size(), registry.getNumObjects(node));
+		assertEquals(1, registry.size());
+	}
+}
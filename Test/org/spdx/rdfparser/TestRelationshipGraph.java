@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxPackage;
+
+/**
+ * @author agent
+ *
+ */
+public class TestRelationshipGraph {
+
+	static final String DOC_URI = "http://spdx.org/documents/relationshipgraphtest";
+	static final Set<RelationshipType> DEPENDS_ON = EnumSet.of(RelationshipType.DEPENDS_ON);
+	static final Set<RelationshipType> CONTAINS = EnumSet.of(RelationshipType.CONTAINS);
+
+	SpdxDocumentContainer container;
+	SpdxPackage pkg1;
+	SpdxPackage pkg2;
+	SpdxPackage pkg3;
+	SpdxFile file1;
+	SpdxFile file2;
+
+	@Before
+	public void setUp() throws Exception {
+		container = new SpdxDocumentContainer(DOC_URI, "SPDX-2.0");
+		pkg1 = new SpdxPackage("Pkg1", null, null, null, null, null, null, null);
+		pkg2 = new SpdxPackage("Pkg2", null, null, null, null, null, null, null);
+		pkg3 = new SpdxPackage("Pkg3", null, null, null, null, null, null, null);
+		file1 = new SpdxFile("File1", null, null, null, null, null, null, null, null);
+		file2 = new SpdxFile("File2", null, null, null, null, null, null, null, null);
+		container.addElement(pkg1);
+		container.addElement(pkg2);
+		container.addElement(pkg3);
+		container.addElement(file1);
+		container.getSpdxDocument().addRelationship(new Relationship(pkg1, RelationshipType.DESCRIBES, ""));
+		pkg1.addRelationship(new Relationship(file1, RelationshipType.CONTAINS, ""));
+		pkg1.addRelationship(new Relationship(pkg2, RelationshipType.DEPENDS_ON, ""));
+		pkg2.addRelationship(new Relationship(pkg3, RelationshipType.DEPENDS_ON, ""));
+		pkg2.addFile(file2);
+	}
+
+	private int[] indexesOf(RelationshipGraph graph, SpdxElement... elements) {
+		int[] retval = new int[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			retval[i] = graph.indexOf(elements[i]);
+			assertTrue(retval[i] >= 0);
+		}
+		Arrays.sort(retval);
+		return retval;
+	}
+
+	@Test
+	public void testGetRelated() throws InvalidSPDXAnalysisException {
+		RelationshipGraph graph = container.getRelationshipGraph();
+		int pkg1Index = graph.indexOf(pkg1);
+		int[] result = graph.getRelated(pkg1Index, DEPENDS_ON);
+		assertArrayEquals(indexesOf(graph, pkg2), result);
+		result = graph.getRelated(pkg1Index, CONTAINS);
+		assertArrayEquals(indexesOf(graph, file1), result);
+		assertEquals(0, graph.getRelated(graph.indexOf(pkg3), DEPENDS_ON).length);
+		assertTrue(pkg1.equivalent(graph.getElement(pkg1Index)));
+		assertEquals(-1, graph.indexOf(new SpdxPackage("NotInDoc", null, null, null, null, null, null, null)));
+	}
+
+	@Test
+	public void testGetRelatedFrom() throws InvalidSPDXAnalysisException {
+		RelationshipGraph graph = container.getRelationshipGraph();
+		int[] result = graph.getRelatedFrom(graph.indexOf(pkg3), DEPENDS_ON);
+		assertArrayEquals(indexesOf(graph, pkg2), result);
+		result = graph.getRelatedFrom(graph.indexOf(pkg1), EnumSet.of(RelationshipType.DESCRIBES));
+		assertArrayEquals(new int[] {graph.indexOf(container.getSpdxDocument().getNode())}, result);
+	}
+
+	@Test
+	public void testTransitiveClosure() throws InvalidSPDXAnalysisException {
+		RelationshipGraph graph = container.getRelationshipGraph();
+		int pkg1Index = graph.indexOf(pkg1);
+		assertArrayEquals(indexesOf(graph, pkg2, pkg3),
+				graph.transitiveClosure(pkg1Index, DEPENDS_ON, false));
+		assertArrayEquals(indexesOf(graph, pkg2, pkg3, file1),
+				graph.transitiveClosure(pkg1Index, EnumSet.of(RelationshipType.DEPENDS_ON, RelationshipType.CONTAINS), false));
+		assertArrayEquals(indexesOf(graph, pkg2, pkg3, file2),
+				graph.transitiveClosure(pkg1Index, DEPENDS_ON, true));
+		assertArrayEquals(indexesOf(graph, pkg1, pkg2),
+				graph.reverseTransitiveClosure(graph.indexOf(pkg3), DEPENDS_ON));
+		assertArrayEquals(indexesOf(graph, file2), graph.getPackageFiles(graph.indexOf(pkg2)));
+	}
+
+	@Test
+	public void testFindCycle() throws InvalidSPDXAnalysisException {
+		assertEquals(0, container.getRelationshipGraph().findCycle(DEPENDS_ON).length);
+		pkg3.addRelationship(new Relationship(pkg1, RelationshipType.DEPENDS_ON, ""));
+		RelationshipGraph graph = container.getRelationshipGraph();
+		int[] cycle = graph.findCycle(DEPENDS_ON);
+		assertEquals(3, cycle.length);
+		int[] sortedCycle = Arrays.copyOf(cycle, cycle.length);
+		Arrays.sort(sortedCycle);
+		assertArrayEquals(indexesOf(graph, pkg1, pkg2, pkg3), sortedCycle);
+		for (int i = 0; i < cycle.length; i++) {
+			int[] related = graph.getRelated(cycle[i], DEPENDS_ON);
+			assertTrue(Arrays.binarySearch(related, cycle[(i + 1) % cycle.length]) >= 0);
+		}
+		// the starting element is part of the closure when it is in a cycle
+		assertArrayEquals(indexesOf(graph, pkg1, pkg2, pkg3),
+				graph.transitiveClosure(graph.indexOf(pkg1), DEPENDS_ON, false));
+		assertEquals(0, graph.findCycle(CONTAINS).length);
+	}
+
+	@Test
+	public void testClosureWhenAllElementsInCycle() throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer cycleContainer = new SpdxDocumentContainer(DOC_URI + "cycle", "SPDX-2.0");
+		SpdxPackage pkg = new SpdxPackage("Pkg", null, null, null, null, null, null, null);
+		SpdxFile file = new SpdxFile("File", null, null, null, null, null, null, null, null);
+		cycleContainer.addElement(pkg);
+		cycleContainer.addElement(file);
+		SpdxElement doc = cycleContainer.getSpdxDocument();
+		doc.addRelationship(new Relationship(pkg, RelationshipType.DESCRIBES, ""));
+		pkg.addRelationship(new Relationship(doc, RelationshipType.DESCRIBED_BY, ""));
+		pkg.addRelationship(new Relationship(file, RelationshipType.CONTAINS, ""));
+		RelationshipGraph graph = cycleContainer.getRelationshipGraph();
+		Set<RelationshipType> types = EnumSet.of(RelationshipType.DESCRIBES,
+				RelationshipType.DESCRIBED_BY, RelationshipType.CONTAINS);
+		assertArrayEquals(indexesOf(graph, doc, pkg, file),
+				graph.transitiveClosure(graph.indexOf(doc), types, true));
+		assertArrayEquals(indexesOf(graph, doc, pkg),
+				graph.reverseTransitiveClosure(graph.indexOf(doc), types));
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class TestSnippetRangeIndex {
+
+	static final Node FILE1 = NodeFactory.createURI("http://spdx.org/test#SPDXRef-File1");
+	static final Node FILE2 = NodeFactory.createURI("http://spdx.org/test#SPDXRef-File2");
+
+	private static Node snippetNode(int i) {
+		return NodeFactory.createURI("http://spdx.org/test#SPDXRef-Snippet" + i);
+	}
+
+	@Test
+	public void testFindSnippetByByteRange() {
+		SnippetRangeIndex index = new SnippetRangeIndex();
+		index.updateSnippet(snippetNode(1), FILE1, 10, 20, 1, 2);
+		index.updateSnippet(snippetNode(2), FILE1, 10, 20, null, null);
+		index.updateSnippet(snippetNode(3), FILE2, 10, 20, null, null);
+		assertEquals(3, index.size());
+		assertEquals(snippetNode(1), index.findSnippetByByteRange(FILE1, 10, 20));
+		assertEquals(snippetNode(3), index.findSnippetByByteRange(FILE2, 10, 20));
+		assertNull(index.findSnippetByByteRange(FILE1, 10, 21));
+		index.removeSnippet(snippetNode(1));
+		assertEquals(snippetNode(2), index.findSnippetByByteRange(FILE1, 10, 20));
+		index.updateSnippet(snippetNode(2), FILE1, 30, 40, null, null);
+		assertNull(index.findSnippetByByteRange(FILE1, 10, 20));
+		assertEquals(snippetNode(2), index.findSnippetByByteRange(FILE1, 30, 40));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	public void testOverlappingRanges() {
+		SnippetRangeIndex index = new SnippetRangeIndex();
+		Random random = new Random(42);
+		int numSnippets = 500;
+		int[] starts = new int[numSnippets];
+		int[] ends = new int[numSnippets];
+		for (int i = 0; i < numSnippets; i++) {
+			starts[i] = random.nextInt(10000);
+			ends[i] = starts[i] + random.nextInt(200);
+			index.updateSnippet(snippetNode(i), FILE1, starts[i], ends[i], starts[i] / 10, ends[i] / 10);
+		}
+		for (int query = 0; query < 200; query++) {
+			int start = random.nextInt(10500);
+			int end = start + random.nextInt(50);
+			List<Node> result = index.findSnippetsOverlappingBytes(FILE1, start, end);
+			int expected = 0;
+			for (int i = 0; i < numSnippets; i++) {
+				if (starts[i] <= end && ends[i] >= start) {
+					expected++;
+					assertTrue(result.contains(snippetNode(i)));
+				}
+			}
+			assertEquals(expected, result.size());
+			expected = 0;
+			result = index.findSnippetsCoveringLine(FILE1, start / 10);
+			for (int i = 0; i < numSnippets; i++) {
+				if (starts[i] / 10 <= start / 10 && ends[i] / 10 >= start / 10) {
+					expected++;
+				}
+			}
+			assertEquals(expected, result.size());
+		}
+		assertTrue(index.findSnippetsCoveringByte(FILE2, 10).isEmpty());
+	}
+
+	@Test
+	public void testGetSnippetsByByteRange() {
+		SnippetRangeIndex index = new SnippetRangeIndex();
+		index.updateSnippet(snippetNode(1), FILE1, 50, 60, null, null);
+		index.updateSnippet(snippetNode(2), FILE1, 10, 80, null, null);
+		index.updateSnippet(snippetNode(3), FILE1, 10, 20, null, null);
+		index.updateSnippet(snippetNode(4), FILE1, null, null, 1, 3);
+		assertEquals(Lists.newArrayList(snippetNode(3), snippetNode(2), snippetNode(1)),
+				index.getSnippetsByByteRange(FILE1));
+		assertEquals(Lists.newArrayList(snippetNode(2), snippetNode(1)),
+				index.findSnippetsCoveringByte(FILE1, 55));
+		assertEquals(Lists.newArrayList(snippetNode(4)), index.findSnippetsOverlappingLines(FILE1, 3, 10));
+		assertTrue(index.getSnippetsByByteRange(FILE2).isEmpty());
+	}
+}
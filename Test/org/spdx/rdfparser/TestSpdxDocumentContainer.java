@@ -19,18 +19,21 @@ package org.spdx.rdfparser;
 import static org.junit.Assert.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.ExtractedLicenseInfo;
 import org.spdx.rdfparser.license.SpdxListedLicense;
 import org.spdx.rdfparser.model.ExternalDocumentRef;
 import org.spdx.rdfparser.model.Relationship;
 import org.spdx.rdfparser.model.SpdxElement;
 import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
 import org.spdx.rdfparser.model.SpdxPackage;
 import org.spdx.rdfparser.model.SpdxSnippet;
 import org.spdx.rdfparser.model.UnitTestHelper;
@@ -90,6 +93,29 @@ public class TestSpdxDocumentContainer {
 		assertEquals(version, container2.getSpdxDocument().getSpecVersion());
 	}
 
+	@Test
+	public void testInitializeFromModel() throws InvalidSPDXAnalysisException {
+		String docUri = "http://www.spdx.org/spdxdocs/uniquenameofsomesort";
+		SpdxDocumentContainer container = new SpdxDocumentContainer(docUri);
+		assertTrue(container.getInitializationTimings().isEmpty());
+		ExtractedLicenseInfo lic = new ExtractedLicenseInfo("LicenseRef-7", "text");
+		container.addExtractedLicenseInfos(lic);
+		SpdxFile file = new SpdxFile("file", new FileType[] {FileType.fileType_source},
+				"2fd4e1c67a2d28fced849ee1bb76e7391b93eb12", lic, new AnyLicenseInfo[] {lic},
+				null, "NOASSERTION", null, null);
+		container.addElement(file);
+		SpdxDocumentContainer container2 = new SpdxDocumentContainer(container.getModel());
+		assertEquals(lic, container2.getExtractedLicense("LicenseRef-7"));
+		assertEquals("LicenseRef-8", container2.getNextLicenseRef());
+		assertTrue(container2.spdxElementRefExists(file.getId()));
+		int fileRefNum = SpdxDocumentContainer.getElementRefNumber(file.getId());
+		assertEquals(SpdxRdfConstants.SPDX_ELEMENT_REF_PRENUM + String.valueOf(fileRefNum + 1),
+				container2.getNextSpdxElementRef());
+		Map<String, Long> timings = container2.getInitializationTimings();
+		assertTrue(timings.containsKey(SpdxDocumentContainer.PHASE_SCAN));
+		assertTrue(timings.containsKey(SpdxDocumentContainer.PHASE_EXTRACTED_LICENSES));
+	}
+
 	/**
 	 * Test method for {@link org.spdx.rdfparser.SpdxDocumentContainer#SpdxDocumentContainer(java.lang.String, java.lang.String)}.
 	 * @throws InvalidSPDXAnalysisException
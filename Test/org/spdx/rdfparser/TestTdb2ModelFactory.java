@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.sparql.JenaTransactionException;
+import org.apache.jena.system.Txn;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxPackage;
+
+/**
+ * @author agent
+ *
+ */
+public class TestTdb2ModelFactory {
+
+	static final String TEST_RDF_FILE_PATH = "TestFiles" + File.separator + "SPDXRdfExample-v2.0.rdf";
+	static final String DOC_URI = "http://spdx.org/documents/tdb2test";
+
+	File tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdxTdb2").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		deleteDirectory(tempDir);
+	}
+
+	private void deleteDirectory(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File file:files) {
+				if (file.isDirectory()) {
+					deleteDirectory(file);
+				} else {
+					file.delete();
+				}
+			}
+		}
+		dir.delete();
+	}
+
+	@Test
+	public void testCreateDocument() throws Exception {
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(tempDir)) {
+			SpdxDocumentContainer container = Txn.calculateWrite(store.getDataset(), () -> {
+				try {
+					SpdxDocumentContainer retval = new SpdxDocumentContainer(DOC_URI, "SPDX-2.0", store);
+					retval.addElement(new SpdxPackage("Package", null, null, null, null, null, null, null));
+					return retval;
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			List<String> modelNames = store.getModelNames();
+			assertEquals(1, modelNames.size());
+			assertEquals(container.getDocumentNamespace(), modelNames.get(0));
+		}
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(tempDir)) {
+			SpdxDocument doc = SPDXDocumentFactory.openSpdxDocument(store);
+			assertFalse(store.getDataset().isInTransaction());
+			assertEquals(DOC_URI + "#", doc.getDocumentContainer().getDocumentNamespace());
+			List<SpdxPackage> packages = Txn.calculateRead(store.getDataset(), () -> {
+				try {
+					return doc.getDocumentContainer().findAllPackages();
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			assertEquals(1, packages.size());
+			assertEquals("Package", packages.get(0).getName());
+			store.removeModel(doc.getDocumentContainer().getDocumentNamespace());
+			assertTrue(store.getModelNames().isEmpty());
+		}
+	}
+
+	@Test
+	public void testImportDocument() throws Exception {
+		SpdxDocument expected = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(tempDir)) {
+			SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH, store);
+		}
+		Tdb2ModelFactory shared = Tdb2ModelFactory.getSharedFactory(tempDir);
+		try {
+			SpdxDocument result = SPDXDocumentFactory.createSpdxDocument(tempDir.getPath());
+			// the document is read in a transaction held by this thread until the shared factory is closed
+			assertTrue(shared.getDataset().isInTransaction());
+			assertEquals(expected.getDocumentNamespace(), result.getDocumentNamespace());
+			assertEquals(expected.getName(), result.getName());
+			List<SpdxFile> expectedFiles = expected.getDocumentContainer().findAllFiles();
+			List<SpdxFile> resultFiles = result.getDocumentContainer().findAllFiles();
+			assertEquals(expectedFiles.size(), resultFiles.size());
+			assertEquals(expected.verify(), result.verify());
+			// opening the directory again uses the same store
+			SPDXDocumentFactory.createSpdxDocument(tempDir.getPath());
+			assertSame(shared, Tdb2ModelFactory.getSharedFactory(tempDir));
+		} finally {
+			shared.close();
+		}
+		// closing the last factory for the store releases its lock
+		try (FileChannel lockChannel = FileChannel.open(new File(tempDir, "tdb.lock").toPath(),
+				StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+			FileLock lock = lockChannel.tryLock();
+			assertNotNull(lock);
+			lock.release();
+		}
+	}
+
+	@Test
+	public void testFindInTransaction() throws Exception {
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(tempDir)) {
+			SpdxDocumentContainer container = Txn.calculateWrite(store.getDataset(), () -> {
+				try {
+					SpdxDocumentContainer retval = new SpdxDocumentContainer(DOC_URI, "SPDX-2.0", store);
+					for (int i = 0; i < 5; i++) {
+						retval.addElement(new SpdxPackage("Package" + i, null, null, null, null, null, null, null));
+					}
+					return retval;
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			Graph graph = container.getModel().getGraph();
+			Node packageType = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.CLASS_SPDX_PACKAGE);
+			Node commentProperty = NodeFactory.createURI(SpdxRdfConstants.RDFS_NAMESPACE + SpdxRdfConstants.RDFS_PROP_COMMENT);
+			// large searches must be run in a transaction
+			try {
+				graph.find(Node.ANY, RDF.type.asNode(), packageType);
+				fail("Large search outside of a transaction");
+			} catch (JenaTransactionException e) {
+				// expected
+			}
+			assertFalse(store.getDataset().isInTransaction());
+			List<Triple> packages = Txn.calculateRead(store.getDataset(),
+					() -> graph.find(Node.ANY, RDF.type.asNode(), packageType).toList());
+			assertEquals(5, packages.size());
+			Node first = packages.get(0).getSubject();
+			// a search stopped early in a transaction is released with the transaction
+			Txn.executeWrite(store.getDataset(), () -> {
+				ExtendedIterator<Triple> iter = graph.find(Node.ANY, Node.ANY, Node.ANY);
+				assertTrue(iter.hasNext());
+				graph.add(Triple.create(first, commentProperty, NodeFactory.createLiteral("Comment")));
+			});
+			assertFalse(store.getDataset().isInTransaction());
+			// searches for a specific subject do not need a transaction
+			ExtendedIterator<Triple> iter = graph.find(first, Node.ANY, Node.ANY);
+			assertFalse(store.getDataset().isInTransaction());
+			assertTrue(iter.hasNext());
+			assertTrue(graph.contains(first, commentProperty, Node.ANY));
+		}
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(tempDir)) {
+			SpdxDocument doc = SPDXDocumentFactory.openSpdxDocument(store);
+			int numComments = Txn.calculateRead(store.getDataset(), () -> {
+				try {
+					List<SpdxPackage> packages = doc.getDocumentContainer().findAllPackages();
+					assertEquals(5, packages.size());
+					int retval = 0;
+					for (SpdxPackage pkg:packages) {
+						if ("Comment".equals(pkg.getComment())) {
+							retval++;
+						}
+					}
+					return retval;
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			assertEquals(1, numComments);
+			assertFalse(store.getDataset().isInTransaction());
+		}
+	}
+}
@@ -17,11 +17,15 @@
 package org.spdx.rdfparser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -29,6 +33,9 @@ import org.junit.Test;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
 /**
  * @author Source Auditor
  *
@@ -109,6 +116,38 @@ public class VerificationCodeGeneratorTest {
         compareFileNameArrays(SKIPPED_FILE_NAMES, vc.getExcludedFileNames());
     }
 
+    /**
+     * Test method for
+     * {@link org.spdx.rdfparser.VerificationCodeGenerator#generatePackageVerificationCode(java.io.File, java.util.function.Predicate)}
+     * .
+     *
+     * @throws NoSuchAlgorithmException
+     * @throws IOException
+     */
+    @Test
+    public void testGeneratePackageVerificationCodeFilePredicate() throws NoSuchAlgorithmException, IOException {
+        VerificationCodeGenerator vg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+        File sourceDirectory = new File(SOURCE_PATH);
+        File[] skippedFiles = new File[SKIPPED_FILE_NAMES.length];
+        final Set<String> skippedRelativePaths = Sets.newHashSet();
+        for (int i = 0; i < skippedFiles.length; i++) {
+            skippedFiles[i] = new File(SKIPPED_FILE_NAMES[i]);
+            skippedRelativePaths.add(SKIPPED_FILE_NAMES[i].substring(SOURCE_PATH.length() + 1));
+        }
+        final List<String> testedPaths = Lists.newArrayList();
+        SpdxPackageVerificationCode vc = vg.generatePackageVerificationCode(sourceDirectory, relativePath -> {
+            testedPaths.add(relativePath);
+            return skippedRelativePaths.contains(relativePath);
+        });
+        compareFileNameArrays(SKIPPED_FILE_NAMES, vc.getExcludedFileNames());
+        assertEquals(vg.generatePackageVerificationCode(sourceDirectory, skippedFiles).getValue(), vc.getValue());
+        assertTrue(testedPaths.containsAll(skippedRelativePaths));
+        SpdxPackageVerificationCode noSkipped = vg.generatePackageVerificationCode(sourceDirectory, relativePath -> false);
+        assertEquals(0, noSkipped.getExcludedFileNames().length);
+        assertEquals(vg.generatePackageVerificationCode(sourceDirectory).getValue(), noSkipped.getValue());
+        assertNotEquals(vc.getValue(), noSkipped.getValue());
+    }
+
     /**
      * @param skippedFileNames
      * @param excludedFileNames
@@ -207,4 +207,37 @@ public class TestLicenseExpressionParser {
 		assertTrue(container.extractedLicenseExists(NONSTD_IDS[1]));
 		assertTrue(container.extractedLicenseExists(NONSTD_IDS[2]));
 	}
+
+	@Test
+	public void testTokenizeExpression() {
+		assertArrayEquals(new String[] {"(", "(", "MIT", "+", ")", "AND", "Apache-2.0", ")"},
+				LicenseExpressionParser.tokenizeExpression("  ((MIT+)\tAND  Apache-2.0)"));
+		assertArrayEquals(new String[] {"GPL-2.0", "WITH", "a)b", "+", "+"},
+				LicenseExpressionParser.tokenizeExpression("GPL-2.0 WITH a)b++"));
+		assertArrayEquals(new String[] {"(", ")", "x(", ")"},
+				LicenseExpressionParser.tokenizeExpression("() x()"));
+		assertArrayEquals(new String[0], LicenseExpressionParser.tokenizeExpression(" \r\n"));
+	}
+
+	@Test
+	public void testCachedExpression() throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer container = new SpdxDocumentContainer("http://spdx.org/documents/cachetest");
+		String parseString = STD_IDS[0] + " AND (" + NONSTD_IDS[0] + " OR " + STD_IDS[1] + "+)";
+		AnyLicenseInfo first = LicenseExpressionParser.parseLicenseExpression(parseString, container);
+		AnyLicenseInfo second = LicenseExpressionParser.parseLicenseExpression(parseString, container);
+		assertEquals(first, second);
+		assertFalse(first == second);
+		AnyLicenseInfo[] firstMembers = ((ConjunctiveLicenseSet)first).getMembers();
+		AnyLicenseInfo[] secondMembers = ((ConjunctiveLicenseSet)second).getMembers();
+		AnyLicenseInfo firstListed = firstMembers[0] instanceof SpdxListedLicense ? firstMembers[0] : firstMembers[1];
+		AnyLicenseInfo secondListed = secondMembers[0] instanceof SpdxListedLicense ? secondMembers[0] : secondMembers[1];
+		assertTrue(firstListed == secondListed);
+		assertEquals(1, container.getExtractedLicenseInfos().length);
+		// modifying a result must not change the cached value
+		((ConjunctiveLicenseSet)first).setMembers(new AnyLicenseInfo[] {firstListed});
+		AnyLicenseInfo third = LicenseExpressionParser.parseLicenseExpression(parseString, container);
+		assertEquals(second, third);
+		AnyLicenseInfo unbound = LicenseExpressionParser.parseLicenseExpression(parseString, null);
+		assertEquals(unbound, LicenseExpressionParser.parseLicenseExpression(parseString, null));
+	}
 }
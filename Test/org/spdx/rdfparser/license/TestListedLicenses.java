@@ -2,10 +2,22 @@ package org.spdx.rdfparser.license;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.commons.lang3.StringUtils;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
 import org.junit.Test;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
 /**
  * @author yevster@gmail.com, Black Duck Software
  *         SPDX-License-Identifier: Apache-2.0
@@ -41,4 +53,80 @@ public class TestListedLicenses {
 			ListedLicenses.resetListedLicenses();
 		}
 	}
+
+	@Test
+	public void testListedLicenseCache() throws InvalidSPDXAnalysisException {
+		System.setProperty("SPDXParser.OnlyUseLocalLicenses", "true");
+		System.setProperty(ListedLicenseCaches.CACHE_SIZE_PROPERTY, "1");
+		ListedLicenses.resetListedLicenses();
+		try {
+			ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+			listedLicenses.getListedLicenseById("Apache-2.0");
+			listedLicenses.getListedLicenseById("Apache-2.0");
+			CacheStats stats = listedLicenses.getListedLicenseCacheStats();
+			assertEquals(1, stats.hitCount());
+			assertEquals(1, stats.loadCount());
+			listedLicenses.getListedLicenseById("MIT");
+			stats = listedLicenses.getListedLicenseCacheStats();
+			assertEquals(1, stats.evictionCount());
+			SpdxListedLicense apache = listedLicenses.getListedLicenseById("Apache-2.0");
+			assertEquals("Apache-2.0", apache.getLicenseId());
+			assertTrue(apache.getLicenseText().contains("Apache License"));
+			// loaded licenses are not copied into the shared model, so evicted licenses release their triples
+			assertEquals(0, listedLicenses.getModel().size());
+		} finally {
+			System.setProperty("SPDXParser.OnlyUseLocalLicenses", "false");
+			System.clearProperty(ListedLicenseCaches.CACHE_SIZE_PROPERTY);
+			ListedLicenses.resetListedLicenses();
+		}
+	}
+
+	@Test
+	public void testGetLicenseFromStdLicModelSharedModel() throws InvalidSPDXAnalysisException {
+		System.setProperty("SPDXParser.OnlyUseLocalLicenses", "true");
+		ListedLicenses.resetListedLicenses();
+		try {
+			ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+			Node node = NodeFactory.createURI(ListedLicenses.LISTED_LICENSE_URI_PREFIX + "MIT");
+			SpdxListedLicense result = (SpdxListedLicense)listedLicenses.getLicenseFromStdLicModel(listedLicenses, node);
+			assertEquals("MIT", result.getLicenseId());
+			assertTrue(result.getLicenseText().contains("Permission is hereby granted"));
+			// only licenses referenced through the shared model are copied into it
+			assertTrue(listedLicenses.getModel().size() > 0);
+		} finally {
+			System.setProperty("SPDXParser.OnlyUseLocalLicenses", "false");
+			ListedLicenses.resetListedLicenses();
+		}
+	}
+
+	@Test
+	public void testCacheSingleLoad() throws Exception {
+		final Cache<String, String> cache = ListedLicenseCaches.newIdCache(0);
+		final AtomicInteger loads = new AtomicInteger(0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 20; i++) {
+				results.add(executor.submit(() -> ListedLicenseCaches.getOrLoad(cache, "id", () -> {
+					loads.incrementAndGet();
+					Thread.sleep(50);
+					return "value";
+				})));
+			}
+			for (Future<String> result:results) {
+				assertEquals("value", result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, loads.get());
+		try {
+			ListedLicenseCaches.getOrLoad(cache, "bad", () -> {
+				throw new InvalidSPDXAnalysisException("bad license");
+			});
+			fail("Expected exception");
+		} catch (InvalidSPDXAnalysisException ex) {
+			assertEquals("bad license", ex.getMessage());
+		}
+	}
 }
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class TestSpdxDocumentBuilder {
+
+	static final String DOC_URI = "http://spdx.org/documents/builderTest";
+	static final String SHA1_1 = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+	static final String SHA1_2 = "de9f2c7fd25e1b3afad3e85a0bd17d9b100db4b3";
+
+	SpdxDocumentContainer container;
+	ExtractedLicenseInfo license1;
+	AnyLicenseInfo noAssertion;
+
+	@Before
+	public void setUp() throws Exception {
+		container = new SpdxDocumentContainer(DOC_URI, "SPDX-2.0");
+		license1 = new ExtractedLicenseInfo("LicenseRef-1", "License text 1");
+		container.addNewExtractedLicenseInfo(license1);
+		noAssertion = new SpdxNoAssertionLicense();
+	}
+
+	private SpdxDocumentBuilder.FileDescriptor fileDescriptor(String name, String sha1) {
+		return new SpdxDocumentBuilder.FileDescriptor(null, name, sha1,
+				new FileType[] {FileType.fileType_source}, noAssertion,
+				new AnyLicenseInfo[] {license1}, "Copyright " + name);
+	}
+
+	@Test
+	public void testBuild() throws InvalidSPDXAnalysisException {
+		SpdxDocumentBuilder builder = new SpdxDocumentBuilder(container);
+		SpdxDocumentBuilder.FileDescriptor fd1 = fileDescriptor("./src/file1.c", SHA1_1);
+		fd1.setComment("File comment");
+		List<String> fileIds = builder.addFiles(Lists.newArrayList(fd1, fileDescriptor("./src/file2.c", SHA1_2)));
+		assertEquals(2, fileIds.size());
+		assertEquals(2, builder.getNumPendingFiles());
+		SpdxPackageVerificationCode verificationCode = new SpdxPackageVerificationCode(
+				"0123456789abcdef0123456789abcdef01234567", new String[] {"excluded.spdx"});
+		String pkgId = builder.addPackage(new SpdxDocumentBuilder.PackageDescriptor("SPDXRef-Pkg", "Package",
+				"1.0", null, noAssertion, license1, "NOASSERTION", fileIds, verificationCode));
+		assertEquals("SPDXRef-Pkg", pkgId);
+		builder.addDescribes(pkgId);
+		builder.addRelationship(fileIds.get(0), RelationshipType.GENERATED_FROM, fileIds.get(1), "generated");
+		builder.addRelationship(fileIds.get(0), RelationshipType.GENERATED_FROM, fileIds.get(1), "generated");
+		assertEquals(0, container.findAllFiles().size());
+		assertTrue(builder.build() > 0);
+		assertEquals(0, builder.getNumPendingFiles());
+
+		SpdxFile file1 = (SpdxFile)container.findElementById(fileIds.get(0));
+		assertEquals("./src/file1.c", file1.getName());
+		assertEquals(SHA1_1, file1.getSha1());
+		assertEquals("File comment", file1.getComment());
+		assertEquals("Copyright ./src/file1.c", file1.getCopyrightText());
+		assertArrayEquals(new FileType[] {FileType.fileType_source}, file1.getFileTypes());
+		assertEquals(1, file1.getLicenseInfoFromFiles().length);
+		assertEquals(license1, file1.getLicenseInfoFromFiles()[0]);
+		assertEquals(1, file1.getRelationships().length);
+		assertEquals(RelationshipType.GENERATED_FROM, file1.getRelationships()[0].getRelationshipType());
+		assertEquals(fileIds.get(1), file1.getRelationships()[0].getRelatedSpdxElement().getId());
+
+		SpdxPackage pkg = (SpdxPackage)container.findElementById(pkgId);
+		assertEquals("Package", pkg.getName());
+		assertEquals("1.0", pkg.getVersionInfo());
+		assertEquals("NOASSERTION", pkg.getDownloadLocation());
+		assertEquals("NOASSERTION", pkg.getCopyrightText());
+		assertEquals(license1, pkg.getLicenseDeclared());
+		assertEquals(2, pkg.getFiles().length);
+		assertEquals(1, pkg.getLicenseInfoFromFiles().length);
+		assertTrue(pkg.isFilesAnalyzed());
+		assertEquals(verificationCode.getValue(), pkg.getPackageVerificationCode().getValue());
+		assertArrayEquals(verificationCode.getExcludedFileNames(), pkg.getPackageVerificationCode().getExcludedFileNames());
+
+		SpdxItem[] describes = container.getSpdxDocument().getDocumentDescribes();
+		assertEquals(1, describes.length);
+		assertEquals(pkgId, describes[0].getId());
+	}
+
+	@Test
+	public void testDuplicateFiles() throws InvalidSPDXAnalysisException {
+		SpdxDocumentBuilder builder = new SpdxDocumentBuilder(container);
+		String id1 = builder.addFile(fileDescriptor("./src/file1.c", SHA1_1));
+		assertEquals(id1, builder.addFile(fileDescriptor("src/file1.c", SHA1_1.toUpperCase())));
+		String id2 = builder.addFile(fileDescriptor("./src/file1.c", SHA1_2));
+		assertNotEquals(id1, id2);
+		assertEquals(2, builder.getNumPendingFiles());
+		builder.build();
+		// files already in the document are found through the container file index
+		SpdxDocumentBuilder builder2 = new SpdxDocumentBuilder(container);
+		assertEquals(id1, builder2.addFile(fileDescriptor("./src/file1.c", SHA1_1)));
+		assertEquals(0, builder2.getNumPendingFiles());
+		assertEquals(2, container.findAllFiles().size());
+	}
+
+	@Test
+	public void testInvalidIds() throws InvalidSPDXAnalysisException {
+		SpdxDocumentBuilder builder = new SpdxDocumentBuilder(container);
+		SpdxDocumentBuilder.FileDescriptor fd = new SpdxDocumentBuilder.FileDescriptor("SPDXRef-File",
+				"./file", SHA1_1, null, noAssertion, null, "NOASSERTION");
+		assertEquals("SPDXRef-File", builder.addFile(fd));
+		try {
+			builder.addPackage(new SpdxDocumentBuilder.PackageDescriptor("SPDXRef-File", "Package",
+					null, null, noAssertion, noAssertion, "NOASSERTION", null, null));
+			fail("Duplicate ID not detected");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		try {
+			builder.addPackage(new SpdxDocumentBuilder.PackageDescriptor("Invalid ID", "Package",
+					null, null, noAssertion, noAssertion, "NOASSERTION", null, null));
+			fail("Invalid ID not detected");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		builder.addRelationship("SPDXRef-File", RelationshipType.DEPENDS_ON, "SPDXRef-Missing", null);
+		try {
+			builder.build();
+			fail("Missing relationship element not detected");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+	}
+}
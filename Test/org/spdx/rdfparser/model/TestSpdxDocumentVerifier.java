@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.model;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.tools.GenerateSyntheticDocument;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class TestSpdxDocumentVerifier {
+
+	static final int NUM_FILES = 2000;
+	static final int NUM_INVALID_FILES = 10;
+	static final String INVALID_SHA1 = "not a sha1";
+
+	SpdxDocumentContainer container;
+	SpdxDocument doc;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		container = GenerateSyntheticDocument.createDocument(
+				new GenerateSyntheticDocument.Parameters(4, NUM_FILES, 200, 500, 5, 2, 11));
+		doc = container.getSpdxDocument();
+		List<SpdxFile> files = container.findAllFiles();
+		for (int i = 0; i < NUM_INVALID_FILES; i++) {
+			files.get(i * (NUM_FILES / NUM_INVALID_FILES)).setChecksums(new Checksum[] {
+					new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, INVALID_SHA1)});
+		}
+	}
+
+	@Test
+	public void testVerifyEachElementOnce() throws Exception {
+		List<String> result = new SpdxDocumentVerifier(doc, 1).verify();
+		assertEquals(result.toString(), NUM_INVALID_FILES, result.size());
+		for (String violation:result) {
+			assertTrue(violation, violation.startsWith("Invalid checksum"));
+		}
+		assertEquals(result, doc.verify());
+	}
+
+	@Test
+	public void testParallelMatchesSerial() throws Exception {
+		List<String> serial = new SpdxDocumentVerifier(doc, 1).verify();
+		for (int numThreads = 2; numThreads <= 8; numThreads *= 2) {
+			List<String> parallel = Lists.newArrayList();
+			new SpdxDocumentVerifier(doc, numThreads).verify(parallel::add);
+			assertEquals(serial, parallel);
+		}
+	}
+
+	@Test
+	public void testDocumentViolations() throws Exception {
+		doc.setName(null);
+		List<String> result = new SpdxDocumentVerifier(doc, 4).verify();
+		assertEquals(NUM_INVALID_FILES + 1, result.size());
+		assertTrue(result.get(0).startsWith("Missing required name"));
+	}
+
+	@Test
+	public void testVerifyPackageVerificationCodes() throws Exception {
+		// packages containing files with invalid checksums can not be checked - only the checksums are reported
+		assertEquals(new SpdxDocumentVerifier(doc, 4, false).verify(), new SpdxDocumentVerifier(doc, 4, true).verify());
+		SpdxDocumentContainer validContainer = GenerateSyntheticDocument.createDocument(
+				new GenerateSyntheticDocument.Parameters(4, NUM_FILES, 200, 500, 5, 2, 11));
+		SpdxDocument validDoc = validContainer.getSpdxDocument();
+		assertEquals(0, new SpdxDocumentVerifier(validDoc, 4, true).verify().size());
+		SpdxPackage pkg = validContainer.findAllPackages().get(0);
+		pkg.getFiles()[0].setChecksums(new Checksum[] {
+				new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, "0000000000000000000000000000000000000000")});
+		assertEquals(0, new SpdxDocumentVerifier(validDoc, 4, false).verify().size());
+		List<String> result = new SpdxDocumentVerifier(validDoc, 1, true).verify();
+		assertEquals(result.toString(), 1, result.size());
+		assertTrue(result.get(0), result.get(0).startsWith("Package verification code "));
+		assertTrue(result.get(0), result.get(0).endsWith(pkg.getName()));
+		assertEquals(result, new SpdxDocumentVerifier(validDoc, 4, true).verify());
+	}
+
+	@Test
+	public void testInvalidNumThreads() {
+		try {
+			new SpdxDocumentVerifier(doc, 0);
+			fail("Zero threads accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
@@ -32,8 +32,11 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.spdx.rdfparser.CompactFileStore;
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.RdfModelHelper;
+import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.ConjunctiveLicenseSet;
@@ -704,6 +707,91 @@ public class TestSpdxFile {
 		}
 	}
 
+	@Test
+	public void testFindFileResourceDocumentContainer() throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer container = new SpdxDocumentContainer("http://test.name/space/doc");
+		String FILE_NAME = "./file/name/name1";
+		String SHA1_1 = "1123456789abcdef0123456789abcdef01234567";
+		String SHA1_2 = "2222456789abcdef0123456789abcdef01234567";
+		SpdxFile file1 = new SpdxFile(FILE_NAME, null, null, null,
+				null, null, "Copyright 1", null, null,
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1_1)}, null, null, null);
+		container.addElement(file1);
+		// same name with a different SHA1 is a different file
+		SpdxFile file2 = new SpdxFile(FILE_NAME, null, null, null,
+				null, null, "Copyright 2", null, null,
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1_2)}, null, null, null);
+		assertEquals(null, SpdxFile.findFileResource(container, file2));
+		container.addElement(file2);
+		assertFalse(file1.getNode().equals(file2.getNode()));
+		assertEquals(2, container.getFileIndex().size());
+
+		SpdxFile testFile = new SpdxFile("file\\name\\name1", null, null, null,
+				null, null, "Copyright 2", null, null,
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1_2.toUpperCase())}, null, null, null);
+		assertEquals(file2.getNode(), SpdxFile.findFileResource(container, testFile).asNode());
+		container.addElement(testFile);
+		assertEquals(file2.getNode(), testFile.getNode());
+
+		// changing the checksum updates the index
+		file1.setChecksums(new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1,
+				"4444456789abcdef0123456789abcdef01234567")});
+		assertEquals(null, container.getFileIndex().findFile(FILE_NAME, SHA1_1));
+		assertEquals(file1.getNode(), container.getFileIndex().findFile(FILE_NAME, "4444456789abcdef0123456789abcdef01234567"));
+		file1.setName("./renamed");
+		assertEquals(file1.getNode(), container.getFileIndex().findFile("renamed", "4444456789abcdef0123456789abcdef01234567"));
+		assertEquals(null, container.getFileIndex().findFile(FILE_NAME, "4444456789abcdef0123456789abcdef01234567"));
+
+		// the index is created from an existing model
+		SpdxDocumentContainer copy = new SpdxDocumentContainer(container.getModel());
+		assertEquals(2, copy.getFileIndex().size());
+		assertEquals(file2.getNode(), copy.getFileIndex().findFile(FILE_NAME, SHA1_2));
+	}
+
+	@Test
+	public void testCompactFileStore() throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer container = new SpdxDocumentContainer("http://test.name/space/doc");
+		CompactFileStore store = container.enableCompactFileStore();
+		String SHA1 = "1123456789abcdef0123456789abcdef01234567";
+		AnyLicenseInfo[] licenseInfos = new AnyLicenseInfo[] {STANDARD_LICENSES[0], NON_STD_LICENSES[0]};
+		SpdxFile file = new SpdxFile("./dir/name1", "comment", null, null,
+				COMPLEX_LICENSE, licenseInfos, "Copyright 1", null,
+				new FileType[] {FileType.fileType_source},
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, SHA1)},
+				new String[] {"Contributor"}, "Notice", null);
+		container.addElement(file);
+		assertEquals(1, store.size());
+		int row = store.getRow(file.getNode().getURI());
+		assertEquals("./dir/name1", store.getName(row));
+		assertEquals("./dir/name1", file.getName());
+		assertEquals(SHA1, file.getSha1());
+		assertEquals(COMPLEX_LICENSE, file.getLicenseConcluded());
+		assertTrue(RdfModelHelper.arraysEqual(licenseInfos, file.getLicenseInfoFromFiles()));
+		assertEquals("Copyright 1", file.getCopyrightText());
+		assertEquals("Notice", file.getNoticeText());
+		assertEquals("Contributor", file.getFileContributors()[0]);
+		assertEquals(FileType.fileType_source, file.getFileTypes()[0]);
+
+		// setters update the store, the model and the file index
+		file.setCopyrightText("Copyright 2");
+		file.setName("./dir/name2");
+		file.addFileType(FileType.fileType_text);
+		assertEquals("Copyright 2", store.getCopyrightText(row));
+		assertEquals("./dir/name2", file.getName());
+		assertEquals(2, file.getFileTypes().length);
+		assertEquals(file.getNode(), container.getFileIndex().findFile("dir/name2", SHA1));
+
+		// files read from the model are kept in the store of the new container
+		SpdxDocumentContainer copy = new SpdxDocumentContainer(container.getModel());
+		CompactFileStore copyStore = copy.enableCompactFileStore();
+		SpdxFile copyFile = (SpdxFile)copy.findElementById(file.getId());
+		assertEquals(1, copyStore.size());
+		assertEquals("Copyright 2", copyFile.getCopyrightText());
+		assertTrue(file.equivalent(copyFile));
+		assertEquals(file.verify(), copyFile.verify());
+		assertTrue(copyFile.clone().equivalent(file));
+	}
+
 	/**
 	 * Test method for {@link org.spdx.rdfparser.model.SpdxFile#setChecksums(org.spdx.rdfparser.model.Checksum)}.
 	 * @throws InvalidSPDXAnalysisException
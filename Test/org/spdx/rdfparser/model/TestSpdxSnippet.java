@@ -28,6 +28,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SnippetRangeIndex;
+import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.ConjunctiveLicenseSet;
@@ -47,6 +49,8 @@ import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
+import com.google.common.collect.Lists;
+
 /**
  * @author Gary
  *
@@ -252,6 +256,40 @@ public class TestSpdxSnippet {
 		assertEquals(2, numByteRanges);
 	}
 
+	@Test
+	public void testFindDuplicateResourceDocumentContainer() throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer container = new SpdxDocumentContainer("http://spdx.org/documents/snippettest");
+		SpdxSnippet snippet = new SpdxSnippet("snippetName", null, null, null,
+				null, null, SpdxRdfConstants.NOASSERTION_VALUE,
+				null, FROM_FILE1, BYTE_RANGE1, LINE_RANGE1);
+		container.addElement(snippet);
+		SnippetRangeIndex index = container.getSnippetRangeIndex();
+		assertEquals(1, index.size());
+		Node fileNode = FROM_FILE1.getNode();
+		assertEquals(snippet.getNode(), index.findSnippetByByteRange(fileNode, OFFSET1_1, OFFSET1_2));
+		assertEquals(Lists.newArrayList(snippet.getNode()), index.findSnippetsCoveringByte(fileNode, OFFSET1_1 + 1));
+		assertEquals(Lists.newArrayList(snippet.getNode()), index.findSnippetsCoveringLine(fileNode, LINE1_2));
+		assertTrue(index.findSnippetsCoveringByte(fileNode, OFFSET1_2 + 1).isEmpty());
+		// same file and byte range is a duplicate
+		SpdxSnippet clonedSnippet = snippet.clone();
+		assertEquals(snippet.getNode(), clonedSnippet.findDuplicateResource(container, null).asNode());
+		// a different byte range in the same file is not
+		SpdxSnippet snippet2 = new SpdxSnippet("snippet2", null, null, null,
+				null, null, SpdxRdfConstants.NOASSERTION_VALUE, null, FROM_FILE1,
+				new StartEndPointer(new ByteOffsetPointer(FROM_FILE1, OFFSET1_2), new ByteOffsetPointer(FROM_FILE1, OFFSET1_2 + 10)),
+				null);
+		assertNull(snippet2.findDuplicateResource(container, null));
+		container.addElement(snippet2);
+		assertEquals(2, index.size());
+		assertEquals(Lists.newArrayList(snippet.getNode(), snippet2.getNode()),
+				index.findSnippetsCoveringByte(fileNode, OFFSET1_2));
+		// changing the range updates the index
+		snippet2.setByteRange(new StartEndPointer(new ByteOffsetPointer(FROM_FILE1, 1), new ByteOffsetPointer(FROM_FILE1, 2)));
+		assertEquals(Lists.newArrayList(snippet2.getNode(), snippet.getNode()), index.getSnippetsByByteRange(fileNode));
+		assertNull(index.findSnippetByByteRange(fileNode, OFFSET1_2, OFFSET1_2 + 10));
+		assertEquals(snippet2.getNode(), index.findSnippetByByteRange(fileNode, 1, 2));
+	}
+
 	/**
 	 * Test method for {@link org.spdx.rdfparser.model.SpdxSnippet#getType(org.apache.jena.rdf.model.Model)}.
 	 * @throws InvalidSPDXAnalysisException
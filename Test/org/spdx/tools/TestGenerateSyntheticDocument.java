@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.LicenseSet;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.rdfparser.model.SpdxSnippet;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author agent
+ *
+ */
+public class TestGenerateSyntheticDocument {
+
+	File tempDir;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdxSynthetic").toFile();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		deleteDirectory(tempDir);
+	}
+
+	private void deleteDirectory(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File file:files) {
+				if (file.isDirectory()) {
+					deleteDirectory(file);
+				} else {
+					file.delete();
+				}
+			}
+		}
+		dir.delete();
+	}
+
+	@Test
+	public void testCreateDocument() throws Exception {
+		GenerateSyntheticDocument.Parameters parameters = new GenerateSyntheticDocument.Parameters(3, 100, 10, 20, 5, 2, 42);
+		SpdxDocumentContainer container = GenerateSyntheticDocument.createDocument(parameters);
+		SpdxDocument doc = container.getSpdxDocument();
+		assertEquals(SpdxDocumentContainer.TWO_POINT_TWO_VERSION, doc.getSpecVersion());
+		assertEquals(3, doc.getDocumentDescribes().length);
+		assertEquals(100, container.findAllFiles().size());
+		assertEquals(10, container.findAllSnippets().size());
+		assertEquals(5, doc.getExtractedLicenseInfos().length);
+		int numRelationships = 0;
+		for (SpdxPackage pkg:container.findAllPackages()) {
+			numRelationships += pkg.getRelationships().length;
+		}
+		for (SpdxFile file:container.findAllFiles()) {
+			numRelationships += file.getRelationships().length;
+		}
+		for (SpdxSnippet snippet:container.findAllSnippets()) {
+			numRelationships += snippet.getRelationships().length;
+		}
+		assertEquals(20, numRelationships);
+		List<String> verify = doc.verify();
+		assertEquals(verify.toString(), 0, verify.size());
+	}
+
+	@Test
+	public void testDeterministic() throws Exception {
+		GenerateSyntheticDocument.Parameters parameters = new GenerateSyntheticDocument.Parameters(2, 50, 5, 10, 3, 3, 7);
+		SpdxDocumentContainer container1 = GenerateSyntheticDocument.createDocument(parameters);
+		SpdxDocumentContainer container2 = GenerateSyntheticDocument.createDocument(parameters);
+		assertTrue(container1.getModel().isIsomorphicWith(container2.getModel()));
+		File tag1 = new File(tempDir, "doc1.spdx");
+		File tag2 = new File(tempDir, "doc2.spdx");
+		GenerateSyntheticDocument.writeDocument(container1, tag1, GenerateSyntheticDocument.OUTPUT_TAG);
+		GenerateSyntheticDocument.writeDocument(container2, tag2, GenerateSyntheticDocument.OUTPUT_TAG);
+		assertArrayEquals(Files.readAllBytes(tag1.toPath()), Files.readAllBytes(tag2.toPath()));
+		SpdxDocumentContainer other = GenerateSyntheticDocument.createDocument(
+				new GenerateSyntheticDocument.Parameters(2, 50, 5, 10, 3, 3, 8));
+		assertFalse(container1.getModel().isIsomorphicWith(other.getModel()));
+	}
+
+	@Test
+	public void testCreateLicenseDepth() throws Exception {
+		List<AnyLicenseInfo> licenses = Lists.newArrayList();
+		licenses.add(LicenseInfoFactory.getListedLicenseById("MIT"));
+		licenses.add(LicenseInfoFactory.getListedLicenseById("Apache-2.0"));
+		Random random = new Random(0);
+		assertFalse(GenerateSyntheticDocument.createLicense(0, licenses, random) instanceof LicenseSet);
+		for (int depth = 1; depth < 5; depth++) {
+			assertEquals(depth, depth(GenerateSyntheticDocument.createLicense(depth, licenses, random)));
+		}
+	}
+
+	private int depth(AnyLicenseInfo license) {
+		if (!(license instanceof LicenseSet)) {
+			return 0;
+		}
+		int maxDepth = 0;
+		for (AnyLicenseInfo member:((LicenseSet)license).getMembers()) {
+			maxDepth = Math.max(maxDepth, depth(member));
+		}
+		return maxDepth + 1;
+	}
+
+	@Test
+	public void testAllFormats() throws Exception {
+		File outputDir = new File(tempDir, "all");
+		GenerateSyntheticDocument.onlineFunction(new String[] {outputDir.getPath(), "all",
+				"packages=2", "files=20", "snippets=4", "relationships=5", "extractedLicenses=2", "licenseDepth=2", "seed=3"});
+		File[] files = outputDir.listFiles();
+		assertEquals(GenerateSyntheticDocument.FORMAT_FILE_EXTENSIONS.size(), files.length);
+		for (File file:files) {
+			assertTrue(file.length() > 0);
+			if (file.getName().endsWith(".rdf") || file.getName().endsWith(".spdx")) {
+				List<String> warnings = Verify.verify(file.getPath());
+				assertEquals(file.getName() + ": " + warnings.toString(), 0, warnings.size());
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidArguments() throws Exception {
+		File output = new File(tempDir, "invalid.rdf");
+		try {
+			GenerateSyntheticDocument.onlineFunction(new String[] {output.getPath(), "files=ten"});
+			fail("Invalid number accepted");
+		} catch (OnlineToolException e) {
+			// expected
+		}
+		try {
+			GenerateSyntheticDocument.onlineFunction(new String[] {output.getPath(), "unknown=1"});
+			fail("Unknown parameter accepted");
+		} catch (OnlineToolException e) {
+			// expected
+		}
+		try {
+			GenerateSyntheticDocument.onlineFunction(new String[] {output.getPath(), "JSON"});
+			fail("Unknown format accepted");
+		} catch (OnlineToolException e) {
+			// expected
+		}
+		assertFalse(output.exists());
+	}
+}
@@ -18,13 +18,15 @@ package org.spdx.compare;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.licenseTemplate.ILicenseTemplateOutputHandler;
 import org.spdx.licenseTemplate.LicenseTemplateRule;
 import org.spdx.licenseTemplate.LicenseTemplateRule.RuleType;
@@ -41,8 +43,65 @@ import com.google.common.collect.Maps;
  */
 public class CompareTemplateOutputHandler implements
 		ILicenseTemplateOutputHandler {
+
+	static final Logger logger = LoggerFactory.getLogger(CompareTemplateOutputHandler.class);
+
 	private static final int MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH = 15;	// Maximum number of tokens to compare when searching for a normal text match
 	private static final int MIN_TOKENS_NORMAL_TEXT_SEARCH = 3;	// Minimum number of tokens to match of normal text to match after a variable block to bound greedy regex var text
+	/**
+	 * Default maximum amount of work for a comparison.  A unit of work is one character examined by
+	 * a variable rule regular expression or one token compared.
+	 */
+	public static final long DEFAULT_MAX_WORK = 20000000L;
+
+	/**
+	 * Name of the property, system property or environment variable for the maximum amount of work
+	 * for a comparison.  Zero or a negative number means the work is not bounded.
+	 */
+	public static final String MAX_WORK_PROPERTY = "SPDXParser.LicenseCompareMaxWork";
+
+	/**
+	 * Thrown when the work budget for the comparison is exceeded
+	 */
+	private static class WorkBudgetExceededException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		WorkBudgetExceededException() {
+			super("Work budget exceeded", null, false, false);
+		}
+	}
+
+	/**
+	 * Text for variable rule regular expressions which counts each character read against the work budget
+	 */
+	private class BudgetedCharSequence implements CharSequence {
+		private final String text;
+
+		BudgetedCharSequence(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public int length() {
+			return text.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			addWork(1);
+			return text.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return text.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return text;
+		}
+	}
 
 	class ParseInstruction {
 		LicenseTemplateRule rule;
@@ -53,6 +112,13 @@ public class CompareTemplateOutputHandler implements
 		private boolean skip = false;	// skip this instruction in matching
 		private boolean skipFirstTextToken = false;	// skip the first text token
 		private DifferenceDescription lastOptionalDifference = null;
+		private TokenizedLicenseText tokenizedText = null;	// lazily tokenized text
+		private Pattern matchPattern = null;	// lazily compiled variable rule match
+		/**
+		 * Results of matching the variable rule keyed by the start token and the start token of the
+		 * text following the variable.  The value is the number of tokens matched or -1 if there is no match
+		 */
+		private Map<Long, Integer> variableMatches = null;
 
 		ParseInstruction(LicenseTemplateRule rule, String text, ParseInstruction parent) {
 			this.rule = rule;
@@ -90,6 +156,8 @@ public class CompareTemplateOutputHandler implements
 		 */
 		public void setRule(LicenseTemplateRule rule) {
 			this.rule = rule;
+			this.matchPattern = null;
+			this.variableMatches = null;
 		}
 
 		/**
@@ -104,6 +172,20 @@ public class CompareTemplateOutputHandler implements
 		 */
 		public void setText(String text) {
 			this.text = text;
+			this.tokenizedText = null;
+		}
+
+		/**
+		 * @return the normalized and tokenized text or null if there is no text
+		 */
+		public TokenizedLicenseText getTokenizedText() {
+			if (this.text == null) {
+				return null;
+			}
+			if (this.tokenizedText == null) {
+				this.tokenizedText = LicenseCompareHelper.tokenizeLicenseText(LicenseCompareHelper.normalizeText(this.text));
+			}
+			return this.tokenizedText;
 		}
 
 		/**
@@ -186,7 +268,7 @@ public class CompareTemplateOutputHandler implements
 		 * @throws LicenseParserException
 		 */
 		public int match(String[] matchTokens, int startToken, int endToken, String originalText,
-				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation) throws LicenseParserException {
+				DifferenceDescription differences, TokenLocations tokenToLocation) throws LicenseParserException {
 			return match(matchTokens, startToken, endToken, originalText, differences, tokenToLocation, false);
 		}
 
@@ -203,22 +285,21 @@ public class CompareTemplateOutputHandler implements
 		 * @throws LicenseParserException
 		 */
 		public int match(String[] matchTokens, int startToken, int endToken, String originalText,
-				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
+				DifferenceDescription differences, TokenLocations tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
 			if (this.skip) {
 				return startToken;
 			}
 			int nextToken = startToken;
 			if (this.rule == null) {
 				if (this.text != null) {
-					Map<Integer, LineColumn> textLocations = new HashMap<Integer, LineColumn>();
-					String[] textTokens = LicenseCompareHelper.tokenizeLicenseText(LicenseCompareHelper.normalizeText(text), textLocations);
+					TokenizedLicenseText textTokens = getTokenizedText();
 					if (this.skipFirstTextToken) {
-						textTokens = Arrays.copyOfRange(textTokens, 1, textTokens.length);
+						textTokens = textTokens.copyOfRange(1, textTokens.size());
 					}
-					nextToken = compareText(textTokens, matchTokens, nextToken, endToken, this);
+					nextToken = compareText(textTokens, nextToken, endToken, this);
 					if (nextToken < 0) {
 						int errorLocation = -nextToken;
-						differences.addDifference(tokenToLocation.get(errorLocation), LicenseCompareHelper.getTokenAt(matchTokens, errorLocation),
+						differences.addDifference(tokenToLocation, errorLocation, LicenseCompareHelper.getTokenAt(matchTokens, errorLocation),
 										"Normal text of license does not match", text, null, getLastOptionalDifference());
 					}
 					if (this.subInstructions.size() > 0) {
@@ -278,14 +359,14 @@ public class CompareTemplateOutputHandler implements
 		 * @param endToken Index of the last token to search for the match
 		 * @param originalText Original text used go generate the matchTokens
 		 * @param differences Any differences found
-		 * @param tokenToLocation Map of token index to line/column where the token was found in the original text
+		 * @param tokenToLocation Line/column where each token was found in the original text
 		 *  @param ignoreOptionalDifferences if true, don't record any optional differences
 		 * @return the index of the token after the find or -1 if the text did not match
 		 * @throws LicenseParserException
 		 */
 		private int matchOptional(List<Integer> matchingStartTokens,
 				String[] matchTokens, int startToken, int endToken, String originalText,
-				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
+				DifferenceDescription differences, TokenLocations tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
 			for (int matchingStartToken:matchingStartTokens) {
 				DifferenceDescription matchDifferences = new DifferenceDescription();
 				int matchLocation = startToken;
@@ -314,13 +395,13 @@ public class CompareTemplateOutputHandler implements
 		 * @param endToken End of the match tokens to end the search
 		 * @param originalText original text that created the match tokens
 		 * @param differences Information on any differences found
-		 * @param tokenToLocation Map of match token indexes to line/column locations
+		 * @param tokenToLocation Line/column locations of the match tokens
 		 * @return List of indexes for the start tokens for the next non variable text that matches
 		 * @throws LicenseParserException
 		 */
 		private List<Integer> findNextNonVarTextStartTokens(ParseInstruction afterChild,
 				String[] matchTokens, int startToken, int endToken, String originalText,
-				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation) throws LicenseParserException {
+				DifferenceDescription differences, TokenLocations tokenToLocation) throws LicenseParserException {
 			List<Integer> retval = new ArrayList<Integer>();
 			// We find the first index to start our search
 			int indexOfChild = subInstructions.indexOf(afterChild);
@@ -376,18 +457,17 @@ public class CompareTemplateOutputHandler implements
 				return retval;
 			}
 
-			Map<Integer, LineColumn> normalTextLocations = new HashMap<Integer, LineColumn>();
-			String[] textTokens = LicenseCompareHelper.tokenizeLicenseText(LicenseCompareHelper.normalizeText(subInstructions.get(firstNormalTextIndex).getText()), normalTextLocations);
-			if (textTokens.length > MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH) {
-				textTokens = Arrays.copyOf(textTokens, MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH);
+			TokenizedLicenseText textTokens = subInstructions.get(firstNormalTextIndex).getTokenizedText();
+			if (textTokens.size() > MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH) {
+				textTokens = textTokens.copyOfRange(0, MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH);
 			}
 
-			int tokenAfterMatch = compareText(textTokens, matchTokens, nextMatchingStart, endToken, null);
+			int tokenAfterMatch = compareText(textTokens, nextMatchingStart, endToken, null);
 			boolean foundEnoughTokens = false;
 			while (!foundEnoughTokens && nextMatchingStart <= endToken && !differences.differenceFound) {
 				while (tokenAfterMatch < 0 && -tokenAfterMatch <= endToken) {
 					nextMatchingStart = nextMatchingStart + 1;
-					tokenAfterMatch = compareText(textTokens, matchTokens, nextMatchingStart, endToken, null);
+					tokenAfterMatch = compareText(textTokens, nextMatchingStart, endToken, null);
 				}
 				if (tokenAfterMatch < 0) {
 					// Can not find the text, report a difference
@@ -399,10 +479,10 @@ public class CompareTemplateOutputHandler implements
 							ruleDesc = "variable rule '" + afterChild.getRule().getName() + "'";
 						}
 					}
-					differences.addDifference(tokenToLocation.get(nextMatchingStart), "",
+					differences.addDifference(tokenToLocation, nextMatchingStart, "",
 							"Unable to find the text '" + subInstructions.get(firstNormalTextIndex).getText() + "' following a "+ruleDesc,
 									null, rule, getLastOptionalDifference());
-				} else if (textTokens.length >= MIN_TOKENS_NORMAL_TEXT_SEARCH) {
+				} else if (textTokens.size() >= MIN_TOKENS_NORMAL_TEXT_SEARCH) {
 					retval.add(nextMatchingStart);
 					foundEnoughTokens = true;
 				} else {
@@ -418,7 +498,7 @@ public class CompareTemplateOutputHandler implements
 					if (nextCheckToken < 0) {
 						// we didn't match enough, move on to the next
 						nextMatchingStart = nextMatchingStart + 1;
-						tokenAfterMatch = compareText(textTokens, matchTokens, nextMatchingStart, endToken, null);
+						tokenAfterMatch = compareText(textTokens, nextMatchingStart, endToken, null);
 					} else {
 						retval.add(nextMatchingStart);
 						foundEnoughTokens = true;
@@ -441,9 +521,8 @@ public class CompareTemplateOutputHandler implements
 			if (end == 0) {
 				return 0;
 			}
-			Map<Integer, LineColumn> temp = new HashMap<Integer, LineColumn>();
 			String subText = text.substring(0, end);
-			String[] tokenizedString = LicenseCompareHelper.tokenizeLicenseText(subText, temp);
+			String[] tokenizedString = LicenseCompareHelper.tokenizeLicenseText(subText, (TokenLocations)null);
 			return tokenizedString.length;
 		}
 
@@ -455,32 +534,60 @@ public class CompareTemplateOutputHandler implements
 		 * @param endToken Index of the last token to search for the match
 		 * @param originalText Original text used go generate the matchTokens
 		 * @param differences Any differences found
-		 * @param tokenToLocation Map of token index to line/column where the token was found in the original text
+		 * @param tokenToLocation Line/column where each token was found in the original text
 		 * @return the index of the token after the find or -1 if the text did not match
 		 */
 		private int matchVariable(List<Integer> matchingStartTokens, String[] matchTokens, int startToken, int endToken,
-				String originalText, DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation) {
+				String originalText, DifferenceDescription differences, TokenLocations tokenToLocation) {
 
 			if (differences.isDifferenceFound()) {
 				return -1;
 			}
 			for (int matchingStartToken:matchingStartTokens) {
-				String compareText = LicenseCompareHelper.locateOriginalText(originalText, startToken, matchingStartToken-1, tokenToLocation, matchTokens);
-				Pattern matchPattern = Pattern.compile(rule.getMatch(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-				Matcher matcher = matchPattern.matcher(compareText);
-				if (!matcher.find() || matcher.start() > 0) {
-					continue;
-				} else {
-					int numMatched = numTokensMatched(compareText, matcher.end());
+				int numMatched = matchVariableText(startToken, matchingStartToken, originalText, tokenToLocation, matchTokens);
+				if (numMatched >= 0) {
 					return startToken + numMatched;
 				}
 			}
 			// if we got here, there was no match found
-			differences.addDifference(tokenToLocation.get(startToken), LicenseCompareHelper.getTokenAt(matchTokens, startToken), "Variable text rule "+rule.getName()+" did not match the compare text",
+			differences.addDifference(tokenToLocation, startToken, LicenseCompareHelper.getTokenAt(matchTokens, startToken), "Variable text rule "+rule.getName()+" did not match the compare text",
 					null, rule, getLastOptionalDifference());
 			return -1;
 		}
 
+		/**
+		 * Match the variable rule against the text between the start token and the next text start token.
+		 * The results are memoized since the same text is often matched for different optional rule alternatives.
+		 * @param startToken Index of the first token of the variable text
+		 * @param matchingStartToken Index of the first token following the variable text
+		 * @param originalText Original text used go generate the matchTokens
+		 * @param tokenToLocation Line/column where each token was found in the original text
+		 * @param matchTokens Tokens to match against
+		 * @return the number of tokens matched or -1 if the variable rule does not match
+		 */
+		private int matchVariableText(int startToken, int matchingStartToken, String originalText,
+				TokenLocations tokenToLocation, String[] matchTokens) {
+			if (variableMatches == null) {
+				variableMatches = Maps.newHashMap();
+			}
+			Long key = ((long)startToken << 32) | (matchingStartToken & 0xFFFFFFFFL);
+			Integer numMatched = variableMatches.get(key);
+			if (numMatched == null) {
+				if (matchPattern == null) {
+					matchPattern = Pattern.compile(rule.getMatch(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+				}
+				String compareText = LicenseCompareHelper.locateOriginalText(originalText, startToken, matchingStartToken-1, tokenToLocation, matchTokens);
+				Matcher matcher = matchPattern.matcher(new BudgetedCharSequence(compareText));
+				if (!matcher.find() || matcher.start() > 0) {
+					numMatched = -1;
+				} else {
+					numMatched = numTokensMatched(compareText, matcher.end());
+				}
+				variableMatches.put(key, numMatched);
+			}
+			return numMatched;
+		}
+
 		/**
 		 * @return The difference description for the last optional rule which did not match
 		 */
@@ -567,8 +674,7 @@ public class CompareTemplateOutputHandler implements
 						sb.append(inst.getText());
 					}
 				}
-				Map<Integer, LineColumn> temp = Maps.newHashMap();
-				return LicenseCompareHelper.tokenizeLicenseText(sb.toString(), temp);
+				return LicenseCompareHelper.tokenizeLicenseText(sb.toString(), (TokenLocations)null);
 			}
 		}
 
@@ -643,22 +749,26 @@ public class CompareTemplateOutputHandler implements
 		}
 	}
 
-	public class DifferenceDescription {
+	public static class DifferenceDescription {
 		private static final int MAX_DIFF_TEXT_LENGTH = 100;
 		private boolean differenceFound;
 		private String differenceMessage;
-		private List<LineColumn> differences;
+		private boolean workBudgetExceeded = false;
+		/**
+		 * Locations of the differences - <code>LineColumn</code>s are only created when the differences are requested
+		 */
+		private TokenLocations differenceLocations;
 
 		public DifferenceDescription(boolean differenceFound, String differenceMessage, List<LineColumn> differences) {
 			this.differenceFound = differenceFound;
 			this.differenceMessage = differenceMessage;
-			this.differences = differences;
+			setDifferences(differences);
 		}
 
 		public DifferenceDescription() {
 			this.differenceFound = false;
 			this.differenceMessage = "No difference found";
-			this.differences = Lists.newArrayList();
+			this.differenceLocations = new TokenLocations(1);
 		}
 
 		public boolean isDifferenceFound() {
@@ -677,12 +787,37 @@ public class CompareTemplateOutputHandler implements
 			this.differenceMessage = differenceMessage;
 		}
 
+		/**
+		 * @return true if the comparison gave up after exceeding the maximum work.  The text may still
+		 * match the template even though a difference is reported.
+		 */
+		public boolean isWorkBudgetExceeded() {
+			return workBudgetExceeded;
+		}
+
+		public void setWorkBudgetExceeded(boolean workBudgetExceeded) {
+			this.workBudgetExceeded = workBudgetExceeded;
+		}
+
 		public List<LineColumn> getDifferences() {
-			return differences;
+			List<LineColumn> retval = Lists.newArrayListWithCapacity(differenceLocations.size());
+			for (int i = 0; i < differenceLocations.size(); i++) {
+				retval.add(differenceLocations.getLineColumn(i));
+			}
+			return retval;
 		}
 
+		/**
+		 * @param differences locations of the differences - null is treated as no differences
+		 */
 		public void setDifferences(List<LineColumn> differences) {
-			this.differences = differences;
+			if (differences == null) {
+				differences = Collections.emptyList();
+			}
+			this.differenceLocations = new TokenLocations(Math.max(1, differences.size()));
+			for (LineColumn difference:differences) {
+				this.differenceLocations.add(difference.getLine(), difference.getColumn(), difference.getLen());
+			}
 		}
 
 		/**
@@ -695,6 +830,35 @@ public class CompareTemplateOutputHandler implements
 		 */
 		public void addDifference(LineColumn location, String token, String msg, String text,
 				LicenseTemplateRule rule, DifferenceDescription lastOptionalDifference) {
+			if (location != null) {
+				addDifference(true, location.getLine(), location.getColumn(), location.getLen(),
+						token, msg, text, rule, lastOptionalDifference);
+			} else {
+				addDifference(false, 0, 0, 0, token, msg, text, rule, lastOptionalDifference);
+			}
+		}
+
+		/**
+		 * @param tokenLocations Locations of the compare text tokens
+		 * @param tokenIndex Index of the token where the difference was found
+		 * @param token Token causing the difference
+		 * @param msg Message for the difference
+		 * @param text Template text being compared to
+		 * @param rule Template rule where difference was found
+		 * @param lastOptionalDifference The difference for the last optional difference that failed
+		 */
+		public void addDifference(TokenLocations tokenLocations, int tokenIndex, String token, String msg, String text,
+				LicenseTemplateRule rule, DifferenceDescription lastOptionalDifference) {
+			if (tokenLocations.hasLocation(tokenIndex)) {
+				addDifference(true, tokenLocations.getLine(tokenIndex), tokenLocations.getColumn(tokenIndex),
+						tokenLocations.getLength(tokenIndex), token, msg, text, rule, lastOptionalDifference);
+			} else {
+				addDifference(false, 0, 0, 0, token, msg, text, rule, lastOptionalDifference);
+			}
+		}
+
+		private void addDifference(boolean hasLocation, int line, int column, int len, String token, String msg, String text,
+				LicenseTemplateRule rule, DifferenceDescription lastOptionalDifference) {
 			if (token == null) {
 				token = "";
 			}
@@ -702,12 +866,12 @@ public class CompareTemplateOutputHandler implements
 				msg = "UNKNOWN (null)";
 			}
 			this.differenceMessage = msg;
-			if (location != null) {
+			if (hasLocation) {
 				this.differenceMessage = this.differenceMessage + " starting at line #"+
-						String.valueOf(location.getLine())+ " column #" +
-						String.valueOf(location.getColumn())+" \""+
+						String.valueOf(line)+ " column #" +
+						String.valueOf(column)+" \""+
 						token+"\"";
-				this.differences.add(location);
+				this.differenceLocations.add(line, column, len);
 			} else {
 				this.differenceMessage = this.differenceMessage + " at end of text";
 			}
@@ -733,75 +897,142 @@ public class CompareTemplateOutputHandler implements
 	}
 
 	String[] compareTokens = new String[0];
+	int[] compareTokenIds = new int[0];
 	String compareText = "";
-	Map<Integer, LineColumn> tokenToLocation = new HashMap<Integer, LineColumn>();
+	TokenLocations tokenToLocation = new TokenLocations();
 	ParseInstruction topLevelInstruction = new ParseInstruction(null, null, null);
 	DifferenceDescription differences = new DifferenceDescription();
 	ParseInstruction currentOptionalInstruction = null;
 	boolean parsingComplete = false;
+	long maxWork;
+	long work = 0;
+	boolean workBudgetExceeded = false;
 
 	/**
-	 * @param compareText Text to compare the parsed SPDX license template to
+	 * @param compareText Text to compare the parsed SPDX license template to using the configured maximum work
+	 * (see <code>getConfiguredMaxWork</code>)
 	 * @throws IOException This is not to be expected since we are using StringReaders
 	 */
 	public CompareTemplateOutputHandler(String compareText) throws IOException {
+		this(compareText, getConfiguredMaxWork());
+	}
+
+	/**
+	 * @param compareText Text to compare the parsed SPDX license template to
+	 * @param maxWork Maximum amount of work for the comparison before giving up - a unit of work is one character
+	 * examined by a variable rule regular expression or one token compared.  Zero or negative for no maximum.
+	 * @throws IOException This is not to be expected since we are using StringReaders
+	 */
+	public CompareTemplateOutputHandler(String compareText, long maxWork) throws IOException {
+		this.maxWork = maxWork > 0 ? maxWork : Long.MAX_VALUE;
 		this.compareText = LicenseCompareHelper.normalizeText(compareText);
 		this.compareTokens = LicenseCompareHelper.tokenizeLicenseText(this.compareText, tokenToLocation);
+		this.compareTokenIds = new TokenizedLicenseText(this.compareTokens, tokenToLocation).getTokenIds();
+	}
+
+	/**
+	 * Determine the maximum work for a comparison.  Environment variables have precedence over system properties.
+	 * @return the value of <code>MAX_WORK_PROPERTY</code> or <code>DEFAULT_MAX_WORK</code> if it is not set
+	 */
+	public static long getConfiguredMaxWork() {
+		String maxWork = System.getenv(MAX_WORK_PROPERTY);
+		if (Objects.isNull(maxWork) || maxWork.isEmpty()) {
+			maxWork = System.getProperty(MAX_WORK_PROPERTY);
+		}
+		if (Objects.isNull(maxWork) || maxWork.trim().isEmpty()) {
+			return DEFAULT_MAX_WORK;
+		}
+		try {
+			return Long.parseLong(maxWork.trim());
+		} catch (NumberFormatException ex) {
+			logger.warn("Invalid license compare maximum work "+maxWork+" - using the default of "+String.valueOf(DEFAULT_MAX_WORK));
+			return DEFAULT_MAX_WORK;
+		}
+	}
+
+	/**
+	 * Add to the work performed by the comparison
+	 * @param units
+	 * @throws WorkBudgetExceededException if the work exceeds the maximum work
+	 */
+	private void addWork(long units) {
+		work += units;
+		if (work > maxWork) {
+			throw new WorkBudgetExceededException();
+		}
 	}
 
 	/**
 	 * @param textTokens
-	 * @param matchTokens
+	 * @param textIndex index of the text token
+	 * @param textTokenId ID of the text token
+	 * @param matchIndex index of the compare token
+	 * @param matchTokenId ID of the compare token
+	 * @return true if the text token is equivalent to the compare token
+	 */
+	private boolean sameToken(TokenizedLicenseText textTokens, int textIndex, int textTokenId,
+			int matchIndex, int matchTokenId) {
+		return LicenseTokenDictionary.sameToken(textTokenId, textTokens.getToken(textIndex),
+				matchTokenId, LicenseCompareHelper.getTokenAt(compareTokens, matchIndex));
+	}
+
+	/**
+	 * Compare the text tokens to the compare tokens using the token IDs
+	 * @param textTokens
 	 * @param startToken
 	 * @param endToken
 	 * @param instruction
 	 * @return positive index of the next match token after the match or negative index of the token which first failed the match
 	 */
-	private int compareText(String[] textTokens, String[] matchTokens, int startToken, int endToken,
+	private int compareText(TokenizedLicenseText textTokens, int startToken, int endToken,
 			ParseInstruction instruction) {
+		int[] textTokenIds = textTokens.getTokenIds();
+		addWork(textTokenIds.length + 1);
 		int textTokenCounter = 0;
-		String nextTextToken = LicenseCompareHelper.getTokenAt(textTokens, textTokenCounter++);
+		int nextTextToken = LicenseCompareHelper.getTokenIdAt(textTokenIds, textTokenCounter++);
 		int matchTokenCounter = startToken;
-		String nextMatchToken = LicenseCompareHelper.getTokenAt(matchTokens, matchTokenCounter++);
-		while (nextTextToken != null) {
-			if (nextMatchToken == null) {
+		int nextMatchToken = LicenseCompareHelper.getTokenIdAt(compareTokenIds, matchTokenCounter++);
+		while (nextTextToken != LicenseTokenDictionary.NO_TOKEN) {
+			if (nextMatchToken == LicenseTokenDictionary.NO_TOKEN) {
 				// end of compare text stream
-				while (nextTextToken != null && LicenseCompareHelper.canSkip(nextTextToken)) {
-					nextTextToken = LicenseCompareHelper.getTokenAt(textTokens, textTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextTextToken)) {
+					nextTextToken = LicenseCompareHelper.getTokenIdAt(textTokenIds, textTokenCounter++);
 				}
-				if (nextTextToken != null) {
+				if (nextTextToken != LicenseTokenDictionary.NO_TOKEN) {
 					return -matchTokenCounter;	// there is more stuff in the compare license text, so not equiv.
 				}
-			} else if (LicenseCompareHelper.tokensEquivalent(nextTextToken, nextMatchToken)) {
+			} else if (sameToken(textTokens, textTokenCounter-1, nextTextToken, matchTokenCounter-1, nextMatchToken)) {
 				// just move onto the next set of tokens
-				nextTextToken = LicenseCompareHelper.getTokenAt(textTokens, textTokenCounter++);
-				if (nextTextToken != null) {
-					nextMatchToken = LicenseCompareHelper.getTokenAt(matchTokens, matchTokenCounter++);
+				nextTextToken = LicenseCompareHelper.getTokenIdAt(textTokenIds, textTokenCounter++);
+				if (nextTextToken != LicenseTokenDictionary.NO_TOKEN) {
+					nextMatchToken = LicenseCompareHelper.getTokenIdAt(compareTokenIds, matchTokenCounter++);
 				}
 			} else {
 				// see if we can skip through some compare tokens to find a match
-				while (nextMatchToken != null && LicenseCompareHelper.canSkip(nextMatchToken)) {
-					nextMatchToken = LicenseCompareHelper.getTokenAt(matchTokens, matchTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextMatchToken)) {
+					nextMatchToken = LicenseCompareHelper.getTokenIdAt(compareTokenIds, matchTokenCounter++);
 				}
 				// just to be sure, skip forward on the text
-				while (nextTextToken != null && LicenseCompareHelper.canSkip(nextTextToken)) {
-					nextTextToken = LicenseCompareHelper.getTokenAt(textTokens, textTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextTextToken)) {
+					nextTextToken = LicenseCompareHelper.getTokenIdAt(textTokenIds, textTokenCounter++);
 				}
-				if (LicenseCompareHelper.tokensEquivalent(nextMatchToken, nextTextToken)) {
-					nextTextToken = LicenseCompareHelper.getTokenAt(textTokens, textTokenCounter++);
-					if (nextTextToken != null) {
-						nextMatchToken = LicenseCompareHelper.getTokenAt(compareTokens, matchTokenCounter++);
+				if (sameToken(textTokens, textTokenCounter-1, nextTextToken, matchTokenCounter-1, nextMatchToken)) {
+					nextTextToken = LicenseCompareHelper.getTokenIdAt(textTokenIds, textTokenCounter++);
+					if (nextTextToken != LicenseTokenDictionary.NO_TOKEN) {
+						nextMatchToken = LicenseCompareHelper.getTokenIdAt(compareTokenIds, matchTokenCounter++);
 					}
 				} else {
-					if (textTokenCounter == textTokens.length &&
+					if (textTokenCounter == textTokenIds.length &&
 							instruction != null &&
 							instruction.isFollowingInstructionOptionalSingleToken() &&
-							nextMatchToken != null) {
+							nextMatchToken != LicenseTokenDictionary.NO_TOKEN) {
 						//This is the special case where there may be optional characters which are
 						//less than a token at the end of a compare
 						//Yes - this is a bit of a hack
-						String compareToken = nextTextToken + instruction.getNextOptionalTextTokens()[0];
-						if (LicenseCompareHelper.tokensEquivalent(compareToken, nextMatchToken)) {
+						String nextTextTokenString = textTokens.getToken(textTokenCounter-1);
+						String nextMatchTokenString = compareTokens[matchTokenCounter-1];
+						String compareToken = nextTextTokenString + instruction.getNextOptionalTextTokens()[0];
+						if (LicenseCompareHelper.tokensEquivalent(compareToken, nextMatchTokenString)) {
 							instruction.skipNextInstruction();
 							return matchTokenCounter;
 						} else {
@@ -809,9 +1040,9 @@ public class CompareTemplateOutputHandler implements
 							String nextNormalText = LicenseCompareHelper.getFirstLicenseToken(nextNormal.getText());
 							if (nextNormalText != null) {
 								compareToken = compareToken + nextNormalText;
-								String compareWithoutOptional = nextTextToken + nextNormalText;
-								if (LicenseCompareHelper.tokensEquivalent(compareToken, nextMatchToken) ||
-										LicenseCompareHelper.tokensEquivalent(compareWithoutOptional, nextMatchToken)) {
+								String compareWithoutOptional = nextTextTokenString + nextNormalText;
+								if (LicenseCompareHelper.tokensEquivalent(compareToken, nextMatchTokenString) ||
+										LicenseCompareHelper.tokensEquivalent(compareWithoutOptional, nextMatchTokenString)) {
 									instruction.skipNextInstruction();
 									nextNormal.setSkipFirstToken(true);
 									return matchTokenCounter;
@@ -902,20 +1133,49 @@ public class CompareTemplateOutputHandler implements
 	 */
 	@Override
 	public void completeParsing() throws LicenseParserException {
-		this.topLevelInstruction.match(compareTokens, 0, compareTokens.length-1, compareText, differences, tokenToLocation);
+		try {
+			this.topLevelInstruction.match(compareTokens, 0, compareTokens.length-1, compareText, differences, tokenToLocation);
+		} catch (WorkBudgetExceededException e) {
+			this.workBudgetExceeded = true;
+			this.differences.setWorkBudgetExceeded(true);
+			this.differences.setDifferenceFound(true);
+			this.differences.setDifferenceMessage("Gave up comparing the text to the license template after exceeding the maximum work of "+
+					String.valueOf(maxWork));
+		}
 		parsingComplete = true;
 	}
 
+	/**
+	 * @return true if the comparison gave up after exceeding the maximum work.  If true, <code>matches()</code>
+	 * returns false even though the text may match the template.
+	 */
+	public boolean isWorkBudgetExceeded() {
+		return this.workBudgetExceeded;
+	}
+
+	/**
+	 * @return the amount of work performed by the comparison
+	 */
+	public long getWork() {
+		return this.work;
+	}
+
 	/**
 	 * Compares the text against the compareText
 	 * @param text text to compare
 	 * @param startToken token of the compareText to being the comparison
-	 * @return next token index (positive) if there is a match, negative first token where this is a miss-match if no match
+	 * @return next token index (positive) if there is a match, negative first token where this is a miss-match if no match.
+	 * If the work budget is exceeded, the text is treated as not matching at the start token.
 	 */
 	public int textEquivalent(String text, int startToken) {
-		Map<Integer, LineColumn> textLocations = new HashMap<Integer, LineColumn>();
-		String[] textTokens = LicenseCompareHelper.tokenizeLicenseText(LicenseCompareHelper.normalizeText(text), textLocations);
-		return this.compareText(textTokens, this.compareTokens, startToken, this.compareTokens.length-1, null);
+		TokenizedLicenseText textTokens = LicenseCompareHelper.tokenizeLicenseText(LicenseCompareHelper.normalizeText(text));
+		try {
+			return this.compareText(textTokens, startToken, this.compareTokens.length-1, null);
+		} catch (WorkBudgetExceededException e) {
+			this.workBudgetExceeded = true;
+			this.differences.setWorkBudgetExceeded(true);
+			return -(startToken + 1);
+		}
 	}
 
 }
\ No newline at end of file
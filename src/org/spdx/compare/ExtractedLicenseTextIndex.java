@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.List;
+
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * The extracted licenses of a document with their license text tokenized once and bucketed by
+ * the license text fingerprint.  Only licenses in the same bucket can have equivalent text, so
+ * matching a license against another document only requires an exact comparison with the
+ * licenses in one bucket.
+ *
+ * @author agent
+ *
+ */
+class ExtractedLicenseTextIndex {
+
+	private final ExtractedLicenseInfo[] licenses;
+	private final TokenizedLicenseText[] tokens;
+	private final long[] fingerprints;
+	/**
+	 * Map of fingerprint to the indexes of the licenses with that fingerprint in ascending order
+	 */
+	private final ListMultimap<Long, Integer> buckets = ArrayListMultimap.create();
+
+	/**
+	 * @param licenses extracted licenses to index
+	 */
+	ExtractedLicenseTextIndex(ExtractedLicenseInfo[] licenses) {
+		this.licenses = licenses;
+		this.tokens = new TokenizedLicenseText[licenses.length];
+		this.fingerprints = new long[licenses.length];
+		for (int i = 0; i < licenses.length; i++) {
+			String text = licenses[i].getExtractedText();
+			tokens[i] = LicenseCompareHelper.tokenizeForComparison(text == null ? "" : text);
+			fingerprints[i] = LicenseCompareHelper.licenseTextFingerprint(tokens[i].getTokenIds());
+			buckets.put(fingerprints[i], i);
+		}
+	}
+
+	/**
+	 * @return the indexed licenses
+	 */
+	ExtractedLicenseInfo[] getLicenses() {
+		return licenses;
+	}
+
+	/**
+	 * Find the licenses in another index with text equivalent to one of the licenses in this index
+	 * @param index index of the license in this index
+	 * @param other index to search
+	 * @return the indexes of the licenses in the other index with equivalent license text in ascending order
+	 */
+	List<Integer> findEquivalent(int index, ExtractedLicenseTextIndex other) {
+		List<Integer> retval = Lists.newArrayList();
+		for (Integer candidate:other.buckets.get(fingerprints[index])) {
+			if (isEquivalent(index, other, candidate)) {
+				retval.add(candidate);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param index
+	 * @param other
+	 * @param otherIndex
+	 * @return true if the license text at index is equivalent to the license text at otherIndex in other
+	 */
+	private boolean isEquivalent(int index, ExtractedLicenseTextIndex other, int otherIndex) {
+		String text = licenses[index].getExtractedText();
+		String otherText = other.licenses[otherIndex].getExtractedText();
+		if (text == null || otherText == null || text.equals(otherText)) {
+			return LicenseCompareHelper.isLicenseTextEquivalent(text, otherText);
+		}
+		return LicenseCompareHelper.isLicenseTextEquivalent(tokens[index], other.tokens[otherIndex]);
+	}
+}
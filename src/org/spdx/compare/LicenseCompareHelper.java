@@ -21,13 +21,14 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.compare.CompareTemplateOutputHandler.DifferenceDescription;
 import org.spdx.licenseTemplate.LicenseTemplateRuleException;
 import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
@@ -46,6 +47,8 @@ import org.spdx.rdfparser.license.SpdxListedLicense;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * Primarily a static class of helper functions for comparing two SPDX licenses
@@ -54,6 +57,8 @@ import com.google.common.collect.Maps;
  */
 public class LicenseCompareHelper {
 
+	static final Logger logger = LoggerFactory.getLogger(LicenseCompareHelper.class);
+
 	protected static final String TOKEN_SPLIT_REGEX = "(^|[^\\s\\.,?'();:\"/]+)((\\s|\\.|,|\\?|'|\"|\\(|\\)|;|:|/|$)+)";
 	protected static final Pattern TOKEN_SPLIT_PATTERN = Pattern.compile(TOKEN_SPLIT_REGEX);
 
@@ -118,18 +123,7 @@ public class LicenseCompareHelper {
 
 
 	static final String DASHES_REGEX = "[\\u2012\\u2013\\u2014\\u2015]";
-	static final Pattern SPACE_PATTERN = Pattern.compile("[\\u202F\\u2007\\u2060]");
-	static final Pattern PER_CENT_PATTERN = Pattern.compile("per cent", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_HOLDER_PATTERN = Pattern.compile("copyright holder", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_HOLDERS_PATTERN = Pattern.compile("copyright holders", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_OWNERS_PATTERN = Pattern.compile("copyright owners", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_OWNER_PATTERN = Pattern.compile("copyright owner", Pattern.CASE_INSENSITIVE);
-	static final Pattern PER_CENT_PATTERN_LF = Pattern.compile("per\\s*\\n+\\s*cent", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_HOLDERS_PATTERN_LF = Pattern.compile("copyright\\s*\\n+\\s*holders", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_HOLDER_PATTERN_LF = Pattern.compile("copyright\\s*\\n+\\s*holder", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_OWNERS_PATTERN_LF = Pattern.compile("copyright\\s*\\n+\\s*owners", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_OWNER_PATTERN_LF = Pattern.compile("copyright\\s*\\n+\\s*owner", Pattern.CASE_INSENSITIVE);
-	static final Pattern COPYRIGHT_SYMBOL_PATTERN = Pattern.compile("\\(c\\)", Pattern.CASE_INSENSITIVE);
+	static final Pattern DASHES_PATTERN = Pattern.compile(DASHES_REGEX);
 
 	//TODO: Add equiv for quotes
 	/**
@@ -155,49 +149,108 @@ public class LicenseCompareHelper {
 		if (licenseTextA.equals(licenseTextB)) {
 			return true;
 		}
-		Map<Integer, LineColumn> tokenToLocationA = new HashMap<Integer, LineColumn>();
-		Map<Integer, LineColumn> tokenToLocationB = new HashMap<Integer, LineColumn>();
-		String[] licenseATokens = tokenizeLicenseText(licenseTextA,tokenToLocationA);
-		String[] licenseBTokens = tokenizeLicenseText(licenseTextB,tokenToLocationB);
+		return isLicenseTextEquivalent(tokenizeForComparison(licenseTextA),
+				tokenizeForComparison(licenseTextB));
+	}
+
+	/**
+	 * Compares already tokenized license texts
+	 * @param licenseA tokens for license text A
+	 * @param licenseB tokens for license text B
+	 * @return true if the license texts are equivalent
+	 */
+	static boolean isLicenseTextEquivalent(TokenizedLicenseText licenseA, TokenizedLicenseText licenseB) {
 		int bTokenCounter = 0;
 		int aTokenCounter = 0;
-		String nextAToken = getTokenAt(licenseATokens, aTokenCounter++);
-		String nextBToken = getTokenAt(licenseBTokens, bTokenCounter++);
-		while (nextAToken != null) {
-			if (nextBToken == null) {
+		int nextAToken = licenseA.getTokenId(aTokenCounter++);
+		int nextBToken = licenseB.getTokenId(bTokenCounter++);
+		while (nextAToken != LicenseTokenDictionary.NO_TOKEN) {
+			if (nextBToken == LicenseTokenDictionary.NO_TOKEN) {
 				// end of b stream
-				while (nextAToken != null && canSkip(nextAToken)) {
-					nextAToken = getTokenAt(licenseATokens, aTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextAToken)) {
+					nextAToken = licenseA.getTokenId(aTokenCounter++);
 				}
-				if (nextAToken != null) {
+				if (nextAToken != LicenseTokenDictionary.NO_TOKEN) {
 					return false;	// there is more stuff in the license text B, so not equal
 				}
-			} else if (tokensEquivalent(nextAToken, nextBToken)) {
+			} else if (licenseA.sameToken(aTokenCounter-1, licenseB, bTokenCounter-1)) {
 				// just move onto the next set of tokens
-				nextAToken = getTokenAt(licenseATokens, aTokenCounter++);
-				nextBToken = getTokenAt(licenseBTokens, bTokenCounter++);
+				nextAToken = licenseA.getTokenId(aTokenCounter++);
+				nextBToken = licenseB.getTokenId(bTokenCounter++);
 			} else {
 				// see if we can skip through some B tokens to find a match
-				while (nextBToken != null && canSkip(nextBToken)) {
-					nextBToken = getTokenAt(licenseBTokens, bTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextBToken)) {
+					nextBToken = licenseB.getTokenId(bTokenCounter++);
 				}
 				// just to be sure, skip forward on the A license
-				while (nextAToken != null && canSkip(nextAToken)) {
-					nextAToken = getTokenAt(licenseATokens, aTokenCounter++);
+				while (LicenseTokenDictionary.isSkippable(nextAToken)) {
+					nextAToken = licenseA.getTokenId(aTokenCounter++);
 				}
-				if (!tokensEquivalent(nextAToken, nextBToken)) {
+				if (!LicenseTokenDictionary.sameToken(nextAToken, licenseA.getToken(aTokenCounter-1),
+						nextBToken, licenseB.getToken(bTokenCounter-1))) {
 					return false;
 				} else {
-					nextAToken = getTokenAt(licenseATokens, aTokenCounter++);
-					nextBToken = getTokenAt(licenseBTokens, bTokenCounter++);
+					nextAToken = licenseA.getTokenId(aTokenCounter++);
+					nextBToken = licenseB.getTokenId(bTokenCounter++);
 				}
 			}
 		}
 		// need to make sure B is at the end
-		while (nextBToken != null && canSkip(nextBToken)) {
-			nextBToken = getTokenAt(licenseBTokens, bTokenCounter++);
+		while (LicenseTokenDictionary.isSkippable(nextBToken)) {
+			nextBToken = licenseB.getTokenId(bTokenCounter++);
+		}
+		return (nextBToken == LicenseTokenDictionary.NO_TOKEN);
+	}
+
+	/**
+	 * Computes a fingerprint of the license text which is the same for any two texts
+	 * considered equivalent by <code>isLicenseTextEquivalent</code>.  Skippable tokens are
+	 * dropped and the remaining tokens are normalized before hashing.  Two texts with
+	 * different fingerprints are never equivalent; texts with the same fingerprint
+	 * should still be confirmed with <code>isLicenseTextEquivalent</code>.
+	 * The fingerprint is computed from the interned token IDs, so it should only be compared with
+	 * fingerprints computed in the same JVM.
+	 * @param licenseText
+	 * @return fingerprint for the license text
+	 */
+	public static long licenseTextFingerprint(String licenseText) {
+		if (licenseText == null) {
+			licenseText = "";
 		}
-		return (nextBToken == null);
+		return licenseTextFingerprint(tokenizeForComparison(licenseText).getTokenIds());
+	}
+
+	/**
+	 * @param tokenIds token IDs for the license text
+	 * @return fingerprint for the tokenized license text
+	 */
+	static long licenseTextFingerprint(int[] tokenIds) {
+		Hasher hasher = Hashing.murmur3_128().newHasher();
+		for (int tokenId:tokenIds) {
+			if (!LicenseTokenDictionary.isSkippable(tokenId)) {
+				hasher.putInt(tokenId);
+			}
+		}
+		return hasher.hash().asLong();
+	}
+
+	/**
+	 * @param token
+	 * @return the normalized form of the token used for equivalence comparisons
+	 */
+	static String normalizeToken(String token) {
+		String s = DASHES_PATTERN.matcher(token.trim().toLowerCase()).replaceAll("-");
+		String ns = NORMALIZE_TOKENS.get(s);
+		return ns == null ? s : ns;
+	}
+
+	/**
+	 * @param token
+	 * @return true if the token can be ignored per the license matching rules
+	 */
+	static boolean isSkippableToken(String token) {
+		String s = token.trim();
+		return s.isEmpty() || SKIPPABLE_TOKENS.contains(s.toLowerCase());
 	}
 
 	/**
@@ -206,15 +259,7 @@ public class LicenseCompareHelper {
 	 * @return
 	 */
 	public static String normalizeText(String s) {
-		// First normalize single quotes, then normalize two single quotes to a double quote, normalize double quotes
-		// then normalize non-breaking spaces to spaces
-		return s.replaceAll("‘|’|‛|‚|`", "'")	// Take care of single quotes first
-				.replaceAll("http://", "https://") // Normalize the http protocol scheme
- 				.replaceAll("''","\"")			// This way, we can change doulbe single quotes to a single double cquote
-				.replaceAll("“|”|‟|„", "\"")	// Now we can normalize the double quotes
-				.replaceAll("\\u00A0", " ")		// replace non-breaking spaces with spaces since Java does not handle the former well
-				.replaceAll("—|–","-")			// replace em dash, en dash with simple dash
-				.replaceAll("\\u2028", "\n");	// replace line separator with newline since Java does not handle the former well
+		return LicenseTextNormalizer.normalizeText(s);
 	}
 
 	/**
@@ -235,22 +280,60 @@ public class LicenseCompareHelper {
 			return "";
 		}
 		LineColumn end = tokenToLocation.get(endToken);
-		// If end == null, then we read to the end
+		return locateOriginalText(fullLicenseText, startToken, endToken, start.getLine(), start.getColumn(),
+				end != null, end == null ? 0 : end.getLine(), end == null ? 0 : end.getColumn()+end.getLen(), tokens);
+	}
+
+	/**
+	 * Locate the original text starting with the start token and ending with the end token
+	 * @param fullLicenseText
+	 * @param startToken
+	 * @param endToken
+	 * @param tokenLocations
+	 * @param tokens
+	 * @return
+	 */
+	public static String locateOriginalText(String fullLicenseText, int startToken, int endToken,
+			TokenLocations tokenLocations, String[] tokens) {
+		if (startToken > endToken || !tokenLocations.hasLocation(startToken)) {
+			return "";
+		}
+		boolean hasEnd = tokenLocations.hasLocation(endToken);
+		return locateOriginalText(fullLicenseText, startToken, endToken,
+				tokenLocations.getLine(startToken), tokenLocations.getColumn(startToken), hasEnd,
+				hasEnd ? tokenLocations.getLine(endToken) : 0,
+				hasEnd ? tokenLocations.getColumn(endToken) + tokenLocations.getLength(endToken) : 0, tokens);
+	}
+
+	/**
+	 * @param fullLicenseText
+	 * @param startToken
+	 * @param endToken
+	 * @param startLine line of the start token
+	 * @param startColumn column of the start token
+	 * @param hasEnd if false, the text is located to the end of the license text
+	 * @param endLine line of the end token
+	 * @param endColumnEnd column following the end token
+	 * @param tokens
+	 * @return the original text between the start and end location
+	 */
+	private static String locateOriginalText(String fullLicenseText, int startToken, int endToken,
+			int startLine, int startColumn, boolean hasEnd, int endLine, int endColumnEnd, String[] tokens) {
 		BufferedReader reader = null;
 		try {
 			reader = new BufferedReader(new StringReader(fullLicenseText));
 			int currentLine = 1;
 			String line = reader.readLine();
-			while (line != null && currentLine < start.getLine()) {
+			while (line != null && currentLine < startLine) {
 				currentLine++;
 				line = reader.readLine();
 			}
 			if (line == null) {
 				return "";
 			}
-			if (end == null) {
+			if (!hasEnd) {
 				// read until the end of the stream
-				StringBuilder sb = new StringBuilder(line.substring(start.getColumn(), line.length()));
+				StringBuilder sb = new StringBuilder(line.substring(startColumn, line.length()));
 				currentLine++;
 				line = reader.readLine();
 				while (line != null) {
@@ -259,21 +342,21 @@ public class LicenseCompareHelper {
 					line = reader.readLine();
 				}
 				return sb.toString();
-			} else if (end.getLine() == currentLine) {
-				return line.substring(start.getColumn(), end.getColumn()+end.getLen());
+			} else if (endLine == currentLine) {
+				return line.substring(startColumn, endColumnEnd);
 			} else {
-				StringBuilder sb = new StringBuilder(line.substring(start.getColumn(), line.length()));
+				StringBuilder sb = new StringBuilder(line.substring(startColumn, line.length()));
 				currentLine++;
 				line = reader.readLine();
-				while (line != null && currentLine < end.getLine()) {
+				while (line != null && currentLine < endLine) {
 					sb.append("\n");
 					sb.append(line);
 					currentLine++;
 					line = reader.readLine();
 				}
-				if (line != null && end.getColumn()+end.getLen() > 0) {
+				if (line != null && endColumnEnd > 0) {
 					sb.append("\n");
-					sb.append(line.substring(0, end.getColumn()+end.getLen()));
+					sb.append(line.substring(0, endColumnEnd));
 				}
 				return sb.toString();
 			}
@@ -304,69 +387,94 @@ public class LicenseCompareHelper {
 	 * @throws IOException
 	 */
 	public static String[] tokenizeLicenseText(String licenseText, Map<Integer, LineColumn> tokenToLocation) {
-		String textToTokenize = normalizeText(replaceMultWord(replaceSpace(licenseText))).toLowerCase();
+		TokenLocations tokenLocations = new TokenLocations();
+		String[] tokens = tokenizeLicenseText(licenseText, tokenLocations);
+		tokenLocations.addTo(tokenToLocation);
+		return tokens;
+	}
+
+	/**
+	 * Tokenizes the license text, normalizes quotes, lowercases and converts multi-words for better equiv. comparisons
+	 * @param licenseText
+	 * @param tokenLocations if not null, the location of each token is added
+	 * @return the tokens
+	 */
+	public static String[] tokenizeLicenseText(String licenseText, TokenLocations tokenLocations) {
+		String textToTokenize = LicenseTextNormalizer.normalizeForTokenizing(licenseText);
 		List<String> tokens = new ArrayList<String>();
-		BufferedReader reader = null;
-		try {
-			reader = new BufferedReader(new StringReader(textToTokenize));
-			int currentLine = 1;
-			int currentToken = 0;
-			String line = reader.readLine();
-			while (line != null) {
-				Matcher lineMatcher = TOKEN_SPLIT_PATTERN.matcher(line);
-				while (lineMatcher.find()) {
-					String token = lineMatcher.group(1).trim();
-					if (!token.isEmpty()) {
-						tokens.add(token);
-						tokenToLocation.put(currentToken, new LineColumn(currentLine, lineMatcher.start(), token.length()));
-						currentToken++;
-					}
-					String fullMatch = lineMatcher.group(0);
-					for (int i = lineMatcher.group(1).length(); i < fullMatch.length(); i++) {
-						String possiblePunctuation = fullMatch.substring(i, i+1);
-						if (PUNCTUATION.contains(possiblePunctuation)) {
-							tokens.add(possiblePunctuation);
-							tokenToLocation.put(currentToken, new LineColumn(currentLine, lineMatcher.start()+i, 1));
-							currentToken++;
-						}
-					}
+		final int len = textToTokenize.length();
+		int currentLine = 1;
+		int lineStart = 0;
+		int i = 0;
+		while (i < len) {
+			char c = textToTokenize.charAt(i);
+			if (c == '\n' || c == '\r') {
+				if (c == '\r' && i + 1 < len && textToTokenize.charAt(i + 1) == '\n') {
+					i++;
 				}
+				i++;
 				currentLine++;
-				line = reader.readLine();
-			}
-		} catch (IOException e) {
-			// Don't fill in the lines, take a simpler approach
-			Matcher m = TOKEN_SPLIT_PATTERN.matcher(textToTokenize);
-			while (m.find()) {
-				String word = m.group(1).trim();
-				String seperator = m.group(2).trim();
-				tokens.add(word);
-				if (PUNCTUATION.contains(seperator)) {
-					tokens.add(seperator);
+				lineStart = i;
+			} else if (isTokenSeparator(c)) {
+				if (!isWhitespace(c)) {
+					if (tokenLocations != null) {
+						tokenLocations.add(currentLine, i - lineStart, 1);
+					}
+					tokens.add(String.valueOf(c));
 				}
-			}
-		} finally {
-			if (reader != null) {
-				try {
-					reader.close();
-				} catch (IOException e) {
-					// ignore
+				i++;
+			} else {
+				int wordStart = i;
+				i = wordEnd(textToTokenize, i);
+				String token = textToTokenize.substring(wordStart, i).trim();
+				if (!token.isEmpty()) {
+					if (tokenLocations != null) {
+						tokenLocations.add(currentLine, wordStart - lineStart, token.length());
+					}
+					tokens.add(token);
 				}
 			}
 		}
 		return tokens.toArray(new String[tokens.size()]);
 	}
 
+	/**
+	 * Tokenizes the license text and interns the tokens for fast equivalence comparisons
+	 * @param licenseText
+	 * @return the tokens, token IDs and token locations for the license text
+	 */
+	public static TokenizedLicenseText tokenizeLicenseText(String licenseText) {
+		TokenLocations tokenLocations = new TokenLocations();
+		String[] tokens = tokenizeLicenseText(licenseText, tokenLocations);
+		return new TokenizedLicenseText(tokens, tokenLocations);
+	}
+
+	/**
+	 * Tokenizes the license text without recording the token locations
+	 * @param licenseText
+	 * @return the tokens for the license text
+	 */
+	static TokenizedLicenseText tokenizeForComparison(String licenseText) {
+		return new TokenizedLicenseText(tokenizeLicenseText(licenseText, (TokenLocations)null), null);
+	}
+
 	/**
 	 * @param text
 	 * @return the first token in the license text
 	 */
 	public static String getFirstLicenseToken(String text) {
-		String textToTokenize = normalizeText(replaceMultWord(replaceSpace(text))).toLowerCase();
-		Matcher m = TOKEN_SPLIT_PATTERN.matcher(textToTokenize);
-		while (m.find()) {
-			if (!m.group(1).trim().isEmpty()) {
-				return m.group(1).trim();
+		String textToTokenize = LicenseTextNormalizer.normalizeForTokenizing(text);
+		int i = 0;
+		while (i < textToTokenize.length()) {
+			if (isTokenSeparator(textToTokenize.charAt(i))) {
+				i++;
+			} else {
+				int wordStart = i;
+				i = wordEnd(textToTokenize, i);
+				String token = textToTokenize.substring(wordStart, i).trim();
+				if (!token.isEmpty()) {
+					return token;
+				}
 			}
 		}
 		return null;
@@ -395,45 +503,44 @@ public class LicenseCompareHelper {
 	}
 
 	/**
-	 * Replace different forms of space with a normalized space
-	 * @param s
-	 * @return
+	 * @param c
+	 * @return true if the character separates tokens - whitespace or punctuation as defined by <code>TOKEN_SPLIT_REGEX</code>
+	 */
+	private static boolean isTokenSeparator(char c) {
+		switch (c) {
+			case '.':
+			case ',':
+			case '?':
+			case '\'':
+			case '"':
+			case '(':
+			case ')':
+			case ';':
+			case ':':
+			case '/': return true;
+			default: return isWhitespace(c);
+		}
+	}
+
+	/**
+	 * @param c
+	 * @return true if the character is whitespace as matched by the regular expression <code>\s</code>
 	 */
-	private static String replaceSpace(String s) {
-		Matcher m = SPACE_PATTERN.matcher(s);
-		return m.replaceAll(" ");
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
 	}
 
 	/**
-	 * replaces all mult-words with a single token using a dash to separate
-	 * @param s
-	 * @return
+	 * @param text
+	 * @param start index of the first character of a word
+	 * @return index following the last character of the word
 	 */
-	private static String replaceMultWord(String s) {
-		//TODO: There is certainly some room for optimization - perhaps a single regex in a find loop
-		Matcher m = COPYRIGHT_HOLDERS_PATTERN.matcher(s);
-		String retval = m.replaceAll("copyright-holders");
-		m = COPYRIGHT_HOLDERS_PATTERN_LF.matcher(retval);
-		retval = m.replaceAll("copyright-holders\n");
-		m = COPYRIGHT_OWNERS_PATTERN.matcher(retval);
-		retval = m.replaceAll("copyright-owners");
-		m = COPYRIGHT_OWNERS_PATTERN_LF.matcher(retval);
-		retval = m.replaceAll("copyright-owners\n");
-		m = COPYRIGHT_HOLDER_PATTERN.matcher(retval);
-		retval = m.replaceAll("copyright-holder");
-		m = COPYRIGHT_HOLDER_PATTERN_LF.matcher(retval);
-		retval = m.replaceAll("copyright-holder\n");
-		m = COPYRIGHT_OWNER_PATTERN.matcher(retval);
-		retval = m.replaceAll("copyright-owner");
-		m = COPYRIGHT_OWNER_PATTERN_LF.matcher(retval);
-		retval = m.replaceAll("copyright-owner\n");
-		m = PER_CENT_PATTERN.matcher(retval);
-		retval = m.replaceAll("percent");
-		m = PER_CENT_PATTERN.matcher(retval);
-		retval = m.replaceAll("percent\n");
-		m = COPYRIGHT_SYMBOL_PATTERN.matcher(retval);
-		retval = m.replaceAll("-c-");	// replace the parenthesis with a dash so that it results in a single token rather than 3
-		return retval;
+	private static int wordEnd(String text, int start) {
+		int i = start;
+		while (i < text.length() && !isTokenSeparator(text.charAt(i))) {
+			i++;
+		}
+		return i;
 	}
 
 	/**
@@ -449,6 +556,20 @@ public class LicenseCompareHelper {
 			return tokens[tokenIndex];
 		}
 	}
+	/**
+	 * Just fetches the token ID at the index checking for range.  Returns <code>LicenseTokenDictionary.NO_TOKEN</code> if index is out of range.
+	 * @param tokenIds
+	 * @param tokenIndex
+	 * @return
+	 */
+	static int getTokenIdAt(int[] tokenIds, int tokenIndex) {
+		if (tokenIndex >= tokenIds.length) {
+			return LicenseTokenDictionary.NO_TOKEN;
+		} else {
+			return tokenIds[tokenIndex];
+		}
+	}
+
 	/**
 	 * Returns true if the two tokens can be considered equlivalent per the SPDX license matching rules
 	 * @param tokenA
@@ -465,22 +586,8 @@ public class LicenseCompareHelper {
 		} else if (tokenB == null) {
 			return false;
 		} else {
-			String s1 = tokenA.trim().toLowerCase().replaceAll(DASHES_REGEX, "-");
-			String s2 = tokenB.trim().toLowerCase().replaceAll(DASHES_REGEX, "-");
-			if (s1.equals(s2)) {
-				return true;
-			} else {
-				// check for equivalent tokens by normalizing the tokens
-				String ns1 = NORMALIZE_TOKENS.get(s1);
-				if (ns1 == null) {
-					ns1 = s1;
-				}
-				String ns2 = NORMALIZE_TOKENS.get(s2);
-				if (ns2 == null) {
-					ns2 = s2;
-				}
-				return ns1.equals(ns2);
-			}
+			return LicenseTokenDictionary.sameToken(LicenseTokenDictionary.getTokenId(tokenA), tokenA,
+					LicenseTokenDictionary.getTokenId(tokenB), tokenB);
 		}
 	}
 	/**
@@ -489,13 +596,7 @@ public class LicenseCompareHelper {
 	 * @return
 	 */
 	static boolean canSkip(String token) {
-		if (token == null) {
-			return false;
-		}
-		if (token.trim().isEmpty()) {
-			return true;
-		}
-		return SKIPPABLE_TOKENS.contains(token.trim().toLowerCase());
+		return LicenseTokenDictionary.isSkippable(LicenseTokenDictionary.getTokenId(token));
 	}
 
 	/**
@@ -662,20 +763,37 @@ public class LicenseCompareHelper {
 	}
 
 	/**
-	 * Compares license text to the license text of an SPDX Standard License
+	 * Compares license text to the license text of an SPDX Standard License using the configured maximum work
+	 * (see <code>CompareTemplateOutputHandler.getConfiguredMaxWork</code>)
 	 * @param license SPDX Standard License to compare
 	 * @param compareText Text to compare to the standard license
 	 * @return any differences found
 	 * @throws SpdxCompareException
 	 */
 	public static DifferenceDescription isTextStandardLicense(License license, String compareText) throws SpdxCompareException {
+		return isTextStandardLicense(license, compareText, CompareTemplateOutputHandler.getConfiguredMaxWork());
+	}
+
+	/**
+	 * Compares license text to the license text of an SPDX Standard License
+	 * @param license SPDX Standard License to compare
+	 * @param compareText Text to compare to the standard license
+	 * @param maxWork Maximum amount of work for the comparison - zero or negative for no maximum
+	 * @return any differences found - <code>isWorkBudgetExceeded()</code> is true if the comparison gave up
+	 * @throws SpdxCompareException
+	 */
+	public static DifferenceDescription isTextStandardLicense(License license, String compareText, long maxWork) throws SpdxCompareException {
 		String licenseTemplate = license.getStandardLicenseTemplate();
 		if (licenseTemplate == null || licenseTemplate.trim().isEmpty()) {
 			licenseTemplate = license.getLicenseText();
 		}
+		if (ListedLicenseTextIndex.isDefaultText(licenseTemplate, license.getLicenseText(), compareText)) {
+			// exact match to the default text for the template
+			return new DifferenceDescription();
+		}
 		CompareTemplateOutputHandler compareTemplateOutputHandler = null;
 		try {
-			compareTemplateOutputHandler = new CompareTemplateOutputHandler(compareText);
+			compareTemplateOutputHandler = new CompareTemplateOutputHandler(compareText, maxWork);
 		} catch (IOException e1) {
 			throw(new SpdxCompareException("IO Error reading the compare text: "+e1.getMessage(),e1));
 		}
@@ -697,13 +815,29 @@ public class LicenseCompareHelper {
 	 * @throws SpdxCompareException
 	 */
 	public static DifferenceDescription isTextStandardException(LicenseException exception, String compareText) throws SpdxCompareException {
+		return isTextStandardException(exception, compareText, CompareTemplateOutputHandler.getConfiguredMaxWork());
+	}
+
+	/**
+	 * Compares exception text to the exception text of an SPDX Standard exception
+	 * @param exception SPDX Standard exception to compare
+	 * @param compareText Text to compare to the standard exceptions
+	 * @param maxWork Maximum amount of work for the comparison - zero or negative for no maximum
+	 * @return any differences found - <code>isWorkBudgetExceeded()</code> is true if the comparison gave up
+	 * @throws SpdxCompareException
+	 */
+	public static DifferenceDescription isTextStandardException(LicenseException exception, String compareText, long maxWork) throws SpdxCompareException {
 		String exceptionTemplate = exception.getLicenseExceptionTemplate();
 		if (exceptionTemplate == null || exceptionTemplate.trim().isEmpty()) {
 			exceptionTemplate = exception.getLicenseExceptionText();
 		}
+		if (ListedLicenseTextIndex.isDefaultText(exceptionTemplate, exception.getLicenseExceptionText(), compareText)) {
+			// exact match to the default text for the template
+			return new DifferenceDescription();
+		}
 		CompareTemplateOutputHandler compareTemplateOutputHandler = null;
 		try {
-			compareTemplateOutputHandler = new CompareTemplateOutputHandler(compareText);
+			compareTemplateOutputHandler = new CompareTemplateOutputHandler(compareText, maxWork);
 		} catch (IOException e1) {
 			throw(new SpdxCompareException("IO Error reading the compare text: "+e1.getMessage(),e1));
 		}
@@ -719,19 +853,42 @@ public class LicenseCompareHelper {
 
 	/**
 	 * Returns a list of SPDX Standard License ID's that match the text provided using
-	 * the SPDX matching guidelines.
+	 * the SPDX matching guidelines.  If the text is equivalent to the default text of one or more
+	 * listed licenses, only those licenses are returned without comparing the text to every template.
 	 * @param licenseText Text to compare to the standard license texts
 	 * @return Array of SPDX standard license IDs that match
 	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
 	 * @throws SpdxCompareException If an error occurs in the comparison
 	 */
 	public static String[] matchingStandardLicenseIds(String licenseText) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		return matchingStandardLicenseIds(licenseText, CompareTemplateOutputHandler.getConfiguredMaxWork());
+	}
+
+	/**
+	 * Returns a list of SPDX Standard License ID's that match the text provided using
+	 * the SPDX matching guidelines.  Licenses for which the comparison exceeds the maximum work
+	 * are not returned and are logged as a warning.
+	 * @param licenseText Text to compare to the standard license texts
+	 * @param maxWork Maximum amount of work for the comparison to each license - zero or negative for no maximum
+	 * @return Array of SPDX standard license IDs that match
+	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
+	 * @throws SpdxCompareException If an error occurs in the comparison
+	 */
+	public static String[] matchingStandardLicenseIds(String licenseText, long maxWork) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		List<String> exactMatches = ListedLicenseTextIndex.getListedLicenseTextIndex().getMatchingLicenseIds(licenseText);
+		if (!exactMatches.isEmpty()) {
+			return exactMatches.toArray(new String[exactMatches.size()]);
+		}
 		String[] stdLicenseIds = LicenseInfoFactory.getSpdxListedLicenseIds();
 		List<String> matchingIds  = Lists.newArrayList();
 		for (String stdLicId : stdLicenseIds) {
 			SpdxListedLicense license = LicenseInfoFactory.getListedLicenseById(stdLicId);
-			if (!isTextStandardLicense(license, licenseText).isDifferenceFound()) {
+			DifferenceDescription result = isTextStandardLicense(license, licenseText, maxWork);
+			if (!result.isDifferenceFound()) {
 				matchingIds.add(license.getLicenseId());
+			} else if (result.isWorkBudgetExceeded()) {
+				logger.warn("Gave up comparing the text to listed license "+license.getLicenseId()+
+						" after exceeding the maximum work - set "+CompareTemplateOutputHandler.MAX_WORK_PROPERTY+" to increase it");
 			}
 		}
 		return matchingIds.toArray(new String[matchingIds.size()]);
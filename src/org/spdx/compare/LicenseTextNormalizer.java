@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.Locale;
+
+/**
+ * Normalizes license text for comparison in a single scan of the text.
+ *
+ * The rewrites are applied in one pass in place of the earlier sequence of regular expression
+ * replacements and produce the same result:
+ * <ul>
+ * <li>Narrow no-break, figure and word joiner spaces are replaced by a space (tokenizing only)</li>
+ * <li>"copyright holder(s)" and "copyright owner(s)" become single dashed words, including when
+ * the words are separated by a line break, and "per cent" becomes "percent" (tokenizing only)</li>
+ * <li>"(c)" becomes "-c-" so that it results in a single token (tokenizing only)</li>
+ * <li>Single quotes, double quotes, dashes, no-break spaces, line separators and the http scheme
+ * are normalized</li>
+ * <li>The text is lower cased (tokenizing only)</li>
+ * </ul>
+ *
+ * @author agent
+ *
+ */
+public class LicenseTextNormalizer {
+
+	private static final String COPYRIGHT = "copyright";
+	// Order matters - the plural forms must be tried first
+	private static final String[] COPYRIGHT_SUFFIXES = new String[] {"holders", "owners", "holder", "owner"};
+	private static final String HTTP = "http://";
+	private static final String HTTPS = "https://";
+
+	private LicenseTextNormalizer() {
+		// Static helper class
+	}
+
+	/**
+	 * Normalize quotes, dashes, no-break spaces, line separators and the http scheme
+	 * @param text
+	 * @return normalized text
+	 */
+	public static String normalizeText(String text) {
+		return normalize(text, false);
+	}
+
+	/**
+	 * Normalize the text as for <code>normalizeText</code>, replace the multi-word phrases with single tokens
+	 * and lower case the result
+	 * @param text
+	 * @return text normalized for tokenizing
+	 */
+	public static String normalizeForTokenizing(String text) {
+		return normalize(text, true);
+	}
+
+	/**
+	 * @param text
+	 * @param forTokenizing if true, also normalize spaces, multi-words and case
+	 * @return normalized text
+	 */
+	private static String normalize(String text, boolean forTokenizing) {
+		final int len = text.length();
+		StringBuilder sb = new StringBuilder(len + 16);
+		// ASCII can only be lower cased as we go for locales without special case rules
+		boolean lowerCaseAscii = forTokenizing && !hasSpecialCaseRules(Locale.getDefault());
+		boolean needsLowerCase = forTokenizing && !lowerCaseAscii;
+		int i = 0;
+		while (i < len) {
+			char c = text.charAt(i);
+			if (forTokenizing) {
+				int matchEnd = appendMultiWord(text, i, sb);
+				if (matchEnd > i) {
+					i = matchEnd;
+					continue;
+				}
+			}
+			if (c == 'h' && text.startsWith(HTTP, i)) {
+				sb.append(HTTPS);
+				i += HTTP.length();
+				continue;
+			}
+			char mapped = mapChar(c, forTokenizing);
+			if (mapped == '\'' && i + 1 < len && mapChar(text.charAt(i + 1), forTokenizing) == '\'') {
+				// two single quotes are a double quote
+				sb.append('"');
+				i += 2;
+				continue;
+			}
+			if (lowerCaseAscii && mapped >= 'A' && mapped <= 'Z') {
+				mapped = (char)(mapped + ('a' - 'A'));
+			} else if (forTokenizing && !needsLowerCase && mapped >= 0x80 &&
+					(Character.isSurrogate(mapped) || Character.toLowerCase(mapped) != mapped)) {
+				needsLowerCase = true;
+			}
+			sb.append(mapped);
+			i++;
+		}
+		String retval = sb.toString();
+		if (needsLowerCase) {
+			retval = retval.toLowerCase();
+		}
+		return retval;
+	}
+
+	/**
+	 * Replaces the multi-word phrases starting at index start with a single token
+	 * @param text
+	 * @param start
+	 * @param sb appended with the replacement if there is a match
+	 * @return the index following the matched phrase or start if no phrase matches
+	 */
+	private static int appendMultiWord(String text, int start, StringBuilder sb) {
+		char c = text.charAt(start);
+		if (c == 'c' || c == 'C') {
+			if (!regionMatchesAsciiIgnoreCase(text, start, COPYRIGHT)) {
+				return start;
+			}
+			int separatorStart = start + COPYRIGHT.length();
+			if (separatorStart < text.length() && isSpace(text.charAt(separatorStart))) {
+				for (String suffix:COPYRIGHT_SUFFIXES) {
+					if (regionMatchesAsciiIgnoreCase(text, separatorStart + 1, suffix)) {
+						sb.append(COPYRIGHT).append('-').append(suffix);
+						return separatorStart + 1 + suffix.length();
+					}
+				}
+			}
+			// the words may be separated by whitespace including at least one line feed
+			int separatorEnd = separatorStart;
+			boolean lineFeed = false;
+			while (separatorEnd < text.length() && isWhitespace(text.charAt(separatorEnd))) {
+				lineFeed |= text.charAt(separatorEnd) == '\n';
+				separatorEnd++;
+			}
+			if (lineFeed) {
+				for (String suffix:COPYRIGHT_SUFFIXES) {
+					if (regionMatchesAsciiIgnoreCase(text, separatorEnd, suffix)) {
+						sb.append(COPYRIGHT).append('-').append(suffix).append('\n');
+						return separatorEnd + suffix.length();
+					}
+				}
+			}
+		} else if (c == 'p' || c == 'P') {
+			// Note: "per" and "cent" separated by a line break are left alone, as they always have been
+			if (regionMatchesAsciiIgnoreCase(text, start, "per") && start + 3 < text.length() &&
+					isSpace(text.charAt(start + 3)) && regionMatchesAsciiIgnoreCase(text, start + 4, "cent")) {
+				sb.append("percent");
+				return start + 8;
+			}
+		} else if (c == '(') {
+			if (start + 2 < text.length() && (text.charAt(start + 1) == 'c' || text.charAt(start + 1) == 'C') &&
+					text.charAt(start + 2) == ')') {
+				sb.append("-c-");	// replace the parenthesis with a dash so that it results in a single token rather than 3
+				return start + 3;
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * @param c
+	 * @param forTokenizing
+	 * @return the normalized character
+	 */
+	private static char mapChar(char c, boolean forTokenizing) {
+		switch (c) {
+			case '‘':
+			case '’':
+			case '‛':
+			case '‚':
+			case '`': return '\'';
+			case '“':
+			case '”':
+			case '‟':
+			case '„': return '"';
+			case '\u00A0': return ' ';	// Java does not handle non-breaking spaces well
+			case '—':
+			case '–': return '-';
+			case '\u2028': return '\n';	// Java does not handle the line separator well
+			case '\u202F':
+			case '\u2007':
+			case '\u2060': return forTokenizing ? ' ' : c;
+			default: return c;
+		}
+	}
+
+	/**
+	 * @param c
+	 * @return true if c is a space once the other forms of space have been normalized
+	 */
+	private static boolean isSpace(char c) {
+		return c == ' ' || c == '\u202F' || c == '\u2007' || c == '\u2060';
+	}
+
+	/**
+	 * @param c
+	 * @return true if c is whitespace as matched by the regular expression <code>\s</code> after space normalization
+	 */
+	private static boolean isWhitespace(char c) {
+		return c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r' || isSpace(c);
+	}
+
+	/**
+	 * @param text
+	 * @param offset
+	 * @param lowerCaseWord word in lower case ASCII
+	 * @return true if the text at offset matches the word ignoring ASCII case
+	 */
+	private static boolean regionMatchesAsciiIgnoreCase(String text, int offset, String lowerCaseWord) {
+		if (offset + lowerCaseWord.length() > text.length()) {
+			return false;
+		}
+		for (int i = 0; i < lowerCaseWord.length(); i++) {
+			char c = text.charAt(offset + i);
+			if (c >= 'A' && c <= 'Z') {
+				c = (char)(c + ('a' - 'A'));
+			}
+			if (c != lowerCaseWord.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param locale
+	 * @return true if lower casing in the locale has language specific rules
+	 */
+	private static boolean hasSpecialCaseRules(Locale locale) {
+		String language = locale.getLanguage();
+		return "tr".equals(language) || "az".equals(language) || "lt".equals(language);
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Interns license text tokens as integer IDs.  Two tokens have the same ID if and only if
+ * they are equivalent per the SPDX license matching guidelines (case, dashes and the
+ * equivalent words in <code>LicenseCompareHelper.NORMALIZE_TOKENS</code>).
+ *
+ * Tokens which can be skipped in a comparison have negative IDs.  IDs are only
+ * meaningful within the running JVM.
+ *
+ * The number of interned tokens is bounded.  Once the dictionary is full, tokens which have
+ * not been seen are not stored; their ID is computed from a hash of the normalized token in a range
+ * above the interned IDs (see <code>isUninterned</code>).  Equivalent uninterned tokens have the same ID,
+ * but two different uninterned tokens may share an ID, so equal IDs only stand in for equal tokens
+ * for interned IDs.  Use <code>sameToken</code> to compare tokens.
+ *
+ * @author agent
+ *
+ */
+public class LicenseTokenDictionary {
+
+	/**
+	 * ID used for the absence of a token (e.g. past the end of the text)
+	 */
+	public static final int NO_TOKEN = Integer.MIN_VALUE;
+
+	/**
+	 * Maximum number of normalized tokens interned - this is well above the number of distinct
+	 * tokens in the listed licenses and exceptions
+	 */
+	static final int MAX_INTERNED_TOKENS = 100000;
+
+	/**
+	 * Lowest ID for a token which is not interned
+	 */
+	static final int FIRST_UNINTERNED_ID = MAX_INTERNED_TOKENS + 1;
+
+	private static final HashFunction UNINTERNED_TOKEN_HASH = Hashing.murmur3_32(new SecureRandom().nextInt());
+
+	private static final LicenseTokenDictionary dictionary = new LicenseTokenDictionary(MAX_INTERNED_TOKENS);
+
+	private final int maxTokens;
+	private final ConcurrentHashMap<String, Integer> tokenToId = new ConcurrentHashMap<String, Integer>();
+	private final ConcurrentHashMap<String, Integer> normalizedTokenToId = new ConcurrentHashMap<String, Integer>();
+	private final AtomicInteger nextId = new AtomicInteger(1);
+
+	/**
+	 * @param maxTokens maximum number of normalized tokens to intern - no more than <code>MAX_INTERNED_TOKENS</code>
+	 */
+	LicenseTokenDictionary(int maxTokens) {
+		if (maxTokens > MAX_INTERNED_TOKENS) {
+			throw new IllegalArgumentException("At most "+String.valueOf(MAX_INTERNED_TOKENS)+" tokens can be interned");
+		}
+		this.maxTokens = maxTokens;
+		// Skippable tokens are always interned so that they can be identified by their ID
+		idFor("");
+		for (String skippable:LicenseCompareHelper.SKIPPABLE_TOKENS) {
+			idFor(skippable);
+		}
+	}
+
+	/**
+	 * @param token license text token
+	 * @return the ID for the token - equivalent tokens have the same ID.  Returns <code>NO_TOKEN</code> for null.
+	 */
+	public static int getTokenId(String token) {
+		return dictionary.idFor(token);
+	}
+
+	/**
+	 * @param tokenId
+	 * @return true if the token can be skipped per the license matching rules
+	 */
+	public static boolean isSkippable(int tokenId) {
+		return tokenId < 0 && tokenId != NO_TOKEN;
+	}
+
+	/**
+	 * @param tokenId
+	 * @return true if the token is not interned - tokens with the same uninterned ID may be different
+	 */
+	public static boolean isUninterned(int tokenId) {
+		return tokenId >= FIRST_UNINTERNED_ID;
+	}
+
+	/**
+	 * @param tokenIdA ID of token A
+	 * @param tokenA token A
+	 * @param tokenIdB ID of token B
+	 * @param tokenB token B
+	 * @return true if the tokens are equivalent.  The token text is only compared if the IDs are equal and not interned.
+	 */
+	public static boolean sameToken(int tokenIdA, String tokenA, int tokenIdB, String tokenB) {
+		if (tokenIdA != tokenIdB) {
+			return false;
+		}
+		if (!isUninterned(tokenIdA)) {
+			return true;
+		}
+		return LicenseCompareHelper.normalizeToken(tokenA).equals(LicenseCompareHelper.normalizeToken(tokenB));
+	}
+
+	/**
+	 * @param token license text token
+	 * @return the ID for the token in this dictionary
+	 */
+	int idFor(String token) {
+		if (token == null) {
+			return NO_TOKEN;
+		}
+		Integer id = tokenToId.get(token);
+		if (id != null) {
+			return id;
+		}
+		String normalized = LicenseCompareHelper.normalizeToken(token);
+		final boolean skippable = LicenseCompareHelper.isSkippableToken(token);
+		id = normalizedTokenToId.get(normalized);
+		if (id == null) {
+			id = normalizedTokenToId.computeIfAbsent(normalized, (key) -> {
+				int nextTokenId = nextId.getAndUpdate(i -> i <= maxTokens ? i + 1 : i);
+				if (nextTokenId > maxTokens) {
+					return null;	// full - leave the token out of the dictionary
+				}
+				return skippable ? -nextTokenId : nextTokenId;
+			});
+		}
+		if (id == null) {
+			return uninternedTokenId(normalized);
+		}
+		if (tokenToId.size() < maxTokens) {
+			tokenToId.putIfAbsent(token, id);
+		}
+		return id;
+	}
+
+	/**
+	 * @return the number of normalized tokens interned
+	 */
+	int size() {
+		return normalizedTokenToId.size();
+	}
+
+	/**
+	 * @param normalized normalized token which is not in the dictionary
+	 * @return ID for the token above the range of the interned IDs
+	 */
+	private static int uninternedTokenId(String normalized) {
+		int hash = UNINTERNED_TOKEN_HASH.hashString(normalized, StandardCharsets.UTF_8).asInt();
+		return FIRST_UNINTERNED_ID + Math.floorMod(hash, Integer.MAX_VALUE - MAX_INTERNED_TOKENS);
+	}
+}
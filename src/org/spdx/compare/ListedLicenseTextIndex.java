@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.licenseTemplate.LicenseTemplateRuleException;
+import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.license.LicenseException;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.ListedExceptions;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+
+/**
+ * Index of the default text of every listed license and listed exception by the hash of the
+ * normalized text.  The default text is the text produced by the license template using the
+ * original text for all variable rules and including all optional text
+ * (see <code>SpdxLicenseTemplateHelper.templateToText</code>).
+ *
+ * A text which is equivalent to the default text of a license matches the license template, so an
+ * exact normalized match can be reported without running the template comparison.  Texts which
+ * differ from the default text must still be compared to the template.
+ *
+ * @author agent
+ *
+ */
+public class ListedLicenseTextIndex {
+
+	static final Logger logger = LoggerFactory.getLogger(ListedLicenseTextIndex.class);
+
+	/**
+	 * Maximum number of templates for which the normalized default text is cached
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 2000;
+
+	/**
+	 * License text reduced to the IDs of the tokens which can not be skipped.  The normalized
+	 * token is kept for any token which is not interned since its ID may be shared with other tokens.
+	 */
+	static final class NormalizedLicenseText {
+		private final int[] tokenIds;
+		/**
+		 * Normalized tokens for the uninterned token IDs - null if all tokens are interned
+		 */
+		private final String[] uninternedTokens;
+		private final long fingerprint;
+
+		NormalizedLicenseText(String text) {
+			TokenizedLicenseText allTokens = LicenseCompareHelper.tokenizeForComparison(text == null ? "" : text);
+			int[] ids = new int[allTokens.size()];
+			String[] uninterned = null;
+			int numIds = 0;
+			for (int i = 0; i < allTokens.size(); i++) {
+				int tokenId = allTokens.getTokenId(i);
+				if (!LicenseTokenDictionary.isSkippable(tokenId)) {
+					if (LicenseTokenDictionary.isUninterned(tokenId)) {
+						if (uninterned == null) {
+							uninterned = new String[ids.length];
+						}
+						uninterned[numIds] = LicenseCompareHelper.normalizeToken(allTokens.getToken(i));
+					}
+					ids[numIds++] = tokenId;
+				}
+			}
+			this.tokenIds = Arrays.copyOf(ids, numIds);
+			this.uninternedTokens = uninterned == null ? null : Arrays.copyOf(uninterned, numIds);
+			this.fingerprint = LicenseCompareHelper.licenseTextFingerprint(this.tokenIds);
+		}
+
+		long getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * @param other
+		 * @return true if the normalized texts are identical
+		 */
+		boolean matches(NormalizedLicenseText other) {
+			return fingerprint == other.fingerprint && Arrays.equals(tokenIds, other.tokenIds) &&
+					Arrays.equals(uninternedTokens, other.uninternedTokens);
+		}
+	}
+
+	/**
+	 * Listed license or exception ID with its normalized default text
+	 */
+	private static final class IndexEntry {
+		private final String id;
+		private final NormalizedLicenseText text;
+
+		IndexEntry(String id, NormalizedLicenseText text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	private static volatile ListedLicenseTextIndex listedLicenseTextIndex = null;
+	private static final Object INDEX_LOCK = new Object();
+
+	/**
+	 * Cache of template text to the normalized default text for the template
+	 */
+	private static final Cache<String, NormalizedLicenseText> defaultTextCache =
+			CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).build();
+
+	private final ImmutableListMultimap<Long, IndexEntry> licenses;
+	private final ImmutableListMultimap<Long, IndexEntry> exceptions;
+
+	/**
+	 * @return the index of all listed licenses and exceptions, building it on first use
+	 */
+	public static ListedLicenseTextIndex getListedLicenseTextIndex() {
+		ListedLicenseTextIndex retval = listedLicenseTextIndex;
+		if (retval == null) {
+			synchronized(INDEX_LOCK) {
+				retval = listedLicenseTextIndex;
+				if (retval == null) {
+					retval = new ListedLicenseTextIndex();
+					listedLicenseTextIndex = retval;
+				}
+			}
+		}
+		return retval;
+	}
+
+	private ListedLicenseTextIndex() {
+		ListMultimap<Long, IndexEntry> licenseEntries = ArrayListMultimap.create();
+		for (String licenseId:LicenseInfoFactory.getSpdxListedLicenseIds()) {
+			try {
+				SpdxListedLicense license = LicenseInfoFactory.getListedLicenseById(licenseId);
+				if (license != null) {
+					NormalizedLicenseText text = getDefaultText(license.getStandardLicenseTemplate(), license.getLicenseText());
+					licenseEntries.put(text.getFingerprint(), new IndexEntry(license.getLicenseId(), text));
+				}
+			} catch (InvalidSPDXAnalysisException | SpdxCompareException e) {
+				logger.warn("Unable to index the text for listed license "+licenseId, e);
+			}
+		}
+		this.licenses = ImmutableListMultimap.copyOf(licenseEntries);
+		ListMultimap<Long, IndexEntry> exceptionEntries = ArrayListMultimap.create();
+		for (String exceptionId:ListedExceptions.getListedExceptions().getSpdxListedExceptionIds()) {
+			try {
+				LicenseException exception = LicenseInfoFactory.getListedExceptionById(exceptionId);
+				if (exception != null) {
+					NormalizedLicenseText text = getDefaultText(exception.getLicenseExceptionTemplate(), exception.getLicenseExceptionText());
+					exceptionEntries.put(text.getFingerprint(), new IndexEntry(exception.getLicenseExceptionId(), text));
+				}
+			} catch (InvalidSPDXAnalysisException | SpdxCompareException e) {
+				logger.warn("Unable to index the text for listed exception "+exceptionId, e);
+			}
+		}
+		this.exceptions = ImmutableListMultimap.copyOf(exceptionEntries);
+	}
+
+	/**
+	 * @param licenseText
+	 * @return the IDs of the listed licenses whose default text is equivalent to the license text
+	 */
+	public List<String> getMatchingLicenseIds(String licenseText) {
+		return getMatchingIds(licenses, new NormalizedLicenseText(licenseText));
+	}
+
+	/**
+	 * @param exceptionText
+	 * @return the IDs of the listed exceptions whose default text is equivalent to the exception text
+	 */
+	public List<String> getMatchingExceptionIds(String exceptionText) {
+		return getMatchingIds(exceptions, new NormalizedLicenseText(exceptionText));
+	}
+
+	private static List<String> getMatchingIds(ImmutableListMultimap<Long, IndexEntry> index, NormalizedLicenseText text) {
+		List<String> retval = Lists.newArrayList();
+		for (IndexEntry entry:index.get(text.getFingerprint())) {
+			if (entry.text.matches(text)) {
+				retval.add(entry.id);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param template license or exception template
+	 * @param text license or exception text used if there is no template
+	 * @param compareText text to compare
+	 * @return true if the compare text is equivalent to the default text for the template
+	 * @throws SpdxCompareException
+	 */
+	static boolean isDefaultText(String template, String text, String compareText) throws SpdxCompareException {
+		return getDefaultText(template, text).matches(new NormalizedLicenseText(compareText));
+	}
+
+	/**
+	 * @param template license or exception template
+	 * @param text license or exception text used if there is no template
+	 * @return the normalized default text for the template
+	 * @throws SpdxCompareException
+	 */
+	private static NormalizedLicenseText getDefaultText(final String template, final String text) throws SpdxCompareException {
+		final String templateOrText;
+		if (template == null || template.trim().isEmpty()) {
+			templateOrText = text == null ? "" : text;
+		} else {
+			templateOrText = template;
+		}
+		try {
+			return defaultTextCache.get(templateOrText,
+					() -> new NormalizedLicenseText(SpdxLicenseTemplateHelper.templateToText(templateOrText)));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof LicenseTemplateRuleException) {
+				throw new SpdxCompareException("Invalid template rule found during compare: "+e.getCause().getMessage(), e.getCause());
+			}
+			throw new SpdxCompareException("Error converting template to text", e.getCause());
+		}
+	}
+}
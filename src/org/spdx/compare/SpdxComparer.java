@@ -20,6 +20,7 @@ package org.spdx.compare;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.RelationshipGraph;
 import org.spdx.rdfparser.SPDXCreatorInformation;
 import org.spdx.rdfparser.SPDXReview;
 import org.spdx.rdfparser.SpdxPackageVerificationCode;
@@ -37,6 +39,7 @@ import org.spdx.rdfparser.model.Checksum;
 import org.spdx.rdfparser.model.ExternalDocumentRef;
 import org.spdx.rdfparser.model.RdfModelObject;
 import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
 import org.spdx.rdfparser.model.SpdxDocument;
 import org.spdx.rdfparser.model.SpdxElement;
 import org.spdx.rdfparser.model.SpdxFile;
@@ -74,6 +77,11 @@ import com.google.common.collect.Sets;
  */
 public class SpdxComparer {
 
+	/**
+	 * All relationship types - used to find all elements related to the described elements
+	 */
+	private static final Set<RelationshipType> ALL_RELATIONSHIP_TYPES = Collections.unmodifiableSet(EnumSet.allOf(RelationshipType.class));
+
 	/**
 	 * Contains the results of a comparison between two SPDXReviews where
 	 * the reviewer name is the same but there is a difference in the
@@ -563,62 +571,65 @@ public class SpdxComparer {
 
 	/**
 	 * Add all files found in the related elements (including descendant related elements)
+	 * and the files contained in any related packages
+	 * @param graph relationship index for the document containing the element
 	 * @param element
 	 * @param files
 	 * @throws InvalidSPDXAnalysisException
 	 */
-	private void addAllRelatedFiles(SpdxElement element, Set<SpdxFile> files,
-			Set<SpdxElement> visitedElements) throws InvalidSPDXAnalysisException {
-		if (element == null || visitedElements.contains(element)) {
+	private void addAllRelatedFiles(RelationshipGraph graph, SpdxElement element,
+			Set<SpdxFile> files) throws InvalidSPDXAnalysisException {
+		int index = graph.indexOf(element);
+		if (index < 0) {
 			return;
 		}
-		visitedElements.add(element);
-		Relationship[] relationships = element.getRelationships();
-		if (relationships != null) {
-			for (int j = 0; j < relationships.length; j++) {
-				if (relationships[j] != null &&
-						relationships[j].getRelatedSpdxElement() instanceof SpdxFile &&
-						!files.contains(relationships[j].getRelatedSpdxElement())) {
-					files.add((SpdxFile)(relationships[j].getRelatedSpdxElement()));
-				} else if (relationships[j] != null &&
-						relationships[j].getRelatedSpdxElement() instanceof SpdxPackage) {
-					SpdxFile[] pkgFiles = ((SpdxPackage)(relationships[j].getRelatedSpdxElement())).getFiles();
-					if (pkgFiles != null) {
-						for (int k = 0; k < pkgFiles.length; k++) {
-							files.add(pkgFiles[k]);
-						}
-					}
-				}
-				// recursively add all of the related files to this relationships
-				addAllRelatedFiles(relationships[j].getRelatedSpdxElement(), files, visitedElements);
+		int[] related = graph.transitiveClosure(index, ALL_RELATIONSHIP_TYPES, false);
+		for (int i = 0; i < related.length; i++) {
+			SpdxElement relatedElement = graph.getElement(related[i]);
+			if (relatedElement instanceof SpdxFile) {
+				files.add((SpdxFile)relatedElement);
+			} else if (relatedElement instanceof SpdxPackage) {
+				addPackageFiles(graph, related[i], files);
+			}
+		}
+	}
+
+	/**
+	 * Add the files contained in a package (hasFile property)
+	 * @param graph relationship index for the document containing the package
+	 * @param packageIndex index of the package in the graph
+	 * @param files
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void addPackageFiles(RelationshipGraph graph, int packageIndex,
+			Set<SpdxFile> files) throws InvalidSPDXAnalysisException {
+		int[] pkgFiles = graph.getPackageFiles(packageIndex);
+		for (int i = 0; i < pkgFiles.length; i++) {
+			SpdxElement file = graph.getElement(pkgFiles[i]);
+			if (file instanceof SpdxFile) {
+				files.add((SpdxFile)file);
 			}
 		}
 	}
 
 	/**
 	 * Add all packages found in the related elements (including descendant related elements)
+	 * @param graph relationship index for the document containing the element
 	 * @param element
 	 * @param pkgs
 	 * @throws InvalidSPDXAnalysisException
 	 */
-	private void addAllRelatedPackages(SpdxElement element,
-			Set<SpdxPackage> pkgs,
-			Set<SpdxElement> visitedElements) throws InvalidSPDXAnalysisException {
-		if (element == null || visitedElements.contains(element)) {
+	private void addAllRelatedPackages(RelationshipGraph graph, SpdxElement element,
+			Set<SpdxPackage> pkgs) throws InvalidSPDXAnalysisException {
+		int index = graph.indexOf(element);
+		if (index < 0) {
 			return;
 		}
-		visitedElements.add(element);
-		Relationship[] relationships = element.getRelationships();
-		if (relationships != null) {
-			for (int j = 0; j < relationships.length; j++) {
-				if (relationships[j] != null &&
-						relationships[j].getRelatedSpdxElement() instanceof SpdxPackage &&
-						!pkgs.contains(relationships[j].getRelatedSpdxElement())) {
-					pkgs.add((SpdxPackage)(relationships[j].getRelatedSpdxElement()));
-				}
-				// recursively add all of the related files to this relationships
-				addAllRelatedPackages(relationships[j].getRelatedSpdxElement(),
-						pkgs, visitedElements);
+		int[] related = graph.transitiveClosure(index, ALL_RELATIONSHIP_TYPES, false);
+		for (int i = 0; i < related.length; i++) {
+			SpdxElement relatedElement = graph.getElement(related[i]);
+			if (relatedElement instanceof SpdxPackage) {
+				pkgs.add((SpdxPackage)relatedElement);
 			}
 		}
 	}
@@ -632,12 +643,13 @@ public class SpdxComparer {
 	 */
 	protected SpdxPackage[] collectAllPackages(SpdxDocument spdxDocument) throws InvalidSPDXAnalysisException {
 		Set<SpdxPackage> retval = Sets.newHashSet();
+		RelationshipGraph graph = spdxDocument.getDocumentContainer().getRelationshipGraph();
 		SpdxItem[] items = spdxDocument.getDocumentDescribes();
 		for (int i = 0; i < items.length; i++) {
 			if (items[i] instanceof SpdxPackage) {
 				retval.add((SpdxPackage)items[i]);
 			}
-			addAllRelatedPackages(items[i], retval, Sets.<SpdxElement>newHashSet());
+			addAllRelatedPackages(graph, items[i], retval);
 		}
 		return retval.toArray(new SpdxPackage[retval.size()]);
 	}
@@ -651,6 +663,7 @@ public class SpdxComparer {
 	 */
 	protected SpdxFile[] collectAllFiles(SpdxDocument spdxDocument) throws InvalidSPDXAnalysisException {
 		Set<SpdxFile> retval = Sets.newHashSet();
+		RelationshipGraph graph = spdxDocument.getDocumentContainer().getRelationshipGraph();
 		SpdxItem[] items = spdxDocument.getDocumentDescribes();
 		for (int i = 0; i < items.length; i++) {
 			if (items[i] instanceof SpdxFile) {
@@ -661,7 +674,7 @@ public class SpdxComparer {
 					retval.add(pkgFiles[j]);
 				}
 			}
-			addAllRelatedFiles(items[i], retval, Sets.<SpdxElement>newHashSet());
+			addAllRelatedFiles(graph, items[i], retval);
 		}
 		return retval.toArray(new SpdxFile[retval.size()]);
 	}
@@ -1068,8 +1081,12 @@ public class SpdxComparer {
 	 * @throws SpdxCompareException
 	 */
 	private void compareExtractedLicenseInfos() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		// tokenize each extracted license text only once for all of the document comparisons
+		ExtractedLicenseTextIndex[] licenseIndexes = new ExtractedLicenseTextIndex[spdxDocs.length];
+		for (int i = 0; i < spdxDocs.length; i++) {
+			licenseIndexes[i] = new ExtractedLicenseTextIndex(spdxDocs[i].getExtractedLicenseInfos());
+		}
 		for (int i = 0; i < spdxDocs.length; i++) {
-			ExtractedLicenseInfo[] extractedLicensesA = spdxDocs[i].getExtractedLicenseInfos();
 			Map<SpdxDocument, ExtractedLicenseInfo[]> uniqueMap = Maps.newHashMap();
 				Map<SpdxDocument, SpdxLicenseDifference[]> differenceMap = Maps.newHashMap();
 				Map<SpdxDocument, Map<String, String>> licenseIdMap = Maps.newHashMap();
@@ -1080,9 +1097,8 @@ public class SpdxComparer {
 				}
 				Map<String, String> idMap = Maps.newHashMap();
 				List<SpdxLicenseDifference> alDifferences = Lists.newArrayList();
-				ExtractedLicenseInfo[] extractedLicensesB = spdxDocs[j].getExtractedLicenseInfos();
 				List<ExtractedLicenseInfo> uniqueLicenses = Lists.newArrayList();
-				compareLicenses(extractedLicensesA, extractedLicensesB,
+				compareLicenses(licenseIndexes[i], licenseIndexes[j],
 						idMap, alDifferences, uniqueLicenses);
 				// unique
 				if (uniqueLicenses.size() > 0) {
@@ -1111,39 +1127,39 @@ public class SpdxComparer {
 	}
 
 	/**
-	 * Compares two arrays of non standard licenses
-	 * @param extractedLicensesA
-	 * @param extractedLicensesB
+	 * Compares two arrays of non standard licenses.  Only the licenses in B with the same
+	 * license text fingerprint as a license in A are compared.
+	 * @param licenseIndexA indexed extracted licenses for document A
+	 * @param licenseIndexB indexed extracted licenses for document B
 	 * @param idMap Map of license IDs for licenses considered equal
 	 * @param alDifferences Array list of license differences found where the license text is equivalent but other properties are different
 	 * @param uniqueLicenses ArrayList if licenses found in the A but not found in B
 	 */
-	private void compareLicenses(ExtractedLicenseInfo[] extractedLicensesA,
-			ExtractedLicenseInfo[] extractedLicensesB,
+	private void compareLicenses(ExtractedLicenseTextIndex licenseIndexA,
+			ExtractedLicenseTextIndex licenseIndexB,
 			Map<String, String> idMap,
 			List<SpdxLicenseDifference> alDifferences,
 			List<ExtractedLicenseInfo> uniqueLicenses) {
 		idMap.clear();
 		alDifferences.clear();
 		uniqueLicenses.clear();
+		ExtractedLicenseInfo[] extractedLicensesA = licenseIndexA.getLicenses();
+		ExtractedLicenseInfo[] extractedLicensesB = licenseIndexB.getLicenses();
 		for (int k = 0; k < extractedLicensesA.length; k++) {
 			boolean foundMatch = false;
 			boolean foundTextMatch = false;
-			for (int q = 0; q < extractedLicensesB.length; q++) {
-				if (LicenseCompareHelper.isLicenseTextEquivalent(extractedLicensesA[k].getExtractedText(),
-						extractedLicensesB[q].getExtractedText())) {
-					foundTextMatch = true;
-					if (!foundMatch) {
-						idMap.put(extractedLicensesA[k].getLicenseId(), extractedLicensesB[q].getLicenseId());
-						// always add to the map any matching licenses.  If more than one, add
-						// the license matches where the entire license match.  This condition checks
-						// to make sure we are not over-writing an exact match
-					}
-					if (nonTextLicenseFieldsEqual(extractedLicensesA[k], extractedLicensesB[q])) {
-						foundMatch = true;
-					} else {
-						alDifferences.add(new SpdxLicenseDifference(extractedLicensesA[k], extractedLicensesB[q]));
-					}
+			for (int q:licenseIndexA.findEquivalent(k, licenseIndexB)) {
+				foundTextMatch = true;
+				if (!foundMatch) {
+					idMap.put(extractedLicensesA[k].getLicenseId(), extractedLicensesB[q].getLicenseId());
+					// always add to the map any matching licenses.  If more than one, add
+					// the license matches where the entire license match.  This condition checks
+					// to make sure we are not over-writing an exact match
+				}
+				if (nonTextLicenseFieldsEqual(extractedLicensesA[k], extractedLicensesB[q])) {
+					foundMatch = true;
+				} else {
+					alDifferences.add(new SpdxLicenseDifference(extractedLicensesA[k], extractedLicensesB[q]));
 				}
 			}
 			if (!foundTextMatch) {	// we treat the licenses as equivalent if the text matches even if other fields do not match
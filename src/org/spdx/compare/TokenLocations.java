@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Locations of tokens in a license text stored in parallel arrays of line, column and length
+ * indexed by the token index.  <code>LineColumn</code> objects are only created on request.
+ *
+ * @author agent
+ *
+ */
+public class TokenLocations {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private int[] lines;
+	private int[] columns;
+	private int[] lengths;
+	private int size = 0;
+
+	public TokenLocations() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity initial number of token locations which can be held without growing the arrays
+	 */
+	public TokenLocations(int initialCapacity) {
+		this.lines = new int[initialCapacity];
+		this.columns = new int[initialCapacity];
+		this.lengths = new int[initialCapacity];
+	}
+
+	private TokenLocations(int[] lines, int[] columns, int[] lengths) {
+		this.lines = lines;
+		this.columns = columns;
+		this.lengths = lengths;
+		this.size = lines.length;
+	}
+
+	/**
+	 * Add the location for the next token
+	 * @param line line number starting at 1
+	 * @param column column within the line starting at 0
+	 * @param length length of the token
+	 */
+	public void add(int line, int column, int length) {
+		if (size == lines.length) {
+			int newCapacity = Math.max(DEFAULT_CAPACITY, size * 2);
+			lines = Arrays.copyOf(lines, newCapacity);
+			columns = Arrays.copyOf(columns, newCapacity);
+			lengths = Arrays.copyOf(lengths, newCapacity);
+		}
+		lines[size] = line;
+		columns[size] = column;
+		lengths[size] = length;
+		size++;
+	}
+
+	/**
+	 * @return the number of token locations
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param tokenIndex
+	 * @return true if there is a location for the token
+	 */
+	public boolean hasLocation(int tokenIndex) {
+		return tokenIndex >= 0 && tokenIndex < size;
+	}
+
+	/**
+	 * @param tokenIndex
+	 * @return the line of the token
+	 */
+	public int getLine(int tokenIndex) {
+		checkIndex(tokenIndex);
+		return lines[tokenIndex];
+	}
+
+	/**
+	 * @param tokenIndex
+	 * @return the column of the token
+	 */
+	public int getColumn(int tokenIndex) {
+		checkIndex(tokenIndex);
+		return columns[tokenIndex];
+	}
+
+	/**
+	 * @param tokenIndex
+	 * @return the length of the token
+	 */
+	public int getLength(int tokenIndex) {
+		checkIndex(tokenIndex);
+		return lengths[tokenIndex];
+	}
+
+	/**
+	 * @param tokenIndex
+	 * @return a new <code>LineColumn</code> for the token or null if there is no location for the token
+	 */
+	public LineColumn getLineColumn(int tokenIndex) {
+		if (!hasLocation(tokenIndex)) {
+			return null;
+		}
+		return new LineColumn(lines[tokenIndex], columns[tokenIndex], lengths[tokenIndex]);
+	}
+
+	/**
+	 * @param from initial token index of the range, inclusive
+	 * @param to final token index of the range, exclusive - may be greater than the number of locations
+	 * @return the token locations in the range
+	 */
+	public TokenLocations copyOfRange(int from, int to) {
+		to = Math.min(to, size);
+		from = Math.min(from, to);
+		return new TokenLocations(Arrays.copyOfRange(lines, from, to),
+				Arrays.copyOfRange(columns, from, to), Arrays.copyOfRange(lengths, from, to));
+	}
+
+	/**
+	 * Add all of the locations to a map of token index to <code>LineColumn</code>
+	 * @param tokenToLocation
+	 */
+	public void addTo(Map<Integer, LineColumn> tokenToLocation) {
+		for (int i = 0; i < size; i++) {
+			tokenToLocation.put(i, new LineColumn(lines[i], columns[i], lengths[i]));
+		}
+	}
+
+	private void checkIndex(int tokenIndex) {
+		if (!hasLocation(tokenIndex)) {
+			throw new IndexOutOfBoundsException("No location for token "+tokenIndex);
+		}
+	}
+}
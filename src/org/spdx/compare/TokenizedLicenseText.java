@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.Arrays;
+
+/**
+ * License text broken into tokens.  Each token is represented by its text, its interned
+ * ID from the <code>LicenseTokenDictionary</code> and its location in the original text.
+ *
+ * Comparisons for equivalence should use the token IDs, confirming equal IDs which are not interned
+ * with <code>sameToken</code>.
+ *
+ * @author agent
+ *
+ */
+public class TokenizedLicenseText {
+
+	private final String[] tokens;
+	private final int[] tokenIds;
+	private final TokenLocations locations;
+
+	/**
+	 * @param tokens tokens as produced by <code>LicenseCompareHelper.tokenizeLicenseText</code>
+	 * @param locations locations of the tokens in the original text or null if the locations are not known
+	 */
+	public TokenizedLicenseText(String[] tokens, TokenLocations locations) {
+		this.tokens = tokens;
+		this.tokenIds = new int[tokens.length];
+		this.locations = locations;
+		for (int i = 0; i < tokens.length; i++) {
+			this.tokenIds[i] = LicenseTokenDictionary.getTokenId(tokens[i]);
+		}
+	}
+
+	/**
+	 * @param tokens tokens
+	 * @param tokenIds IDs for the tokens from the <code>LicenseTokenDictionary</code>
+	 * @param locations locations of the tokens in the original text or null if the locations are not known
+	 */
+	TokenizedLicenseText(String[] tokens, int[] tokenIds, TokenLocations locations) {
+		this.tokens = tokens;
+		this.tokenIds = tokenIds;
+		this.locations = locations;
+	}
+
+	/**
+	 * @return the number of tokens
+	 */
+	public int size() {
+		return tokens.length;
+	}
+
+	/**
+	 * @param index
+	 * @return the token at the index or null if the index is past the end of the text
+	 */
+	public String getToken(int index) {
+		return index < tokens.length ? tokens[index] : null;
+	}
+
+	/**
+	 * @param index
+	 * @return the ID of the token at the index or <code>LicenseTokenDictionary.NO_TOKEN</code> if the index is past the end of the text
+	 */
+	public int getTokenId(int index) {
+		return index < tokenIds.length ? tokenIds[index] : LicenseTokenDictionary.NO_TOKEN;
+	}
+
+	/**
+	 * @param index
+	 * @return the location of the token in the original text or null if not known
+	 */
+	public LineColumn getLocation(int index) {
+		return locations == null ? null : locations.getLineColumn(index);
+	}
+
+	/**
+	 * @return the locations of the tokens in the original text or null if not known
+	 */
+	public TokenLocations getLocations() {
+		return locations;
+	}
+
+	/**
+	 * @return the tokens
+	 */
+	public String[] getTokens() {
+		return tokens;
+	}
+
+	/**
+	 * @return the token IDs
+	 */
+	public int[] getTokenIds() {
+		return tokenIds;
+	}
+
+	/**
+	 * @param from initial index of the range, inclusive
+	 * @param to final index of the range, exclusive - may be greater than the number of tokens
+	 * @return the tokens in the range
+	 */
+	public TokenizedLicenseText copyOfRange(int from, int to) {
+		to = Math.min(to, tokens.length);
+		from = Math.min(from, to);
+		return new TokenizedLicenseText(Arrays.copyOfRange(tokens, from, to),
+				Arrays.copyOfRange(tokenIds, from, to), locations == null ? null : locations.copyOfRange(from, to));
+	}
+
+	/**
+	 * @param index index of the token in this text
+	 * @param other other tokenized text
+	 * @param otherIndex index of the token in the other text
+	 * @return true if the tokens are equivalent - false if either index is past the end of the text
+	 */
+	public boolean sameToken(int index, TokenizedLicenseText other, int otherIndex) {
+		if (index >= tokens.length || otherIndex >= other.tokens.length) {
+			return false;
+		}
+		return LicenseTokenDictionary.sameToken(tokenIds[index], tokens[index],
+				other.tokenIds[otherIndex], other.tokens[otherIndex]);
+	}
+}
@@ -3,16 +3,27 @@
  */
 package org.spdx.html;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.json.simple.JSONObject;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonParser;
+import com.google.common.collect.Lists;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Supports writing files in JSON format
@@ -27,26 +38,25 @@ public abstract class AbstractJsonFile {
 	 */
 	abstract protected JSONObject getJsonObject();
 
+	/**
+	 * Indent used for pretty-printing - matches the Gson pretty printing format
+	 */
+	private static final String INDENT = "  ";
+
 	/**
 	 * @param jsonFile File to write JSON data to
 	 * @throws IOException
 	 */
 	public void writeToFile(File jsonFile) throws IOException {
-		OutputStreamWriter writer = null;
 		if (!jsonFile.exists()) {
 			if (!jsonFile.createNewFile()) {
 				throw(new IOException("Can not create new file "+jsonFile.getName()));
 			}
 		}
+		Writer writer = null;
 		try {
-			// Use GSON to create a pretty-printed version of JSON
-			// TODO: We could just move this all from simple-JSON to GSON using a class to store
-			// the license data for GSON conversion
-			Gson gson = new GsonBuilder().setPrettyPrinting().create();
-			JsonParser jsonParser = new JsonParser();
-			String licenseJsonPretty = gson.toJson(jsonParser.parse(getJsonObject().toJSONString()));
-			writer = new OutputStreamWriter(new FileOutputStream(jsonFile), "UTF-8");
-			writer.write(licenseJsonPretty);
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(jsonFile), StandardCharsets.UTF_8));
+			writeJson(writer);
 		} finally {
 			if (writer != null) {
 				writer.close();
@@ -54,4 +64,103 @@ public abstract class AbstractJsonFile {
 		}
 	}
 
+	/**
+	 * Stream the pretty-printed JSON to a writer.  The output is identical to pretty-printing
+	 * the JSON string of the JSON object with Gson: HTML characters are escaped and
+	 * null values of object members are omitted.
+	 * @param writer Writer for the JSON data - flushed but not closed
+	 * @throws IOException
+	 */
+	public void writeJson(Writer writer) throws IOException {
+		JsonWriter jsonWriter = new JsonWriter(writer);
+		jsonWriter.setIndent(INDENT);
+		jsonWriter.setLenient(true);
+		jsonWriter.setHtmlSafe(true);
+		jsonWriter.setSerializeNulls(false);
+		writeValue(jsonWriter, getJsonObject());
+		jsonWriter.flush();
+	}
+
+	/**
+	 * Write a json-simple value using the same conversions as <code>JSONValue.toJSONString</code>
+	 * @param jsonWriter
+	 * @param value
+	 * @throws IOException
+	 */
+	private static void writeValue(JsonWriter jsonWriter, Object value) throws IOException {
+		if (value == null) {
+			jsonWriter.nullValue();
+		} else if (value instanceof String) {
+			jsonWriter.value((String)value);
+		} else if (value instanceof Double || value instanceof Float) {
+			double d = ((Number)value).doubleValue();
+			if (Double.isNaN(d) || Double.isInfinite(d)) {
+				jsonWriter.nullValue();
+			} else {
+				jsonWriter.value((Number)value);
+			}
+		} else if (value instanceof Number) {
+			jsonWriter.value((Number)value);
+		} else if (value instanceof Boolean) {
+			jsonWriter.value(((Boolean)value).booleanValue());
+		} else if (value instanceof Map) {
+			jsonWriter.beginObject();
+			for (Object entryObj:((Map<?, ?>)value).entrySet()) {
+				Entry<?, ?> entry = (Entry<?, ?>)entryObj;
+				jsonWriter.name(String.valueOf(entry.getKey()));
+				writeValue(jsonWriter, entry.getValue());
+			}
+			jsonWriter.endObject();
+		} else if (value instanceof Collection) {
+			jsonWriter.beginArray();
+			for (Object element:(Collection<?>)value) {
+				writeValue(jsonWriter, element);
+			}
+			jsonWriter.endArray();
+		} else if (value.getClass().isArray()) {
+			jsonWriter.beginArray();
+			int len = Array.getLength(value);
+			for (int i = 0; i < len; i++) {
+				writeValue(jsonWriter, Array.get(value, i));
+			}
+			jsonWriter.endArray();
+		} else {
+			jsonWriter.value(value.toString());
+		}
+	}
+
+	/**
+	 * Write a set of JSON files in parallel using one thread per available processor
+	 * @param jsonFiles Map of the file to write to the JSON data to be written to the file
+	 * @throws IOException if any of the files could not be written
+	 */
+	public static void writeToFiles(Map<File, ? extends AbstractJsonFile> jsonFiles) throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1,
+				Math.min(Runtime.getRuntime().availableProcessors(), jsonFiles.size())));
+		try {
+			List<Future<Void>> results = Lists.newArrayList();
+			for (final Entry<File, ? extends AbstractJsonFile> entry:jsonFiles.entrySet()) {
+				results.add(executor.submit(() -> {
+					entry.getValue().writeToFile(entry.getKey());
+					return null;
+				}));
+			}
+			for (Future<Void> result:results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof IOException) {
+						throw (IOException)e.getCause();
+					}
+					throw new IOException("Error writing JSON file", e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted writing JSON files", e);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 }
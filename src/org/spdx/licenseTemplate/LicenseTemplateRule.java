@@ -120,6 +120,18 @@ public class LicenseTemplateRule {
 		validate();
 	}
 
+	/**
+	 * Create a copy of a license template rule
+	 * @param rule rule to copy
+	 */
+	public LicenseTemplateRule(LicenseTemplateRule rule) {
+		this.type = rule.type;
+		this.original = rule.original;
+		this.name = rule.name;
+		this.example = rule.example;
+		this.match = rule.match;
+	}
+
 	/**
 	 * Parse a license template rule string compliant with the SPDX license template text and
 	 * replace all properties with the parsed values
@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.licenseTemplate;
+
+import java.util.List;
+
+import org.spdx.rdfparser.license.LicenseParserException;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * Immutable parsed form of a license template consisting of text, variable rule and optional nodes.
+ * Optional nodes contain the nodes between the begin optional and the matching end optional rule.
+ *
+ * The parsed template can be replayed against any <code>ILicenseTemplateOutputHandler</code>
+ * producing the same calls as parsing the template text.  Each replay passes copies of the rules
+ * to the output handler so that output handlers may modify the rules.
+ *
+ * The template is parsed by a single scan of the template text which finds the same rules as
+ * <code>SpdxLicenseTemplateHelper.RULE_PATTERN</code>.
+ *
+ * @author agent
+ *
+ */
+public class ParsedLicenseTemplate {
+
+	/**
+	 * Node of a parsed license template
+	 */
+	public static abstract class TemplateNode {
+		abstract void replay(ILicenseTemplateOutputHandler templateOutputHandler);
+	}
+
+	/**
+	 * Text found in the template outside of any rules
+	 */
+	public static class TextNode extends TemplateNode {
+		private final String text;
+
+		TextNode(String text) {
+			this.text = text;
+		}
+
+		/**
+		 * @return the text
+		 */
+		public String getText() {
+			return text;
+		}
+
+		@Override
+		void replay(ILicenseTemplateOutputHandler templateOutputHandler) {
+			templateOutputHandler.text(text);
+		}
+	}
+
+	/**
+	 * Variable rule
+	 */
+	public static class VariableNode extends TemplateNode {
+		private final LicenseTemplateRule rule;
+
+		VariableNode(LicenseTemplateRule rule) {
+			this.rule = rule;
+		}
+
+		/**
+		 * @return a copy of the variable rule
+		 */
+		public LicenseTemplateRule getRule() {
+			return new LicenseTemplateRule(rule);
+		}
+
+		@Override
+		void replay(ILicenseTemplateOutputHandler templateOutputHandler) {
+			templateOutputHandler.variableRule(new LicenseTemplateRule(rule));
+		}
+	}
+
+	/**
+	 * Optional text including all nodes between the begin optional and end optional rules
+	 */
+	public static class OptionalNode extends TemplateNode {
+		private final LicenseTemplateRule beginRule;
+		private final LicenseTemplateRule endRule;
+		private final ImmutableList<TemplateNode> children;
+
+		OptionalNode(LicenseTemplateRule beginRule, LicenseTemplateRule endRule, List<TemplateNode> children) {
+			this.beginRule = beginRule;
+			this.endRule = endRule;
+			this.children = ImmutableList.copyOf(children);
+		}
+
+		/**
+		 * @return a copy of the begin optional rule
+		 */
+		public LicenseTemplateRule getBeginRule() {
+			return new LicenseTemplateRule(beginRule);
+		}
+
+		/**
+		 * @return a copy of the end optional rule
+		 */
+		public LicenseTemplateRule getEndRule() {
+			return new LicenseTemplateRule(endRule);
+		}
+
+		/**
+		 * @return the nodes within the optional text
+		 */
+		public List<TemplateNode> getChildren() {
+			return children;
+		}
+
+		@Override
+		void replay(ILicenseTemplateOutputHandler templateOutputHandler) {
+			templateOutputHandler.beginOptional(new LicenseTemplateRule(beginRule));
+			for (TemplateNode child:children) {
+				child.replay(templateOutputHandler);
+			}
+			templateOutputHandler.endOptional(new LicenseTemplateRule(endRule));
+		}
+	}
+
+	/**
+	 * Partially parsed optional node
+	 */
+	private static class OpenOptional {
+		LicenseTemplateRule beginRule;
+		List<TemplateNode> children = Lists.newArrayList();
+		OpenOptional(LicenseTemplateRule beginRule) {
+			this.beginRule = beginRule;
+		}
+	}
+
+	private static final String[] RULE_KEYWORDS = new String[] {"beginOptional", "endOptional", "var"};
+
+	private final ImmutableList<TemplateNode> nodes;
+
+	private ParsedLicenseTemplate(List<TemplateNode> nodes) {
+		this.nodes = ImmutableList.copyOf(nodes);
+	}
+
+	/**
+	 * @return the top level nodes of the template
+	 */
+	public List<TemplateNode> getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Replay the parsed template calling the templateOutputHandler for all text and rules
+	 * @param templateOutputHandler Handles the text, optional text, and variable rules text found
+	 * @throws LicenseParserException
+	 */
+	public void replay(ILicenseTemplateOutputHandler templateOutputHandler) throws LicenseParserException {
+		for (TemplateNode node:nodes) {
+			node.replay(templateOutputHandler);
+		}
+		templateOutputHandler.completeParsing();
+	}
+
+	/**
+	 * Parse a license template
+	 * @param licenseTemplate License template to be parsed
+	 * @return the parsed template
+	 * @throws LicenseTemplateRuleException if the template contains an invalid rule or unbalanced optional rules
+	 */
+	public static ParsedLicenseTemplate parse(String licenseTemplate) throws LicenseTemplateRuleException {
+		List<TemplateNode> topLevel = Lists.newArrayList();
+		List<OpenOptional> openOptionals = Lists.newArrayList();
+		int len = licenseTemplate.length();
+		int end = 0;	// end of the last rule found
+		int nextRuleEnd = -1;	// cached position of the next END_RULE
+		int nextLineTerminator = -1;	// cached position of the next character not matched by the rule pattern
+		int pos = licenseTemplate.indexOf(SpdxLicenseTemplateHelper.START_RULE);
+		while (pos >= 0) {
+			int ruleStart = pos + SpdxLicenseTemplateHelper.START_RULE.length();
+			while (ruleStart < len && isWhitespace(licenseTemplate.charAt(ruleStart))) {
+				ruleStart++;
+			}
+			int keywordEnd = keywordEnd(licenseTemplate, ruleStart);
+			if (keywordEnd < 0) {
+				pos = licenseTemplate.indexOf(SpdxLicenseTemplateHelper.START_RULE, pos + 1);
+				continue;
+			}
+			if (nextRuleEnd < keywordEnd) {
+				nextRuleEnd = licenseTemplate.indexOf(SpdxLicenseTemplateHelper.END_RULE, keywordEnd);
+				if (nextRuleEnd < 0) {
+					break;	// no more rules can be found
+				}
+			}
+			if (nextLineTerminator < keywordEnd) {
+				nextLineTerminator = nextUnmatchedChar(licenseTemplate, keywordEnd);
+			}
+			if (nextLineTerminator < nextRuleEnd) {
+				// the rule text can not span these characters
+				pos = licenseTemplate.indexOf(SpdxLicenseTemplateHelper.START_RULE, pos + 1);
+				continue;
+			}
+			int ruleTextEnd = nextRuleEnd;
+			while (ruleTextEnd > keywordEnd && isWhitespace(licenseTemplate.charAt(ruleTextEnd - 1))) {
+				ruleTextEnd--;
+			}
+			String upToTheFind = licenseTemplate.substring(end, pos);
+			List<TemplateNode> current = openOptionals.isEmpty() ? topLevel : openOptionals.get(openOptionals.size()-1).children;
+			if (!upToTheFind.trim().isEmpty()) {
+				current.add(new TextNode(upToTheFind));
+			}
+			end = nextRuleEnd + SpdxLicenseTemplateHelper.END_RULE.length();
+			LicenseTemplateRule rule = new LicenseTemplateRule(licenseTemplate.substring(ruleStart, ruleTextEnd));
+			if (rule.getType() == LicenseTemplateRule.RuleType.VARIABLE) {
+				current.add(new VariableNode(rule));
+			} else if (rule.getType() == LicenseTemplateRule.RuleType.BEGIN_OPTIONAL) {
+				openOptionals.add(new OpenOptional(rule));
+			} else if (rule.getType() == LicenseTemplateRule.RuleType.END_OPTIONAL) {
+				if (openOptionals.isEmpty()) {
+					throw(new LicenseTemplateRuleException("End optional rule found without a matching begin optional rule after text '"+upToTheFind+"'"));
+				}
+				OpenOptional closed = openOptionals.remove(openOptionals.size()-1);
+				List<TemplateNode> parent = openOptionals.isEmpty() ? topLevel : openOptionals.get(openOptionals.size()-1).children;
+				parent.add(new OptionalNode(closed.beginRule, rule, closed.children));
+			} else {
+				throw(new LicenseTemplateRuleException("Unrecognized rule: "+rule.getType().toString()+" after text '"+upToTheFind+"'"));
+			}
+			pos = licenseTemplate.indexOf(SpdxLicenseTemplateHelper.START_RULE, end);
+		}
+		if (!openOptionals.isEmpty()) {
+			throw(new LicenseTemplateRuleException("Missing EndOptional rule and end of text"));
+		}
+		// copy the rest of the template to the end
+		if (end < len) {
+			topLevel.add(new TextNode(licenseTemplate.substring(end)));
+		}
+		return new ParsedLicenseTemplate(topLevel);
+	}
+
+	/**
+	 * @param template
+	 * @param start
+	 * @return the end of the rule keyword starting at start or -1 if there is no rule keyword at start
+	 */
+	private static int keywordEnd(String template, int start) {
+		for (String keyword:RULE_KEYWORDS) {
+			if (template.startsWith(keyword, start)) {
+				return start + keyword.length();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param c
+	 * @return true if the character is whitespace as defined by the regular expression \s
+	 */
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * @param template
+	 * @param start
+	 * @return the position of the next character at or after start which is neither matched by . nor \s in
+	 * a regular expression or the length of the template if there is no such character
+	 */
+	private static int nextUnmatchedChar(String template, int start) {
+		for (int i = start; i < template.length(); i++) {
+			char c = template.charAt(i);
+			if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return i;
+			}
+		}
+		return template.length();
+	}
+}
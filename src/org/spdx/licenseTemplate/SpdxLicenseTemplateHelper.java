@@ -16,15 +16,18 @@
 */
 package org.spdx.licenseTemplate;
 
-import java.util.regex.Matcher;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 
-
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.spdx.rdfparser.license.LicenseParserException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 /**
  * Implements common conversion methods for processing SPDX license templates
  * @author Gary O'Neall
@@ -39,6 +42,17 @@ public class SpdxLicenseTemplateHelper {
 	private static final int MAX_TABS = 4;
 	private static final int[] PIXELS_PER_TAB = new int[] {20, 40, 60, 70};
 
+	/**
+	 * Maximum number of parsed templates kept in the cache
+	 */
+	private static final int MAX_CACHED_TEMPLATES = 2000;
+
+	/**
+	 * Cache of license template text to the parsed template
+	 */
+	private static final Cache<String, ParsedLicenseTemplate> parsedTemplateCache =
+			CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TEMPLATES).build();
+
 	/**
 	 * Parses the license template calling the templateOutputHandler for any text and rules found
 	 * @param licenseTemplate License template to be parsed
@@ -47,42 +61,29 @@ public class SpdxLicenseTemplateHelper {
 	 */
 	public static void parseTemplate(String licenseTemplate,
 			ILicenseTemplateOutputHandler templateOutputHandler) throws LicenseTemplateRuleException, LicenseParserException {
-		Matcher ruleMatcher = RULE_PATTERN.matcher(licenseTemplate);
-		int end = 0;
-		int optionalNestLevel = 0;
-		while (ruleMatcher.find()) {
-			// copy everything up to the start of the find
-			String upToTheFind = licenseTemplate.substring(end, ruleMatcher.start());
-			if (!upToTheFind.trim().isEmpty()) {
-				templateOutputHandler.text(upToTheFind);
+		getParsedTemplate(licenseTemplate).replay(templateOutputHandler);
+	}
+
+	/**
+	 * Get the parsed license template, parsing the template only if it has not been recently parsed
+	 * @param licenseTemplate License template to be parsed
+	 * @return the parsed license template
+	 * @throws LicenseTemplateRuleException
+	 */
+	public static ParsedLicenseTemplate getParsedTemplate(final String licenseTemplate) throws LicenseTemplateRuleException {
+		try {
+			return parsedTemplateCache.get(licenseTemplate, () -> ParsedLicenseTemplate.parse(licenseTemplate));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof LicenseTemplateRuleException) {
+				throw (LicenseTemplateRuleException)e.getCause();
 			}
-			end = ruleMatcher.end();
-			String ruleString = ruleMatcher.group(1);
-			LicenseTemplateRule rule = new LicenseTemplateRule(ruleString);
-			if (rule.getType() == LicenseTemplateRule.RuleType.VARIABLE) {
-				templateOutputHandler.variableRule(rule);
-			} else if (rule.getType() == LicenseTemplateRule.RuleType.BEGIN_OPTIONAL) {
-				templateOutputHandler.beginOptional(rule);
-				optionalNestLevel++;
-			} else if (rule.getType() == LicenseTemplateRule.RuleType.END_OPTIONAL) {
-				optionalNestLevel--;
-				if (optionalNestLevel < 0) {
-					throw(new LicenseTemplateRuleException("End optional rule found without a matching begin optional rule after text '"+upToTheFind+"'"));
-				}
-				templateOutputHandler.endOptional(rule);
-			} else {
-				throw(new LicenseTemplateRuleException("Unrecognized rule: "+rule.getType().toString()+" after text '"+upToTheFind+"'"));
+			throw new LicenseTemplateRuleException("Error parsing license template", e.getCause());
+		} catch (UncheckedExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
 			}
+			throw e;
 		}
-		if (optionalNestLevel > 0) {
-			throw(new LicenseTemplateRuleException("Missing EndOptional rule and end of text"));
-		}
-		// copy the rest of the template to the end
-		String restOfTemplate = licenseTemplate.substring(end);
-		if (!restOfTemplate.isEmpty()) {
-			templateOutputHandler.text(restOfTemplate);
-		}
-		templateOutputHandler.completeParsing();
 	}
 
 	/**
@@ -0,0 +1,509 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.merge;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.spdx.compare.LicenseCompareHelper;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.JavaSha1ChecksumGenerator;
+import org.spdx.rdfparser.SPDXCreatorInformation;
+import org.spdx.rdfparser.SPDXReview;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.VerificationCodeGenerator;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ConjunctiveLicenseSet;
+import org.spdx.rdfparser.license.DisjunctiveLicenseSet;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.OrLaterOperator;
+import org.spdx.rdfparser.license.SimpleLicensingInfo;
+import org.spdx.rdfparser.license.WithExceptionOperator;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.ExternalRef;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxItem;
+import org.spdx.rdfparser.model.SpdxPackage;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Merges SPDX documents into a single output document one input document at a time.
+ *
+ * Unlike the <code>SpdxFileInfoMerger</code>, <code>SpdxPackageInfoMerger</code> and
+ * <code>SpdxLicenseInfoMerger</code> which require all of the input documents (and clones
+ * of all of their files, packages and licenses) to be in memory at the same time, this
+ * merger copies the content of each input document directly into the output container
+ * when <code>merge</code> is called.  Once <code>merge</code> returns, the input document
+ * is no longer referenced and can be released by the caller.
+ *
+ * Duplicate extracted licenses and files are detected using hash indexes which only
+ * hold fingerprints and SPDX IDs rather than the license or file objects:
+ * - Extracted licenses are bucketed by <code>LicenseCompareHelper.licenseTextFingerprint</code>
+ *   and only licenses in the same bucket are compared for equivalent text
+ * - Files are keyed by the file name and SHA1 checksum
+ * - Packages are keyed by the package name and version
+ *
+ * The first document merged is treated as the master document - the document level
+ * properties (creation information, comment, data license and spec version) are
+ * copied from the master document into the output document.
+ *
+ * @author agent
+ *
+ */
+public class SpdxStreamingMerger {
+
+	private SpdxDocumentContainer output;
+	private SpdxDocument outputDoc;
+	private boolean masterMerged = false;
+
+	/**
+	 * Map of extracted license text fingerprint to the IDs of the output licenses with that fingerprint
+	 */
+	private Map<Long, List<String>> licenseFingerprintIndex = Maps.newHashMap();
+	/**
+	 * Map of file name and checksum key (see <code>fileKey</code>) to the output file SPDX ID
+	 */
+	private Map<String, String> fileIndex = Maps.newHashMap();
+	/**
+	 * Map of package name and version key to the output package SPDX ID
+	 */
+	private Map<String, String> packageIndex = Maps.newHashMap();
+	/**
+	 * Output package SPDX IDs for packages which had files from more than one input document
+	 * and need their verification codes regenerated
+	 */
+	private Set<String> mergedPackageIds = Sets.newHashSet();
+	/**
+	 * Output package SPDX ID to the excluded file names from all the merged packages
+	 */
+	private Map<String, Set<String>> excludedFileNames = Maps.newHashMap();
+	/**
+	 * Keys of package ID and file ID for the files already added to an output package
+	 */
+	private Set<String> packageFileKeys = Sets.newHashSet();
+
+	private int numFilesMerged = 0;
+	private int numDuplicateFiles = 0;
+
+	/**
+	 * @param output container for the merged document
+	 */
+	public SpdxStreamingMerger(SpdxDocumentContainer output) {
+		this.output = output;
+		this.outputDoc = output.getSpdxDocument();
+	}
+
+	/**
+	 * Merge all of the extracted licenses, packages and files from the input document into
+	 * the output document.  The first document merged is considered the master document.
+	 * @param doc document to merge
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void merge(SpdxDocument doc) throws InvalidSPDXAnalysisException {
+		if (!masterMerged) {
+			copyDocumentInfo(doc);
+			masterMerged = true;
+		}
+		Map<String, String> licenseIdMap = mergeExtractedLicenses(doc);
+		Set<String> packagedFileIds = Sets.newHashSet();
+		Set<String> describedIds = Sets.newHashSet();
+		for (SpdxItem described:doc.getDocumentDescribes()) {
+			describedIds.add(described.getId());
+		}
+		for (SpdxPackage pkg:doc.getDocumentContainer().findAllPackages()) {
+			mergePackage(pkg, licenseIdMap, describedIds.contains(pkg.getId()), packagedFileIds);
+		}
+		for (SpdxFile file:doc.getDocumentContainer().findAllFiles()) {
+			if (!packagedFileIds.contains(file.getId())) {
+				SpdxFile outputFile = mergeFile(file, licenseIdMap);
+				if (describedIds.contains(file.getId()) && outputFile != null) {
+					outputDoc.addRelationship(new Relationship(outputFile, RelationshipType.DESCRIBES, ""));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Complete the merge by regenerating the verification codes for any packages
+	 * which contain files from more than one input document.
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void finish() throws InvalidSPDXAnalysisException {
+		VerificationCodeGenerator generator;
+		try {
+			generator = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+		} catch (NoSuchAlgorithmException e) {
+			throw new InvalidSPDXAnalysisException("Unable to create the verification code generator", e);
+		}
+		for (String pkgId:mergedPackageIds) {
+			SpdxElement element = output.findElementById(pkgId);
+			if (!(element instanceof SpdxPackage)) {
+				continue;
+			}
+			SpdxPackage pkg = (SpdxPackage)element;
+			if (!pkg.isFilesAnalyzed() || pkg.getPackageVerificationCode() == null) {
+				continue;
+			}
+			Set<String> excluded = excludedFileNames.get(pkgId);
+			String[] excludedArray = excluded == null ? new String[0] : excluded.toArray(new String[excluded.size()]);
+			try {
+				SpdxPackageVerificationCode code = generator.generatePackageVerificationCode(pkg.getFiles(), excludedArray);
+				pkg.setPackageVerificationCode(code);
+			} catch (NoSuchAlgorithmException e) {
+				throw new InvalidSPDXAnalysisException("Unable to generate verification code for merged package "+pkg.getName(), e);
+			}
+		}
+		mergedPackageIds.clear();
+	}
+
+	/**
+	 * @return the number of files added to the output document
+	 */
+	public int getNumFilesMerged() {
+		return numFilesMerged;
+	}
+
+	/**
+	 * @return the number of files found to be duplicates of files already in the output document
+	 */
+	public int getNumDuplicateFiles() {
+		return numDuplicateFiles;
+	}
+
+	/**
+	 * Copy the document level information from the master document
+	 * @param master
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void copyDocumentInfo(SpdxDocument master) throws InvalidSPDXAnalysisException {
+		outputDoc.setReviewers(new SPDXReview[0]);
+		outputDoc.setSpecVersion(master.getSpecVersion());
+		SPDXCreatorInformation creationInfo = master.getCreationInfo();
+		if (creationInfo != null) {
+			outputDoc.setCreationInfo(new SPDXCreatorInformation(creationInfo.getCreators(),
+					creationInfo.getCreated(), creationInfo.getComment(),
+					creationInfo.getLicenseListVersion()));
+		}
+		outputDoc.setComment(master.getComment());
+		AnyLicenseInfo dataLicense = master.getDataLicense();
+		if (dataLicense != null) {
+			outputDoc.setDataLicense(dataLicense.clone());
+		}
+	}
+
+	/**
+	 * Add any extracted licenses in the document not already in the output document
+	 * @param doc
+	 * @return a map of the input document license IDs to the output document license IDs
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private Map<String, String> mergeExtractedLicenses(SpdxDocument doc) throws InvalidSPDXAnalysisException {
+		Map<String, String> retval = Maps.newHashMap();
+		for (ExtractedLicenseInfo license:doc.getExtractedLicenseInfos()) {
+			long fingerprint = LicenseCompareHelper.licenseTextFingerprint(license.getExtractedText());
+			List<String> bucket = licenseFingerprintIndex.get(fingerprint);
+			String matchingId = null;
+			if (bucket != null) {
+				for (String candidateId:bucket) {
+					ExtractedLicenseInfo candidate = output.getExtractedLicense(candidateId);
+					if (candidate != null && LicenseCompareHelper.isLicenseTextEquivalent(
+							license.getExtractedText(), candidate.getExtractedText())) {
+						matchingId = candidateId;
+						break;
+					}
+				}
+			} else {
+				bucket = Lists.newArrayList();
+				licenseFingerprintIndex.put(fingerprint, bucket);
+			}
+			if (matchingId == null) {
+				matchingId = license.getLicenseId();
+				while (output.extractedLicenseExists(matchingId)) {
+					matchingId = output.getNextLicenseRef();
+				}
+				ExtractedLicenseInfo outputLicense = new ExtractedLicenseInfo(matchingId,
+						license.getExtractedText(), license.getName(), license.getSeeAlso(),
+						license.getComment());
+				output.addExtractedLicenseInfos(outputLicense);
+				bucket.add(matchingId);
+			}
+			retval.put(license.getLicenseId(), matchingId);
+		}
+		return retval;
+	}
+
+	/**
+	 * Merge a package and all of its files into the output document
+	 * @param pkg
+	 * @param licenseIdMap
+	 * @param described true if the package is described by the input document
+	 * @param packagedFileIds updated with the IDs of all files in the input package
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void mergePackage(SpdxPackage pkg, Map<String, String> licenseIdMap,
+			boolean described, Set<String> packagedFileIds) throws InvalidSPDXAnalysisException {
+		String key = packageKey(pkg);
+		String outputPkgId = packageIndex.get(key);
+		SpdxPackage outputPkg;
+		if (outputPkgId == null) {
+			outputPkg = copyPackage(pkg, licenseIdMap);
+			output.addElement(outputPkg);
+			outputPkgId = outputPkg.getId();
+			packageIndex.put(key, outputPkgId);
+			if (described) {
+				outputDoc.addRelationship(new Relationship(outputPkg, RelationshipType.DESCRIBES, ""));
+			}
+		} else {
+			outputPkg = (SpdxPackage)output.findElementById(outputPkgId);
+			mergedPackageIds.add(outputPkgId);
+			AnyLicenseInfo[] existing = outputPkg.getLicenseInfoFromFiles();
+			List<AnyLicenseInfo> merged = Lists.newArrayList(existing);
+			for (AnyLicenseInfo lic:pkg.getLicenseInfoFromFiles()) {
+				AnyLicenseInfo mapped = mapLicense(lic, licenseIdMap);
+				if (!merged.contains(mapped)) {
+					merged.add(mapped);
+				}
+			}
+			if (merged.size() != existing.length) {
+				outputPkg.setLicenseInfosFromFiles(merged.toArray(new AnyLicenseInfo[merged.size()]));
+			}
+		}
+		SpdxPackageVerificationCode verificationCode = pkg.getPackageVerificationCode();
+		if (verificationCode != null && verificationCode.getExcludedFileNames() != null) {
+			Set<String> excluded = excludedFileNames.get(outputPkgId);
+			if (excluded == null) {
+				excluded = Sets.newTreeSet();
+				excludedFileNames.put(outputPkgId, excluded);
+			}
+			for (String excludedName:verificationCode.getExcludedFileNames()) {
+				excluded.add(excludedName);
+			}
+		}
+		for (SpdxFile file:pkg.getFiles()) {
+			packagedFileIds.add(file.getId());
+			SpdxFile outputFile = mergeFile(file, licenseIdMap);
+			if (outputFile != null && packageFileKeys.add(outputPkgId + "/" + outputFile.getId())) {
+				outputPkg.addFile(outputFile);
+			}
+		}
+	}
+
+	/**
+	 * Add the file to the output document if it is not already present
+	 * @param file
+	 * @param licenseIdMap
+	 * @return the output document file
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private SpdxFile mergeFile(SpdxFile file, Map<String, String> licenseIdMap) throws InvalidSPDXAnalysisException {
+		String key = fileKey(file);
+		String outputFileId = fileIndex.get(key);
+		if (outputFileId != null) {
+			numDuplicateFiles++;
+			SpdxFile outputFile = (SpdxFile)output.findElementById(outputFileId);
+			DoapProject[] subArtifactOf = file.getArtifactOf();
+			if (subArtifactOf != null && subArtifactOf.length > 0) {
+				List<DoapProject> merged = Lists.newArrayList(outputFile.getArtifactOf());
+				int existingCount = merged.size();
+				for (DoapProject project:subArtifactOf) {
+					if (!merged.contains(project)) {
+						merged.add(project.clone());
+					}
+				}
+				if (merged.size() != existingCount) {
+					outputFile.setArtifactOf(merged.toArray(new DoapProject[merged.size()]));
+				}
+			}
+			return outputFile;
+		}
+		SpdxFile outputFile = copyFile(file, licenseIdMap);
+		output.addElement(outputFile);
+		fileIndex.put(key, outputFile.getId());
+		numFilesMerged++;
+		return outputFile;
+	}
+
+	/**
+	 * Create a copy of the file without any relationships replacing the extracted license references
+	 * @param file
+	 * @param licenseIdMap
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private SpdxFile copyFile(SpdxFile file, Map<String, String> licenseIdMap) throws InvalidSPDXAnalysisException {
+		Checksum[] checksums = file.getChecksums();
+		Checksum[] clonedChecksums = new Checksum[checksums.length];
+		for (int i = 0; i < checksums.length; i++) {
+			clonedChecksums[i] = checksums[i].clone();
+		}
+		DoapProject[] artifactOf = file.getArtifactOf();
+		DoapProject[] clonedArtifactOf = new DoapProject[artifactOf.length];
+		for (int i = 0; i < artifactOf.length; i++) {
+			clonedArtifactOf[i] = artifactOf[i].clone();
+		}
+		SpdxFile retval = new SpdxFile(file.getName(), file.getComment(),
+				cloneAnnotations(file.getAnnotations()), new Relationship[0],
+				mapLicense(file.getLicenseConcluded(), licenseIdMap),
+				mapLicenses(file.getLicenseInfoFromFiles(), licenseIdMap),
+				file.getCopyrightText(), file.getLicenseComments(), file.getFileTypes(),
+				clonedChecksums, file.getFileContributors(), file.getNoticeText(),
+				clonedArtifactOf);
+		retval.setAttributionText(file.getAttributionText());
+		return retval;
+	}
+
+	/**
+	 * Create a copy of the package without any files or relationships replacing the extracted license references
+	 * @param pkg
+	 * @param licenseIdMap
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private SpdxPackage copyPackage(SpdxPackage pkg, Map<String, String> licenseIdMap) throws InvalidSPDXAnalysisException {
+		Checksum[] checksums = pkg.getChecksums();
+		Checksum[] clonedChecksums = new Checksum[checksums.length];
+		for (int i = 0; i < checksums.length; i++) {
+			clonedChecksums[i] = checksums[i].clone();
+		}
+		ExternalRef[] externalRefs = pkg.getExternalRefs();
+		ExternalRef[] clonedExternalRefs = null;
+		if (externalRefs != null) {
+			clonedExternalRefs = new ExternalRef[externalRefs.length];
+			for (int i = 0; i < externalRefs.length; i++) {
+				clonedExternalRefs[i] = externalRefs[i].clone();
+			}
+		}
+		SpdxPackageVerificationCode verificationCode = pkg.getPackageVerificationCode();
+		if (verificationCode != null) {
+			verificationCode = new SpdxPackageVerificationCode(verificationCode.getValue(),
+					verificationCode.getExcludedFileNames());
+		}
+		return new SpdxPackage(pkg.getName(), pkg.getComment(),
+				cloneAnnotations(pkg.getAnnotations()), new Relationship[0],
+				mapLicense(pkg.getLicenseConcluded(), licenseIdMap),
+				mapLicenses(pkg.getLicenseInfoFromFiles(), licenseIdMap),
+				pkg.getCopyrightText(), pkg.getLicenseComments(),
+				mapLicense(pkg.getLicenseDeclared(), licenseIdMap), clonedChecksums,
+				pkg.getDescription(), pkg.getDownloadLocation(), new SpdxFile[0],
+				pkg.getHomepage(), pkg.getOriginator(), pkg.getPackageFileName(),
+				verificationCode, pkg.getSourceInfo(), pkg.getSummary(),
+				pkg.getSupplier(), pkg.getVersionInfo(), pkg.isFilesAnalyzed(),
+				clonedExternalRefs, pkg.getAttributionText());
+	}
+
+	private Annotation[] cloneAnnotations(Annotation[] annotations) {
+		if (annotations == null) {
+			return new Annotation[0];
+		}
+		Annotation[] retval = new Annotation[annotations.length];
+		for (int i = 0; i < annotations.length; i++) {
+			retval[i] = annotations[i].clone();
+		}
+		return retval;
+	}
+
+	private AnyLicenseInfo[] mapLicenses(AnyLicenseInfo[] licenses, Map<String, String> licenseIdMap) throws InvalidSPDXAnalysisException {
+		if (licenses == null) {
+			return null;
+		}
+		AnyLicenseInfo[] retval = new AnyLicenseInfo[licenses.length];
+		for (int i = 0; i < licenses.length; i++) {
+			retval[i] = mapLicense(licenses[i], licenseIdMap);
+		}
+		return retval;
+	}
+
+	/**
+	 * Copy a license replacing any extracted licenses with the output document extracted licenses
+	 * @param license
+	 * @param licenseIdMap map of input license IDs to output license IDs
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private AnyLicenseInfo mapLicense(AnyLicenseInfo license, Map<String, String> licenseIdMap) throws InvalidSPDXAnalysisException {
+		if (license == null) {
+			return null;
+		} else if (license instanceof ConjunctiveLicenseSet) {
+			return new ConjunctiveLicenseSet(mapLicenses(((ConjunctiveLicenseSet)license).getMembers(), licenseIdMap));
+		} else if (license instanceof DisjunctiveLicenseSet) {
+			return new DisjunctiveLicenseSet(mapLicenses(((DisjunctiveLicenseSet)license).getMembers(), licenseIdMap));
+		} else if (license instanceof WithExceptionOperator) {
+			WithExceptionOperator with = (WithExceptionOperator)license;
+			return new WithExceptionOperator(mapLicense(with.getLicense(), licenseIdMap),
+					with.getException() == null ? null : with.getException().clone());
+		} else if (license instanceof OrLaterOperator) {
+			AnyLicenseInfo mapped = mapLicense(((OrLaterOperator)license).getLicense(), licenseIdMap);
+			return new OrLaterOperator((SimpleLicensingInfo)mapped);
+		} else if (license instanceof ExtractedLicenseInfo) {
+			String id = ((ExtractedLicenseInfo)license).getLicenseId();
+			String outputId = licenseIdMap.get(id);
+			if (outputId != null) {
+				ExtractedLicenseInfo outputLicense = output.getExtractedLicense(outputId);
+				if (outputLicense != null) {
+					return outputLicense;
+				}
+			}
+			return license.clone();
+		} else {
+			return license.clone();
+		}
+	}
+
+	/**
+	 * @param file
+	 * @return key of the file name and SHA1.  If the file has no SHA1, the first other checksum
+	 * (in algorithm order) is used and if there is no checksum at all, the file name alone is the key
+	 */
+	private static String fileKey(SpdxFile file) {
+		String name = file.getName() == null ? "" : file.getName();
+		String sha1 = file.getSha1();
+		if (sha1 != null && !sha1.isEmpty()) {
+			return name + "\u0000" + sha1.toLowerCase();
+		}
+		Checksum[] checksums = file.getChecksums();
+		if (checksums != null) {
+			for (ChecksumAlgorithm algorithm:ChecksumAlgorithm.values()) {
+				for (Checksum checksum:checksums) {
+					if (checksum != null && algorithm.equals(checksum.getAlgorithm()) &&
+							checksum.getValue() != null && !checksum.getValue().isEmpty()) {
+						return name + "\u0000" + algorithm.toString() + "\u0000" + checksum.getValue().toLowerCase();
+					}
+				}
+			}
+		}
+		return name;
+	}
+
+	private static String packageKey(SpdxPackage pkg) {
+		String name = pkg.getName() == null ? "" : pkg.getName().toLowerCase();
+		String version = pkg.getVersionInfo() == null ? "" : pkg.getVersionInfo();
+		return name + "\u0000" + version;
+	}
+}
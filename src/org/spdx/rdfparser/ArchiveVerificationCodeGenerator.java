@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Predicate;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveException;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.ArchiveStreamFactory;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Generates a package verification code and the file checksums directly from an archive
+ * without extracting the archive.
+ *
+ * Supports the archive formats supported by commons-compress including tar, zip and jar optionally
+ * compressed with gzip, bzip2 or xz.  The entries are read in a single pass over the archive and
+ * each entry is read once computing the SHA1 and any additional checksums at the same time.
+ *
+ * File names are the entry names normalized using <code>VerificationCodeGenerator.normalizeFilePath</code>.
+ * Directories, symbolic links and other entries which are not regular files are ignored.  If an
+ * archive contains more than one entry with the same normalized name, the last entry is used as it
+ * would be when the archive is extracted.
+ *
+ * Tar hard links are included as regular files with the checksums of the link target.  As with
+ * extraction, the target must be a regular file which appears earlier in the archive.
+ *
+ * @author agent
+ *
+ */
+public class ArchiveVerificationCodeGenerator {
+
+	/**
+	 * Java message digest algorithm names for the supported checksum algorithms
+	 */
+	static final Map<ChecksumAlgorithm, String> DIGEST_ALGORITHMS = ImmutableMap.<ChecksumAlgorithm, String>builder()
+			.put(ChecksumAlgorithm.checksumAlgorithm_sha1, "SHA-1")
+			.put(ChecksumAlgorithm.checksumAlgorithm_sha224, "SHA-224")
+			.put(ChecksumAlgorithm.checksumAlgorithm_sha256, "SHA-256")
+			.put(ChecksumAlgorithm.checksumAlgorithm_sha384, "SHA-384")
+			.put(ChecksumAlgorithm.checksumAlgorithm_sha512, "SHA-512")
+			.put(ChecksumAlgorithm.checksumAlgorithm_md5, "MD5")
+			.put(ChecksumAlgorithm.checksumAlgorithm_md2, "MD2")
+			.build();
+
+	private static final int BUFFER_SIZE = 65536;
+
+	/**
+	 * Verification code and file checksums for an archive
+	 */
+	public static class ArchiveVerificationResult {
+		private final SpdxPackageVerificationCode verificationCode;
+		private final SortedMap<String, Checksum[]> fileChecksums;
+
+		ArchiveVerificationResult(SpdxPackageVerificationCode verificationCode, SortedMap<String, Checksum[]> fileChecksums) {
+			this.verificationCode = verificationCode;
+			this.fileChecksums = Collections.unmodifiableSortedMap(fileChecksums);
+		}
+
+		/**
+		 * @return the package verification code for all files in the archive which are not skipped
+		 */
+		public SpdxPackageVerificationCode getVerificationCode() {
+			return verificationCode;
+		}
+
+		/**
+		 * @return the checksums for each file included in the verification code sorted by the normalized file name.
+		 * The first checksum is always the SHA1 followed by any additional checksums in the order requested.
+		 */
+		public SortedMap<String, Checksum[]> getFileChecksums() {
+			return fileChecksums;
+		}
+	}
+
+	private final ChecksumAlgorithm[] algorithms;
+
+	/**
+	 * @param additionalAlgorithms checksum algorithms to compute for each file in addition to SHA1
+	 * @throws NoSuchAlgorithmException if any of the algorithms are not supported
+	 */
+	public ArchiveVerificationCodeGenerator(ChecksumAlgorithm... additionalAlgorithms) throws NoSuchAlgorithmException {
+		List<ChecksumAlgorithm> algorithmList = Lists.newArrayList(ChecksumAlgorithm.checksumAlgorithm_sha1);
+		for (ChecksumAlgorithm algorithm:additionalAlgorithms) {
+			if (!DIGEST_ALGORITHMS.containsKey(algorithm)) {
+				throw new NoSuchAlgorithmException("Unsupported checksum algorithm "+algorithm);
+			}
+			if (!algorithmList.contains(algorithm)) {
+				algorithmList.add(algorithm);
+			}
+		}
+		this.algorithms = algorithmList.toArray(new ChecksumAlgorithm[algorithmList.size()]);
+		createDigests();	// make sure all algorithms are available
+	}
+
+	private MessageDigest[] createDigests() throws NoSuchAlgorithmException {
+		MessageDigest[] digests = new MessageDigest[algorithms.length];
+		for (int i = 0; i < algorithms.length; i++) {
+			digests[i] = MessageDigest.getInstance(DIGEST_ALGORITHMS.get(algorithms[i]));
+		}
+		return digests;
+	}
+
+	/**
+	 * Generate the package verification code and file checksums for all files in an archive
+	 * @param archive archive file
+	 * @param skippedFilePredicate Tested against the name of each archive entry.  Entries for which the
+	 * predicate returns true are excluded from the verification code and the file checksums.
+	 * @return the verification code and file checksums
+	 * @throws IOException if the archive can not be read or the format is not supported
+	 * @throws NoSuchAlgorithmException
+	 */
+	public ArchiveVerificationResult generate(File archive, Predicate<String> skippedFilePredicate) throws IOException, NoSuchAlgorithmException {
+		try (InputStream in = new FileInputStream(archive)) {
+			return generate(in, skippedFilePredicate);
+		}
+	}
+
+	/**
+	 * Generate the package verification code and file checksums for all files in an archive.
+	 * The compression and archive formats are detected from the content of the stream.
+	 * @param archiveStream stream of the archive content - the stream is not closed
+	 * @param skippedFilePredicate Tested against the name of each archive entry.  Entries for which the
+	 * predicate returns true are excluded from the verification code and the file checksums.
+	 * @return the verification code and file checksums
+	 * @throws IOException if the archive can not be read or the format is not supported
+	 * @throws NoSuchAlgorithmException
+	 */
+	public ArchiveVerificationResult generate(InputStream archiveStream, Predicate<String> skippedFilePredicate) throws IOException, NoSuchAlgorithmException {
+		InputStream in = new BufferedInputStream(archiveStream, BUFFER_SIZE);
+		try {
+			String compressor = CompressorStreamFactory.detect(in);
+			in = new BufferedInputStream(CompressorStreamFactory.getSingleton().createCompressorInputStream(compressor, in, true), BUFFER_SIZE);
+		} catch (CompressorException e) {
+			// not compressed
+		}
+		ArchiveInputStream archiveIn;
+		try {
+			String format = ArchiveStreamFactory.detect(in);
+			if (ArchiveStreamFactory.ZIP.equals(format) || ArchiveStreamFactory.JAR.equals(format)) {
+				// allow stored entries with data descriptors which are common in jar files
+				archiveIn = new ZipArchiveInputStream(in, "UTF8", true, true);
+			} else {
+				archiveIn = new ArchiveStreamFactory().createArchiveInputStream(format, in);
+			}
+		} catch (ArchiveException e) {
+			throw new IOException("Unsupported archive format: "+e.getMessage(), e);
+		}
+		MessageDigest[] digests = createDigests();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		SortedMap<String, Checksum[]> fileChecksums = Maps.newTreeMap();
+		Set<String> skippedFiles = Sets.newTreeSet();
+		// Checksums of the regular files extracted so far including the skipped files - used for hard links
+		Map<String, Checksum[]> extractedChecksums = Maps.newHashMap();
+		ArchiveEntry entry = archiveIn.getNextEntry();
+		while (entry != null) {
+			if (isRegularFile(entry)) {
+				String filePath = VerificationCodeGenerator.normalizeFilePath(entry.getName());
+				boolean skipped = skippedFilePredicate.test(entry.getName());
+				Checksum[] checksums = null;
+				if (isHardLink(entry)) {
+					String linkName = ((TarArchiveEntry)entry).getLinkName();
+					checksums = extractedChecksums.get(VerificationCodeGenerator.normalizeFilePath(linkName));
+					if (checksums == null) {
+						throw new IOException("Hard link "+entry.getName()+" refers to "+linkName+
+								" which is not a regular file earlier in the archive");
+					}
+				} else if (!skipped || entry instanceof TarArchiveEntry) {
+					// skipped tar entries are still read since they may be the target of a later hard link
+					checksums = readChecksums(archiveIn, entry, digests, buffer);
+				}
+				if (checksums == null) {
+					extractedChecksums.remove(filePath);
+				} else {
+					extractedChecksums.put(filePath, checksums);
+				}
+				if (skipped) {
+					skippedFiles.add(filePath);
+					fileChecksums.remove(filePath);
+				} else {
+					fileChecksums.put(filePath, checksums);
+					skippedFiles.remove(filePath);
+				}
+			}
+			entry = archiveIn.getNextEntry();
+		}
+		List<String> sha1s = Lists.newArrayListWithCapacity(fileChecksums.size());
+		for (Checksum[] checksums:fileChecksums.values()) {
+			sha1s.add(checksums[0].getValue());
+		}
+		SpdxPackageVerificationCode verificationCode = new VerificationCodeGenerator(null)
+				.generatePackageVerificationCode(sha1s,
+						skippedFiles.toArray(new String[skippedFiles.size()]));
+		return new ArchiveVerificationResult(verificationCode, fileChecksums);
+	}
+
+	/**
+	 * Read the data for an archive entry computing all checksums
+	 * @param archiveIn archive positioned at the start of the entry data
+	 * @param entry
+	 * @param digests digests for each of the checksum algorithms
+	 * @param buffer
+	 * @return checksums for the entry data in the same order as the digests
+	 * @throws IOException
+	 */
+	private Checksum[] readChecksums(ArchiveInputStream archiveIn, ArchiveEntry entry,
+			MessageDigest[] digests, byte[] buffer) throws IOException {
+		if (!archiveIn.canReadEntryData(entry)) {
+			throw new IOException("Unable to read the data for archive entry "+entry.getName());
+		}
+		for (MessageDigest digest:digests) {
+			digest.reset();
+		}
+		int numBytes = archiveIn.read(buffer);
+		while (numBytes >= 0) {
+			for (MessageDigest digest:digests) {
+				digest.update(buffer, 0, numBytes);
+			}
+			numBytes = archiveIn.read(buffer);
+		}
+		Checksum[] checksums = new Checksum[digests.length];
+		for (int i = 0; i < digests.length; i++) {
+			checksums[i] = new Checksum(algorithms[i],
+					VerificationCodeGenerator.convertChecksumToString(digests[i].digest()));
+		}
+		return checksums;
+	}
+
+	/**
+	 * @param entry
+	 * @return true if the entry is a regular file or a hard link to a regular file
+	 */
+	private static boolean isRegularFile(ArchiveEntry entry) {
+		if (entry.isDirectory()) {
+			return false;
+		}
+		if (entry instanceof TarArchiveEntry) {
+			TarArchiveEntry tarEntry = (TarArchiveEntry)entry;
+			return (tarEntry.isFile() || tarEntry.isLink()) && !tarEntry.isSymbolicLink() &&
+					!tarEntry.isCharacterDevice() && !tarEntry.isBlockDevice() && !tarEntry.isFIFO();
+		}
+		if (entry instanceof ZipArchiveEntry) {
+			return !((ZipArchiveEntry)entry).isUnixSymlink();
+		}
+		return true;
+	}
+
+	/**
+	 * @param entry
+	 * @return true if the entry is a tar hard link
+	 */
+	private static boolean isHardLink(ArchiveEntry entry) {
+		return entry instanceof TarArchiveEntry && ((TarArchiveEntry)entry).isLink();
+	}
+}
@@ -0,0 +1,455 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Compact column oriented store for the file level properties of SPDX files.
+ *
+ * Each file is a row identified by the URI of the file.  Strings are dictionary encoded with
+ * file names split into a shared directory and a base name, licenses and sets of licenses are
+ * interned, SHA1 checksums are packed into 20 bytes and file types are kept as a bit mask, so
+ * a typical file uses a few tens of bytes in the columns in addition to its unique strings.
+ *
+ * Values which can not be encoded exactly, such as SHA1 values which are not lower case hex,
+ * are kept unchanged so the stored values are always returned exactly as they were added.
+ * The store is thread safe.
+ *
+ * @author agent
+ *
+ */
+public class CompactFileStore {
+
+	static final int SHA1_BYTES = 20;
+	static final int INITIAL_CAPACITY = 64;
+	static final int NO_VALUE = -1;
+	static final FileType[] FILE_TYPES = FileType.values();
+
+	/**
+	 * Dictionary of strings to dense integer IDs using an open addressing hash table
+	 */
+	static class StringDictionary {
+		private String[] strings = new String[INITIAL_CAPACITY];
+		private int size = 0;
+		/**
+		 * Hash table of string ID + 1 - 0 is an empty slot
+		 */
+		private int[] table = new int[INITIAL_CAPACITY * 2];
+
+		/**
+		 * @param s
+		 * @return the ID for the string or -1 if the string is not in the dictionary
+		 */
+		int find(String s) {
+			int mask = table.length - 1;
+			int slot = s.hashCode() & mask;
+			while (table[slot] != 0) {
+				if (strings[table[slot] - 1].equals(s)) {
+					return table[slot] - 1;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return NO_VALUE;
+		}
+
+		/**
+		 * @param s
+		 * @return the ID for the string, adding the string if it is not in the dictionary
+		 */
+		int intern(String s) {
+			int id = find(s);
+			if (id != NO_VALUE) {
+				return id;
+			}
+			if (size == strings.length) {
+				strings = Arrays.copyOf(strings, size * 2);
+				rehash(strings.length * 2);
+			}
+			strings[size] = s;
+			insert(size);
+			return size++;
+		}
+
+		private void insert(int id) {
+			int mask = table.length - 1;
+			int slot = strings[id].hashCode() & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = id + 1;
+		}
+
+		private void rehash(int tableSize) {
+			table = new int[tableSize];
+			for (int i = 0; i < size; i++) {
+				insert(i);
+			}
+		}
+
+		String get(int id) {
+			return id == NO_VALUE ? null : strings[id];
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * URIs of the files - the ID of the URI is the row of the file
+	 */
+	private StringDictionary uris = new StringDictionary();
+	/**
+	 * Names, directories, copyrights, notices and contributors
+	 */
+	private StringDictionary strings = new StringDictionary();
+	private int capacity = INITIAL_CAPACITY;
+	private int[] directories = new int[capacity];
+	private int[] baseNames = new int[capacity];
+	private byte[] sha1s = new byte[capacity * SHA1_BYTES];
+	private boolean[] packedSha1 = new boolean[capacity];
+	/**
+	 * Checksums following the packed SHA1 or all checksums if the SHA1 is not packed - only for rows which have them
+	 */
+	private Map<Integer, Checksum[]> otherChecksums = Maps.newHashMap();
+	private short[] fileTypes = new short[capacity];
+	private int[] licensesConcluded = new int[capacity];
+	private int[] licenseInfoSets = new int[capacity];
+	private int[] copyrights = new int[capacity];
+	private int[] notices = new int[capacity];
+	private int[] contributorSets = new int[capacity];
+
+	private List<AnyLicenseInfo> licenses = Lists.newArrayList();
+	private Map<AnyLicenseInfo, Integer> licenseIds = Maps.newHashMap();
+	private List<int[]> licenseSets = Lists.newArrayList();
+	private Map<List<Integer>, Integer> licenseSetIds = Maps.newHashMap();
+	private List<String[]> stringSets = Lists.newArrayList();
+	private Map<List<Integer>, Integer> stringSetIds = Maps.newHashMap();
+
+	private void ensureCapacity(int rows) {
+		if (rows <= capacity) {
+			return;
+		}
+		capacity = Math.max(rows, capacity * 2);
+		directories = Arrays.copyOf(directories, capacity);
+		baseNames = Arrays.copyOf(baseNames, capacity);
+		sha1s = Arrays.copyOf(sha1s, capacity * SHA1_BYTES);
+		packedSha1 = Arrays.copyOf(packedSha1, capacity);
+		fileTypes = Arrays.copyOf(fileTypes, capacity);
+		licensesConcluded = Arrays.copyOf(licensesConcluded, capacity);
+		licenseInfoSets = Arrays.copyOf(licenseInfoSets, capacity);
+		copyrights = Arrays.copyOf(copyrights, capacity);
+		notices = Arrays.copyOf(notices, capacity);
+		contributorSets = Arrays.copyOf(contributorSets, capacity);
+	}
+
+	private int internString(String s) {
+		return s == null ? NO_VALUE : strings.intern(s);
+	}
+
+	private int internLicense(AnyLicenseInfo license) {
+		if (license == null) {
+			return NO_VALUE;
+		}
+		Integer id = licenseIds.get(license);
+		if (id == null) {
+			id = licenses.size();
+			licenses.add(license);
+			licenseIds.put(license, id);
+		}
+		return id;
+	}
+
+	private int internLicenseSet(AnyLicenseInfo[] licenseSet) {
+		if (licenseSet == null || licenseSet.length == 0) {
+			return NO_VALUE;
+		}
+		List<Integer> key = Lists.newArrayListWithCapacity(licenseSet.length);
+		for (AnyLicenseInfo license:licenseSet) {
+			key.add(internLicense(license));
+		}
+		Integer id = licenseSetIds.get(key);
+		if (id == null) {
+			id = licenseSets.size();
+			int[] ids = new int[key.size()];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = key.get(i);
+			}
+			licenseSets.add(ids);
+			licenseSetIds.put(key, id);
+		}
+		return id;
+	}
+
+	private int internStringSet(String[] stringSet) {
+		if (stringSet == null || stringSet.length == 0) {
+			return NO_VALUE;
+		}
+		List<Integer> key = Lists.newArrayListWithCapacity(stringSet.length);
+		for (String s:stringSet) {
+			key.add(internString(s));
+		}
+		Integer id = stringSetIds.get(key);
+		if (id == null) {
+			id = stringSets.size();
+			stringSets.add(Arrays.copyOf(stringSet, stringSet.length));
+			stringSetIds.put(key, id);
+		}
+		return id;
+	}
+
+	/**
+	 * @param value
+	 * @return true if the value is 40 lower case hex digits
+	 */
+	private static boolean isPackableSha1(String value) {
+		if (value == null || value.length() != SHA1_BYTES * 2) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Add a file or replace all of the stored properties of a file
+	 * @param uri URI of the file
+	 * @param name
+	 * @param checksums
+	 * @param fileTypes
+	 * @param licenseConcluded
+	 * @param licenseInfoInFiles
+	 * @param copyrightText
+	 * @param contributors
+	 * @param noticeText
+	 * @return the row for the file
+	 */
+	public synchronized int updateFile(String uri, String name, Checksum[] checksums, FileType[] fileTypes,
+			AnyLicenseInfo licenseConcluded, AnyLicenseInfo[] licenseInfoInFiles, String copyrightText,
+			String[] contributors, String noticeText) {
+		int row = uris.find(uri);
+		if (row == NO_VALUE) {
+			ensureCapacity(uris.size() + 1);
+			row = uris.intern(uri);
+		}
+		if (name == null) {
+			directories[row] = NO_VALUE;
+			baseNames[row] = NO_VALUE;
+		} else {
+			int separator = name.lastIndexOf('/') + 1;
+			directories[row] = separator > 0 ? strings.intern(name.substring(0, separator)) : NO_VALUE;
+			baseNames[row] = strings.intern(name.substring(separator));
+		}
+		otherChecksums.remove(row);
+		packedSha1[row] = false;
+		if (checksums != null && checksums.length > 0) {
+			int firstOther = 0;
+			if (checksums[0] != null && ChecksumAlgorithm.checksumAlgorithm_sha1.equals(checksums[0].getAlgorithm()) &&
+					isPackableSha1(checksums[0].getValue())) {
+				String value = checksums[0].getValue();
+				for (int i = 0; i < SHA1_BYTES; i++) {
+					sha1s[row * SHA1_BYTES + i] = (byte)Integer.parseInt(value.substring(i * 2, i * 2 + 2), 16);
+				}
+				packedSha1[row] = true;
+				firstOther = 1;
+			}
+			if (firstOther < checksums.length) {
+				otherChecksums.put(row, Arrays.copyOfRange(checksums, firstOther, checksums.length));
+			}
+		}
+		short fileTypeBits = 0;
+		if (fileTypes != null) {
+			for (FileType fileType:fileTypes) {
+				if (fileType != null) {
+					fileTypeBits |= 1 << fileType.ordinal();
+				}
+			}
+		}
+		this.fileTypes[row] = fileTypeBits;
+		licensesConcluded[row] = internLicense(licenseConcluded);
+		licenseInfoSets[row] = internLicenseSet(licenseInfoInFiles);
+		copyrights[row] = internString(copyrightText);
+		notices[row] = internString(noticeText);
+		contributorSets[row] = internStringSet(contributors);
+		return row;
+	}
+
+	/**
+	 * @param uri URI of the file
+	 * @return the row for the file or -1 if the file is not in the store
+	 */
+	public synchronized int getRow(String uri) {
+		return uris.find(uri);
+	}
+
+	/**
+	 * @return the number of files in the store
+	 */
+	public synchronized int size() {
+		return uris.size();
+	}
+
+	/**
+	 * @param row
+	 * @return the URI of the file
+	 */
+	public synchronized String getUri(int row) {
+		return uris.get(row);
+	}
+
+	/**
+	 * @param row
+	 * @return the file name
+	 */
+	public synchronized String getName(int row) {
+		if (baseNames[row] == NO_VALUE) {
+			return null;
+		}
+		if (directories[row] == NO_VALUE) {
+			return strings.get(baseNames[row]);
+		}
+		return strings.get(directories[row]) + strings.get(baseNames[row]);
+	}
+
+	/**
+	 * @param row
+	 * @return the SHA1 checksum value for the file, or a blank string if the file does not have a SHA1 checksum
+	 */
+	public synchronized String getSha1(int row) {
+		if (packedSha1[row]) {
+			return packedSha1Value(row);
+		}
+		Checksum[] checksums = otherChecksums.get(row);
+		if (checksums != null) {
+			for (Checksum checksum:checksums) {
+				if (ChecksumAlgorithm.checksumAlgorithm_sha1.equals(checksum.getAlgorithm())) {
+					return checksum.getValue();
+				}
+			}
+		}
+		return "";
+	}
+
+	private String packedSha1Value(int row) {
+		StringBuilder sb = new StringBuilder(SHA1_BYTES * 2);
+		for (int i = 0; i < SHA1_BYTES; i++) {
+			int b = sha1s[row * SHA1_BYTES + i] & 0xFF;
+			sb.append(Character.forDigit(b >> 4, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @param row
+	 * @return the checksums in the order they were added
+	 */
+	public synchronized Checksum[] getChecksums(int row) {
+		Checksum[] others = otherChecksums.get(row);
+		if (others == null) {
+			others = new Checksum[0];
+		}
+		if (!packedSha1[row]) {
+			return Arrays.copyOf(others, others.length);
+		}
+		Checksum[] retval = new Checksum[others.length + 1];
+		retval[0] = new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, packedSha1Value(row));
+		System.arraycopy(others, 0, retval, 1, others.length);
+		return retval;
+	}
+
+	/**
+	 * @param row
+	 * @return the file types in the order they are declared in FileType
+	 */
+	public synchronized FileType[] getFileTypes(int row) {
+		List<FileType> retval = Lists.newArrayList();
+		for (int i = 0; i < FILE_TYPES.length; i++) {
+			if ((fileTypes[row] & (1 << i)) != 0) {
+				retval.add(FILE_TYPES[i]);
+			}
+		}
+		return retval.toArray(new FileType[retval.size()]);
+	}
+
+	/**
+	 * @param row
+	 * @return the concluded license
+	 */
+	public synchronized AnyLicenseInfo getLicenseConcluded(int row) {
+		return licensesConcluded[row] == NO_VALUE ? null : licenses.get(licensesConcluded[row]);
+	}
+
+	/**
+	 * @param row
+	 * @return the licenses found in the file
+	 */
+	public synchronized AnyLicenseInfo[] getLicenseInfoInFiles(int row) {
+		if (licenseInfoSets[row] == NO_VALUE) {
+			return new AnyLicenseInfo[0];
+		}
+		int[] ids = licenseSets.get(licenseInfoSets[row]);
+		AnyLicenseInfo[] retval = new AnyLicenseInfo[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			retval[i] = licenses.get(ids[i]);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param row
+	 * @return the copyright text
+	 */
+	public synchronized String getCopyrightText(int row) {
+		return strings.get(copyrights[row]);
+	}
+
+	/**
+	 * @param row
+	 * @return the notice text
+	 */
+	public synchronized String getNoticeText(int row) {
+		return strings.get(notices[row]);
+	}
+
+	/**
+	 * @param row
+	 * @return the file contributors
+	 */
+	public synchronized String[] getContributors(int row) {
+		if (contributorSets[row] == NO_VALUE) {
+			return new String[0];
+		}
+		String[] contributors = stringSets.get(contributorSets[row]);
+		return Arrays.copyOf(contributors, contributors.length);
+	}
+}
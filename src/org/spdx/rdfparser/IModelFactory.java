@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * Interface for a class that supplies the RDF models used to store SPDX documents
+ * and listed licenses.
+ *
+ * @author agent
+ *
+ */
+public interface IModelFactory {
+
+	/**
+	 * Factory for in-memory models - a new empty model is created for every call
+	 */
+	IModelFactory IN_MEMORY = name -> ModelFactory.createDefaultModel();
+
+	/**
+	 * Create or open a model.  For persistent stores, the model contains any data
+	 * previously stored under the same name.
+	 * @param name URI identifying the model within the store
+	 * @return the model
+	 */
+	Model createModel(String name);
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.jena.graph.Node;
+import org.spdx.rdfparser.model.IRdfModel;
+
+/**
+ * Thread safe registry of the RDF model objects which wrap each node in a model container.
+ *
+ * Updates for a node are serialized by the per-bin locking of the underlying <code>ConcurrentHashMap</code>,
+ * so threads working on different nodes do not contend with each other.  Model objects are
+ * referenced weakly and compared by identity; entries for objects which have been garbage collected
+ * are purged as the registry is accessed.
+ *
+ * @author agent
+ *
+ */
+public class NodeModelRegistry {
+
+	/**
+	 * Weak reference to a model object which remembers the node it was registered for
+	 */
+	static final class NodeObjectReference extends WeakReference<IRdfModel> {
+		final Node node;
+
+		NodeObjectReference(Node node, IRdfModel referent, ReferenceQueue<IRdfModel> queue) {
+			super(referent, queue);
+			this.node = node;
+		}
+	}
+
+	private static final NodeObjectReference[] EMPTY_REFERENCES = new NodeObjectReference[0];
+
+	private final ConcurrentHashMap<Node, NodeObjectReference[]> registry = new ConcurrentHashMap<Node, NodeObjectReference[]>();
+	private final ReferenceQueue<IRdfModel> collected = new ReferenceQueue<IRdfModel>();
+
+	/**
+	 * Register a model object for a node.  If other live model objects are already registered
+	 * for the same node, they are notified through <code>setMultipleObjectsForSameNode</code>.
+	 * Registering the same object more than once has no effect.
+	 * @param node Node wrapped by the model object
+	 * @param nodeObject Model object
+	 * @return the number of live model objects registered for the node, including <code>nodeObject</code>
+	 */
+	public int register(final Node node, final IRdfModel nodeObject) {
+		purgeCollected();
+		final int[] count = new int[1];
+		registry.compute(node, (key, existing) -> {
+			NodeObjectReference[] live = liveReferences(existing);
+			for (NodeObjectReference ref:live) {
+				if (ref.get() == nodeObject) {
+					count[0] = live.length;
+					return live;
+				}
+			}
+			NodeObjectReference[] retval = new NodeObjectReference[live.length + 1];
+			for (int i = 0; i < live.length; i++) {
+				IRdfModel other = live[i].get();
+				if (other != null) {
+					other.setMultipleObjectsForSameNode();
+				}
+				retval[i] = live[i];
+			}
+			retval[live.length] = new NodeObjectReference(key, nodeObject, collected);
+			count[0] = retval.length;
+			return retval;
+		});
+		return count[0];
+	}
+
+	/**
+	 * @param node
+	 * @return the number of live model objects currently registered for the node
+	 */
+	public int getNumObjects(Node node) {
+		NodeObjectReference[] refs = registry.get(node);
+		if (refs == null) {
+			return 0;
+		}
+		int count = 0;
+		for (NodeObjectReference ref:refs) {
+			if (ref.get() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of nodes which have at least one registered model object entry
+	 */
+	public int size() {
+		purgeCollected();
+		return registry.size();
+	}
+
+	/**
+	 * Remove the references to model objects which have been garbage collected
+	 */
+	void purgeCollected() {
+		Reference<? extends IRdfModel> ref;
+		while ((ref = collected.poll()) != null) {
+			registry.computeIfPresent(((NodeObjectReference)ref).node, (key, existing) -> {
+				NodeObjectReference[] live = liveReferences(existing);
+				return live.length == 0 ? null : live;
+			});
+		}
+	}
+
+	/**
+	 * @param refs
+	 * @return refs with any cleared references removed
+	 */
+	private static NodeObjectReference[] liveReferences(NodeObjectReference[] refs) {
+		if (refs == null) {
+			return EMPTY_REFERENCES;
+		}
+		NodeObjectReference[] live = new NodeObjectReference[refs.length];
+		int numLive = 0;
+		for (NodeObjectReference ref:refs) {
+			if (ref.get() != null) {
+				live[numLive++] = ref;
+			}
+		}
+		if (numLive == refs.length) {
+			return refs;
+		}
+		NodeObjectReference[] retval = Arrays.copyOf(live, numLive);
+		return retval;
+	}
+}
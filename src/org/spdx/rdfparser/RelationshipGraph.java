@@ -0,0 +1,410 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxElementFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Read only index of all relationships between the SPDX elements in an SPDX document container.
+ *
+ * Each element which is the subject or object of a relationship or package file (hasFile)
+ * property is assigned an integer index from 0 to <code>size() - 1</code>.  The relationships
+ * are stored as compressed sparse row arrays in both directions so that the related elements,
+ * the elements relating to an element, transitive closures and cycles can be found without
+ * reading the RDF model or creating <code>Relationship</code> objects.
+ *
+ * The index is a snapshot of the model at the time it was built - changes made to the
+ * document after the index is built are not reflected in the index.
+ *
+ * @author agent
+ *
+ */
+public class RelationshipGraph {
+
+	static final Logger logger = LoggerFactory.getLogger(RelationshipGraph.class);
+
+	private static final int[] EMPTY = new int[0];
+
+	private final IModelContainer modelContainer;
+	private final Node[] nodes;
+	private final Map<Node, Integer> nodeIndex;
+	// relationships in compressed sparse row format indexed by the element index
+	private final int[] forwardOffsets;
+	private final int[] forwardTargets;
+	private final byte[] forwardTypes;
+	private final int[] reverseOffsets;
+	private final int[] reverseTargets;
+	private final byte[] reverseTypes;
+	// package files in compressed sparse row format
+	private final int[] fileOffsets;
+	private final int[] fileTargets;
+
+	/**
+	 * Build the relationship index for all relationships in the model container
+	 * @param modelContainer
+	 * @throws InvalidSPDXAnalysisException if the model contains an invalid relationship type
+	 */
+	public RelationshipGraph(IModelContainer modelContainer) throws InvalidSPDXAnalysisException {
+		this.modelContainer = modelContainer;
+		Graph graph = modelContainer.getModel().getGraph();
+		Node relationshipProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_RELATIONSHIP);
+		Node relatedElementProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_RELATED_SPDX_ELEMENT);
+		Node relationshipTypeProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_RELATIONSHIP_TYPE);
+		Node packageFileProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_PACKAGE_FILE);
+		Map<Node, Integer> indexes = Maps.newHashMap();
+		List<Node> nodeList = Lists.newArrayList();
+		IntArray sources = new IntArray();
+		IntArray targets = new IntArray();
+		IntArray types = new IntArray();
+		ExtendedIterator<Triple> relationshipIter = graph.find(Node.ANY, relationshipProperty, Node.ANY);
+		try {
+			while (relationshipIter.hasNext()) {
+				Triple t = relationshipIter.next();
+				Node relationshipNode = t.getObject();
+				Node related = findSingleObject(graph, relationshipNode, relatedElementProperty);
+				Node typeNode = findSingleObject(graph, relationshipNode, relationshipTypeProperty);
+				if (related == null || typeNode == null || !typeNode.isURI()) {
+					logger.warn("Skipping incomplete relationship for "+t.getSubject());
+					continue;
+				}
+				RelationshipType type = RelationshipType.fromString(typeNode.getURI().substring(SpdxRdfConstants.SPDX_NAMESPACE.length()));
+				if (type == null) {
+					throw new InvalidSPDXAnalysisException("Invalid relationship type: "+typeNode.getURI());
+				}
+				sources.add(indexOf(t.getSubject(), indexes, nodeList));
+				targets.add(indexOf(related, indexes, nodeList));
+				types.add(type.ordinal());
+			}
+		} finally {
+			relationshipIter.close();
+		}
+		IntArray packages = new IntArray();
+		IntArray files = new IntArray();
+		ExtendedIterator<Triple> fileIter = graph.find(Node.ANY, packageFileProperty, Node.ANY);
+		try {
+			while (fileIter.hasNext()) {
+				Triple t = fileIter.next();
+				packages.add(indexOf(t.getSubject(), indexes, nodeList));
+				files.add(indexOf(t.getObject(), indexes, nodeList));
+			}
+		} finally {
+			fileIter.close();
+		}
+		this.nodes = nodeList.toArray(new Node[nodeList.size()]);
+		this.nodeIndex = indexes;
+		int numNodes = nodes.length;
+		this.forwardOffsets = new int[numNodes + 1];
+		this.forwardTargets = new int[sources.size];
+		this.forwardTypes = new byte[sources.size];
+		fillRows(sources, targets, types, forwardOffsets, forwardTargets, forwardTypes);
+		this.reverseOffsets = new int[numNodes + 1];
+		this.reverseTargets = new int[sources.size];
+		this.reverseTypes = new byte[sources.size];
+		fillRows(targets, sources, types, reverseOffsets, reverseTargets, reverseTypes);
+		this.fileOffsets = new int[numNodes + 1];
+		this.fileTargets = new int[packages.size];
+		fillRows(packages, files, null, fileOffsets, fileTargets, null);
+	}
+
+	private static Node findSingleObject(Graph graph, Node subject, Node property) {
+		ExtendedIterator<Triple> iter = graph.find(subject, property, Node.ANY);
+		try {
+			return iter.hasNext() ? iter.next().getObject() : null;
+		} finally {
+			iter.close();
+		}
+	}
+
+	private static int indexOf(Node node, Map<Node, Integer> indexes, List<Node> nodeList) {
+		Integer index = indexes.get(node);
+		if (index == null) {
+			index = nodeList.size();
+			indexes.put(node, index);
+			nodeList.add(node);
+		}
+		return index;
+	}
+
+	/**
+	 * Fill in compressed sparse row arrays using a counting sort on the row
+	 * @param rows row index for each entry
+	 * @param columns column value for each entry
+	 * @param values value for each entry - may be null if the rows have no values
+	 * @param offsets start of each row in the columns - the last offset is the number of entries
+	 * @param rowColumns columns sorted by row
+	 * @param rowValues values sorted by row - may be null if the rows have no values
+	 */
+	private static void fillRows(IntArray rows, IntArray columns, IntArray values,
+			int[] offsets, int[] rowColumns, byte[] rowValues) {
+		for (int i = 0; i < rows.size; i++) {
+			offsets[rows.values[i] + 1]++;
+		}
+		for (int i = 1; i < offsets.length; i++) {
+			offsets[i] += offsets[i - 1];
+		}
+		int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+		for (int i = 0; i < rows.size; i++) {
+			int pos = next[rows.values[i]]++;
+			rowColumns[pos] = columns.values[i];
+			if (rowValues != null) {
+				rowValues[pos] = (byte)values.values[i];
+			}
+		}
+	}
+
+	/**
+	 * @return the number of elements in the index
+	 */
+	public int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * @param node
+	 * @return the index of the element for the node or -1 if the node has no relationships or package files
+	 */
+	public int indexOf(Node node) {
+		Integer index = nodeIndex.get(node);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * @param element
+	 * @return the index of the element or -1 if the element has no relationships or package files
+	 */
+	public int indexOf(SpdxElement element) {
+		if (element == null || element.getNode() == null) {
+			return -1;
+		}
+		return indexOf(element.getNode());
+	}
+
+	/**
+	 * @param index
+	 * @return the RDF node for the element at the index
+	 */
+	public Node getNode(int index) {
+		return nodes[index];
+	}
+
+	/**
+	 * @param index
+	 * @return the SPDX element at the index
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public SpdxElement getElement(int index) throws InvalidSPDXAnalysisException {
+		return SpdxElementFactory.createElementFromModel(modelContainer, nodes[index]);
+	}
+
+	/**
+	 * @param index index of the element
+	 * @param relationshipTypes types of relationships to include
+	 * @return indexes of the elements related to the element by one of the relationship types
+	 */
+	public int[] getRelated(int index, Set<RelationshipType> relationshipTypes) {
+		return getRow(index, forwardOffsets, forwardTargets, forwardTypes, toMask(relationshipTypes));
+	}
+
+	/**
+	 * @param index index of the element
+	 * @param relationshipTypes types of relationships to include
+	 * @return indexes of the elements which have a relationship of one of the relationship types to the element
+	 */
+	public int[] getRelatedFrom(int index, Set<RelationshipType> relationshipTypes) {
+		return getRow(index, reverseOffsets, reverseTargets, reverseTypes, toMask(relationshipTypes));
+	}
+
+	/**
+	 * @param index index of a package
+	 * @return indexes of the files in the package (hasFile property)
+	 */
+	public int[] getPackageFiles(int index) {
+		return Arrays.copyOfRange(fileTargets, fileOffsets[index], fileOffsets[index + 1]);
+	}
+
+	private static int[] getRow(int index, int[] offsets, int[] targets, byte[] types, long mask) {
+		int start = offsets[index];
+		int end = offsets[index + 1];
+		int count = 0;
+		for (int i = start; i < end; i++) {
+			if ((mask & (1L << types[i])) != 0) {
+				count++;
+			}
+		}
+		if (count == 0) {
+			return EMPTY;
+		}
+		int[] retval = new int[count];
+		count = 0;
+		for (int i = start; i < end; i++) {
+			if ((mask & (1L << types[i])) != 0) {
+				retval[count++] = targets[i];
+			}
+		}
+		return retval;
+	}
+
+	private static long toMask(Set<RelationshipType> relationshipTypes) {
+		long mask = 0;
+		for (RelationshipType type:relationshipTypes) {
+			mask |= 1L << type.ordinal();
+		}
+		return mask;
+	}
+
+	/**
+	 * Find all elements reachable from an element by following relationships of the given types
+	 * @param index index of the starting element
+	 * @param relationshipTypes types of relationships to follow
+	 * @param includePackageFiles if true, also follow the files of any packages reached
+	 * @return indexes of all elements reachable from the element in increasing order.  The starting
+	 * element is only included if it is part of a cycle.
+	 */
+	public int[] transitiveClosure(int index, Set<RelationshipType> relationshipTypes, boolean includePackageFiles) {
+		return closure(index, forwardOffsets, forwardTargets, forwardTypes, toMask(relationshipTypes),
+				includePackageFiles ? fileOffsets : null, fileTargets);
+	}
+
+	/**
+	 * Find all elements from which an element can be reached by following relationships of the given types
+	 * (e.g. all elements which directly or indirectly DEPENDS_ON an element)
+	 * @param index index of the element
+	 * @param relationshipTypes types of relationships to follow
+	 * @return indexes of all elements from which the element is reachable in increasing order.  The
+	 * element is only included if it is part of a cycle.
+	 */
+	public int[] reverseTransitiveClosure(int index, Set<RelationshipType> relationshipTypes) {
+		return closure(index, reverseOffsets, reverseTargets, reverseTypes, toMask(relationshipTypes), null, null);
+	}
+
+	private int[] closure(int index, int[] offsets, int[] targets, byte[] types, long mask,
+			int[] extraOffsets, int[] extraTargets) {
+		// reached holds the result which only includes the starting element if it is part of a cycle,
+		// enqueued makes sure each element, including the starting element, is visited once
+		BitSet reached = new BitSet(nodes.length);
+		BitSet enqueued = new BitSet(nodes.length);
+		int[] queue = new int[nodes.length];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = index;
+		enqueued.set(index);
+		while (head < tail) {
+			int current = queue[head++];
+			for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+				if ((mask & (1L << types[i])) != 0) {
+					reached.set(targets[i]);
+					if (!enqueued.get(targets[i])) {
+						enqueued.set(targets[i]);
+						queue[tail++] = targets[i];
+					}
+				}
+			}
+			if (extraOffsets != null) {
+				for (int i = extraOffsets[current]; i < extraOffsets[current + 1]; i++) {
+					reached.set(extraTargets[i]);
+					if (!enqueued.get(extraTargets[i])) {
+						enqueued.set(extraTargets[i]);
+						queue[tail++] = extraTargets[i];
+					}
+				}
+			}
+		}
+		return reached.stream().toArray();
+	}
+
+	/**
+	 * Find a cycle of relationships of the given types
+	 * @param relationshipTypes types of relationships to follow
+	 * @return indexes of the elements in a cycle in relationship order where the last element
+	 * is related to the first element - empty if there are no cycles
+	 */
+	public int[] findCycle(Set<RelationshipType> relationshipTypes) {
+		long mask = toMask(relationshipTypes);
+		// iterative depth first search - 0 = not visited, 1 = on the current path, 2 = finished
+		byte[] state = new byte[nodes.length];
+		int[] path = new int[nodes.length];
+		int[] edgePos = new int[nodes.length];
+		for (int root = 0; root < nodes.length; root++) {
+			if (state[root] != 0) {
+				continue;
+			}
+			int depth = 0;
+			path[0] = root;
+			edgePos[0] = forwardOffsets[root];
+			state[root] = 1;
+			while (depth >= 0) {
+				int current = path[depth];
+				if (edgePos[depth] < forwardOffsets[current + 1]) {
+					int edge = edgePos[depth]++;
+					if ((mask & (1L << forwardTypes[edge])) == 0) {
+						continue;
+					}
+					int target = forwardTargets[edge];
+					if (state[target] == 1) {
+						int start = depth;
+						while (path[start] != target) {
+							start--;
+						}
+						return Arrays.copyOfRange(path, start, depth + 1);
+					} else if (state[target] == 0) {
+						state[target] = 1;
+						depth++;
+						path[depth] = target;
+						edgePos[depth] = forwardOffsets[target];
+					}
+				} else {
+					state[current] = 2;
+					depth--;
+				}
+			}
+		}
+		return EMPTY;
+	}
+
+	/**
+	 * Growable array of primitive ints used while building the index
+	 */
+	private static class IntArray {
+		int[] values = new int[16];
+		int size = 0;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+}
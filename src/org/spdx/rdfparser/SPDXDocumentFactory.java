@@ -22,13 +22,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.regex.Pattern;
 
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.TxnType;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.util.FileManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.license.ListedLicenses;
 import org.spdx.rdfparser.model.SpdxDocument;
 
 /**
@@ -41,6 +46,23 @@ public class SPDXDocumentFactory {
 
 	static final Logger logger = LoggerFactory.getLogger(SPDXDocumentFactory.class.getName());
 
+	private static volatile IModelFactory modelFactory = IModelFactory.IN_MEMORY;
+
+	/**
+	 * @return the factory used for the models of new and parsed SPDX documents
+	 */
+	public static IModelFactory getModelFactory() {
+		return modelFactory;
+	}
+
+	/**
+	 * Set the factory used for the models of new and parsed SPDX documents
+	 * @param factory factory for the models - <code>IModelFactory.IN_MEMORY</code> by default
+	 */
+	public static void setModelFactory(IModelFactory factory) {
+		modelFactory = factory;
+	}
+
 	/**
 	 * Create a new SPDX Document populating the data from the existing model
 	 * @param model
@@ -89,12 +111,39 @@ public class SPDXDocumentFactory {
 
 	/**
 	 * Create an SPDX Document from a file
-	 * @param fileNameOrUrl local file name or Url containing the SPDX data.  Can be in RDF/XML or RDFa format
+	 * @param fileNameOrUrl local file name or Url containing the SPDX data.  Can be in RDF/XML or RDFa format.
+	 * If the file name is a directory, it is opened as a TDB2 store containing a single SPDX document.
+	 * The store is opened through the factory shared for that directory by <code>Tdb2ModelFactory.getSharedFactory</code>
+	 * and remains open while the document is in use - close the shared factory to release the store.
+	 * A transaction is begun on the store for the calling thread unless the thread is already in one.  The
+	 * document is read in that transaction, which is aborted when the shared factory is closed by the same thread.
+	 * Other threads must run their own transactions to read the document.
 	 * @return SPDX Document initialized with the exsiting data
 	 * @throws IOException
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public static SpdxDocument createSpdxDocument(String fileNameOrUrl) throws IOException, InvalidSPDXAnalysisException {
+		File storeDirectory = new File(fileNameOrUrl);
+		if (storeDirectory.isDirectory()) {
+			Tdb2ModelFactory store = Tdb2ModelFactory.getSharedFactory(storeDirectory);
+			if (!store.getDataset().isInTransaction()) {
+				// promoted to a write transaction if listed license information is copied into the document
+				store.getDataset().begin(TxnType.READ_PROMOTE);
+			}
+			return openSpdxDocument(store);
+		}
+		return createSpdxDocument(fileNameOrUrl, modelFactory);
+	}
+
+	/**
+	 * Create an SPDX Document from a file storing the data in a model created by a model factory
+	 * @param fileNameOrUrl local file name or Url containing the SPDX data.  Can be in RDF/XML or RDFa format
+	 * @param factory factory for the model - the model is named by the base URI of the file
+	 * @return SPDX Document initialized with the exsiting data
+	 * @throws IOException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SpdxDocument createSpdxDocument(String fileNameOrUrl, IModelFactory factory) throws IOException, InvalidSPDXAnalysisException {
 		try {
 			Class.forName("net.rootdev.javardfa.jena.RDFaReader");
 		} catch(java.lang.ClassNotFoundException e) {
@@ -105,14 +154,74 @@ public class SPDXDocumentFactory {
 		if (spdxRdfInput == null)
 			throw new FileNotFoundException("Unable to open \"" + fileNameOrUrl + "\" for reading");
 
-		return createSpdxDocument(spdxRdfInput, figureBaseUri(fileNameOrUrl), fileType(fileNameOrUrl));
+		return createSpdxDocument(spdxRdfInput, figureBaseUri(fileNameOrUrl), fileType(fileNameOrUrl), factory);
 	}
 
 	public static SpdxDocument createSpdxDocument(InputStream input, String baseUri, String fileType) throws InvalidSPDXAnalysisException {
-		Model model = ModelFactory.createDefaultModel();
-		model.read(input, baseUri, fileType);
-		SpdxDocumentContainer docContainer = new SpdxDocumentContainer(model);
-		return docContainer.getSpdxDocument();
+		return createSpdxDocument(input, baseUri, fileType, modelFactory);
+	}
+
+	/**
+	 * Create an SPDX Document from an input stream storing the data in a model created by a model factory
+	 * @param input
+	 * @param baseUri base URI for the document - also used as the name of the model
+	 * @param fileType RDF format of the input
+	 * @param factory factory for the model - if the model supports transactions, the data is loaded and the
+	 * document is initialized in a single transaction which must not be nested in another transaction
+	 * @return SPDX Document initialized with the exsiting data
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SpdxDocument createSpdxDocument(InputStream input, String baseUri, String fileType,
+			IModelFactory factory) throws InvalidSPDXAnalysisException {
+		Model model = factory.createModel(baseUri);
+		if (!model.supportsTransactions()) {
+			model.read(input, baseUri, fileType);
+			SpdxDocumentContainer docContainer = new SpdxDocumentContainer(model);
+			return docContainer.getSpdxDocument();
+		}
+		// load all of the data and initialize the document in a single transaction
+		model.begin();
+		try {
+			model.read(input, baseUri, fileType);
+			SpdxDocumentContainer docContainer = new SpdxDocumentContainer(model);
+			SpdxDocument retval = docContainer.getSpdxDocument();
+			model.commit();
+			return retval;
+		} catch (InvalidSPDXAnalysisException | RuntimeException e) {
+			model.abort();
+			throw e;
+		}
+	}
+
+	/**
+	 * Open the SPDX document previously stored in a TDB2 store.  The store remains open
+	 * while the document is in use.  The document is opened in a read transaction if the
+	 * calling thread is not already in a transaction - searches of the returned document
+	 * must be run in a transaction on <code>store.getDataset()</code>.
+	 * @param store store containing a single SPDX document
+	 * @return SPDX Document initialized with the stored data
+	 * @throws InvalidSPDXAnalysisException if the store does not contain exactly one SPDX document
+	 */
+	public static SpdxDocument openSpdxDocument(Tdb2ModelFactory store) throws InvalidSPDXAnalysisException {
+		Dataset dataset = store.getDataset();
+		boolean inTransaction = dataset.isInTransaction();
+		if (!inTransaction) {
+			dataset.begin(ReadWrite.READ);
+		}
+		try {
+			List<String> modelNames = store.getModelNames();
+			modelNames.remove(ListedLicenses.LISTED_LICENSE_URI_PREFIX);
+			if (modelNames.size() != 1) {
+				throw(new InvalidSPDXAnalysisException("Expected one SPDX document in the store "+
+						store.getDirectory().getPath()+".  Found "+String.valueOf(modelNames.size())));
+			}
+			SpdxDocumentContainer docContainer = new SpdxDocumentContainer(store.createModel(modelNames.get(0)));
+			return docContainer.getSpdxDocument();
+		} finally {
+			if (!inTransaction) {
+				dataset.end();
+			}
+		}
 	}
 
 	@SuppressWarnings("deprecation")
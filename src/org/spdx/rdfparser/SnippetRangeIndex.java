@@ -0,0 +1,422 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Index of the byte and line ranges of all snippets in a model grouped by the file
+ * the snippet is from (snippetFromFile property).
+ *
+ * Snippets with the same byte range in the same file are found through a hash map.  Overlap
+ * queries (e.g. which snippets cover byte N of a file) and iteration in range order use an
+ * interval tree per file which is built on the first query after the snippets for the file change.
+ *
+ * Ranges are inclusive of both the start and end pointer.  The index is thread safe.
+ *
+ * @author agent
+ *
+ */
+public class SnippetRangeIndex {
+
+	static final Logger logger = LoggerFactory.getLogger(SnippetRangeIndex.class);
+
+	/**
+	 * Ranges for a single snippet
+	 */
+	private static class SnippetRanges {
+		Node snippet;
+		Node file;
+		int byteStart;
+		int byteEnd;
+		boolean hasByteRange;
+		int lineStart;
+		int lineEnd;
+		boolean hasLineRange;
+	}
+
+	/**
+	 * Snippets for a single file
+	 */
+	private static class FileSnippets {
+		Map<Node, SnippetRanges> snippets = Maps.newLinkedHashMap();
+		Map<Long, Node> byteRangeToSnippet = Maps.newHashMap();
+		// built on demand - null if the snippets changed since last built
+		IntervalTree byteTree = null;
+		IntervalTree lineTree = null;
+	}
+
+	private Map<Node, SnippetRanges> snippetToRanges = Maps.newHashMap();
+	private Map<Node, FileSnippets> fileToSnippets = Maps.newHashMap();
+
+	/**
+	 * Create an empty index
+	 */
+	public SnippetRangeIndex() {
+	}
+
+	/**
+	 * Create an index containing all snippets currently in the model
+	 * @param modelContainer
+	 */
+	public SnippetRangeIndex(IModelContainer modelContainer) {
+		Graph graph = modelContainer.getModel().getGraph();
+		Node snippetFromFileProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_SNIPPET_FROM_FILE);
+		Node rangeProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_SNIPPET_RANGE);
+		Node startPointerProperty = NodeFactory.createURI(SpdxRdfConstants.RDF_POINTER_NAMESPACE + SpdxRdfConstants.PROP_POINTER_START_POINTER);
+		Node endPointerProperty = NodeFactory.createURI(SpdxRdfConstants.RDF_POINTER_NAMESPACE + SpdxRdfConstants.PROP_POINTER_END_POINTER);
+		Node offsetProperty = NodeFactory.createURI(SpdxRdfConstants.RDF_POINTER_NAMESPACE + SpdxRdfConstants.PROP_POINTER_OFFSET);
+		Node lineNumberProperty = NodeFactory.createURI(SpdxRdfConstants.RDF_POINTER_NAMESPACE + SpdxRdfConstants.PROP_POINTER_LINE_NUMBER);
+		ExtendedIterator<Triple> snippetIter = graph.find(Node.ANY, snippetFromFileProperty, Node.ANY);
+		try {
+			while (snippetIter.hasNext()) {
+				Triple t = snippetIter.next();
+				Integer byteStart = null;
+				Integer byteEnd = null;
+				Integer lineStart = null;
+				Integer lineEnd = null;
+				ExtendedIterator<Triple> rangeIter = graph.find(t.getSubject(), rangeProperty, Node.ANY);
+				try {
+					while (rangeIter.hasNext()) {
+						Node range = rangeIter.next().getObject();
+						Node startPointer = findSingleObject(graph, range, startPointerProperty);
+						Node endPointer = findSingleObject(graph, range, endPointerProperty);
+						if (startPointer == null || endPointer == null) {
+							continue;
+						}
+						Integer start = findIntValue(graph, startPointer, offsetProperty);
+						if (start != null) {
+							byteStart = start;
+							byteEnd = findIntValue(graph, endPointer, offsetProperty);
+						} else {
+							lineStart = findIntValue(graph, startPointer, lineNumberProperty);
+							lineEnd = findIntValue(graph, endPointer, lineNumberProperty);
+						}
+					}
+				} finally {
+					rangeIter.close();
+				}
+				updateSnippet(t.getSubject(), t.getObject(), byteStart, byteEnd, lineStart, lineEnd);
+			}
+		} finally {
+			snippetIter.close();
+		}
+	}
+
+	private static Node findSingleObject(Graph graph, Node subject, Node property) {
+		ExtendedIterator<Triple> iter = graph.find(subject, property, Node.ANY);
+		try {
+			return iter.hasNext() ? iter.next().getObject() : null;
+		} finally {
+			iter.close();
+		}
+	}
+
+	private static Integer findIntValue(Graph graph, Node subject, Node property) {
+		Node value = findSingleObject(graph, subject, property);
+		if (value == null || !value.isLiteral()) {
+			return null;
+		}
+		try {
+			return Integer.parseInt(value.getLiteralLexicalForm().trim());
+		} catch (NumberFormatException e) {
+			logger.warn("Invalid pointer value "+value.getLiteralLexicalForm()+" for "+subject);
+			return null;
+		}
+	}
+
+	private static long rangeKey(int start, int end) {
+		return ((long)start << 32) | (end & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Add or replace the ranges for a snippet
+	 * @param snippet node for the snippet
+	 * @param file node for the file the snippet is from
+	 * @param byteStart start of the byte range or null if there is no byte range
+	 * @param byteEnd end of the byte range or null if there is no byte range
+	 * @param lineStart start of the line range or null if there is no line range
+	 * @param lineEnd end of the line range or null if there is no line range
+	 */
+	public synchronized void updateSnippet(Node snippet, Node file, Integer byteStart, Integer byteEnd,
+			Integer lineStart, Integer lineEnd) {
+		removeSnippet(snippet);
+		if (file == null) {
+			return;
+		}
+		SnippetRanges ranges = new SnippetRanges();
+		ranges.snippet = snippet;
+		ranges.file = file;
+		if (byteStart != null && byteEnd != null) {
+			ranges.hasByteRange = true;
+			ranges.byteStart = byteStart;
+			ranges.byteEnd = byteEnd;
+		}
+		if (lineStart != null && lineEnd != null) {
+			ranges.hasLineRange = true;
+			ranges.lineStart = lineStart;
+			ranges.lineEnd = lineEnd;
+		}
+		FileSnippets fileSnippets = fileToSnippets.get(file);
+		if (fileSnippets == null) {
+			fileSnippets = new FileSnippets();
+			fileToSnippets.put(file, fileSnippets);
+		}
+		fileSnippets.snippets.put(snippet, ranges);
+		if (ranges.hasByteRange) {
+			Long key = rangeKey(ranges.byteStart, ranges.byteEnd);
+			if (!fileSnippets.byteRangeToSnippet.containsKey(key)) {
+				fileSnippets.byteRangeToSnippet.put(key, snippet);
+			}
+		}
+		fileSnippets.byteTree = null;
+		fileSnippets.lineTree = null;
+		snippetToRanges.put(snippet, ranges);
+	}
+
+	/**
+	 * Remove a snippet from the index
+	 * @param snippet node for the snippet
+	 */
+	public synchronized void removeSnippet(Node snippet) {
+		SnippetRanges ranges = snippetToRanges.remove(snippet);
+		if (ranges == null) {
+			return;
+		}
+		FileSnippets fileSnippets = fileToSnippets.get(ranges.file);
+		fileSnippets.snippets.remove(snippet);
+		if (ranges.hasByteRange) {
+			Long key = rangeKey(ranges.byteStart, ranges.byteEnd);
+			if (snippet.equals(fileSnippets.byteRangeToSnippet.get(key))) {
+				fileSnippets.byteRangeToSnippet.remove(key);
+				// another snippet may have the same range
+				for (SnippetRanges other:fileSnippets.snippets.values()) {
+					if (other.hasByteRange && other.byteStart == ranges.byteStart && other.byteEnd == ranges.byteEnd) {
+						fileSnippets.byteRangeToSnippet.put(key, other.snippet);
+						break;
+					}
+				}
+			}
+		}
+		if (fileSnippets.snippets.isEmpty()) {
+			fileToSnippets.remove(ranges.file);
+		} else {
+			fileSnippets.byteTree = null;
+			fileSnippets.lineTree = null;
+		}
+	}
+
+	/**
+	 * @return the number of snippets in the index
+	 */
+	public synchronized int size() {
+		return snippetToRanges.size();
+	}
+
+	/**
+	 * @param file node for the file
+	 * @param byteStart
+	 * @param byteEnd
+	 * @return the node of a snippet from the file with exactly the byte range or null if none exists
+	 */
+	public synchronized Node findSnippetByByteRange(Node file, int byteStart, int byteEnd) {
+		FileSnippets fileSnippets = fileToSnippets.get(file);
+		if (fileSnippets == null) {
+			return null;
+		}
+		return fileSnippets.byteRangeToSnippet.get(rangeKey(byteStart, byteEnd));
+	}
+
+	/**
+	 * @param file node for the file
+	 * @param offset byte offset within the file
+	 * @return nodes for the snippets from the file whose byte range includes the offset in byte range order
+	 */
+	public List<Node> findSnippetsCoveringByte(Node file, int offset) {
+		return findSnippetsOverlappingBytes(file, offset, offset);
+	}
+
+	/**
+	 * @param file node for the file
+	 * @param start start of the byte range
+	 * @param end end of the byte range
+	 * @return nodes for the snippets from the file whose byte range overlaps the range in byte range order
+	 */
+	public synchronized List<Node> findSnippetsOverlappingBytes(Node file, int start, int end) {
+		IntervalTree tree = getByteTree(file);
+		if (tree == null) {
+			return Collections.emptyList();
+		}
+		return tree.findOverlapping(start, end);
+	}
+
+	/**
+	 * @param file node for the file
+	 * @param line line number within the file
+	 * @return nodes for the snippets from the file whose line range includes the line in line range order
+	 */
+	public List<Node> findSnippetsCoveringLine(Node file, int line) {
+		return findSnippetsOverlappingLines(file, line, line);
+	}
+
+	/**
+	 * @param file node for the file
+	 * @param start first line of the range
+	 * @param end last line of the range
+	 * @return nodes for the snippets from the file whose line range overlaps the range in line range order
+	 */
+	public synchronized List<Node> findSnippetsOverlappingLines(Node file, int start, int end) {
+		IntervalTree tree = getLineTree(file);
+		if (tree == null) {
+			return Collections.emptyList();
+		}
+		return tree.findOverlapping(start, end);
+	}
+
+	/**
+	 * @param file node for the file
+	 * @return nodes for all snippets from the file which have a byte range ordered by start then end of the byte range
+	 */
+	public synchronized List<Node> getSnippetsByByteRange(Node file) {
+		IntervalTree tree = getByteTree(file);
+		if (tree == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(tree.values));
+	}
+
+	private IntervalTree getByteTree(Node file) {
+		FileSnippets fileSnippets = fileToSnippets.get(file);
+		if (fileSnippets == null) {
+			return null;
+		}
+		if (fileSnippets.byteTree == null) {
+			List<SnippetRanges> ranges = Lists.newArrayList();
+			for (SnippetRanges range:fileSnippets.snippets.values()) {
+				if (range.hasByteRange) {
+					ranges.add(range);
+				}
+			}
+			fileSnippets.byteTree = new IntervalTree(ranges, true);
+		}
+		return fileSnippets.byteTree;
+	}
+
+	private IntervalTree getLineTree(Node file) {
+		FileSnippets fileSnippets = fileToSnippets.get(file);
+		if (fileSnippets == null) {
+			return null;
+		}
+		if (fileSnippets.lineTree == null) {
+			List<SnippetRanges> ranges = Lists.newArrayList();
+			for (SnippetRanges range:fileSnippets.snippets.values()) {
+				if (range.hasLineRange) {
+					ranges.add(range);
+				}
+			}
+			fileSnippets.lineTree = new IntervalTree(ranges, false);
+		}
+		return fileSnippets.lineTree;
+	}
+
+	/**
+	 * Static interval tree stored as a sorted array - the element at the middle of each
+	 * sub-array is the root of the subtree for that sub-array and holds the maximum end of the subtree
+	 */
+	private static class IntervalTree {
+		int[] starts;
+		int[] ends;
+		int[] maxEnds;
+		Node[] values;
+
+		IntervalTree(List<SnippetRanges> ranges, final boolean byteRanges) {
+			Collections.sort(ranges, new Comparator<SnippetRanges>() {
+				@Override
+				public int compare(SnippetRanges o1, SnippetRanges o2) {
+					int retval = Integer.compare(byteRanges ? o1.byteStart : o1.lineStart,
+							byteRanges ? o2.byteStart : o2.lineStart);
+					if (retval == 0) {
+						retval = Integer.compare(byteRanges ? o1.byteEnd : o1.lineEnd,
+								byteRanges ? o2.byteEnd : o2.lineEnd);
+					}
+					return retval;
+				}
+			});
+			int size = ranges.size();
+			starts = new int[size];
+			ends = new int[size];
+			maxEnds = new int[size];
+			values = new Node[size];
+			for (int i = 0; i < size; i++) {
+				SnippetRanges range = ranges.get(i);
+				starts[i] = byteRanges ? range.byteStart : range.lineStart;
+				ends[i] = byteRanges ? range.byteEnd : range.lineEnd;
+				values[i] = range.snippet;
+			}
+			fillMaxEnds(0, size);
+		}
+
+		private int fillMaxEnds(int low, int high) {
+			if (low >= high) {
+				return Integer.MIN_VALUE;
+			}
+			int mid = (low + high) >>> 1;
+			int max = Math.max(ends[mid], Math.max(fillMaxEnds(low, mid), fillMaxEnds(mid + 1, high)));
+			maxEnds[mid] = max;
+			return max;
+		}
+
+		List<Node> findOverlapping(int start, int end) {
+			List<Node> retval = Lists.newArrayList();
+			findOverlapping(0, starts.length, start, end, retval);
+			return retval;
+		}
+
+		private void findOverlapping(int low, int high, int start, int end, List<Node> result) {
+			if (low >= high) {
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			if (maxEnds[mid] < start) {
+				return;	// nothing in this subtree ends after the start
+			}
+			findOverlapping(low, mid, start, end, result);
+			if (starts[mid] > end) {
+				return;	// everything to the right starts after the end
+			}
+			if (ends[mid] >= start) {
+				result.add(values[mid]);
+			}
+			findOverlapping(mid + 1, high, start, end, result);
+		}
+	}
+}
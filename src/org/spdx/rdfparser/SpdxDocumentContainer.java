@@ -16,7 +16,7 @@
 */
 package org.spdx.rdfparser;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,7 +27,6 @@ import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.AnonId;
 import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
@@ -36,7 +35,6 @@ import org.spdx.rdfparser.license.ExtractedLicenseInfo;
 import org.spdx.rdfparser.license.LicenseInfoFactory;
 import org.spdx.rdfparser.model.ExternalDocumentRef;
 import org.spdx.rdfparser.model.IRdfModel;
-import org.spdx.rdfparser.model.RdfModelObject;
 import org.spdx.rdfparser.model.Relationship;
 import org.spdx.rdfparser.model.SpdxDocument;
 import org.spdx.rdfparser.model.SpdxElement;
@@ -45,7 +43,11 @@ import org.spdx.rdfparser.model.SpdxFile;
 import org.spdx.rdfparser.model.SpdxPackage;
 import org.spdx.rdfparser.model.SpdxSnippet;
 import org.spdx.spdxspreadsheet.InvalidLicenseStringException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -76,6 +78,11 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 
 	public static final String CURRENT_IMPLEMENTATION_VERSION = "2.2.3";
 
+	/**
+	 * Maximum number of parsed license expressions cached per container
+	 */
+	public static final int MAX_CACHED_LICENSE_EXPRESSIONS = 1000;
+
 	static Set<String> SUPPORTED_SPDX_VERSIONS = Sets.newHashSet();
 
 	/**
@@ -97,10 +104,46 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 	 */
 	Map<String, ExternalDocumentRef> externalDocNamespaceToRef = Maps.newHashMap();
 	/**
-	 * Map of nodes to RDF model objects - used to improve performance by keeping track of which
+	 * Registry of nodes to RDF model objects - used to improve performance by keeping track of which
 	 * nodes have more than one object associated with it.
 	 */
-	Map<Node, List<IRdfModel>> nodeModelMap = Maps.newHashMap();
+	NodeModelRegistry nodeModelRegistry = new NodeModelRegistry();
+
+	/**
+	 * Index of snippet byte and line ranges by file - created from the model on first use
+	 */
+	private SnippetRangeIndex snippetRangeIndex = null;
+
+	/**
+	 * Index of files by normalized name and SHA1 - created from the model on first use
+	 */
+	private SpdxFileIndex fileIndex = null;
+
+	/**
+	 * Compact store for the file level properties of the SPDX files - null unless enabled
+	 */
+	private CompactFileStore compactFileStore = null;
+
+	/**
+	 * Cache of license expression strings to parsed licenses
+	 */
+	private Cache<String, AnyLicenseInfo> licenseExpressionCache = CacheBuilder.newBuilder()
+			.maximumSize(MAX_CACHED_LICENSE_EXPRESSIONS).build();
+
+	/**
+	 * Names of the phases recorded in the initialization timings
+	 */
+	public static final String PHASE_SCAN = "scan";
+	public static final String PHASE_EXTERNAL_DOC_REFS = "externalDocumentRefs";
+	public static final String PHASE_DOCUMENT = "document";
+	public static final String PHASE_EXTRACTED_LICENSES = "extractedLicenses";
+	public static final String PHASE_DESCRIBES = "describes";
+	/**
+	 * Elapsed time in nanoseconds for each phase of initializing the container from an existing model
+	 */
+	private Map<String, Long> initializationTimings = Maps.newLinkedHashMap();
+
+	static final Logger logger = LoggerFactory.getLogger(SpdxDocumentContainer.class);
 
 	static {
 		SUPPORTED_SPDX_VERSIONS.add(CURRENT_SPDX_VERSION);
@@ -146,27 +189,124 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		}
 		String docUri = this.documentNode.getURI();
 		this.documentNamespace = this.formDocNamespace(docUri);
-		initializeExternalDocumentRefs();
+		long phaseStart = System.nanoTime();
+		ModelScan scan = scanModel();
+		phaseStart = recordInitializationPhase(PHASE_SCAN, phaseStart);
+		List<ExternalDocumentRef> externalDocRefs = Lists.newArrayList();
+		for (Node externalDocRefNode:scan.externalDocRefNodes) {
+			externalDocRefs.add(new ExternalDocumentRef(this, externalDocRefNode));
+		}
+		initializeExternalDocumentRefs(externalDocRefs.toArray(new ExternalDocumentRef[externalDocRefs.size()]));
+		phaseStart = recordInitializationPhase(PHASE_EXTERNAL_DOC_REFS, phaseStart);
 		this.spdxDocument = new SpdxDocument(this, this.documentNode);
-		initializeNextLicenseRef();
-		initializeNextElementRef();
-		if (this.spdxDocument.getDocumentDescribes().length == 0) {
-			upgradeDescribesToRelationship();
+		phaseStart = recordInitializationPhase(PHASE_DOCUMENT, phaseStart);
+		this.licenseIdToExtractedLicense.clear();
+		for (Node licenseNode:scan.extractedLicenseNodes) {
+			addExtractedLicenseToCache(LicenseInfoFactory.getLicenseInfoFromModel(this, licenseNode));
+		}
+		initializeNextLicenseRefFromCache();
+		phaseStart = recordInitializationPhase(PHASE_EXTRACTED_LICENSES, phaseStart);
+		if (scan.describedPackageNodes.size() > 0 && this.spdxDocument.getDocumentDescribes().length == 0) {
+			upgradeDescribesToRelationship(scan.describedPackageNodes);
+		}
+		recordInitializationPhase(PHASE_DESCRIBES, phaseStart);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Initialized SPDX document container "+this.documentNamespace+" timings (ns): "+this.initializationTimings);
+		}
+	}
+
+	/**
+	 * Results of a single pass over all triples in the model
+	 */
+	private static class ModelScan {
+		List<Node> externalDocRefNodes = Lists.newArrayList();
+		List<Node> extractedLicenseNodes = Lists.newArrayList();
+		List<Node> describedPackageNodes = Lists.newArrayList();
+	}
+
+	/**
+	 * Iterate once through the entire model collecting the SPDX element references,
+	 * the highest SPDXRef-N number and the nodes for the external document references,
+	 * extracted licenses and (pre 2.0) described packages of the document
+	 * @return the nodes found during the scan
+	 */
+	private ModelScan scanModel() {
+		ModelScan retval = new ModelScan();
+		Node externalDocRefProperty = model.getProperty(SPDX_NAMESPACE, PROP_SPDX_EXTERNAL_DOC_REF).asNode();
+		Node extractedLicensesProperty = model.getProperty(SPDX_NAMESPACE, PROP_SPDX_EXTRACTED_LICENSES).asNode();
+		Node describedPackageProperty = model.getProperty(SPDX_NAMESPACE, PROP_SPDX_PACKAGE).asNode();
+		int highestElementRef = 0;
+		Triple m = Triple.createMatch(null, null, null);
+		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);	// find everything
+		while (tripleIter.hasNext()) {
+			Triple trip = tripleIter.next();
+			highestElementRef = Math.max(highestElementRef, addElementRef(trip.getSubject()));
+			highestElementRef = Math.max(highestElementRef, addElementRef(trip.getObject()));
+			if (this.documentNode.equals(trip.getSubject())) {
+				Node predicate = trip.getPredicate();
+				if (externalDocRefProperty.equals(predicate)) {
+					retval.externalDocRefNodes.add(trip.getObject());
+				} else if (extractedLicensesProperty.equals(predicate)) {
+					retval.extractedLicenseNodes.add(trip.getObject());
+				} else if (describedPackageProperty.equals(predicate)) {
+					retval.describedPackageNodes.add(trip.getObject());
+				}
+			}
+		}
+		this.nextElementRef.set(highestElementRef + 1);
+		return retval;
+	}
+
+	/**
+	 * Add the SPDX element reference for a node if it is a URI within this document namespace
+	 * @param node
+	 * @return the SPDXRef-N number for the node or 0 if the node is not a numbered SPDX element reference
+	 */
+	private int addElementRef(Node node) {
+		if (!node.isURI()) {
+			return 0;
+		}
+		String uri = node.getURI();
+		if (!uri.startsWith(this.documentNamespace)) {
+			return 0;
 		}
+		String elementRef = uri.substring(this.documentNamespace.length());
+		this.spdxRefs.add(elementRef);
+		if (SPDX_ELEMENT_REF_PATTERN.matcher(elementRef).matches()) {
+			return Math.max(0, getElementRefNumber(elementRef));
+		}
+		return 0;
+	}
+
+	/**
+	 * Record the elapsed time for an initialization phase
+	 * @param phase name of the phase
+	 * @param phaseStart start time of the phase in nanoseconds
+	 * @return the end time of the phase in nanoseconds
+	 */
+	private long recordInitializationPhase(String phase, long phaseStart) {
+		long now = System.nanoTime();
+		this.initializationTimings.put(phase, now - phaseStart);
+		return now;
+	}
+
+	/**
+	 * @return elapsed time in nanoseconds for each phase of initializing this container from an existing model
+	 * in the order the phases were run.  Empty if the container was not created from an existing model.
+	 */
+	public Map<String, Long> getInitializationTimings() {
+		return Collections.unmodifiableMap(this.initializationTimings);
 	}
 
 	/**
+	 * Convert pre 2.0 described packages to DESCRIBES relationships
+	 * @param describedPackageNodes nodes for the described packages
 	 * @throws InvalidSPDXAnalysisException
-	 *
 	 */
-	private void upgradeDescribesToRelationship() throws InvalidSPDXAnalysisException {
-		Node p = model.getProperty(SPDX_NAMESPACE, PROP_SPDX_PACKAGE).asNode();
-		Triple m = Triple.createMatch(this.documentNode, p, null);
-		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
+	private void upgradeDescribesToRelationship(List<Node> describedPackageNodes) throws InvalidSPDXAnalysisException {
 		List<SpdxPackage> describedPackages = Lists.newArrayList();
-		while (tripleIter.hasNext()) {
-			Triple t = tripleIter.next();
-			describedPackages.add(new SpdxPackage(this, t.getObject()));
+		for (Node packageNode:describedPackageNodes) {
+			describedPackages.add(new SpdxPackage(this, packageNode));
 		}
 		for (SpdxPackage pkg:describedPackages) {
 			Relationship describes = new Relationship(pkg,
@@ -195,16 +335,29 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public SpdxDocumentContainer(String uri, String spdxVersion) throws InvalidSPDXAnalysisException {
-		this.model = ModelFactory.createDefaultModel();
+		this(uri, spdxVersion, SPDXDocumentFactory.getModelFactory());
+	}
+
+	/**
+	 * Creates a new empty SPDX Document stored in a model created by a model factory.
+	 * Note: Follow-up calls MUST be made to add the required properties for this
+	 * to be a valid SPDX document
+	 * @param uri URI for the SPDX Document
+	 * @param spdxVersion The version of SPDX analysis to create (impacts the data license for some versions)
+	 * @param modelFactory factory for the model - the model is named by the document namespace
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public SpdxDocumentContainer(String uri, String spdxVersion, IModelFactory modelFactory) throws InvalidSPDXAnalysisException {
 		String v = verifySpdxVersion(spdxVersion);
 		if (v != null) {
 			throw(new InvalidSPDXAnalysisException("Invalid SPDX Version: "+v));
 		}
+		this.documentNamespace = formDocNamespace(uri);
+		this.model = modelFactory.createModel(this.documentNamespace);
 		model.setNsPrefix("spdx", SPDX_NAMESPACE);
 		model.setNsPrefix("doap", DOAP_NAMESPACE);
 		model.setNsPrefix("rdfs", RDFS_NAMESPACE);
 		model.setNsPrefix("rdf", RDF_NAMESPACE);
-		this.documentNamespace = formDocNamespace(uri);
 		model.setNsPrefix("", this.documentNamespace);
 		// set the default namespace to the document namespace
 		Resource spdxAnalysisType = model.createResource(SPDX_NAMESPACE+CLASS_SPDX_DOCUMENT);
@@ -281,47 +434,6 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		return this.documentNamespace;
 	}
 
-	/**
-	 * Initialize the next SPDX element reference used for creating new SPDX element URIs
-	 */
-	private void initializeNextElementRef() {
-		int highestElementRef = 0;
-		Triple m = Triple.createMatch(null, null, null);
-		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);	// find everything
-		while (tripleIter.hasNext()) {
-			// iterate through everything looking for matches to this SPDX document URI
-			Triple trip = tripleIter.next();
-			if (trip.getSubject().isURI()) {	// check the subject
-				String subjectUri = trip.getSubject().getURI();
-				if (subjectUri.startsWith(this.documentNamespace)) {
-					String elementRef = subjectUri.substring(this.documentNamespace.length());
-					this.spdxRefs.add(elementRef);
-					if (SPDX_ELEMENT_REF_PATTERN.matcher(elementRef).matches()) {
-						int elementRefNum = getElementRefNumber(elementRef);
-						if (elementRefNum > highestElementRef) {
-							highestElementRef = elementRefNum;
-						}
-					}
-				}
-			}
-			if (trip.getObject().isURI()) {		// check the object
-				String objectUri = trip.getObject().getURI();
-				if (objectUri.startsWith(this.documentNamespace)) {
-					String elementRef = objectUri.substring(this.documentNamespace.length());
-					this.spdxRefs.add(elementRef);
-					if (SPDX_ELEMENT_REF_PATTERN.matcher(elementRef).matches()) {
-						int elementRefNum = getElementRefNumber(elementRef);
-						if (elementRefNum > highestElementRef) {
-							highestElementRef = elementRefNum;
-						}
-					}
-				}
-			}
-		}
-
-		this.nextElementRef.set(highestElementRef + 1);
-	}
-
 	/**
 	 * Parses out the reference number for an SPDX element reference
 	 * @param elementReference Element reference to parse
@@ -442,6 +554,13 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 	 */
 	public void initializeNextLicenseRef() throws InvalidSPDXAnalysisException {
 		getExtractedLicenseInfosFromModel();	// this initializes the cache
+		initializeNextLicenseRefFromCache();
+	}
+
+	/**
+	 * Initialize the next license reference from the licenses already in the cache of extracted license infos
+	 */
+	private void initializeNextLicenseRefFromCache() {
 		ExtractedLicenseInfo[] existingLicenses = getExtractedLicenseInfos();
 		if (existingLicenses == null) {
 			this.nextLicenseRef = 1;
@@ -461,6 +580,13 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		this.nextLicenseRef = highestNonStdLicense + 1;
 	}
 
+	/**
+	 * @return cache of license expression strings to parsed licenses used by the license expression parser
+	 */
+	public Cache<String, AnyLicenseInfo> getLicenseExpressionCache() {
+		return this.licenseExpressionCache;
+	}
+
 	/**
 	 * @return next available license ID for an ExtractedLicenseInfo
 	 */
@@ -565,12 +691,21 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		this.licenseIdToExtractedLicense.clear();
 
 		for (int i = 0; i < extractedAnyLicenseInfo.length; i++) {
-			if (!(extractedAnyLicenseInfo[i] instanceof ExtractedLicenseInfo)) {
-				throw new InvalidSPDXAnalysisException("Invalid type for extracted license infos: " + extractedAnyLicenseInfo[i]);
-			}
-			ExtractedLicenseInfo lic = (ExtractedLicenseInfo)extractedAnyLicenseInfo[i];
-			this.licenseIdToExtractedLicense.put(lic.getLicenseId().toLowerCase(), lic);
+			addExtractedLicenseToCache(extractedAnyLicenseInfo[i]);
+		}
+	}
+
+	/**
+	 * Add an extracted license info found in the model to the license cache
+	 * @param license
+	 * @throws InvalidSPDXAnalysisException if the license is not an ExtractedLicenseInfo
+	 */
+	private void addExtractedLicenseToCache(AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		if (!(license instanceof ExtractedLicenseInfo)) {
+			throw new InvalidSPDXAnalysisException("Invalid type for extracted license infos: " + license);
 		}
+		ExtractedLicenseInfo lic = (ExtractedLicenseInfo)license;
+		this.licenseIdToExtractedLicense.put(lic.getLicenseId().toLowerCase(), lic);
 	}
 
 	/**
@@ -638,20 +773,18 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		Node fileTypeNode = model.getResource(fileTypeUri).asNode();
 		Triple m = Triple.createMatch(null, rdfTypeNode, fileTypeNode);
 		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			Triple t = tripleIter.next();
-			alFiles.add(new SpdxFile(this, t.getSubject()));
+		try {
+			while (tripleIter.hasNext()) {
+				Triple t = tripleIter.next();
+				alFiles.add(new SpdxFile(this, t.getSubject()));
+			}
+		} finally {
+			tripleIter.close();
 		}
 		SpdxFile[] retval = new SpdxFile[alFiles.size()];
 		return alFiles.toArray(retval);
 	}
 
-	private void initializeExternalDocumentRefs() throws InvalidSPDXAnalysisException {
-		this.initializeExternalDocumentRefs(
-				RdfModelObject.findExternalDocRefPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
-				SpdxRdfConstants.PROP_SPDX_EXTERNAL_DOC_REF, this, documentNode));
-	}
-
 	private void initializeExternalDocumentRefs(ExternalDocumentRef[] externalDocumentRefs) throws InvalidSPDXAnalysisException {
 		this.externalDocIdToRef.clear();
 		this.externalDocNamespaceToRef.clear();
@@ -718,8 +851,12 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		Triple m = Triple.createMatch(null, rdfTypePredicate, packageTypeObject);
 		List<SpdxPackage> retval = Lists.newArrayList();
 		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			retval.add((SpdxPackage)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+		try {
+			while (tripleIter.hasNext()) {
+				retval.add((SpdxPackage)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+			}
+		} finally {
+			tripleIter.close();
 		}
 		return retval;
 	}
@@ -731,8 +868,12 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		Triple m = Triple.createMatch(null, rdfTypePredicate, fileTypeObject);
 		List<SpdxFile> retval = Lists.newArrayList();
 		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			retval.add((SpdxFile)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+		try {
+			while (tripleIter.hasNext()) {
+				retval.add((SpdxFile)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+			}
+		} finally {
+			tripleIter.close();
 		}
 		return retval;
 	}
@@ -761,14 +902,14 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		return retval;
 	}
 
-	// The following methods (createResource and ...
-	// must be synchronized since it interacts with a map of nodes and objects that represent the model
+	// The following methods (createResource and addCheckNodeObject) interact with the
+	// registry of nodes and objects that represent the model - the registry is thread safe
 
 	/* (non-Javadoc)
 	 * @see org.spdx.rdfparser.IModelContainer#createResource(org.apache.jena.rdf.model.Resource, java.lang.String, org.apache.jena.rdf.model.Resource)
 	 */
 	@Override
-	public synchronized Resource createResource(Resource duplicate, String uri, Resource type, IRdfModel nodeObject) {
+	public Resource createResource(Resource duplicate, String uri, Resource type, IRdfModel nodeObject) {
 		Resource retval;
 		if (duplicate != null) {
 			retval = duplicate;
@@ -777,28 +918,10 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		} else {
 			retval = model.createResource(uri, type);
 		}
-		Node node = retval.asNode();
-		List<IRdfModel> existingModelObjects = this.nodeModelMap.get(node);
-		if (existingModelObjects == null) {
-			existingModelObjects = new ArrayList<IRdfModel>();
-			this.nodeModelMap.put(node, existingModelObjects);
-		}
-		boolean found = false;
-		for (IRdfModel existing:existingModelObjects) {
-			if (existing == nodeObject) {
-				found = true;
-				break;
-			}
-		}
-		if (!found) {
-			existingModelObjects.add(nodeObject);
-		}
-		if (existingModelObjects.size() == 1) {
+		if (this.nodeModelRegistry.register(retval.asNode(), nodeObject) == 1) {
 			nodeObject.setSingleObjectForSameNode();
 		} else {
-			for (IRdfModel allNodeObjects:existingModelObjects) {
-				allNodeObjects.setMultipleObjectsForSameNode();
-			}
+			nodeObject.setMultipleObjectsForSameNode();
 		}
 		return retval;
 	}
@@ -807,39 +930,8 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 	 * @see org.spdx.rdfparser.IModelContainer#addNodeObject(org.apache.jena.graph.Node, org.spdx.rdfparser.model.IRdfModel)
 	 */
 	@Override
-	public synchronized boolean addCheckNodeObject(Node node, IRdfModel nodeObject) {
-		List<IRdfModel> existingModelObjects = this.nodeModelMap.get(node);
-		if (existingModelObjects == null) {
-			existingModelObjects = new ArrayList<IRdfModel>();
-			this.nodeModelMap.put(node, existingModelObjects);
-		}
-		boolean found = false;
-		for (IRdfModel existing:existingModelObjects) {
-			if (existing == nodeObject) {
-				found = true;
-				break;
-			}
-		}
-		if (found) {
-			if (existingModelObjects.size() == 1) {
-				// nothing we need to do
-				return false;
-			} else {
-				// multiple objects
-				return true;
-			}
-		} else {
-			if (existingModelObjects.size() > 0) {
-				for (IRdfModel existing:existingModelObjects) {
-					existing.setMultipleObjectsForSameNode();
-				}
-				existingModelObjects.add(nodeObject);
-				return true;
-			} else {
-				existingModelObjects.add(nodeObject);
-				return false;
-			}
-		}
+	public boolean addCheckNodeObject(Node node, IRdfModel nodeObject) {
+		return this.nodeModelRegistry.register(node, nodeObject) > 1;
 	}
 
 	/**
@@ -853,9 +945,66 @@ public class SpdxDocumentContainer implements IModelContainer, SpdxRdfConstants
 		Triple m = Triple.createMatch(null, rdfTypePredicate, snippetTypeObject);
 		List<SpdxSnippet> retval = Lists.newArrayList();
 		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			retval.add((SpdxSnippet)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+		try {
+			while (tripleIter.hasNext()) {
+				retval.add((SpdxSnippet)SpdxElementFactory.createElementFromModel(this, tripleIter.next().getSubject()));
+			}
+		} finally {
+			tripleIter.close();
 		}
 		return retval;
 	}
+
+	/**
+	 * @return index of the byte and line ranges of all snippets in the document container.  The index
+	 * is created from the model on first use and is updated as snippets are added or their ranges change.
+	 */
+	public synchronized SnippetRangeIndex getSnippetRangeIndex() {
+		if (this.snippetRangeIndex == null) {
+			this.snippetRangeIndex = new SnippetRangeIndex(this);
+		}
+		return this.snippetRangeIndex;
+	}
+
+	/**
+	 * @return index of all files in the document container by normalized file name and SHA1 checksum.  The index
+	 * is created from the model on first use and is updated as files are added or their names or checksums change.
+	 */
+	public synchronized SpdxFileIndex getFileIndex() {
+		if (this.fileIndex == null) {
+			this.fileIndex = new SpdxFileIndex(this);
+		}
+		return this.fileIndex;
+	}
+
+	/**
+	 * Enable storing the file level properties of SPDX files in a compact column store rather than
+	 * in the fields of each SpdxFile object.  Files read from the model or added after this call
+	 * are kept in the store, which reduces the memory used for documents with a large number of files.
+	 * @return the compact file store for this document container
+	 */
+	public synchronized CompactFileStore enableCompactFileStore() {
+		if (this.compactFileStore == null) {
+			this.compactFileStore = new CompactFileStore();
+		}
+		return this.compactFileStore;
+	}
+
+	/**
+	 * @return the compact file store or null if the compact file store has not been enabled
+	 */
+	public synchronized CompactFileStore getCompactFileStore() {
+		return this.compactFileStore;
+	}
+
+	/**
+	 * Build an index of all relationships and package files in the document container.
+	 * The index is a snapshot - changes made to the document after this call are not
+	 * reflected in the returned index.
+	 * @return relationship index for the current contents of the document container
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public RelationshipGraph getRelationshipGraph() throws InvalidSPDXAnalysisException {
+		return new RelationshipGraph(this);
+	}
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.spdx.compare.NormalizedFileNameComparator;
+
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Index of the SPDX files in a model by normalized file name and SHA1 checksum.
+ *
+ * Used to find an existing file with the same name and SHA1 checksum when a file is added
+ * to a document without searching the model.  Any number of files may share the same name.
+ * Files without a name or a SHA1 checksum are not indexed.  The index is thread safe.
+ *
+ * @author agent
+ *
+ */
+public class SpdxFileIndex {
+
+	private SetMultimap<String, Node> keyToFiles = LinkedHashMultimap.create();
+	private Map<Node, String> fileToKey = Maps.newHashMap();
+
+	/**
+	 * Create an empty index
+	 */
+	public SpdxFileIndex() {
+	}
+
+	/**
+	 * Create an index containing all files currently in the model
+	 * @param modelContainer
+	 */
+	public SpdxFileIndex(IModelContainer modelContainer) {
+		Graph graph = modelContainer.getModel().getGraph();
+		Node fileNameProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_FILE_NAME);
+		Node checksumProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_FILE_CHECKSUM);
+		Node algorithmProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_CHECKSUM_ALGORITHM);
+		Node valueProperty = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_CHECKSUM_VALUE);
+		Node sha1Algorithm = NodeFactory.createURI(SpdxRdfConstants.SPDX_NAMESPACE + SpdxRdfConstants.PROP_CHECKSUM_ALGORITHM_SHA1);
+		ExtendedIterator<Triple> nameIter = graph.find(Node.ANY, fileNameProperty, Node.ANY);
+		try {
+			while (nameIter.hasNext()) {
+				Triple t = nameIter.next();
+				if (!t.getObject().isLiteral()) {
+					continue;
+				}
+				ExtendedIterator<Triple> checksumIter = graph.find(t.getSubject(), checksumProperty, Node.ANY);
+				try {
+					while (checksumIter.hasNext()) {
+						Node checksum = checksumIter.next().getObject();
+						if (graph.contains(checksum, algorithmProperty, sha1Algorithm)) {
+							ExtendedIterator<Triple> valueIter = graph.find(checksum, valueProperty, Node.ANY);
+							try {
+								if (valueIter.hasNext()) {
+									Node value = valueIter.next().getObject();
+									if (value.isLiteral()) {
+										updateFile(t.getSubject(), t.getObject().getLiteralLexicalForm(), value.getLiteralLexicalForm());
+									}
+								}
+							} finally {
+								valueIter.close();
+							}
+							break;
+						}
+					}
+				} finally {
+					checksumIter.close();
+				}
+			}
+		} finally {
+			nameIter.close();
+		}
+	}
+
+	/**
+	 * @param fileName
+	 * @param sha1
+	 * @return the key for the file name and SHA1 or null if either is missing
+	 */
+	private static String formKey(String fileName, String sha1) {
+		if (fileName == null || sha1 == null) {
+			return null;
+		}
+		String normalizedSha1 = sha1.trim().toLowerCase(Locale.ROOT);
+		if (normalizedSha1.isEmpty()) {
+			return null;
+		}
+		return normalizedSha1 + ' ' + NormalizedFileNameComparator.normalizeFileName(fileName);
+	}
+
+	/**
+	 * Add or replace the file name and SHA1 for a file
+	 * @param file node for the file
+	 * @param fileName name of the file
+	 * @param sha1 SHA1 checksum value for the file - may be null or empty if the file does not have a SHA1 checksum
+	 */
+	public synchronized void updateFile(Node file, String fileName, String sha1) {
+		removeFile(file);
+		String key = formKey(fileName, sha1);
+		if (key != null) {
+			keyToFiles.put(key, file);
+			fileToKey.put(file, key);
+		}
+	}
+
+	/**
+	 * Remove a file from the index
+	 * @param file node for the file
+	 */
+	public synchronized void removeFile(Node file) {
+		String key = fileToKey.remove(file);
+		if (key != null) {
+			keyToFiles.remove(key, file);
+		}
+	}
+
+	/**
+	 * @return the number of files in the index
+	 */
+	public synchronized int size() {
+		return fileToKey.size();
+	}
+
+	/**
+	 * @param fileName
+	 * @param sha1
+	 * @return the node of the first file added with the same normalized name and SHA1 or null if none exist
+	 */
+	public synchronized Node findFile(String fileName, String sha1) {
+		String key = formKey(fileName, sha1);
+		if (key == null) {
+			return null;
+		}
+		Set<Node> files = keyToFiles.get(key);
+		return files.isEmpty() ? null : files.iterator().next();
+	}
+
+	/**
+	 * @param fileName
+	 * @param sha1
+	 * @return nodes for all files with the same normalized name and SHA1 in the order they were added
+	 */
+	public synchronized List<Node> findFiles(String fileName, String sha1) {
+		String key = formKey(fileName, sha1);
+		if (key == null) {
+			return Lists.newArrayList();
+		}
+		return Lists.newArrayList(keyToFiles.get(key));
+	}
+}
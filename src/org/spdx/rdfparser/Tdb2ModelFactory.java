@@ -0,0 +1,306 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.TransactionHandler;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.graph.impl.TransactionHandlerBase;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.sparql.JenaTransactionException;
+import org.apache.jena.system.Txn;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.tdb2.sys.TDBInternal;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+import org.apache.jena.vocabulary.RDF;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Model factory storing each model as a named graph in an on-disk Jena TDB2 dataset.
+ *
+ * TDB2 only allows access to the data within a transaction.  Callers reading or updating a
+ * document in the store should run the work in a transaction using
+ * <code>Txn.executeRead(getDataset(), ...)</code> or <code>Txn.executeWrite(getDataset(), ...)</code>.
+ * Searches made within a transaction return the results directly from the store.
+ *
+ * Outside of a transaction, the models returned by this factory run each update, and each search
+ * for the properties of a specific subject or value, in its own short transaction so that small
+ * reads and updates can be made from any thread.  Searches which can match a large part of the
+ * graph - any subject with any value, or any subject of an rdf:type - are not copied out of the
+ * store and throw a <code>JenaTransactionException</code> when the calling thread is not in a
+ * transaction.
+ *
+ * The database for a directory is shared by all factories opened on that directory and is
+ * released, including its file lock, when the last of them is closed.
+ *
+ * Each update is committed individually.  To load or change a large amount of data, run the
+ * updates in a single write transaction using <code>model.executeInTxn</code> or
+ * <code>Txn.executeWrite(getDataset(), ...)</code>.
+ *
+ * @author agent
+ *
+ */
+public class Tdb2ModelFactory implements IModelFactory, Closeable {
+
+	/**
+	 * Number of open factories for each store location - the database is released when the count reaches 0
+	 */
+	private static final Map<String, Integer> openFactoryCounts = Maps.newHashMap();
+	/**
+	 * Factories shared by all callers opening a store by its directory
+	 */
+	private static final Map<String, Tdb2ModelFactory> sharedFactories = Maps.newHashMap();
+
+	private File directory;
+	private String location;
+	private Dataset dataset;
+	private boolean closed = false;
+
+	/**
+	 * Open the TDB2 store in a directory - the store is created if the directory is empty or does not exist.
+	 * The factory must be closed to release the store.
+	 * @param directory
+	 */
+	public Tdb2ModelFactory(File directory) {
+		this.directory = directory;
+		this.location = toLocation(directory);
+		synchronized(openFactoryCounts) {
+			this.dataset = TDB2Factory.connectDataset(location);
+			openFactoryCounts.merge(location, 1, Integer::sum);
+		}
+	}
+
+	private static String toLocation(File directory) {
+		return directory.getAbsoluteFile().toPath().normalize().toString();
+	}
+
+	/**
+	 * Get the factory shared by all callers for a store directory, opening the store if it is not already
+	 * open.  The store remains open until the shared factory is closed.
+	 * @param directory
+	 * @return the shared factory for the directory
+	 */
+	public static Tdb2ModelFactory getSharedFactory(File directory) {
+		String location = toLocation(directory);
+		synchronized(openFactoryCounts) {
+			Tdb2ModelFactory retval = sharedFactories.get(location);
+			if (retval == null) {
+				retval = new Tdb2ModelFactory(directory);
+				sharedFactories.put(location, retval);
+			}
+			return retval;
+		}
+	}
+
+	/**
+	 * @return the directory containing the store
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return the TDB2 dataset for the store
+	 */
+	public Dataset getDataset() {
+		return dataset;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.IModelFactory#createModel(java.lang.String)
+	 */
+	@Override
+	public Model createModel(String name) {
+		Graph graph = dataset.asDatasetGraph().getGraph(NodeFactory.createURI(name));
+		return ModelFactory.createModelForGraph(new TransactionalGraph(dataset, graph));
+	}
+
+	/**
+	 * @return the names of all models containing data in the store
+	 */
+	public List<String> getModelNames() {
+		return Txn.calculateRead(dataset, () -> {
+			List<String> retval = Lists.newArrayList();
+			Iterator<Node> iter = dataset.asDatasetGraph().listGraphNodes();
+			while (iter.hasNext()) {
+				Node graphNode = iter.next();
+				if (graphNode.isURI()) {
+					retval.add(graphNode.getURI());
+				}
+			}
+			return retval;
+		});
+	}
+
+	/**
+	 * Remove all data stored for a model
+	 * @param name URI identifying the model within the store
+	 */
+	public void removeModel(String name) {
+		Node graphNode = NodeFactory.createURI(name);
+		Txn.executeWrite(dataset, () -> {
+			dataset.asDatasetGraph().deleteAny(graphNode, Node.ANY, Node.ANY, Node.ANY);
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+		synchronized(openFactoryCounts) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (sharedFactories.get(location) == this) {
+				sharedFactories.remove(location);
+			}
+			if (dataset.isInTransaction()) {
+				dataset.abort();
+				dataset.end();
+			}
+			int openCount = openFactoryCounts.merge(location, -1, Integer::sum);
+			if (openCount <= 0) {
+				openFactoryCounts.remove(location);
+				// release the database and its lock so the store can be opened by other processes
+				TDBInternal.expel(dataset.asDatasetGraph());
+			}
+		}
+	}
+
+	/**
+	 * Graph running each operation on a TDB2 graph in a transaction
+	 */
+	static class TransactionalGraph extends GraphBase {
+
+		private Dataset dataset;
+		private Graph graph;
+
+		TransactionalGraph(Dataset dataset, Graph graph) {
+			this.dataset = dataset;
+			this.graph = graph;
+		}
+
+		@Override
+		protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+			if (dataset.isInTransaction()) {
+				return graph.find(triplePattern);
+			}
+			if (isLargeMatch(triplePattern)) {
+				throw new JenaTransactionException("Searches which can match a large part of a TDB2 graph must be run in a transaction - "+
+						"use Txn.executeRead or Txn.executeWrite on the store dataset");
+			}
+			List<Triple> result = Txn.calculateRead(dataset, () -> graph.find(triplePattern).toList());
+			return WrappedIterator.create(result.iterator());
+		}
+
+		/**
+		 * @param triplePattern
+		 * @return true if the pattern can match a large part of the graph
+		 */
+		private static boolean isLargeMatch(Triple triplePattern) {
+			return !triplePattern.getSubject().isConcrete() &&
+					(!triplePattern.getObject().isConcrete() || RDF.type.asNode().equals(triplePattern.getPredicate()));
+		}
+
+		@Override
+		protected boolean graphBaseContains(Triple t) {
+			return Txn.calculateRead(dataset, () -> graph.contains(t));
+		}
+
+		@Override
+		protected int graphBaseSize() {
+			return Txn.calculateRead(dataset, () -> graph.size());
+		}
+
+		@Override
+		public void performAdd(Triple t) {
+			Txn.executeWrite(dataset, () -> graph.add(t));
+		}
+
+		@Override
+		public void performDelete(Triple t) {
+			Txn.executeWrite(dataset, () -> graph.delete(t));
+		}
+
+		@Override
+		protected PrefixMapping createPrefixMapping() {
+			// Prefixes are copied once from the store and written through to the store when changed
+			Map<String, String> storedPrefixes = Txn.calculateRead(dataset, () -> graph.getPrefixMapping().getNsPrefixMap());
+			PrefixMapping retval = new PrefixMappingImpl() {
+				@Override
+				public PrefixMapping setNsPrefix(String prefix, String uri) {
+					super.setNsPrefix(prefix, uri);
+					if (!uri.equals(storedPrefixes.get(prefix))) {
+						Txn.executeWrite(dataset, () -> {
+							graph.getPrefixMapping().setNsPrefix(prefix, uri);
+						});
+					}
+					return this;
+				}
+			};
+			retval.setNsPrefixes(storedPrefixes);
+			return retval;
+		}
+
+		@Override
+		public TransactionHandler getTransactionHandler() {
+			return new TransactionHandlerBase() {
+
+				@Override
+				public boolean transactionsSupported() {
+					return true;
+				}
+
+				@Override
+				public void begin() {
+					dataset.begin(ReadWrite.WRITE);
+				}
+
+				@Override
+				public void abort() {
+					dataset.abort();
+					dataset.end();
+				}
+
+				@Override
+				public void commit() {
+					dataset.commit();
+					dataset.end();
+				}
+			};
+		}
+	}
+}
@@ -21,10 +21,10 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.spdx.rdfparser.model.SpdxFile;
 
@@ -39,12 +39,17 @@ import com.google.common.collect.Sets;
  * be used as a hook to capture all files in the directory and capture the checksum values at
  * a file level.
  *
+ * The SHA1 digest used to calculate the verification code is reused between calls, so a single
+ * instance should not be used by multiple threads at the same time.
+ *
  * @author Gary O'Neall
  *
  */
 public class VerificationCodeGenerator {
 
 	private IFileChecksumGenerator fileChecksumGenerator;
+	private MessageDigest verificationCodeDigest = null;
+	private byte[] checksumBytes = new byte[40];
 
 	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator) {
 		this.fileChecksumGenerator = fileChecksumGenerator;
@@ -69,7 +74,7 @@ public class VerificationCodeGenerator {
 				}
 			}
 		}
-		List<String> fileChecksums = Lists.newArrayList();
+		List<String> fileChecksums = Lists.newArrayListWithCapacity(spdxFiles.length);
 		for (int i = 0; i < spdxFiles.length; i++) {
 			if (spdxFiles[i] != null && spdxFiles[i].getName() != null &&
 					!skippedFilePathSet.contains(spdxFiles[i].getName())) {
@@ -83,21 +88,53 @@ public class VerificationCodeGenerator {
 	/**
 	 * Generate the SPDX Package Verification Code from a directory of files included in the archive
 	 * @param sourceDirectory
+	 * @param skippedFiles files to exclude from the verification code
 	 * @return
 	 * @throws NoSuchAlgorithmException
 	 * @throws IOException
 	 */
 	public SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory, File[] skippedFiles) throws NoSuchAlgorithmException, IOException {
 		// create a sorted list of file paths
-		Set<String> skippedFilesPath = Sets.newTreeSet();
+		final Set<String> skippedFilesPath = Sets.newTreeSet();
 		String rootOfDirectory = sourceDirectory.getAbsolutePath();
 		int rootLen = rootOfDirectory.length()+1;
 		for (int i = 0; i < skippedFiles.length; i++) {
 			String skippedPath = normalizeFilePath(skippedFiles[i].getAbsolutePath().substring(rootLen));
 			skippedFilesPath.add(skippedPath);
 		}
+		return generatePackageVerificationCode(sourceDirectory, skippedFilesPath,
+				relativePath -> skippedFilesPath.contains(normalizeFilePath(relativePath)));
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from a directory of files included in the archive
+	 * with a single traversal of the directory
+	 * @param sourceDirectory
+	 * @param skippedFilePredicate Tested against the path of each file relative to the source directory
+	 * using the platform file separator (e.g. <code>dir/file.c</code>).  Files for which the predicate
+	 * returns true are excluded from the verification code.
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory,
+			Predicate<String> skippedFilePredicate) throws NoSuchAlgorithmException, IOException {
+		return generatePackageVerificationCode(sourceDirectory, Sets.newTreeSet(), skippedFilePredicate);
+	}
+
+	/**
+	 * @param sourceDirectory
+	 * @param skippedFilesPath sorted set of normalized skipped file paths which is updated with the skipped files found
+	 * @param skippedFilePredicate
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException
+	 */
+	private SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory, Set<String> skippedFilesPath,
+			Predicate<String> skippedFilePredicate) throws NoSuchAlgorithmException, IOException {
+		String rootOfDirectory = sourceDirectory.getAbsolutePath();
 		List<String> fileChecksums = Lists.newArrayList();
-		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilesPath);
+		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilePredicate, skippedFilesPath);
 		String[] skippedFileNames = new String[skippedFilesPath.size()];
 		Iterator<String> iter = skippedFilesPath.iterator();
 		int i = 0;
@@ -107,28 +144,59 @@ public class VerificationCodeGenerator {
 		return generatePackageVerificationCode(fileChecksums, skippedFileNames);
 	}
 
+	/**
+	 * @param fileChecksums SHA1 checksums of the files included in the verification code - the list is sorted in place
+	 * @param skippedFilePaths
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 */
 	protected SpdxPackageVerificationCode generatePackageVerificationCode(List<String> fileChecksums,
 			String[] skippedFilePaths) throws NoSuchAlgorithmException {
-		Collections.sort(fileChecksums);
-		MessageDigest verificationCodeDigest = MessageDigest.getInstance("SHA-1");
+		fileChecksums.sort(null);
+		if (verificationCodeDigest == null) {
+			verificationCodeDigest = MessageDigest.getInstance("SHA-1");
+		}
 		for (int i = 0;i < fileChecksums.size(); i++) {
-			byte[] hashInput = fileChecksums.get(i).getBytes(Charset.forName("UTF-8"));
-			verificationCodeDigest.update(hashInput);
+			updateDigest(fileChecksums.get(i));
 		}
 		String value = convertChecksumToString(verificationCodeDigest.digest());
 		SpdxPackageVerificationCode retval = new SpdxPackageVerificationCode(value, skippedFilePaths);
 		return retval;
 	}
 
+	/**
+	 * Update the verification code digest with the UTF-8 bytes of a checksum.  Checksums are
+	 * normally ASCII hex strings which are copied into a reused buffer.
+	 * @param checksum
+	 */
+	private void updateDigest(String checksum) {
+		int len = checksum.length();
+		if (len > checksumBytes.length) {
+			checksumBytes = new byte[len];
+		}
+		for (int i = 0; i < len; i++) {
+			char ch = checksum.charAt(i);
+			if (ch > 0x7F) {
+				verificationCodeDigest.update(checksum.getBytes(Charset.forName("UTF-8")));
+				return;
+			}
+			checksumBytes[i] = (byte)ch;
+		}
+		verificationCodeDigest.update(checksumBytes, 0, len);
+	}
+
 	/**
 	 * Collect the file level checksums and filenames
 	 * @param prefixForRelative The portion of the filepath which preceeds the relative file path for the archive
 	 * @param sourceDirectory
 	 * @param fileNameAndChecksums
+	 * @param skippedFilePredicate true for the relative file paths to be skipped
+	 * @param skippedFiles set of normalized file paths to which the skipped files are added
 	 * @throws IOException
 	 */
 	private void collectFileData(String prefixForRelative, File sourceDirectory,
-			List<String> fileNameAndChecksums, Set<String> skippedFiles) throws IOException {
+			List<String> fileNameAndChecksums, Predicate<String> skippedFilePredicate,
+			Set<String> skippedFiles) throws IOException {
 		if (!sourceDirectory.isDirectory()) {
 			return;
 		}
@@ -138,11 +206,12 @@ public class VerificationCodeGenerator {
 		}
 		for (int i = 0; i < filesAndDirs.length; i++) {
 			if (filesAndDirs[i].isDirectory()) {
-				collectFileData(prefixForRelative, filesAndDirs[i], fileNameAndChecksums, skippedFiles);
+				collectFileData(prefixForRelative, filesAndDirs[i], fileNameAndChecksums, skippedFilePredicate, skippedFiles);
 			} else {
-				String filePath = normalizeFilePath(filesAndDirs[i].getAbsolutePath()
-						.substring(prefixForRelative.length()+1));
-				if (!skippedFiles.contains(filePath)) {
+				String relativePath = filesAndDirs[i].getAbsolutePath().substring(prefixForRelative.length()+1);
+				if (skippedFilePredicate.test(relativePath)) {
+					skippedFiles.add(normalizeFilePath(relativePath));
+				} else {
 					String checksumValue = this.fileChecksumGenerator.getFileChecksum(filesAndDirs[i]).toLowerCase();
 					fileNameAndChecksums.add(checksumValue);
 				}
@@ -188,7 +257,7 @@ public class VerificationCodeGenerator {
 	 * @param digest
 	 * @return
 	 */
-	private static String convertChecksumToString(byte[] digest) {
+	static String convertChecksumToString(byte[] digest) {
 		StringBuilder sb = new StringBuilder();
 		for (int i = 0; i < digest.length; i++) {
 			String hex = Integer.toHexString(0xff & digest[i]);
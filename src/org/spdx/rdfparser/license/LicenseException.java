@@ -367,15 +367,19 @@ public class LicenseException implements IRdfModel, Cloneable  {
 				SpdxRdfConstants.CLASS_SPDX_LICENSE_EXCEPTION);
 		Triple m = Triple.createMatch(null, idProperty.asNode(), null);
 		ExtendedIterator<Triple> tripleIter = model.getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			Triple t = tripleIter.next();
-			if (t.getObject().toString(false).equals(id)) {
-				Triple typeMatch = Triple.createMatch(t.getSubject(), typeProperty.asNode(), exceptionTypeProperty.asNode());
-				ExtendedIterator<Triple> typeTripleIter = model.getGraph().find(typeMatch);
-				if (typeTripleIter.hasNext()) {
-					return t.getSubject();
+		try {
+			while (tripleIter.hasNext()) {
+				Triple t = tripleIter.next();
+				if (t.getObject().toString(false).equals(id)) {
+					Triple typeMatch = Triple.createMatch(t.getSubject(), typeProperty.asNode(), exceptionTypeProperty.asNode());
+					ExtendedIterator<Triple> typeTripleIter = model.getGraph().find(typeMatch);
+					if (typeTripleIter.hasNext()) {
+						return t.getSubject();
+					}
 				}
 			}
+		} finally {
+			tripleIter.close();
 		}
 		return null;
 	}
@@ -26,6 +26,8 @@ import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.SpdxRdfConstants;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
@@ -44,10 +46,16 @@ public class LicenseExpressionParser {
 	};
 	static final String LEFT_PAREN = "(";
 	static final String RIGHT_PAREN = ")";
+	static final String OR_LATER = "+";
+	/**
+	 * Cache of parsed expressions which are not associated with a container
+	 */
+	static final Cache<String, AnyLicenseInfo> UNBOUND_EXPRESSION_CACHE = CacheBuilder.newBuilder()
+			.maximumSize(SpdxDocumentContainer.MAX_CACHED_LICENSE_EXPRESSIONS).build();
 	static final Map<String, Operator> OPERATOR_MAP = Maps.newHashMap();
 
 	static {
-		OPERATOR_MAP.put("+", Operator.OR_LATER);
+		OPERATOR_MAP.put(OR_LATER, Operator.OR_LATER);
 		OPERATOR_MAP.put("and", Operator.AND);
 		OPERATOR_MAP.put("or", Operator.OR);
 		OPERATOR_MAP.put("with", Operator.WITH);
@@ -64,54 +72,111 @@ public class LicenseExpressionParser {
 		if (expression == null || expression.trim().isEmpty()) {
 			throw(new LicenseParserException("Empty license expression"));
 		}
+		Cache<String, AnyLicenseInfo> cache = container == null ? UNBOUND_EXPRESSION_CACHE : container.getLicenseExpressionCache();
+		AnyLicenseInfo cached = cache.getIfPresent(expression);
+		if (cached != null) {
+			return copyLicenseTree(cached, container);
+		}
 		String[] tokens  = tokenizeExpression(expression);
 		if (tokens.length == 1 && tokens[0].toLowerCase().equals(SpdxRdfConstants.NOASSERTION_VALUE.toLowerCase())) {
 			return new SpdxNoAssertionLicense();
 		} else if (tokens.length == 1 && tokens[0].toLowerCase().equals(SpdxRdfConstants.NONE_VALUE.toLowerCase())) {
 			return new SpdxNoneLicense();
 		} else {
+			AnyLicenseInfo retval;
 			try {
-				return parseLicenseExpression(tokens, container);
+				retval = parseLicenseExpression(tokens, container);
 			} catch (EmptyStackException ex) {
 				throw(new LicenseParserException("Invalid license expression - check that every operator (e.g. AND and OR) has operators and that parenthesis are matched"));
 			}
+			// The caller may modify the operators of the returned license, so we cache a copy
+			cache.put(expression, copyLicenseTree(retval, container));
+			return retval;
 		}
 	}
 
 	/**
-	 * A custom tokenizer since there is not white space between parents and pluses
+	 * Copy a parsed license expression.  The license sets and operators are always copied
+	 * since they may be modified by the caller.  If there is a container, the listed licenses and listed
+	 * exceptions are shared rather than copied and the extracted licenses are resolved from the container.
+	 * @param license parsed license expression
+	 * @param container Container containing any extractedLicenseInfos.  If null, all licenses are cloned.
+	 * @return copy of the license expression
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static AnyLicenseInfo copyLicenseTree(AnyLicenseInfo license, SpdxDocumentContainer container) throws InvalidSPDXAnalysisException {
+		if (license instanceof LicenseSet) {
+			AnyLicenseInfo[] members = ((LicenseSet)license).getMembers();
+			AnyLicenseInfo[] copiedMembers = new AnyLicenseInfo[members.length];
+			for (int i = 0; i < members.length; i++) {
+				copiedMembers[i] = copyLicenseTree(members[i], container);
+			}
+			if (license instanceof ConjunctiveLicenseSet) {
+				return new ConjunctiveLicenseSet(copiedMembers);
+			} else {
+				return new DisjunctiveLicenseSet(copiedMembers);
+			}
+		} else if (license instanceof WithExceptionOperator) {
+			WithExceptionOperator withException = (WithExceptionOperator)license;
+			LicenseException exception = withException.getException();
+			if (container == null || !(exception instanceof ListedLicenseException)) {
+				exception = exception.clone();
+			}
+			return new WithExceptionOperator(copyLicenseTree(withException.getLicense(), container), exception);
+		} else if (license instanceof OrLaterOperator) {
+			return new OrLaterOperator((SimpleLicensingInfo)copyLicenseTree(((OrLaterOperator)license).getLicense(), container));
+		} else if (container != null && license instanceof ExtractedLicenseInfo) {
+			return parseSimpleLicenseToken(((ExtractedLicenseInfo)license).getLicenseId(), container);
+		} else if (container != null && license instanceof SpdxListedLicense) {
+			return license;
+		} else {
+			return license.clone();
+		}
+	}
+
+	/**
+	 * A custom tokenizer since there is not white space between parents and pluses.
+	 * Leading left parenthesis and trailing right parenthesis and pluses are separate tokens.
 	 * @param expression
 	 * @return
 	 */
-	private static String[] tokenizeExpression(String expression) {
-		String[] startTokens = expression.split("\\s");
-		List<String> endTokens = Lists.newArrayList();
-		for (String token : startTokens) {
-			processPreToken(token, endTokens);
+	static String[] tokenizeExpression(String expression) {
+		List<String> tokens = Lists.newArrayList();
+		int len = expression.length();
+		int pos = 0;
+		while (pos < len) {
+			while (pos < len && isWhitespace(expression.charAt(pos))) {
+				pos++;
+			}
+			int start = pos;
+			while (pos < len && !isWhitespace(expression.charAt(pos))) {
+				pos++;
+			}
+			int end = pos;
+			while (start < end && expression.charAt(start) == '(') {
+				tokens.add(LEFT_PAREN);
+				start++;
+			}
+			int trailingStart = end;
+			while (trailingStart > start && (expression.charAt(trailingStart - 1) == ')' || expression.charAt(trailingStart - 1) == '+')) {
+				trailingStart--;
+			}
+			if (trailingStart > start) {
+				tokens.add(expression.substring(start, trailingStart));
+			}
+			for (int i = trailingStart; i < end; i++) {
+				tokens.add(expression.charAt(i) == ')' ? RIGHT_PAREN : OR_LATER);
+			}
 		}
-		return endTokens.toArray(new String[endTokens.size()]);
+		return tokens.toArray(new String[tokens.size()]);
 	}
 
 	/**
-	 * @param preToken
-	 * @param tokenList
+	 * @param c
+	 * @return true if c is a whitespace character as defined by the regular expression \\s
 	 */
-	private static void processPreToken(String preToken,
-			List<String> tokenList) {
-		if (preToken.isEmpty()) {
-			return;
-		} else if (preToken.startsWith("(")) {
-			tokenList.add("(");
-			processPreToken(preToken.substring(1), tokenList);
-		} else if (preToken.endsWith(")")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add(")");
-		} else if (preToken.endsWith("+")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add("+");
-		} else {
-			tokenList.add(preToken);
-		}
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
 	}
 
 	/**
@@ -26,9 +26,9 @@ import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -46,7 +46,8 @@ import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.model.IRdfModel;
 
-import com.google.common.collect.Maps;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Sets;
 import com.google.gson.Gson;
 
@@ -61,15 +62,16 @@ public class ListedExceptions implements IModelContainer {
 	static final String LISTED_LICENSE_ID_URL = "http://spdx.org/licenses/";
 	private static final String EXCEPTION_TOC_FILENAME = "exceptions.json";
 
-	private Model listedExceptionModel = null;
+	private volatile Model listedExceptionModel = null;
 
 	Set<String> listdExceptionIds = null;
 
-	Map<String, ListedLicenseException> listedExceptionCache = null;
-	Map<IModelContainer, Map<Node, ListedLicenseException>> listedExceptionNodeCache = Maps.newHashMap();
+	Cache<String, ListedLicenseException> listedExceptionCache = null;
+	Cache<IModelContainer, ConcurrentMap<Node, ListedLicenseException>> listedExceptionNodeCache = ListedLicenseCaches.newNodeCache();
 
     boolean onlyUseLocalLicenses;
     File localLicensesDir = null;
+    long maxCacheSize = 0;
     
     String licenseListVersion = ListedLicenses.DEFAULT_LICENSE_LIST_VERSION;
 
@@ -89,6 +91,7 @@ public class ListedExceptions implements IModelContainer {
 	private ListedExceptions() {
 		onlyUseLocalLicenses = ListedLicenses.getListedLicenses().onlyUseLocalLicenses;
 		localLicensesDir = ListedLicenses.getListedLicenses().localLicensesDir;
+		maxCacheSize = ListedLicenses.getListedLicenses().maxCacheSize;
 		loadListedExceptionIDs();
 	}
 
@@ -122,26 +125,32 @@ public class ListedExceptions implements IModelContainer {
         }
     }
 
-	/* (non-Javadoc)
+	/**
+	 * The listed exceptions loaded from a URI are cached in their own models and are not copied
+	 * into this model.  A listed exception is only added to this model when it is referenced by
+	 * a node in this model through <code>getLicenseFromStdLicModel</code>.
 	 * @see org.spdx.rdfparser.IModelContainer#getModel()
 	 */
 	@Override
 	public Model getModel() {
-		listedExceptionModificationLock.writeLock().lock();
-		try {
-			if (listedExceptionModel == null) {
-				listedExceptionModel = ModelFactory.createDefaultModel();
-			}
-		} finally {
-            listedExceptionModificationLock.writeLock().unlock();
-        }
-		return listedExceptionModel;
+		Model retval = listedExceptionModel;
+		if (retval == null) {
+			listedExceptionModificationLock.writeLock().lock();
+			try {
+				if (listedExceptionModel == null) {
+					listedExceptionModel = ModelFactory.createDefaultModel();
+				}
+				retval = listedExceptionModel;
+			} finally {
+	            listedExceptionModificationLock.writeLock().unlock();
+	        }
+		}
+		return retval;
 	}
 
 	/**
 	 * Get a listed exception based on a URI.  The URI can be a file or a web resource.
-	 * The exception information is copied into the listedExceptionModel and the exception
-	 * is placed into the cache.
+	 * The exception is placed into the cache together with the model it was loaded into.
 	 * @param uri
 	 * @return
 	 * @throws InvalidSPDXAnalysisException
@@ -154,15 +163,17 @@ public class ListedExceptions implements IModelContainer {
             throw new InvalidSPDXAnalysisException("Invalid listed exception URL: " + e.getMessage());
         }
         String id = urlToId(exceptionUrl);
-        //We will not enforce that the cache miss and the subsequent caching of the retrieved license be atomic.
-        listedExceptionModificationLock.readLock().lock();
-        try {
-            if (listedExceptionCache.containsKey(id)) {
-                return listedExceptionCache.get(id);
-            }
-        } finally {
-            listedExceptionModificationLock.readLock().unlock();
-        }
+        return ListedLicenseCaches.getOrLoad(listedExceptionCache, id, () -> loadExceptionFromUri(uri, id));
+    }
+
+	/**
+	 * Load a listed exception from a URI into a model owned by the exception
+	 * @param uri
+	 * @param id
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private ListedLicenseException loadExceptionFromUri(String uri, String id) throws InvalidSPDXAnalysisException {
 		String base = LISTED_LICENSE_ID_URL + id;
 		final Model localExceptionModel = getExceptionModel(uri, base);
 		if (localExceptionModel == null) {
@@ -227,21 +238,8 @@ public class ListedExceptions implements IModelContainer {
 			}
 
 		};
-		ListedLicenseException retval;
-		if (this.getModel().equals(localExceptionModel)) {
-			retval = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
-		} else {	// we need to copy from the local model into this model
-			ListedLicenseException localException = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
-			retval = (ListedLicenseException)localException.clone();
-			retval.createResource(this);
-        }
-        listedExceptionModificationLock.writeLock().lock();
-        try {
-            listedExceptionCache.put(id, retval);
-        } finally {
-            listedExceptionModificationLock.writeLock().unlock();
-        }
-		return retval;
+		// The exception keeps its own model so that the triples are released when the exception is evicted from the cache
+		return new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
 	}
 
 	/**
@@ -342,7 +340,7 @@ public class ListedExceptions implements IModelContainer {
     private void loadListedExceptionIDs() {
         listedExceptionModificationLock.writeLock().lock();
         try {
-            listedExceptionCache = Maps.newHashMap(); // clear the cache
+            listedExceptionCache = ListedLicenseCaches.newIdCache(maxCacheSize); // clear the cache
             listdExceptionIds = Sets.newHashSet(); //Clear the listed license IDs to avoid stale licenses.
             InputStream tocStream = null;
             BufferedReader reader = null;
@@ -440,35 +438,47 @@ public class ListedExceptions implements IModelContainer {
 	 */
 	public ListedLicenseException getLicenseFromStdLicModel(
 			IModelContainer modelContainer, Node node) throws InvalidSPDXAnalysisException {
-		Map<Node, ListedLicenseException> modelNodeCache = this.listedExceptionNodeCache.get(modelContainer);
-		if (modelNodeCache == null) {
-			modelNodeCache = Maps.newHashMap();
-			this.listedExceptionNodeCache.put(modelContainer, modelNodeCache);
-		}
-		if (modelNodeCache.containsKey(node)) {
-			return modelNodeCache.get(node);
+		ConcurrentMap<Node, ListedLicenseException> modelNodeCache = ListedLicenseCaches.getNodeCache(this.listedExceptionNodeCache, modelContainer);
+		ListedLicenseException cached = modelNodeCache.get(node);
+		if (cached != null) {
+			return cached;
 		}
 		ListedLicenseException retval = new ListedLicenseException(modelContainer, node);
-		if (!this.equals(modelContainer)) {
-			String exceptionId = retval.getLicenseExceptionId();
-			if (exceptionId == null) {
-				URL exceptionUrl;
+		String exceptionId = retval.getLicenseExceptionId();
+		if (exceptionId == null) {
+			URL exceptionUrl;
+			try {
+				exceptionUrl = new URL(node.getURI());
+			} catch (MalformedURLException e) {
+				throw new InvalidSPDXAnalysisException("Invalid exception URL");
+			}
+			exceptionId = this.urlToId(exceptionUrl);
+		}
+		try {
+			ListedLicenseException licenseFromModel = getListedExceptionById(exceptionId);
+			if (this.equals(modelContainer)) {
+				// The cached exceptions are kept in their own models, so the shared model is only updated here
+				listedExceptionModificationLock.writeLock().lock();
 				try {
-					exceptionUrl = new URL(node.getURI());
-				} catch (MalformedURLException e) {
-					throw new InvalidSPDXAnalysisException("Invalid exception URL");
+					retval.copyFrom(licenseFromModel);
+				} finally {
+					listedExceptionModificationLock.writeLock().unlock();
 				}
-				exceptionId = this.urlToId(exceptionUrl);
-			}
-			try {
-				ListedLicenseException licenseFromModel = getListedExceptionById(exceptionId);
+			} else {
 				retval.copyFrom(licenseFromModel);	// update the local model from the standard model
-			} catch(Exception ex) {
-				// ignore any errors - just don't copy from the license model
 			}
+		} catch(Exception ex) {
+			// ignore any errors - just don't copy from the license model
 		}
-		modelNodeCache.put(node, retval);
-		return retval;
+		cached = modelNodeCache.putIfAbsent(node, retval);
+		return cached == null ? retval : cached;
+	}
+
+	/**
+	 * @return hit, miss, eviction and load time statistics for the cache of listed exceptions
+	 */
+	public CacheStats getListedExceptionCacheStats() {
+		return this.listedExceptionCache.stats();
 	}
 
 	/* (non-Javadoc)
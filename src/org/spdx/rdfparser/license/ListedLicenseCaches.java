@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.license;
+
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.jena.graph.Node;
+import org.spdx.rdfparser.IModelContainer;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Static helper methods for the caches of listed licenses and listed exceptions.
+ *
+ * The caches are concurrent, load each ID at most once even when several threads miss on
+ * the same ID at the same time, may optionally be bounded in size (least recently used entries
+ * are evicted first) and record hit, miss and load time statistics.
+ *
+ * @author agent
+ *
+ */
+public class ListedLicenseCaches {
+
+	/**
+	 * Name of the property, system property or environment variable for the maximum
+	 * number of listed licenses or listed exceptions held in a cache.  Zero or a negative number
+	 * means the cache is unbounded.
+	 */
+	public static final String CACHE_SIZE_PROPERTY = "SPDXParser.ListedLicenseCacheSize";
+
+	private ListedLicenseCaches() {
+		// Static helper methods only
+	}
+
+	/**
+	 * @param maxSize maximum number of entries in the cache - zero or negative for an unbounded cache
+	 * @return a new cache for listed licenses or exceptions keyed by ID
+	 */
+	public static <V> Cache<String, V> newIdCache(long maxSize) {
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+		if (maxSize > 0) {
+			builder.maximumSize(maxSize);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @return a new cache of model node caches keyed by model container.  Model containers are weakly
+	 * referenced so that the cache does not keep documents alive once they are no longer used.
+	 */
+	public static <V> Cache<IModelContainer, ConcurrentMap<Node, V>> newNodeCache() {
+		return CacheBuilder.newBuilder().weakKeys().build();
+	}
+
+	/**
+	 * Get a value from the cache, loading it if it is not already present.  If several threads
+	 * request the same ID concurrently, only one of them will run the loader.
+	 * @param cache cache for the listed licenses or exceptions
+	 * @param id listed license or exception ID
+	 * @param loader loads the value if it is not in the cache
+	 * @return the cached or loaded value
+	 * @throws InvalidSPDXAnalysisException if the loader failed
+	 */
+	public static <V> V getOrLoad(Cache<String, V> cache, String id, Callable<V> loader) throws InvalidSPDXAnalysisException {
+		try {
+			return cache.get(id, loader);
+		} catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)cause;
+			}
+			throw new InvalidSPDXAnalysisException("Error loading listed license or exception "+id, cause);
+		}
+	}
+
+	/**
+	 * Get the per model container cache of nodes
+	 * @param nodeCache cache of model node caches
+	 * @param modelContainer
+	 * @return the node cache for the model container
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static <V> ConcurrentMap<Node, V> getNodeCache(Cache<IModelContainer, ConcurrentMap<Node, V>> nodeCache,
+			IModelContainer modelContainer) throws InvalidSPDXAnalysisException {
+		try {
+			return nodeCache.get(modelContainer, () -> Maps.<Node, V>newConcurrentMap());
+		} catch (ExecutionException e) {
+			throw new InvalidSPDXAnalysisException("Error creating node cache", e.getCause());
+		}
+	}
+
+	/**
+	 * Determine the maximum cache size.  Environment variables have precedence over system properties
+	 * which have precedence over the license properties file.
+	 * @param licenseProperties properties from the license properties file
+	 * @return the maximum cache size or 0 if the caches are unbounded
+	 */
+	static long getMaxCacheSize(Properties licenseProperties) {
+		String size = System.getenv(CACHE_SIZE_PROPERTY);
+		if (Objects.isNull(size) || size.isEmpty()) {
+			size = System.getProperty(CACHE_SIZE_PROPERTY, licenseProperties.getProperty(CACHE_SIZE_PROPERTY, "0"));
+		}
+		try {
+			return Long.parseLong(size.trim());
+		} catch (NumberFormatException ex) {
+			ListedLicenses.logger.warn("Invalid listed license cache size "+size+" - using an unbounded cache");
+			return 0;
+		}
+	}
+}
@@ -30,6 +30,7 @@ import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -44,9 +45,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXDocumentFactory;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.model.IRdfModel;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Maps;
 import com.google.gson.Gson;
 
@@ -66,21 +70,25 @@ public class ListedLicenses implements IModelContainer {
 
 	private static final String LISTED_LICENSE_PROPERTIES_FILENAME = LISTED_LICENSE_RDF_LOCAL_DIR + "/" + "licenses.properties";
 
-	private Model listedLicenseModel = null;
+	private volatile Model listedLicenseModel = null;
 
 	/**
 	 * Map of lowercase listed license ID to proper cased listed license ID
 	 */
 	Map<String, String> listdLicenseIds = null;
 
-	Map<String, SpdxListedLicense> listedLicenseCache = null;
-	Map<IModelContainer, Map<Node, SpdxListedLicense>> listedLicenseNodeCache = Maps.newHashMap();
+	Cache<String, SpdxListedLicense> listedLicenseCache = null;
+	Cache<IModelContainer, ConcurrentMap<Node, SpdxListedLicense>> listedLicenseNodeCache = ListedLicenseCaches.newNodeCache();
 
 
 
 	Properties licenseProperties;
     boolean onlyUseLocalLicenses;
     File localLicensesDir = null;
+    /**
+     * Maximum number of licenses held in the listed license cache - 0 if unbounded
+     */
+    long maxCacheSize = 0;
 
     String licenseListVersion = DEFAULT_LICENSE_LIST_VERSION;
 
@@ -107,6 +115,7 @@ public class ListedLicenses implements IModelContainer {
 		} else {
 			onlyUseLocalLicenses = Boolean.parseBoolean(stOnlyLicenses);
 		}
+		maxCacheSize = ListedLicenseCaches.getMaxCacheSize(licenseProperties);
 		
 		if (onlyUseLocalLicenses) {
 			try {
@@ -162,26 +171,32 @@ public class ListedLicenses implements IModelContainer {
         }
     }
 
-	/* (non-Javadoc)
+	/**
+	 * The listed licenses loaded from a URI are cached in their own models and are not copied
+	 * into this model.  A listed license is only added to this model when it is referenced by
+	 * a node in this model through <code>getLicenseFromStdLicModel</code>.
 	 * @see org.spdx.rdfparser.IModelContainer#getModel()
 	 */
 	@Override
 	public Model getModel() {
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			if (listedLicenseModel == null) {
-				listedLicenseModel = ModelFactory.createDefaultModel();
-			}
-		} finally {
-            listedLicenseModificationLock.writeLock().unlock();
-        }
-		return listedLicenseModel;
+		Model retval = listedLicenseModel;
+		if (retval == null) {
+			listedLicenseModificationLock.writeLock().lock();
+			try {
+				if (listedLicenseModel == null) {
+					listedLicenseModel = SPDXDocumentFactory.getModelFactory().createModel(LISTED_LICENSE_URI_PREFIX);
+				}
+				retval = listedLicenseModel;
+			} finally {
+	            listedLicenseModificationLock.writeLock().unlock();
+	        }
+		}
+		return retval;
 	}
 
 	/**
 	 * Get a listed license based on a URI.  The URI can be a file or a web resource.
-	 * The license information is copied into the listedLicenseModel and the license
-	 * is placed into the cache.
+	 * The license is placed into the cache together with the model it was loaded into.
 	 * @param uri
 	 * @return
 	 * @throws InvalidSPDXAnalysisException
@@ -194,15 +209,17 @@ public class ListedLicenses implements IModelContainer {
             throw new InvalidSPDXAnalysisException("Invalid listed license URL: " + e.getMessage());
         }
         String id = urlToId(licenseUrl);
-        //We will not enforce that the cache miss and the subsequent caching of the retrieved license be atomic.
-        listedLicenseModificationLock.readLock().lock();
-        try {
-            if (listedLicenseCache.containsKey(id)) {
-                return listedLicenseCache.get(id);
-            }
-        } finally {
-            listedLicenseModificationLock.readLock().unlock();
-        }
+        return ListedLicenseCaches.getOrLoad(listedLicenseCache, id, () -> loadLicenseFromUri(uri, id));
+    }
+
+	/**
+	 * Load a listed license from a URI into a model owned by the license
+	 * @param uri
+	 * @param id
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private SpdxListedLicense loadLicenseFromUri(String uri, String id) throws InvalidSPDXAnalysisException {
 		String base = LISTED_LICENSE_ID_URL + id;
 		final Model localLicenseModel = getLicenseModel(uri, base);
 		if (localLicenseModel == null) {
@@ -267,21 +284,8 @@ public class ListedLicenses implements IModelContainer {
 			}
 
 		};
-		SpdxListedLicense retval;
-		if (this.getModel().equals(localLicenseModel)) {
-			retval = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
-		} else {	// we need to copy from the local model into this model
-			SpdxListedLicense localLicense = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
-			retval = (SpdxListedLicense)localLicense.clone();
-			retval.createResource(this);
-        }
-        listedLicenseModificationLock.writeLock().lock();
-        try {
-            listedLicenseCache.put(id, retval);
-        } finally {
-            listedLicenseModificationLock.writeLock().unlock();
-        }
-		return retval;
+		// The license keeps its own model so that the triples are released when the license is evicted from the cache
+		return new SpdxListedLicense(localLicenseContainer, licResource.asNode());
 	}
 
 	/**
@@ -412,9 +416,8 @@ public class ListedLicenses implements IModelContainer {
     private void loadListedLicenseIDs() {
         listedLicenseModificationLock.writeLock().lock();
         try {
-            listedLicenseCache = Maps.newHashMap(); // clear the cache
+            listedLicenseCache = ListedLicenseCaches.newIdCache(maxCacheSize); // clear the cache
             listdLicenseIds = Maps.newHashMap(); //Clear the listed license IDs to avoid stale licenses.
-            //TODO: Can the keys of listedLicenseCache be used instead of this set?
             //NOTE: This includes deprecated licenses - should this be changed to only return non-deprecated licenses?
             InputStream tocStream = null;
             BufferedReader reader = null;
@@ -572,35 +575,47 @@ public class ListedLicenses implements IModelContainer {
 	 */
 	public AnyLicenseInfo getLicenseFromStdLicModel(
 			IModelContainer modelContainer, Node node) throws InvalidSPDXAnalysisException {
-		Map<Node, SpdxListedLicense> modelNodeCache = this.listedLicenseNodeCache.get(modelContainer);
-		if (modelNodeCache == null) {
-			modelNodeCache = Maps.newHashMap();
-			this.listedLicenseNodeCache.put(modelContainer, modelNodeCache);
-		}
-		if (modelNodeCache.containsKey(node)) {
-			return modelNodeCache.get(node);
+		ConcurrentMap<Node, SpdxListedLicense> modelNodeCache = ListedLicenseCaches.getNodeCache(this.listedLicenseNodeCache, modelContainer);
+		SpdxListedLicense cached = modelNodeCache.get(node);
+		if (cached != null) {
+			return cached;
 		}
 		SpdxListedLicense retval = new SpdxListedLicense(modelContainer, node);
-		if (!this.equals(modelContainer)) {
-			String licenseId = retval.getLicenseId();
-			if (licenseId == null) {
-				URL licenseUrl;
+		String licenseId = retval.getLicenseId();
+		if (licenseId == null) {
+			URL licenseUrl;
+			try {
+				licenseUrl = new URL(node.getURI());
+			} catch (MalformedURLException e) {
+				throw new InvalidSPDXAnalysisException("Invalid license URL");
+			}
+			licenseId = this.urlToId(licenseUrl);
+		}
+		try {
+			SpdxListedLicense licenseFromModel = getListedLicenseById(licenseId);
+			if (this.equals(modelContainer)) {
+				// The cached licenses are kept in their own models, so the shared model is only updated here
+				listedLicenseModificationLock.writeLock().lock();
 				try {
-					licenseUrl = new URL(node.getURI());
-				} catch (MalformedURLException e) {
-					throw new InvalidSPDXAnalysisException("Invalid license URL");
+					retval.copyFrom(licenseFromModel);
+				} finally {
+					listedLicenseModificationLock.writeLock().unlock();
 				}
-				licenseId = this.urlToId(licenseUrl);
-			}
-			try {
-				SpdxListedLicense licenseFromModel = getListedLicenseById(licenseId);
+			} else {
 				retval.copyFrom(licenseFromModel);	// update the local model from the standard model
-			} catch(Exception ex) {
-				// ignore any errors - just don't copy from the license model
 			}
+		} catch(Exception ex) {
+			// ignore any errors - just don't copy from the license model
 		}
-		modelNodeCache.put(node, retval);
-		return retval;
+		cached = modelNodeCache.putIfAbsent(node, retval);
+		return cached == null ? retval : cached;
+	}
+
+	/**
+	 * @return hit, miss, eviction and load time statistics for the cache of listed licenses
+	 */
+	public CacheStats getListedLicenseCacheStats() {
+		return this.listedLicenseCache.stats();
 	}
 
 	/* (non-Javadoc)
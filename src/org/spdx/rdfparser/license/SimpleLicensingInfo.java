@@ -268,20 +268,24 @@ public abstract class SimpleLicensingInfo extends AnyLicenseInfo {
 				SpdxRdfConstants.RDF_PROP_TYPE);
 		Triple m = Triple.createMatch(null, idProperty.asNode(), null);
 		ExtendedIterator<Triple> tripleIter = modelContainer.getModel().getGraph().find(m);
-		while (tripleIter.hasNext()) {
-			Triple t = tripleIter.next();
-			if (t.getObject().toString(false).equals(this.licenseId)) {
-				Triple typeMatch = Triple.createMatch(t.getSubject(), typeProperty.asNode(), getType(modelContainer.getModel()).asNode());
-				ExtendedIterator<Triple> typeTripleIter = modelContainer.getModel().getGraph().find(typeMatch);
-				if (typeTripleIter.hasNext()) {
-					// found it
-					if (t.getSubject().isURI()) {
-						return modelContainer.getModel().createResource(t.getSubject().getURI());
-					} else if (t.getSubject().isBlank()) {
-						return modelContainer.getModel().createResource(new AnonId(t.getSubject().getBlankNodeId()));
+		try {
+			while (tripleIter.hasNext()) {
+				Triple t = tripleIter.next();
+				if (t.getObject().toString(false).equals(this.licenseId)) {
+					Triple typeMatch = Triple.createMatch(t.getSubject(), typeProperty.asNode(), getType(modelContainer.getModel()).asNode());
+					ExtendedIterator<Triple> typeTripleIter = modelContainer.getModel().getGraph().find(typeMatch);
+					if (typeTripleIter.hasNext()) {
+						// found it
+						if (t.getSubject().isURI()) {
+							return modelContainer.getModel().createResource(t.getSubject().getURI());
+						} else if (t.getSubject().isBlank()) {
+							return modelContainer.getModel().createResource(new AnonId(t.getSubject().getBlankNodeId()));
+						}
 					}
 				}
 			}
+		} finally {
+			tripleIter.close();
 		}
 		return null;
 	}
@@ -18,6 +18,7 @@ package org.spdx.rdfparser.model;
 
 
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 import org.spdx.rdfparser.IModelContainer;
@@ -126,7 +127,7 @@ public class ExternalSpdxElement extends SpdxElement {
 	}
 
 	@Override
-	public List<String> verify() {
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
 		// we don't want to call super.verify since we really don't require those fields
 		List<String> retval = Lists.newArrayList();
 		String id = this.getId();
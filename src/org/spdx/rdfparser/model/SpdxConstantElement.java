@@ -16,6 +16,7 @@
 package org.spdx.rdfparser.model;
 
 import java.util.List;
+import java.util.Set;
 
 import org.apache.jena.graph.Node;
 import org.spdx.rdfparser.IModelContainer;
@@ -79,7 +80,7 @@ public abstract class SpdxConstantElement extends SpdxElement {
 	}
 
 	@Override
-	public List<String> verify() {
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
 		return Lists.newArrayList();
 	}
 
@@ -18,6 +18,7 @@ package org.spdx.rdfparser.model;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
@@ -356,12 +357,23 @@ public class SpdxDocument extends SpdxElement {
 				SpdxRdfConstants.PROP_SPDX_VERSION, specVersion);
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Verify the document and all SPDX elements contained in the document.  Each element is
+	 * verified once on the calling thread using a <code>SpdxDocumentVerifier</code>.
 	 * @see org.spdx.rdfparser.model.IRdfModel#verify()
 	 */
 	@Override
 	public List<String> verify() {
-		List<String> retval = super.verify();
+		return new SpdxDocumentVerifier(this, 1).verify();
+	}
+
+	/**
+	 * Verify the document properties only - the elements contained in the document are verified by <code>verify()</code>
+	 * @see org.spdx.rdfparser.model.SpdxElement#verifyElement(java.util.Set)
+	 */
+	@Override
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
+		List<String> retval = super.verifyElement(verifiedElementIds);
 		// specVersion
 		String docSpecVersion = "";	// note - this is used later in verify to verify version specific info
 		if (this.specVersion == null || this.specVersion.isEmpty()) {
@@ -461,16 +473,6 @@ public class SpdxDocument extends SpdxElement {
 		} catch (InvalidSPDXAnalysisException e) {
 			retval.add("Invalid document items: "+e.getMessage());
 		}
-		try {
-			List<SpdxElement> allElements = documentContainer.findAllElements();
-			for (SpdxElement element:allElements) {
-				if (!element.getId().equals(this.getId())) {
-					retval.addAll(element.verify());
-				}
-			}
-		} catch (InvalidSPDXAnalysisException e) {
-			retval.add("Invalid elements: "+e.getMessage());
-		}
 		return retval;
 	}
 
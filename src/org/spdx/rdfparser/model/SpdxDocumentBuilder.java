@@ -0,0 +1,544 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.spdx.compare.NormalizedFileNameComparator;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.SpdxRdfConstants;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Adds large numbers of files, packages and relationships to an SPDX document.
+ *
+ * Elements are described by plain descriptors rather than <code>SpdxFile</code> and
+ * <code>SpdxPackage</code> objects.  Element IDs and duplicate files (same normalized file name
+ * and SHA1) are checked against in-memory indexes as the descriptors are added, and all of
+ * the RDF triples are added to the document model in a single operation by <code>build()</code>.
+ * Nothing is written to the model until <code>build()</code> is called.
+ *
+ * Java objects for elements already in the document are not updated when <code>build()</code>
+ * adds relationships to them, with the exception of the SPDX document itself.
+ *
+ * This class is not thread safe.
+ *
+ * @author agent
+ *
+ */
+public class SpdxDocumentBuilder implements SpdxRdfConstants {
+
+	/**
+	 * Description of an SPDX file to be added to the document
+	 */
+	public static class FileDescriptor {
+		String id;
+		String name;
+		String sha1;
+		FileType[] fileTypes;
+		AnyLicenseInfo licenseConcluded;
+		AnyLicenseInfo[] licenseInfoInFiles;
+		String copyrightText;
+		String comment = null;
+		String noticeText = null;
+		String[] contributors = new String[0];
+
+		/**
+		 * @param id SPDX ID for the file - if null, the next available ID is used
+		 * @param name file name
+		 * @param sha1 SHA1 checksum of the file content
+		 * @param fileTypes types of the file - may be null
+		 * @param licenseConcluded
+		 * @param licenseInfoInFiles licenses found in the file - may be null
+		 * @param copyrightText
+		 */
+		public FileDescriptor(String id, String name, String sha1, FileType[] fileTypes,
+				AnyLicenseInfo licenseConcluded, AnyLicenseInfo[] licenseInfoInFiles,
+				String copyrightText) {
+			this.id = id;
+			this.name = name;
+			this.sha1 = sha1;
+			this.fileTypes = fileTypes == null ? new FileType[0] : fileTypes;
+			this.licenseConcluded = licenseConcluded;
+			this.licenseInfoInFiles = licenseInfoInFiles == null ? new AnyLicenseInfo[0] : licenseInfoInFiles;
+			this.copyrightText = copyrightText;
+		}
+
+		/**
+		 * @param comment the comment to set
+		 */
+		public void setComment(String comment) {
+			this.comment = comment;
+		}
+
+		/**
+		 * @param noticeText the noticeText to set
+		 */
+		public void setNoticeText(String noticeText) {
+			this.noticeText = noticeText;
+		}
+
+		/**
+		 * @param contributors the contributors to set
+		 */
+		public void setContributors(String[] contributors) {
+			this.contributors = contributors == null ? new String[0] : contributors;
+		}
+	}
+
+	/**
+	 * Description of an SPDX package to be added to the document
+	 */
+	public static class PackageDescriptor {
+		String id;
+		String name;
+		String versionInfo;
+		String downloadLocation;
+		AnyLicenseInfo licenseConcluded;
+		AnyLicenseInfo licenseDeclared;
+		String copyrightText;
+		List<String> fileIds;
+		SpdxPackageVerificationCode verificationCode;
+		AnyLicenseInfo[] licenseInfoFromFiles = null;
+		boolean filesAnalyzed = true;
+		String supplier = null;
+		String comment = null;
+
+		/**
+		 * @param id SPDX ID for the package - if null, the next available ID is used
+		 * @param name package name
+		 * @param versionInfo package version - may be null
+		 * @param downloadLocation download location - if null, NOASSERTION is used
+		 * @param licenseConcluded
+		 * @param licenseDeclared
+		 * @param copyrightText
+		 * @param fileIds IDs of the files contained in the package as returned by <code>addFile</code>
+		 * @param verificationCode package verification code - may be null
+		 */
+		public PackageDescriptor(String id, String name, String versionInfo, String downloadLocation,
+				AnyLicenseInfo licenseConcluded, AnyLicenseInfo licenseDeclared, String copyrightText,
+				List<String> fileIds, SpdxPackageVerificationCode verificationCode) {
+			this.id = id;
+			this.name = name;
+			this.versionInfo = versionInfo;
+			this.downloadLocation = downloadLocation == null ? NOASSERTION_VALUE : downloadLocation;
+			this.licenseConcluded = licenseConcluded;
+			this.licenseDeclared = licenseDeclared;
+			this.copyrightText = copyrightText;
+			this.fileIds = fileIds == null ? Lists.<String>newArrayList() : fileIds;
+			this.verificationCode = verificationCode;
+		}
+
+		/**
+		 * @param licenseInfoFromFiles licenses found in the package files.  If not set, the
+		 * licenses found in the files added by this builder are used.
+		 */
+		public void setLicenseInfoFromFiles(AnyLicenseInfo[] licenseInfoFromFiles) {
+			this.licenseInfoFromFiles = licenseInfoFromFiles;
+		}
+
+		/**
+		 * @param filesAnalyzed the filesAnalyzed to set
+		 */
+		public void setFilesAnalyzed(boolean filesAnalyzed) {
+			this.filesAnalyzed = filesAnalyzed;
+		}
+
+		/**
+		 * @param supplier the supplier to set
+		 */
+		public void setSupplier(String supplier) {
+			this.supplier = supplier;
+		}
+
+		/**
+		 * @param comment the comment to set
+		 */
+		public void setComment(String comment) {
+			this.comment = comment;
+		}
+	}
+
+	/**
+	 * Relationship between two elements identified by their IDs
+	 */
+	private static class RelationshipDescriptor {
+		String sourceId;
+		RelationshipType type;
+		String targetId;
+		String comment;
+	}
+
+	static final Node RDF_TYPE = NodeFactory.createURI(RDF_NAMESPACE + RDF_PROP_TYPE);
+	static final Node RDFS_COMMENT = NodeFactory.createURI(RDFS_NAMESPACE + RDFS_PROP_COMMENT);
+	static final Node TYPE_FILE = spdxNode(CLASS_SPDX_FILE);
+	static final Node TYPE_PACKAGE = spdxNode(CLASS_SPDX_PACKAGE);
+	static final Node TYPE_CHECKSUM = spdxNode(CLASS_SPDX_CHECKSUM);
+	static final Node TYPE_RELATIONSHIP = spdxNode(CLASS_RELATIONSHIP);
+	static final Node TYPE_VERIFICATION_CODE = spdxNode(CLASS_SPDX_VERIFICATIONCODE);
+	static final Node FILE_NAME = spdxNode(PROP_FILE_NAME);
+	static final Node FILE_TYPE = spdxNode(PROP_FILE_TYPE);
+	static final Node FILE_CHECKSUM = spdxNode(PROP_FILE_CHECKSUM);
+	static final Node FILE_SEEN_LICENSE = spdxNode(PROP_FILE_SEEN_LICENSE);
+	static final Node FILE_CONTRIBUTOR = spdxNode(PROP_FILE_CONTRIBUTOR);
+	static final Node FILE_NOTICE = spdxNode(PROP_FILE_NOTICE);
+	static final Node CHECKSUM_ALGORITHM = spdxNode(PROP_CHECKSUM_ALGORITHM);
+	static final Node CHECKSUM_VALUE = spdxNode(PROP_CHECKSUM_VALUE);
+	static final Node CHECKSUM_ALGORITHM_SHA1 = spdxNode(PROP_CHECKSUM_ALGORITHM_SHA1);
+	static final Node LICENSE_CONCLUDED = spdxNode(PROP_LICENSE_CONCLUDED);
+	static final Node COPYRIGHT_TEXT = spdxNode(PROP_COPYRIGHT_TEXT);
+	static final Node PACKAGE_NAME = spdxNode(PROP_PROJECT_NAME);
+	static final Node PACKAGE_VERSION_INFO = spdxNode(PROP_PACKAGE_VERSION_INFO);
+	static final Node PACKAGE_DOWNLOAD_LOCATION = spdxNode(PROP_PACKAGE_DOWNLOAD_URL);
+	static final Node PACKAGE_DECLARED_LICENSE = spdxNode(PROP_PACKAGE_DECLARED_LICENSE);
+	static final Node PACKAGE_LICENSE_INFO_FROM_FILES = spdxNode(PROP_PACKAGE_LICENSE_INFO_FROM_FILES);
+	static final Node PACKAGE_FILE = spdxNode(PROP_PACKAGE_FILE);
+	static final Node PACKAGE_FILES_ANALYZED = spdxNode(PROP_PACKAGE_FILES_ANALYZED);
+	static final Node PACKAGE_SUPPLIER = spdxNode(PROP_PACKAGE_SUPPLIER);
+	static final Node PACKAGE_VERIFICATION_CODE = spdxNode(PROP_PACKAGE_VERIFICATION_CODE);
+	static final Node VERIFICATION_CODE_VALUE = spdxNode(PROP_VERIFICATIONCODE_VALUE);
+	static final Node VERIFICATION_CODE_EXCLUDED_FILE = spdxNode(PROP_VERIFICATIONCODE_IGNORED_FILES);
+	static final Node RELATIONSHIP = spdxNode(PROP_RELATIONSHIP);
+	static final Node RELATIONSHIP_TYPE = spdxNode(PROP_RELATIONSHIP_TYPE);
+	static final Node RELATED_ELEMENT = spdxNode(PROP_RELATED_SPDX_ELEMENT);
+
+	private static Node spdxNode(String name) {
+		return NodeFactory.createURI(SPDX_NAMESPACE + name);
+	}
+
+	private SpdxDocumentContainer container;
+	private Map<String, FileDescriptor> idToFile = Maps.newLinkedHashMap();
+	private Map<String, PackageDescriptor> idToPackage = Maps.newLinkedHashMap();
+	/**
+	 * Map of normalized file name and SHA1 to the ID of the file added by this builder
+	 */
+	private Map<String, String> fileKeyToId = Maps.newHashMap();
+	private List<RelationshipDescriptor> relationships = Lists.newArrayList();
+	private Set<String> relationshipKeys = Sets.newHashSet();
+	private Map<AnyLicenseInfo, Node> licenseNodes = Maps.newIdentityHashMap();
+
+	/**
+	 * @param container document container the elements are added to
+	 */
+	public SpdxDocumentBuilder(SpdxDocumentContainer container) {
+		this.container = container;
+	}
+
+	/**
+	 * Reserve the ID for a new element
+	 * @param id requested ID or null to use the next available ID
+	 * @return the ID for the element
+	 * @throws InvalidSPDXAnalysisException if the ID is invalid or already in use
+	 */
+	private String reserveId(String id) throws InvalidSPDXAnalysisException {
+		if (id == null) {
+			return container.getNextSpdxElementRef();
+		}
+		if (!SPDX_ELEMENT_REF_PATTERN.matcher(id).matches()) {
+			throw new InvalidSPDXAnalysisException("Invalid SPDX ID "+id);
+		}
+		container.addSpdxElementRef(id);	// throws an exception for duplicate IDs
+		return id;
+	}
+
+	private static String fileKey(String name, String sha1) {
+		return sha1.trim().toLowerCase(Locale.ROOT) + ' ' + NormalizedFileNameComparator.normalizeFileName(name);
+	}
+
+	/**
+	 * Add a file to the document.  If a file with the same normalized name and SHA1 has already been
+	 * added or is already in the document, the file is not added again and the ID of the existing file is returned.
+	 * @param file
+	 * @return the ID of the file in the document
+	 * @throws InvalidSPDXAnalysisException if the file name or SHA1 is missing or the ID is invalid or already in use
+	 */
+	public String addFile(FileDescriptor file) throws InvalidSPDXAnalysisException {
+		if (file.name == null || file.name.isEmpty()) {
+			throw new InvalidSPDXAnalysisException("Missing file name");
+		}
+		if (file.sha1 == null || file.sha1.trim().isEmpty()) {
+			throw new InvalidSPDXAnalysisException("Missing SHA1 checksum for file "+file.name);
+		}
+		String key = fileKey(file.name, file.sha1);
+		String existingId = fileKeyToId.get(key);
+		if (existingId != null) {
+			return existingId;
+		}
+		Node existing = container.getFileIndex().findFile(file.name, file.sha1);
+		if (existing != null && existing.isURI() && existing.getURI().startsWith(container.getDocumentNamespace())) {
+			return existing.getURI().substring(container.getDocumentNamespace().length());
+		}
+		String id = reserveId(file.id);
+		idToFile.put(id, file);
+		fileKeyToId.put(key, id);
+		return id;
+	}
+
+	/**
+	 * Add a batch of files to the document
+	 * @param files
+	 * @return the IDs of the files in the document in the same order as the files
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public List<String> addFiles(Collection<FileDescriptor> files) throws InvalidSPDXAnalysisException {
+		List<String> retval = Lists.newArrayListWithCapacity(files.size());
+		for (FileDescriptor file:files) {
+			retval.add(addFile(file));
+		}
+		return retval;
+	}
+
+	/**
+	 * Add a package to the document.  The package files must be added by <code>addFile</code>
+	 * or already be in the document before <code>build()</code> is called.
+	 * @param pkg
+	 * @return the ID of the package in the document
+	 * @throws InvalidSPDXAnalysisException if the package name is missing or the ID is invalid or already in use
+	 */
+	public String addPackage(PackageDescriptor pkg) throws InvalidSPDXAnalysisException {
+		if (pkg.name == null || pkg.name.isEmpty()) {
+			throw new InvalidSPDXAnalysisException("Missing package name");
+		}
+		String id = reserveId(pkg.id);
+		idToPackage.put(id, pkg);
+		return id;
+	}
+
+	/**
+	 * Add a relationship between two elements.  Both elements must be added by this builder
+	 * or already be in the document before <code>build()</code> is called.  Duplicate relationships are ignored.
+	 * @param sourceId ID of the element the relationship is from
+	 * @param type
+	 * @param targetId ID of the related element
+	 * @param comment optional comment - may be null
+	 */
+	public void addRelationship(String sourceId, RelationshipType type, String targetId, String comment) {
+		if (!relationshipKeys.add(sourceId + ' ' + type.ordinal() + ' ' + targetId)) {
+			return;
+		}
+		RelationshipDescriptor relationship = new RelationshipDescriptor();
+		relationship.sourceId = sourceId;
+		relationship.type = type;
+		relationship.targetId = targetId;
+		relationship.comment = comment;
+		relationships.add(relationship);
+	}
+
+	/**
+	 * Add a DESCRIBES relationship from the SPDX document to an element
+	 * @param elementId
+	 */
+	public void addDescribes(String elementId) {
+		addRelationship(container.getSpdxDocument().getId(), RelationshipType.DESCRIBES, elementId, null);
+	}
+
+	/**
+	 * @return the number of files waiting to be added to the document
+	 */
+	public int getNumPendingFiles() {
+		return idToFile.size();
+	}
+
+	/**
+	 * Add all files, packages and relationships to the document model in one operation.
+	 * The builder is empty afterwards and can be used for additional elements.
+	 * @return the number of triples added to the model
+	 * @throws InvalidSPDXAnalysisException if a package file or relationship element does not exist
+	 */
+	public int build() throws InvalidSPDXAnalysisException {
+		List<Triple> triples = Lists.newArrayList();
+		for (Map.Entry<String, FileDescriptor> entry:idToFile.entrySet()) {
+			addFileTriples(elementNode(entry.getKey()), entry.getValue(), triples);
+		}
+		for (Map.Entry<String, PackageDescriptor> entry:idToPackage.entrySet()) {
+			addPackageTriples(elementNode(entry.getKey()), entry.getValue(), triples);
+		}
+		boolean documentRelationships = false;
+		String documentId = container.getSpdxDocument().getId();
+		for (RelationshipDescriptor relationship:relationships) {
+			Node relationshipNode = NodeFactory.createBlankNode();
+			triples.add(Triple.create(existingElementNode(relationship.sourceId), RELATIONSHIP, relationshipNode));
+			triples.add(Triple.create(relationshipNode, RDF_TYPE, TYPE_RELATIONSHIP));
+			triples.add(Triple.create(relationshipNode, RELATIONSHIP_TYPE, spdxNode(relationship.type.toString())));
+			triples.add(Triple.create(relationshipNode, RELATED_ELEMENT, existingElementNode(relationship.targetId)));
+			if (relationship.comment != null) {
+				triples.add(Triple.create(relationshipNode, RDFS_COMMENT, NodeFactory.createLiteral(relationship.comment)));
+			}
+			if (documentId.equals(relationship.sourceId)) {
+				documentRelationships = true;
+			}
+		}
+		GraphUtil.add(container.getModel().getGraph(), triples);
+		for (Map.Entry<String, FileDescriptor> entry:idToFile.entrySet()) {
+			container.getFileIndex().updateFile(elementNode(entry.getKey()), entry.getValue().name, entry.getValue().sha1);
+		}
+		if (documentRelationships) {
+			container.getSpdxDocument().getPropertiesFromModel();
+		}
+		idToFile.clear();
+		idToPackage.clear();
+		fileKeyToId.clear();
+		relationships.clear();
+		relationshipKeys.clear();
+		return triples.size();
+	}
+
+	private Node elementNode(String id) {
+		return NodeFactory.createURI(container.getDocumentNamespace() + id);
+	}
+
+	/**
+	 * @param id
+	 * @return the node for an element added by this builder or already in the document
+	 * @throws InvalidSPDXAnalysisException if the element does not exist
+	 */
+	private Node existingElementNode(String id) throws InvalidSPDXAnalysisException {
+		if (!idToFile.containsKey(id) && !idToPackage.containsKey(id) && !container.spdxElementRefExists(id) &&
+				!container.getSpdxDocument().getId().equals(id)) {
+			throw new InvalidSPDXAnalysisException("Element "+id+" does not exist in the document");
+		}
+		return elementNode(id);
+	}
+
+	/**
+	 * @param value
+	 * @return a literal node for the value or the URI node for the NOASSERTION and NONE values
+	 */
+	private static Node stringNode(String value) {
+		String valueUri = RdfModelObject.PRE_DEFINED_VALUE_URI.get(value);
+		if (valueUri != null) {
+			return NodeFactory.createURI(valueUri);
+		} else {
+			return NodeFactory.createLiteral(value);
+		}
+	}
+
+	/**
+	 * @param license
+	 * @return the node for the license in the document model - created once for each license object
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private Node licenseNode(AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		Node retval = licenseNodes.get(license);
+		if (retval == null) {
+			retval = license.createResource(container).asNode();
+			licenseNodes.put(license, retval);
+		}
+		return retval;
+	}
+
+	private void addFileTriples(Node fileNode, FileDescriptor file, List<Triple> triples) throws InvalidSPDXAnalysisException {
+		triples.add(Triple.create(fileNode, RDF_TYPE, TYPE_FILE));
+		triples.add(Triple.create(fileNode, FILE_NAME, NodeFactory.createLiteral(file.name)));
+		Node checksumNode = NodeFactory.createBlankNode();
+		triples.add(Triple.create(fileNode, FILE_CHECKSUM, checksumNode));
+		triples.add(Triple.create(checksumNode, RDF_TYPE, TYPE_CHECKSUM));
+		triples.add(Triple.create(checksumNode, CHECKSUM_ALGORITHM, CHECKSUM_ALGORITHM_SHA1));
+		triples.add(Triple.create(checksumNode, CHECKSUM_VALUE, NodeFactory.createLiteral(file.sha1.trim())));
+		for (FileType fileType:file.fileTypes) {
+			triples.add(Triple.create(fileNode, FILE_TYPE, spdxNode(fileType.toString())));
+		}
+		if (file.licenseConcluded != null) {
+			triples.add(Triple.create(fileNode, LICENSE_CONCLUDED, licenseNode(file.licenseConcluded)));
+		}
+		for (AnyLicenseInfo license:file.licenseInfoInFiles) {
+			triples.add(Triple.create(fileNode, FILE_SEEN_LICENSE, licenseNode(license)));
+		}
+		if (file.copyrightText != null) {
+			triples.add(Triple.create(fileNode, COPYRIGHT_TEXT, stringNode(file.copyrightText)));
+		}
+		if (file.comment != null) {
+			triples.add(Triple.create(fileNode, RDFS_COMMENT, NodeFactory.createLiteral(file.comment)));
+		}
+		if (file.noticeText != null) {
+			triples.add(Triple.create(fileNode, FILE_NOTICE, stringNode(file.noticeText)));
+		}
+		for (String contributor:file.contributors) {
+			triples.add(Triple.create(fileNode, FILE_CONTRIBUTOR, stringNode(contributor)));
+		}
+	}
+
+	private void addPackageTriples(Node packageNode, PackageDescriptor pkg, List<Triple> triples) throws InvalidSPDXAnalysisException {
+		triples.add(Triple.create(packageNode, RDF_TYPE, TYPE_PACKAGE));
+		triples.add(Triple.create(packageNode, PACKAGE_NAME, NodeFactory.createLiteral(pkg.name)));
+		if (pkg.versionInfo != null) {
+			triples.add(Triple.create(packageNode, PACKAGE_VERSION_INFO, NodeFactory.createLiteral(pkg.versionInfo)));
+		}
+		triples.add(Triple.create(packageNode, PACKAGE_DOWNLOAD_LOCATION, stringNode(pkg.downloadLocation)));
+		if (pkg.licenseConcluded != null) {
+			triples.add(Triple.create(packageNode, LICENSE_CONCLUDED, licenseNode(pkg.licenseConcluded)));
+		}
+		if (pkg.licenseDeclared != null) {
+			triples.add(Triple.create(packageNode, PACKAGE_DECLARED_LICENSE, licenseNode(pkg.licenseDeclared)));
+		}
+		if (pkg.copyrightText != null) {
+			triples.add(Triple.create(packageNode, COPYRIGHT_TEXT, stringNode(pkg.copyrightText)));
+		}
+		if (pkg.supplier != null) {
+			triples.add(Triple.create(packageNode, PACKAGE_SUPPLIER, stringNode(pkg.supplier)));
+		}
+		if (pkg.comment != null) {
+			triples.add(Triple.create(packageNode, RDFS_COMMENT, NodeFactory.createLiteral(pkg.comment)));
+		}
+		triples.add(Triple.create(packageNode, PACKAGE_FILES_ANALYZED, NodeFactory.createLiteral(pkg.filesAnalyzed ? "true" : "false")));
+		Set<AnyLicenseInfo> licensesFromFiles = Sets.newLinkedHashSet();
+		for (String fileId:pkg.fileIds) {
+			triples.add(Triple.create(packageNode, PACKAGE_FILE, existingElementNode(fileId)));
+			FileDescriptor file = idToFile.get(fileId);
+			if (file != null) {
+				for (AnyLicenseInfo license:file.licenseInfoInFiles) {
+					licensesFromFiles.add(license);
+				}
+			}
+		}
+		if (pkg.licenseInfoFromFiles != null) {
+			licensesFromFiles = Sets.newLinkedHashSet(Lists.newArrayList(pkg.licenseInfoFromFiles));
+		}
+		for (AnyLicenseInfo license:licensesFromFiles) {
+			triples.add(Triple.create(packageNode, PACKAGE_LICENSE_INFO_FROM_FILES, licenseNode(license)));
+		}
+		if (pkg.verificationCode != null) {
+			Node verificationCodeNode = NodeFactory.createBlankNode();
+			triples.add(Triple.create(packageNode, PACKAGE_VERIFICATION_CODE, verificationCodeNode));
+			triples.add(Triple.create(verificationCodeNode, RDF_TYPE, TYPE_VERIFICATION_CODE));
+			if (pkg.verificationCode.getValue() != null) {
+				triples.add(Triple.create(verificationCodeNode, VERIFICATION_CODE_VALUE,
+						NodeFactory.createLiteral(pkg.verificationCode.getValue())));
+			}
+			for (String excludedFile:pkg.verificationCode.getExcludedFileNames()) {
+				triples.add(Triple.create(verificationCodeNode, VERIFICATION_CODE_EXCLUDED_FILE,
+						NodeFactory.createLiteral(excludedFile)));
+			}
+		}
+	}
+}
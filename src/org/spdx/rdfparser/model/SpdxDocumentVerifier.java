@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser.model;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.VerificationCodeGenerator;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Verifies an SPDX document and all of the SPDX elements contained in the document.
+ *
+ * Each element is verified exactly once regardless of how many other elements reference it.
+ * The verification errors and warnings are passed to a consumer as they become available
+ * rather than collected into a single list.  The consumer is always called from the thread
+ * calling <code>verify</code> and the messages are passed in the same order for any number
+ * of threads: the document level messages followed by the messages for each element in the
+ * order returned by <code>findAllElements</code>.
+ *
+ * Optionally, the package verification code of each package is recalculated from the SHA1
+ * checksums of the package files and compared to the package verification code value.
+ *
+ * By default the elements are verified on the calling thread.  Parallel verification must be
+ * requested explicitly by passing more than one thread to the constructor.  The Jena model is
+ * not safe for concurrent writes and some getters write to the model, for example a listed
+ * license is copied into the document model the first time it is read.  Only use more than
+ * one thread when no other thread uses the model and the listed licenses referenced by the
+ * document are already present in the document model.
+ *
+ * The document and its elements must not be modified while the verification is in progress.
+ *
+ * @author agent
+ *
+ */
+public class SpdxDocumentVerifier {
+
+	/**
+	 * Minimum number of elements verified by each thread - smaller documents are verified in fewer threads
+	 */
+	static final int MIN_ELEMENTS_PER_THREAD = 500;
+
+	/**
+	 * Number of elements verified in a single task
+	 */
+	static final int ELEMENTS_PER_TASK = 100;
+
+	private final SpdxDocument document;
+	private final int numThreads;
+	private final boolean verifyPackageVerificationCodes;
+
+	/**
+	 * @param document document to verify
+	 * @param numThreads maximum number of threads used to verify the elements
+	 * @param verifyPackageVerificationCodes if true, recalculate the package verification codes from the package file checksums
+	 */
+	public SpdxDocumentVerifier(SpdxDocument document, int numThreads, boolean verifyPackageVerificationCodes) {
+		if (numThreads < 1) {
+			throw new IllegalArgumentException("Number of threads must be at least 1");
+		}
+		this.document = document;
+		this.numThreads = numThreads;
+		this.verifyPackageVerificationCodes = verifyPackageVerificationCodes;
+	}
+
+	/**
+	 * @param document document to verify
+	 * @param numThreads maximum number of threads used to verify the elements
+	 */
+	public SpdxDocumentVerifier(SpdxDocument document, int numThreads) {
+		this(document, numThreads, false);
+	}
+
+	/**
+	 * Verify a document on the calling thread
+	 * @param document document to verify
+	 */
+	public SpdxDocumentVerifier(SpdxDocument document) {
+		this(document, 1);
+	}
+
+	/**
+	 * Verify the document and all SPDX elements in the document
+	 * @param violationConsumer called with each verification error or warning
+	 */
+	public void verify(Consumer<String> violationConsumer) {
+		String documentId = document.getId();
+		Map<String, SpdxElement> elementsById = Maps.newLinkedHashMap();
+		List<SpdxElement> elements = Lists.newArrayList();
+		String elementsError = null;
+		try {
+			for (SpdxElement element:document.getDocumentContainer().findAllElements()) {
+				String id = element.getId();
+				if (id == null) {
+					elements.add(element);
+				} else if (!id.equals(documentId) && !elementsById.containsKey(id)) {
+					elementsById.put(id, element);
+					elements.add(element);
+				}
+			}
+		} catch (InvalidSPDXAnalysisException e) {
+			elementsError = "Invalid elements: "+e.getMessage();
+		}
+		// The document is verified without its elements - each element is verified by its own task
+		ImmutableSet.Builder<String> knownIdsBuilder = ImmutableSet.<String>builder().addAll(elementsById.keySet());
+		if (documentId != null) {
+			knownIdsBuilder.add(documentId);
+		}
+		Set<String> knownIds = knownIdsBuilder.build();
+		document.verify(new ElementScope(documentId, knownIds)).forEach(violationConsumer);
+		if (elementsError != null) {
+			violationConsumer.accept(elementsError);
+		}
+		int threads = Math.min(numThreads, elements.size() / MIN_ELEMENTS_PER_THREAD);
+		if (threads <= 1) {
+			verifyElements(elements, knownIds).forEach(violationConsumer);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<String>>> results = Lists.newArrayList();
+			for (List<SpdxElement> taskElements:partition(elements)) {
+				results.add(executor.submit(() -> verifyElements(taskElements, knownIds)));
+			}
+			for (Future<List<String>> result:results) {
+				try {
+					result.get().forEach(violationConsumer);
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException)e.getCause();
+					}
+					throw new RuntimeException("Error verifying SPDX elements", e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException("Interrupted verifying SPDX elements", e);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Verify the document and all SPDX elements in the document
+	 * @return list of all verification errors and warnings
+	 */
+	public List<String> verify() {
+		List<String> retval = Lists.newArrayList();
+		verify(retval::add);
+		return retval;
+	}
+
+	/**
+	 * Partition the elements into the elements verified by each task preserving the order of the elements
+	 * @param elements
+	 * @return
+	 */
+	private List<List<SpdxElement>> partition(List<SpdxElement> elements) {
+		List<List<SpdxElement>> retval = Lists.newArrayList();
+		List<SpdxElement> taskElements = Lists.newArrayList();
+		for (SpdxElement element:elements) {
+			if (verifyPackageVerificationCodes && element instanceof SpdxPackage) {
+				// packages are verified in their own task since the verification code calculation is expensive
+				if (!taskElements.isEmpty()) {
+					retval.add(taskElements);
+					taskElements = Lists.newArrayList();
+				}
+				retval.add(Lists.newArrayList(element));
+			} else {
+				taskElements.add(element);
+				if (taskElements.size() >= ELEMENTS_PER_TASK) {
+					retval.add(taskElements);
+					taskElements = Lists.newArrayList();
+				}
+			}
+		}
+		if (!taskElements.isEmpty()) {
+			retval.add(taskElements);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param elements
+	 * @param knownIds IDs of all elements verified by their own task
+	 * @return verification errors and warnings for the elements excluding any other known elements
+	 */
+	private List<String> verifyElements(List<SpdxElement> elements, Set<String> knownIds) {
+		List<String> retval = Lists.newArrayList();
+		VerificationCodeGenerator generator = null;
+		for (SpdxElement element:elements) {
+			retval.addAll(element.verify(new ElementScope(element.getId(), knownIds)));
+			if (verifyPackageVerificationCodes && element instanceof SpdxPackage) {
+				if (generator == null) {
+					generator = new VerificationCodeGenerator(null);
+				}
+				retval.addAll(((SpdxPackage)element).verifyPackageVerificationCodeValue(generator));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Set of verified element IDs used when verifying a single element.  All of the known
+	 * elements other than the element itself are treated as already verified since they are
+	 * verified by their own task.  Elements not known to the document (e.g. external
+	 * elements) are verified once within the scope.
+	 */
+	private static class ElementScope extends AbstractSet<String> {
+		private final String elementId;
+		private final Set<String> knownIds;
+		private final Set<String> verifiedIds = Sets.newHashSet();
+
+		ElementScope(String elementId, Set<String> knownIds) {
+			this.elementId = elementId;
+			this.knownIds = knownIds;
+		}
+
+		@Override
+		public boolean add(String id) {
+			if (knownIds.contains(id) && !id.equals(elementId)) {
+				return false;
+			}
+			return verifiedIds.add(id);
+		}
+
+		@Override
+		public boolean contains(Object id) {
+			return (knownIds.contains(id) && !id.equals(elementId)) || verifiedIds.contains(id);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return verifiedIds.iterator();
+		}
+
+		@Override
+		public int size() {
+			return verifiedIds.size();
+		}
+	}
+}
@@ -143,6 +143,30 @@ public class SpdxElement extends RdfModelObject {
 	 */
 	@Override
 	public List<String> verify() {
+		return verify(Sets.<String>newHashSet());
+	}
+
+	/**
+	 * Verify this element and the SPDX elements it references which have not already been verified
+	 * @param verifiedElementIds IDs of the SPDX elements which have already been verified.  The IDs of
+	 * this element and any referenced elements verified are added to the set.
+	 * @return list of verification errors and warnings - empty if this element has already been verified
+	 */
+	public List<String> verify(Set<String> verifiedElementIds) {
+		String elementId = this.getId();
+		if (elementId != null && !verifiedElementIds.add(elementId)) {
+			return Lists.newArrayList();
+		}
+		return verifyElement(verifiedElementIds);
+	}
+
+	/**
+	 * Verify the properties of this element.  Subclasses extend this method to verify their properties.
+	 * @param verifiedElementIds IDs of the SPDX elements which have already been verified - passed to
+	 * <code>verify(Set)</code> for any referenced SPDX elements
+	 * @return list of verification errors and warnings
+	 */
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
 		String localName = name;
 		List<String> retval = Lists.newArrayList();
 		if (this.name == null) {
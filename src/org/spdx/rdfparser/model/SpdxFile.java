@@ -19,6 +19,7 @@ package org.spdx.rdfparser.model;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
@@ -28,10 +29,12 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.CompactFileStore;
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.RdfModelHelper;
 import org.spdx.rdfparser.RdfParserHelper;
+import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
@@ -123,6 +126,14 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	String noticeText;
 	DoapProject[] artifactOf = new DoapProject[0];
 	SpdxFile[] fileDependencies = new SpdxFile[0];
+	/**
+	 * Store holding the name, checksums, file types, licenses, copyright, contributors and notice
+	 * of this file when the compact file store is enabled for the document container.  While the
+	 * file is in the store, the corresponding fields are only set while they are in use.
+	 */
+	private volatile CompactFileStore compactFileStore;
+	private int compactFileRow;
+	private int fieldsInUse;
 
 	/**
 	 * @param name fileName
@@ -191,8 +202,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 */
 	@Override
 	public void getPropertiesFromModel() throws InvalidSPDXAnalysisException {
+		boolean compact = this.compactFileStore != null;
 		super.getPropertiesFromModel();
 		getMyPropertiesFromModel();
+		if (compact) {
+			moveFieldsToCompactFileStore();
+		}
 	}
 
 	void getMyPropertiesFromModel() throws InvalidSPDXAnalysisException {
@@ -241,6 +256,78 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 			throws InvalidSPDXAnalysisException {
 		super(modelContainer, node);
 		getMyPropertiesFromModel();
+		moveFieldsToCompactFileStore();
+	}
+
+	/**
+	 * Move the file level properties to the compact file store if it is enabled for the document container
+	 */
+	private void moveFieldsToCompactFileStore() {
+		if (this.resource == null || !this.resource.isURIResource() ||
+				!(this.modelContainer instanceof SpdxDocumentContainer)) {
+			return;
+		}
+		CompactFileStore store = ((SpdxDocumentContainer)this.modelContainer).getCompactFileStore();
+		if (store == null) {
+			return;
+		}
+		synchronized(this) {
+			this.compactFileRow = store.updateFile(this.resource.getURI(), this.name, this.checksums,
+					this.fileTypes, this.licenseConcluded, this.licenseInfoFromFiles, this.copyrightText,
+					this.fileContributors, this.noticeText);
+			this.compactFileStore = store;
+			if (this.fieldsInUse == 0) {
+				clearCompactFields();
+			}
+		}
+	}
+
+	/**
+	 * Copy the file level properties from the compact file store back to the fields - the file
+	 * is no longer kept in the compact file store until <code>moveFieldsToCompactFileStore</code> is called
+	 */
+	private synchronized void copyFieldsFromCompactFileStore() {
+		if (this.compactFileStore != null) {
+			loadCompactFields();
+			this.compactFileStore = null;
+		}
+	}
+
+	/**
+	 * Make sure the fields are set while they are used directly - must be paired with <code>releaseFields</code>
+	 */
+	private synchronized void acquireFields() {
+		if (this.fieldsInUse++ == 0 && this.compactFileStore != null) {
+			loadCompactFields();
+		}
+	}
+
+	private synchronized void releaseFields() {
+		if (--this.fieldsInUse == 0 && this.compactFileStore != null) {
+			clearCompactFields();
+		}
+	}
+
+	private void loadCompactFields() {
+		this.name = compactFileStore.getName(compactFileRow);
+		this.checksums = compactFileStore.getChecksums(compactFileRow);
+		this.fileTypes = compactFileStore.getFileTypes(compactFileRow);
+		this.licenseConcluded = compactFileStore.getLicenseConcluded(compactFileRow);
+		this.licenseInfoFromFiles = compactFileStore.getLicenseInfoInFiles(compactFileRow);
+		this.copyrightText = compactFileStore.getCopyrightText(compactFileRow);
+		this.fileContributors = compactFileStore.getContributors(compactFileRow);
+		this.noticeText = compactFileStore.getNoticeText(compactFileRow);
+	}
+
+	private void clearCompactFields() {
+		this.name = null;
+		this.checksums = null;
+		this.fileTypes = null;
+		this.licenseConcluded = null;
+		this.licenseInfoFromFiles = null;
+		this.copyrightText = null;
+		this.fileContributors = null;
+		this.noticeText = null;
 	}
 
 	/**
@@ -250,35 +337,56 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	static protected Resource findFileResource(IModelContainer modelContainer, SpdxFile spdxFile) throws InvalidSPDXAnalysisException {
-		// find any matching file names
-		Model model = modelContainer.getModel();
-		Node fileNameProperty = model.getProperty(SpdxRdfConstants.SPDX_NAMESPACE, SpdxRdfConstants.PROP_FILE_NAME).asNode();
 		if (spdxFile.getName() == null) {
 			return null;	// Can't match without a name
 		}
+		Model model = modelContainer.getModel();
+		if (modelContainer instanceof SpdxDocumentContainer) {
+			Node fileNode = ((SpdxDocumentContainer)modelContainer).getFileIndex().findFile(spdxFile.getName(), spdxFile.getSha1());
+			return fileNode == null ? null : RdfParserHelper.convertToResource(model, fileNode);
+		}
+		// find any matching file names
+		Node fileNameProperty = model.getProperty(SpdxRdfConstants.SPDX_NAMESPACE, SpdxRdfConstants.PROP_FILE_NAME).asNode();
+		Node checksumProperty = model.getProperty(SpdxRdfConstants.SPDX_NAMESPACE, SpdxRdfConstants.PROP_FILE_CHECKSUM).asNode();
 		Triple fileNameMatch = Triple.createMatch(null, fileNameProperty, NodeFactory.createLiteral(spdxFile.getName()));
-
 		ExtendedIterator<Triple> filenameMatchIter = model.getGraph().find(fileNameMatch);
-		if (filenameMatchIter.hasNext()) {
-			Triple fileMatchTriple = filenameMatchIter.next();
-			Node fileNode = fileMatchTriple.getSubject();
-			// check the checksum
-			Node checksumProperty = model.getProperty(SpdxRdfConstants.SPDX_NAMESPACE, SpdxRdfConstants.PROP_FILE_CHECKSUM).asNode();
-			Triple checksumMatch = Triple.createMatch(fileNode, checksumProperty, null);
-			ExtendedIterator<Triple> checksumMatchIterator = model.getGraph().find(checksumMatch);
-			if (checksumMatchIterator.hasNext()) {
-				Triple checksumMatchTriple = checksumMatchIterator.next();
-				Checksum cksum = new Checksum(modelContainer, checksumMatchTriple.getObject());
-				if (cksum.getAlgorithm().equals(ChecksumAlgorithm.checksumAlgorithm_sha1) &&
-						cksum.getValue().compareToIgnoreCase(spdxFile.getSha1()) == 0) {
-					return RdfParserHelper.convertToResource(model, fileNode);
+		try {
+			while (filenameMatchIter.hasNext()) {
+				Node fileNode = filenameMatchIter.next().getSubject();
+				// check the checksums
+				Triple checksumMatch = Triple.createMatch(fileNode, checksumProperty, null);
+				ExtendedIterator<Triple> checksumMatchIterator = model.getGraph().find(checksumMatch);
+				try {
+					while (checksumMatchIterator.hasNext()) {
+						Checksum cksum = new Checksum(modelContainer, checksumMatchIterator.next().getObject());
+						if (ChecksumAlgorithm.checksumAlgorithm_sha1.equals(cksum.getAlgorithm()) &&
+								cksum.getValue() != null &&
+								cksum.getValue().compareToIgnoreCase(spdxFile.getSha1()) == 0) {
+							return RdfParserHelper.convertToResource(model, fileNode);
+						}
+					}
+				} finally {
+					checksumMatchIterator.close();
 				}
 			}
+		} finally {
+			filenameMatchIter.close();
 		}
 		// if we get to here, we did not find a match
 		return null;
 	}
 
+	/**
+	 * Update the document container's index of files with the current name and SHA1 of this file
+	 */
+	private void updateFileIndex() {
+		if (this.resource == null || !(this.modelContainer instanceof SpdxDocumentContainer)) {
+			return;
+		}
+		((SpdxDocumentContainer)this.modelContainer).getFileIndex().updateFile(this.resource.asNode(),
+				getName(), getSha1());
+	}
+
 	@Override
 	public Resource findDuplicateResource(IModelContainer modelContainer, String uri) throws InvalidSPDXAnalysisException {
 		// see if we want to change what is considered a duplicate
@@ -292,6 +400,10 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * sha1 checksum has been set
 	 */
 	public String getSha1() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getSha1(compactFileRow);
+		}
 		if (this.checksums != null) {
 			for (int i = 0;i < this.checksums.length; i++) {
 				if (this.checksums[i].getAlgorithm().equals(ChecksumAlgorithm.checksumAlgorithm_sha1)) {
@@ -342,20 +454,27 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 
 	@Override
 	public void populateModel() throws InvalidSPDXAnalysisException {
-		super.populateModel();
-		setPropertyUriValues(SpdxRdfConstants.SPDX_NAMESPACE,
-			SpdxRdfConstants.PROP_FILE_TYPE,
-			fileTypesToUris(this.fileTypes));
-		setPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
-				SpdxRdfConstants.PROP_FILE_CHECKSUM, this.checksums);
-		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
-			SpdxRdfConstants.PROP_FILE_CONTRIBUTOR, this.fileContributors);
-		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
-			SpdxRdfConstants.PROP_FILE_NOTICE, noticeText);
-		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
-			SpdxRdfConstants.PROP_FILE_ARTIFACTOF, artifactOf);
-		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
-			SpdxRdfConstants.PROP_FILE_FILE_DEPENDENCY, fileDependencies, false);
+		acquireFields();
+		try {
+			super.populateModel();
+			setPropertyUriValues(SpdxRdfConstants.SPDX_NAMESPACE,
+				SpdxRdfConstants.PROP_FILE_TYPE,
+				fileTypesToUris(this.fileTypes));
+			setPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
+					SpdxRdfConstants.PROP_FILE_CHECKSUM, this.checksums);
+			setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
+				SpdxRdfConstants.PROP_FILE_CONTRIBUTOR, this.fileContributors);
+			setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
+				SpdxRdfConstants.PROP_FILE_NOTICE, noticeText);
+			setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
+				SpdxRdfConstants.PROP_FILE_ARTIFACTOF, artifactOf);
+			setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
+				SpdxRdfConstants.PROP_FILE_FILE_DEPENDENCY, fileDependencies, false);
+			updateFileIndex();
+			moveFieldsToCompactFileStore();
+		} finally {
+			releaseFields();
+		}
 	}
 
 	@Override
@@ -368,6 +487,95 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		return SpdxRdfConstants.PROP_FILE_NAME;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxElement#setName(java.lang.String)
+	 */
+	@Override
+	public void setName(String name) {
+		copyFieldsFromCompactFileStore();
+		super.setName(name);
+		updateFileIndex();
+		moveFieldsToCompactFileStore();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxElement#getName()
+	 */
+	@Override
+	public String getName() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getName(compactFileRow);
+		}
+		return super.getName();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#getCopyrightText()
+	 */
+	@Override
+	public String getCopyrightText() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getCopyrightText(compactFileRow);
+		}
+		return super.getCopyrightText();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#setCopyrightText(java.lang.String)
+	 */
+	@Override
+	public void setCopyrightText(String copyrightText) {
+		copyFieldsFromCompactFileStore();
+		super.setCopyrightText(copyrightText);
+		moveFieldsToCompactFileStore();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#getLicenseConcluded()
+	 */
+	@Override
+	public AnyLicenseInfo getLicenseConcluded() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getLicenseConcluded(compactFileRow);
+		}
+		return super.getLicenseConcluded();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#setLicenseConcluded(org.spdx.rdfparser.license.AnyLicenseInfo)
+	 */
+	@Override
+	public void setLicenseConcluded(AnyLicenseInfo licenseConcluded) throws InvalidSPDXAnalysisException {
+		copyFieldsFromCompactFileStore();
+		super.setLicenseConcluded(licenseConcluded);
+		moveFieldsToCompactFileStore();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#getLicenseInfoFromFiles()
+	 */
+	@Override
+	public AnyLicenseInfo[] getLicenseInfoFromFiles() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getLicenseInfoInFiles(compactFileRow);
+		}
+		return super.getLicenseInfoFromFiles();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.model.SpdxItem#setLicenseInfosFromFiles(org.spdx.rdfparser.license.AnyLicenseInfo[])
+	 */
+	@Override
+	public void setLicenseInfosFromFiles(AnyLicenseInfo[] licenseInfoFromFiles) throws InvalidSPDXAnalysisException {
+		copyFieldsFromCompactFileStore();
+		super.setLicenseInfosFromFiles(licenseInfoFromFiles);
+		moveFieldsToCompactFileStore();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.rdfparser.model.RdfModelObject#getType(org.apache.jena.rdf.model.Model)
 	 */
@@ -380,6 +588,10 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @return the fileType
 	 */
 	public FileType[] getFileTypes() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getFileTypes(compactFileRow);
+		}
 		if (this.resource != null && this.refreshOnGet) {
 			String[] fileTypeUris = findUriPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
 					SpdxRdfConstants.PROP_FILE_TYPE);
@@ -397,6 +609,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public void setFileTypes(FileType[] fileTypes) throws InvalidSPDXAnalysisException {
+		copyFieldsFromCompactFileStore();
 		this.fileTypes = fileTypes;
 		if (this.fileTypes == null) {
 			this.fileTypes = new FileType[0];
@@ -404,6 +617,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		setPropertyUriValues(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_FILE_TYPE,
 				fileTypesToUris(this.fileTypes));
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
@@ -415,16 +629,22 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		if (fileType == null) {
 			return;
 		}
+		copyFieldsFromCompactFileStore();
 		this.fileTypes = Arrays.copyOf(this.fileTypes, this.fileTypes.length + 1);
 		this.fileTypes[this.fileTypes.length-1] = fileType;
 		addPropertyUriValue(SpdxRdfConstants.SPDX_NAMESPACE,
-				SpdxRdfConstants.PROP_FILE_TYPE, fileType.toString());
+				SpdxRdfConstants.PROP_FILE_TYPE, SpdxRdfConstants.SPDX_NAMESPACE + fileType.toString());
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
 	 * @return the checksums
 	 */
 	public Checksum[] getChecksums() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getChecksums(compactFileRow);
+		}
 		if (this.resource != null && this.refreshOnGet) {
 			try {
 				Checksum[] refresh = findMultipleChecksumPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
@@ -444,9 +664,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public void setChecksums(Checksum[] checksums) throws InvalidSPDXAnalysisException {
+		copyFieldsFromCompactFileStore();
 		this.checksums = checksums;
 		setPropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_FILE_CHECKSUM, this.checksums);
+		updateFileIndex();
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
@@ -458,16 +681,23 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		if (checksum == null) {
 			return;
 		}
+		copyFieldsFromCompactFileStore();
 		this.checksums = Arrays.copyOf(this.checksums, this.checksums.length + 1);
 		this.checksums[this.checksums.length - 1] = checksum;
 		addPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_FILE_CHECKSUM, checksum);
+		updateFileIndex();
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
 	 * @return the fileContributors
 	 */
 	public String[] getFileContributors() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getContributors(compactFileRow);
+		}
 		if (this.resource != null && this.refreshOnGet) {
 			this.fileContributors = findMultiplePropertyValues(SpdxRdfConstants.SPDX_NAMESPACE,
 					SpdxRdfConstants.PROP_FILE_CONTRIBUTOR);
@@ -479,6 +709,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @param fileContributors the fileContributors to set
 	 */
 	public void setFileContributors(String[] fileContributors) {
+		copyFieldsFromCompactFileStore();
 		if (fileContributors == null) {
 			this.fileContributors = new String[0];
 		} else {
@@ -486,12 +717,17 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		}
 		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_FILE_CONTRIBUTOR, fileContributors);
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
 	 * @return the noticeText
 	 */
 	public String getNoticeText() {
+		CompactFileStore store = this.compactFileStore;
+		if (store != null) {
+			return store.getNoticeText(compactFileRow);
+		}
 		if (this.resource != null && this.refreshOnGet) {
 			this.noticeText = findSinglePropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
 					SpdxRdfConstants.PROP_FILE_NOTICE);
@@ -503,9 +739,11 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @param noticeText the noticeText to set
 	 */
 	public void setNoticeText(String noticeText) {
+		copyFieldsFromCompactFileStore();
 		this.noticeText = noticeText;
 		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_FILE_NOTICE, noticeText);
+		moveFieldsToCompactFileStore();
 	}
 
 	/**
@@ -662,6 +900,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 			return (SpdxFile)clonedElementIds.get(this.getId());
 		}
 		SpdxFile retval;
+		acquireFields();
 		try {
 			retval = new SpdxFile(name, comment, cloneAnnotations(),
 					null, cloneLicenseConcluded(),
@@ -671,6 +910,8 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		} catch (InvalidSPDXAnalysisException e) {
 			logger.error("Error cloning file: ",e);
 			retval = null;
+		} finally {
+			releaseFields();
 		}
 		clonedElementIds.put(this.getId(), retval);
 		if(retval != null){
@@ -696,8 +937,17 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	}
 
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
+		acquireFields();
+		try {
+			return verifyFileElement(verifiedElementIds);
+		} finally {
+			releaseFields();
+		}
+	}
+
+	private List<String> verifyFileElement(Set<String> verifiedElementIds) {
+		List<String> retval = super.verifyElement(verifiedElementIds);
 		String fileName = this.getName();
 		if (fileName == null) {
 			fileName = "UNKNOWN";
@@ -724,7 +974,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		// fileDependencies
 		if (fileDependencies != null) {
 			for (int i = 0; i < fileDependencies.length; i++) {
-				List<String> verifyFileDependency = fileDependencies[i].verify();
+				List<String> verifyFileDependency = fileDependencies[i].verify(verifiedElementIds);
 				for (int j = 0; j < verifyFileDependency.size(); j++) {
 					retval.add("Invalid file dependency for file named "+
 							fileDependencies[i].getName()+": "+verifyFileDependency.get(j));
@@ -734,6 +984,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		return retval;
 	}
 
+	@Override
+	public String toString() {
+		String fileName = getName();
+		return fileName == null ? super.toString() : fileName;
+	}
+
     /**
      * This method is used for sorting a list of SPDX files
      * @param file SPDXFile that is compared
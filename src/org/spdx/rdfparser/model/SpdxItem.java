@@ -19,6 +19,7 @@ package org.spdx.rdfparser.model;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -358,8 +359,8 @@ public class SpdxItem extends SpdxElement {
 	}
 
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
+		List<String> retval = super.verifyElement(verifiedElementIds);
 		String name = "UNKNOWN";
 		if (this.name != null) {
 			name = this.name;
@@ -16,9 +16,11 @@
 */
 package org.spdx.rdfparser.model;
 
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -27,6 +29,7 @@ import org.spdx.rdfparser.RdfParserHelper;
 import org.spdx.rdfparser.SpdxPackageVerificationCode;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.SpdxVerificationHelper;
+import org.spdx.rdfparser.VerificationCodeGenerator;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.OrLaterOperator;
 import org.spdx.rdfparser.license.SimpleLicensingInfo;
@@ -35,6 +38,7 @@ import org.spdx.rdfparser.license.SpdxNoneLicense;
 import org.spdx.rdfparser.license.WithExceptionOperator;
 import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
@@ -898,12 +902,12 @@ public class SpdxPackage extends SpdxItem implements SpdxRdfConstants, Comparabl
 	}
 
 	@Override
-	public List<String> verify() {
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
 		String pkgName = name;
 		if (pkgName == null ) {
 			pkgName = "UNKNOWN PACKAGE";
 		}
-		List<String> retval = super.verify();
+		List<String> retval = super.verifyElement(verifiedElementIds);
 		// summary - nothing really to check
 
 		// description - nothing really to check
@@ -969,7 +973,7 @@ public class SpdxPackage extends SpdxItem implements SpdxRdfConstants, Comparabl
 					retval.add("Warning: Found analyzed files for package "+pkgName+" when analyzedFiles is set to false.");
 				}
 				for (int i = 0; i < files.length; i++) {
-					List<String> verify = files[i].verify();
+					List<String> verify = files[i].verify(verifiedElementIds);
 					addNameToWarnings(verify);
 					retval.addAll(verify);
 				}
@@ -1020,6 +1024,50 @@ public class SpdxPackage extends SpdxItem implements SpdxRdfConstants, Comparabl
 		}
 		return retval;
 	}
+
+	/**
+	 * Recalculate the package verification code from the SHA1 checksums of the package files
+	 * and compare it to the package verification code value.  This is not part of <code>verify()</code>
+	 * since it requires reading the checksums of all files in the package.  Missing or invalid
+	 * verification codes and file checksums are reported by <code>verify()</code> and are not reported here.
+	 * @param generator generator used to calculate the verification code
+	 * @return list of verification errors - empty if the verification code matches the package files
+	 */
+	public List<String> verifyPackageVerificationCodeValue(VerificationCodeGenerator generator) {
+		String pkgName = name;
+		if (pkgName == null ) {
+			pkgName = "UNKNOWN PACKAGE";
+		}
+		List<String> retval = Lists.newArrayList();
+		try {
+			SpdxPackageVerificationCode verificationCode = this.getPackageVerificationCode();
+			if (!this.isFilesAnalyzed() || verificationCode == null ||
+					verificationCode.getValue() == null || verificationCode.getValue().isEmpty()) {
+				return retval;
+			}
+			SpdxFile[] files = this.getFiles();
+			if (files == null || files.length == 0) {
+				return retval;
+			}
+			for (SpdxFile file:files) {
+				if (SpdxVerificationHelper.verifyChecksumString(file.getSha1()) != null) {
+					return retval;	// the code can not be checked without a valid SHA1 for every file
+				}
+			}
+			SpdxPackageVerificationCode calculated = generator.generatePackageVerificationCode(files,
+					verificationCode.getExcludedFileNames());
+			if (!verificationCode.getValue().trim().equalsIgnoreCase(calculated.getValue())) {
+				retval.add("Package verification code "+verificationCode.getValue()+
+						" does not match the verification code "+calculated.getValue()+
+						" calculated from the file checksums for package "+pkgName);
+			}
+		} catch (InvalidSPDXAnalysisException e) {
+			retval.add("Invalid package verification code: " + e.getMessage());
+		} catch (NoSuchAlgorithmException e) {
+			retval.add("Unable to calculate the package verification code for package "+pkgName+": "+e.getMessage());
+		}
+		return retval;
+	}
 	// the following methods are provided to ease the migration to the SPDX 2.0 version
 
 	/**
@@ -18,13 +18,17 @@ package org.spdx.rdfparser.model;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SnippetRangeIndex;
+import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.model.pointer.ByteOffsetPointer;
 import org.spdx.rdfparser.model.pointer.LineCharPointer;
+import org.spdx.rdfparser.model.pointer.SinglePointer;
 import org.spdx.rdfparser.model.pointer.StartEndPointer;
 
 import com.google.common.collect.Lists;
@@ -162,6 +166,16 @@ snippet information applies to.
 			return null;
 		}
 		Model model = modelContainer.getModel();
+		if (modelContainer instanceof SpdxDocumentContainer) {
+			Integer byteStart = getPointerValue(this.byteRange.getStartPointer());
+			Integer byteEnd = getPointerValue(this.byteRange.getEndPointer());
+			if (byteStart == null || byteEnd == null) {
+				return null;
+			}
+			Node duplicate = ((SpdxDocumentContainer)modelContainer).getSnippetRangeIndex().findSnippetByByteRange(
+					snippetFromFileResource.asNode(), byteStart, byteEnd);
+			return duplicate == null ? null : model.asRDFNode(duplicate).asResource();
+		}
 		Node snippetFromFileProperty = model.getProperty(SpdxRdfConstants.SPDX_NAMESPACE, SpdxRdfConstants.PROP_SNIPPET_FROM_FILE).asNode();
 		Triple fileMatch = Triple.createMatch(null, snippetFromFileProperty, snippetFromFileResource.asNode());
 
@@ -176,6 +190,51 @@ snippet information applies to.
 		return null;
 	}
 
+	/**
+	 * @param pointer
+	 * @return the byte offset or line number of the pointer or null if not available
+	 */
+	private static Integer getPointerValue(SinglePointer pointer) {
+		if (pointer instanceof ByteOffsetPointer) {
+			return ((ByteOffsetPointer)pointer).getOffset();
+		} else if (pointer instanceof LineCharPointer) {
+			return ((LineCharPointer)pointer).getLineNumber();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Update the document container's index of snippet ranges with the current ranges of this snippet
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void updateSnippetRangeIndex() throws InvalidSPDXAnalysisException {
+		if (this.resource == null || !(this.modelContainer instanceof SpdxDocumentContainer)) {
+			return;
+		}
+		SnippetRangeIndex index = ((SpdxDocumentContainer)this.modelContainer).getSnippetRangeIndex();
+		Node fileNode = null;
+		if (this.snippetFromFile != null) {
+			Resource fileResource = SpdxFile.findFileResource(this.modelContainer, this.snippetFromFile);
+			if (fileResource != null) {
+				fileNode = fileResource.asNode();
+			}
+		}
+		Integer byteStart = null;
+		Integer byteEnd = null;
+		if (this.byteRange != null) {
+			byteStart = getPointerValue(this.byteRange.getStartPointer());
+			byteEnd = getPointerValue(this.byteRange.getEndPointer());
+		}
+		Integer lineStart = null;
+		Integer lineEnd = null;
+		if (this.lineRange != null) {
+			lineStart = getPointerValue(this.lineRange.getStartPointer());
+			lineEnd = getPointerValue(this.lineRange.getEndPointer());
+		}
+		index.updateSnippet(this.resource.asNode(), fileNode, byteStart, byteEnd, lineStart, lineEnd);
+	}
+
 	@Override
 	public String getLicenseInfoFromFilesPropertyName() {
 		return SpdxRdfConstants.PROP_LICENSE_INFO_FROM_SNIPPETS;
@@ -218,6 +277,7 @@ snippet information applies to.
 				this.lineRange.getEndPointer().setReference(snippetFromFile);
 			}
 		}
+		updateSnippetRangeIndex();
 	}
 
 	/**
@@ -262,6 +322,7 @@ snippet information applies to.
 		}
 		setPropertyValue(SpdxRdfConstants.SPDX_NAMESPACE,
 				SpdxRdfConstants.PROP_SNIPPET_RANGE, allRanges.toArray(new StartEndPointer[allRanges.size()]));
+		updateSnippetRangeIndex();
 	}
 
 	/**
@@ -415,8 +476,8 @@ snippet information applies to.
 	 * @see org.spdx.rdfparser.model.SpdxItem#verify()
 	 */
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	protected List<String> verifyElement(Set<String> verifiedElementIds) {
+		List<String> retval = super.verifyElement(verifiedElementIds);
 		String snippetName = this.name;
 		if (snippetName == null) {
 			snippetName = "[Unnamed Snippet]";
@@ -424,15 +485,15 @@ snippet information applies to.
 		if (this.snippetFromFile == null) {
 			retval.add("Missing snippet from file in Snippet "+snippetName);
 		} else {
-			retval.addAll(this.snippetFromFile.verify());
+			retval.addAll(this.snippetFromFile.verify(verifiedElementIds));
 		}
 		if (this.byteRange == null) {
 			retval.add("Missing snippet byte range from Snippet "+snippetName);
 		} else {
-			retval.addAll(this.byteRange.verify());
+			retval.addAll(this.byteRange.verify(verifiedElementIds));
 		}
 		if (this.lineRange != null) {
-			retval.addAll(this.lineRange.verify());
+			retval.addAll(this.lineRange.verify(verifiedElementIds));
 		}
 		return retval;
 	}
@@ -17,6 +17,7 @@
 package org.spdx.rdfparser.model.pointer;
 
 import java.util.List;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -128,8 +129,8 @@ public class ByteOffsetPointer extends SinglePointer {
 	}
 
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	public List<String> verify(Set<String> verifiedElementIds) {
+		List<String> retval = super.verify(verifiedElementIds);
 		if (this.offset == null) {
 			retval.add("Missing byte offset offset value");
 		} else if (this.offset < 0) {
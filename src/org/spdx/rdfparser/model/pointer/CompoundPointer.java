@@ -17,7 +17,9 @@
 package org.spdx.rdfparser.model.pointer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,11 +82,20 @@ public abstract class CompoundPointer extends RdfModelObject {
 	 */
 	@Override
 	public List<String> verify() {
+		return verify(new HashSet<String>());
+	}
+
+	/**
+	 * Verify the pointer without verifying a reference which has already been verified
+	 * @param verifiedElementIds IDs of the SPDX elements which have already been verified
+	 * @return list of verification errors and warnings
+	 */
+	public List<String> verify(Set<String> verifiedElementIds) {
 		ArrayList<String> retval = new ArrayList<String>();
 		if (this.startPointer == null) {
 			retval.add("Missing required start pointer");
 		} else {
-			retval.addAll(this.startPointer.verify());
+			retval.addAll(this.startPointer.verify(verifiedElementIds));
 		}
 		return retval;
 	}
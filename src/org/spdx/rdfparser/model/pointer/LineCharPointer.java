@@ -17,6 +17,7 @@
 package org.spdx.rdfparser.model.pointer;
 
 import java.util.List;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -130,8 +131,8 @@ public class LineCharPointer extends SinglePointer {
 	}
 
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	public List<String> verify(Set<String> verifiedElementIds) {
+		List<String> retval = super.verify(verifiedElementIds);
 		if (this.lineNumber == null) {
 			retval.add("Missing line number value");
 		} else if (this.lineNumber < 0) {
@@ -17,7 +17,9 @@
 package org.spdx.rdfparser.model.pointer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.jena.graph.Node;
 import org.slf4j.Logger;
@@ -67,11 +69,20 @@ public abstract class SinglePointer extends RdfModelObject implements Comparable
 	 */
 	@Override
 	public List<String> verify() {
+		return verify(new HashSet<String>());
+	}
+
+	/**
+	 * Verify the pointer without verifying a reference which has already been verified
+	 * @param verifiedElementIds IDs of the SPDX elements which have already been verified
+	 * @return list of verification errors and warnings
+	 */
+	public List<String> verify(Set<String> verifiedElementIds) {
 		ArrayList<String> retval = new ArrayList<String>();
 		if (this.reference == null) {
 			retval.add("Missing required reference field");
 		} else {
-			retval.addAll(this.reference.verify());
+			retval.addAll(this.reference.verify(verifiedElementIds));
 		}
 		return retval;
 	}
@@ -17,6 +17,7 @@
 package org.spdx.rdfparser.model.pointer;
 
 import java.util.List;
+import java.util.Set;
 
 import org.spdx.rdfparser.IModelContainer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -57,15 +58,15 @@ public class StartEndPointer extends CompoundPointer implements Comparable<Start
 	}
 
 	/* (non-Javadoc)
-	 * @see org.spdx.rdfparser.model.IRdfModel#verify()
+	 * @see org.spdx.rdfparser.model.pointer.CompoundPointer#verify(java.util.Set)
 	 */
 	@Override
-	public List<String> verify() {
-		List<String> retval = super.verify();
+	public List<String> verify(Set<String> verifiedElementIds) {
+		List<String> retval = super.verify(verifiedElementIds);
 		if (this.endPointer == null) {
 			retval.add("Missing required end pointer");
 		} else {
-			retval.addAll(this.endPointer.verify());
+			retval.addAll(this.endPointer.verify(verifiedElementIds));
 			if (this.startPointer != null && this.startPointer instanceof ByteOffsetPointer && !(this.endPointer instanceof ByteOffsetPointer)) {
 				retval.add("Inconsistent start and end pointer types");
 			}
@@ -1142,6 +1142,14 @@ public class CompareSpdxDocs {
 			throw(new SpdxCompareException("SPDX File "+spdxDocFileName+" can not be read."));
 		}
 
+		if (spdxDocFile.isDirectory()) {
+			// TDB2 store created by RdfToStore
+			try {
+				return SPDXDocumentFactory.createSpdxDocument(spdxDocFileName);
+			} catch (Exception e) {
+				throw(new SpdxCompareException("Unable to open the SPDX store "+spdxDocFileName+": "+e.getMessage(), e));
+			}
+		}
 		SpdxDocument retval = null;
 		String errorDetails1 = "(no error details available)";
 		String errorDetails2 = "(no error details available)";
@@ -0,0 +1,524 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.JavaSha1ChecksumGenerator;
+import org.spdx.rdfparser.SPDXCreatorInformation;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.VerificationCodeGenerator;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ConjunctiveLicenseSet;
+import org.spdx.rdfparser.license.DisjunctiveLicenseSet;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.SimpleLicensingInfo;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.rdfparser.model.SpdxSnippet;
+import org.spdx.rdfparser.model.pointer.ByteOffsetPointer;
+import org.spdx.rdfparser.model.pointer.LineCharPointer;
+import org.spdx.rdfparser.model.pointer.StartEndPointer;
+import org.spdx.spdxspreadsheet.SPDXSpreadsheet;
+import org.spdx.spdxspreadsheet.SpreadsheetException;
+import org.spdx.tag.CommonCode;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Generates synthetic SPDX 2.2 documents of a configurable size for testing and benchmarking.
+ *
+ * The document is generated through the SPDX model from a pseudo random sequence, so the same
+ * parameters and seed always produce the same document content.  The number of packages, files,
+ * snippets, relationships and extracted licenses as well as the depth of the generated license
+ * expressions can be configured.
+ *
+ * Usage: GenerateSyntheticDocument outputFile [format] [parameter=value ...]
+ *
+ * @author agent
+ *
+ */
+public class GenerateSyntheticDocument {
+
+	static final Logger logger = LoggerFactory.getLogger(GenerateSyntheticDocument.class);
+
+	static final int MIN_ARGS = 1;
+
+	// output formats in addition to the RDF formats supported by TagToRDF
+	static final String OUTPUT_N_TRIPLES = "N-TRIPLES";
+	static final String OUTPUT_TAG = "TAG";
+	static final String OUTPUT_SPREADSHEET = "XLS";
+	/**
+	 * Writes the document in every format into a directory
+	 */
+	static final String OUTPUT_ALL = "ALL";
+	static final String DEFAULT_OUTPUT_FORMAT = TagToRDF.DEFAULT_OUTPUT_FORMAT;
+
+	/**
+	 * File extension for the file written for each format when all formats are written
+	 */
+	static final Map<String, String> FORMAT_FILE_EXTENSIONS = ImmutableMap.<String, String>builder()
+			.put(TagToRDF.OUTPUT_XML_ABBREV, ".rdf")
+			.put(TagToRDF.OUTPUT_XML, ".rdf.xml")
+			.put(OUTPUT_N_TRIPLES, ".nt")
+			.put(TagToRDF.OUTPUT_TURTLE, ".ttl")
+			.put(OUTPUT_TAG, ".spdx")
+			.put(OUTPUT_SPREADSHEET, ".xls")
+			.build();
+
+	/**
+	 * Maximum number of rows in an XLS spreadsheet
+	 */
+	static final int MAX_SPREADSHEET_ROWS = 65535;
+
+	/**
+	 * Listed licenses used in the generated license expressions
+	 */
+	static final String[] LICENSE_IDS = new String[] {"Apache-2.0", "MIT", "BSD-3-Clause", "BSD-2-Clause",
+		"GPL-2.0-or-later", "LGPL-2.1-only", "EPL-1.0", "MPL-2.0", "ISC", "Zlib"};
+
+	/**
+	 * Relationship types used for the generated relationships between elements
+	 */
+	static final RelationshipType[] RELATIONSHIP_TYPES = new RelationshipType[] {
+		RelationshipType.DEPENDS_ON, RelationshipType.DYNAMIC_LINK, RelationshipType.STATIC_LINK,
+		RelationshipType.GENERATED_FROM, RelationshipType.DESCENDANT_OF, RelationshipType.VARIANT_OF,
+		RelationshipType.TEST_OF, RelationshipType.BUILD_TOOL_OF, RelationshipType.CONTAINS,
+		RelationshipType.DOCUMENTATION_OF};
+
+	static final int FILES_PER_DIRECTORY = 50;
+
+	static final String[] FILE_EXTENSIONS = new String[] {".c", ".h", ".java", ".txt", ".png"};
+	static final FileType[] EXTENSION_FILE_TYPES = new FileType[] {FileType.fileType_source,
+		FileType.fileType_source, FileType.fileType_source, FileType.fileType_text, FileType.fileType_image};
+
+	/**
+	 * Size of the generated document
+	 */
+	public static class Parameters {
+		static final String PACKAGES = "packages";
+		static final String FILES = "files";
+		static final String SNIPPETS = "snippets";
+		static final String RELATIONSHIPS = "relationships";
+		static final String EXTRACTED_LICENSES = "extractedLicenses";
+		static final String LICENSE_DEPTH = "licenseDepth";
+		static final String SEED = "seed";
+
+		int numPackages = 1;
+		int numFiles = 100;
+		int numSnippets = 0;
+		int numRelationships = 0;
+		int numExtractedLicenses = 0;
+		int licenseDepth = 1;
+		long seed = 0;
+
+		public Parameters() {
+			// default parameters
+		}
+
+		/**
+		 * @param numPackages number of packages described by the document
+		 * @param numFiles total number of files distributed evenly over the packages
+		 * @param numSnippets number of snippets from randomly chosen files
+		 * @param numRelationships number of relationships between randomly chosen elements in addition to the describes relationships
+		 * @param numExtractedLicenses number of extracted licenses used in addition to listed licenses
+		 * @param licenseDepth maximum depth of the license expressions - 0 for single licenses
+		 * @param seed seed for the pseudo random choices
+		 */
+		public Parameters(int numPackages, int numFiles, int numSnippets, int numRelationships,
+				int numExtractedLicenses, int licenseDepth, long seed) {
+			this.numPackages = numPackages;
+			this.numFiles = numFiles;
+			this.numSnippets = numSnippets;
+			this.numRelationships = numRelationships;
+			this.numExtractedLicenses = numExtractedLicenses;
+			this.licenseDepth = licenseDepth;
+			this.seed = seed;
+		}
+
+		/**
+		 * Set a parameter from a command line argument
+		 * @param arg argument in the form name=value
+		 * @throws OnlineToolException if the argument is not a valid parameter
+		 */
+		void setParameter(String arg) throws OnlineToolException {
+			int eq = arg.indexOf('=');
+			if (eq < 1) {
+				throw new OnlineToolException("Invalid parameter "+arg+".  Parameters must be in the form name=value");
+			}
+			String name = arg.substring(0, eq).trim();
+			String value = arg.substring(eq + 1).trim();
+			try {
+				if (PACKAGES.equalsIgnoreCase(name)) {
+					numPackages = Integer.parseInt(value);
+				} else if (FILES.equalsIgnoreCase(name)) {
+					numFiles = Integer.parseInt(value);
+				} else if (SNIPPETS.equalsIgnoreCase(name)) {
+					numSnippets = Integer.parseInt(value);
+				} else if (RELATIONSHIPS.equalsIgnoreCase(name)) {
+					numRelationships = Integer.parseInt(value);
+				} else if (EXTRACTED_LICENSES.equalsIgnoreCase(name)) {
+					numExtractedLicenses = Integer.parseInt(value);
+				} else if (LICENSE_DEPTH.equalsIgnoreCase(name)) {
+					licenseDepth = Integer.parseInt(value);
+				} else if (SEED.equalsIgnoreCase(name)) {
+					seed = Long.parseLong(value);
+				} else {
+					throw new OnlineToolException("Unknown parameter "+name);
+				}
+			} catch (NumberFormatException e) {
+				throw new OnlineToolException("Invalid number "+value+" for parameter "+name);
+			}
+		}
+
+		/**
+		 * @throws OnlineToolException if any of the parameters are out of range
+		 */
+		void validate() throws OnlineToolException {
+			if (numPackages < 1) {
+				throw new OnlineToolException("The number of packages must be at least 1");
+			}
+			if (numFiles < 0 || numSnippets < 0 || numRelationships < 0 || numExtractedLicenses < 0 || licenseDepth < 0) {
+				throw new OnlineToolException("The number of files, snippets, relationships, extracted licenses and the license depth can not be negative");
+			}
+			if (numSnippets > 0 && numFiles == 0) {
+				throw new OnlineToolException("Snippets require at least one file");
+			}
+		}
+	}
+
+	/**
+	 * @param args args[0] is the output file or directory, args[1] is the optional output format
+	 * followed by optional parameters in the form name=value
+	 */
+	public static void main(String[] args) {
+		if (args.length < MIN_ARGS) {
+			usage();
+			return;
+		}
+		try {
+			onlineFunction(args);
+		} catch (OnlineToolException e) {
+			System.out.println(e.getMessage());
+			usage();
+			return;
+		}
+	}
+
+	/**
+	 * @param args args[0] is the output file or directory, args[1] is the optional output format
+	 * followed by optional parameters in the form name=value
+	 * @throws OnlineToolException
+	 */
+	public static void onlineFunction(String[] args) throws OnlineToolException {
+		File output = new File(args[0]);
+		String outputFormat = DEFAULT_OUTPUT_FORMAT;
+		Parameters parameters = new Parameters();
+		for (int i = 1; i < args.length; i++) {
+			if (i == 1 && !args[i].contains("=")) {
+				outputFormat = args[i].toUpperCase();
+				if (TagToRDF.OUTPUT_N_TRIPLET.equals(outputFormat)) {
+					// name used by TagToRDF for the N-Triples format
+					outputFormat = OUTPUT_N_TRIPLES;
+				}
+				if (!OUTPUT_ALL.equals(outputFormat) && !FORMAT_FILE_EXTENSIONS.containsKey(outputFormat)) {
+					throw new OnlineToolException("Invalid output format "+args[i]);
+				}
+			} else {
+				parameters.setParameter(args[i]);
+			}
+		}
+		parameters.validate();
+		if (OUTPUT_ALL.equals(outputFormat)) {
+			if (output.exists() && !output.isDirectory()) {
+				throw new OnlineToolException(args[0]+" is not a directory");
+			}
+			if (!output.exists() && !output.mkdirs()) {
+				throw new OnlineToolException("Unable to create directory "+args[0]);
+			}
+		} else if (output.exists()) {
+			throw new OnlineToolException("Output file "+args[0]+" already exists");
+		}
+		SpdxDocumentContainer container;
+		try {
+			container = createDocument(parameters);
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new OnlineToolException("Error generating the SPDX document: "+e.getMessage(), e);
+		}
+		if (OUTPUT_ALL.equals(outputFormat)) {
+			String baseName = "synthetic-" + parameters.numFiles + "-" + parameters.seed;
+			for (String format:FORMAT_FILE_EXTENSIONS.keySet()) {
+				if (OUTPUT_SPREADSHEET.equals(format) && !fitsSpreadsheet(parameters)) {
+					System.out.println("Skipping the spreadsheet format - the number of files or snippets exceeds the maximum number of spreadsheet rows");
+					continue;
+				}
+				File file = new File(output, baseName + FORMAT_FILE_EXTENSIONS.get(format));
+				if (file.exists()) {
+					throw new OnlineToolException("Output file "+file.getPath()+" already exists");
+				}
+				writeDocument(container, file, format);
+			}
+		} else {
+			if (OUTPUT_SPREADSHEET.equals(outputFormat) && !fitsSpreadsheet(parameters)) {
+				throw new OnlineToolException("The number of files or snippets exceeds the maximum number of spreadsheet rows "+MAX_SPREADSHEET_ROWS);
+			}
+			writeDocument(container, output, outputFormat);
+		}
+	}
+
+	private static boolean fitsSpreadsheet(Parameters parameters) {
+		return parameters.numFiles < MAX_SPREADSHEET_ROWS && parameters.numSnippets < MAX_SPREADSHEET_ROWS;
+	}
+
+	/**
+	 * Write a document in one of the supported formats
+	 * @param container document to write
+	 * @param file output file
+	 * @param format one of RDF/XML-ABBREV, RDF/XML, N-TRIPLES, TURTLE, TAG or XLS
+	 * @throws OnlineToolException
+	 */
+	public static void writeDocument(SpdxDocumentContainer container, File file, String format) throws OnlineToolException {
+		if (OUTPUT_TAG.equals(format)) {
+			try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+				CommonCode.printDoc(container.getSpdxDocument(), out,
+						CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties"));
+			} catch (IOException e) {
+				throw new OnlineToolException("I/O error writing "+file.getPath()+": "+e.getMessage(), e);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new OnlineToolException("Error writing the tag/value document: "+e.getMessage(), e);
+			}
+		} else if (OUTPUT_SPREADSHEET.equals(format)) {
+			SPDXSpreadsheet ss = null;
+			try {
+				ss = new SPDXSpreadsheet(file, true, false);
+				RdfToSpreadsheet.copyRdfXmlToSpreadsheet(container.getSpdxDocument(), ss);
+			} catch (SpreadsheetException e) {
+				throw new OnlineToolException("Error writing the spreadsheet: "+e.getMessage(), e);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new OnlineToolException("Error writing the spreadsheet: "+e.getMessage(), e);
+			} finally {
+				if (ss != null) {
+					try {
+						ss.close();
+					} catch (SpreadsheetException e) {
+						logger.warn("Error closing spreadsheet "+file.getPath(), e);
+					}
+				}
+			}
+		} else {
+			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+				container.getModel().write(out, format);
+			} catch (IOException e) {
+				throw new OnlineToolException("I/O error writing "+file.getPath()+": "+e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Create a synthetic SPDX document.  The same parameters always create the same document.
+	 * @param parameters size of the document and the seed
+	 * @return document container for the synthetic document
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SpdxDocumentContainer createDocument(Parameters parameters) throws InvalidSPDXAnalysisException {
+		Random random = new Random(parameters.seed);
+		SpdxDocumentContainer container = new SpdxDocumentContainer("http://spdx.org/spdxdocs/synthetic-" +
+				parameters.numPackages + "-" + parameters.numFiles + "-" + parameters.seed,
+				SpdxDocumentContainer.TWO_POINT_TWO_VERSION);
+		SpdxDocument doc = container.getSpdxDocument();
+		doc.setName("Synthetic document " + parameters.seed);
+		doc.setCreationInfo(new SPDXCreatorInformation(new String[] {"Tool: GenerateSyntheticDocument"},
+				"2020-01-01T00:00:00Z", null, null));
+		doc.setDataLicense(LicenseInfoFactory.getListedLicenseById("CC0-1.0"));
+		List<SimpleLicensingInfo> licenses = Lists.newArrayList();
+		for (String licenseId:LICENSE_IDS) {
+			licenses.add(LicenseInfoFactory.getListedLicenseById(licenseId));
+		}
+		for (int i = 0; i < parameters.numExtractedLicenses; i++) {
+			ExtractedLicenseInfo extracted = new ExtractedLicenseInfo(container.getNextLicenseRef(),
+					"Synthetic license text " + i + ".\nPermission is granted to use this file for any purpose, seed " + random.nextInt(),
+					"Synthetic License " + i, null, null);
+			doc.addExtractedLicenseInfos(extracted);
+			licenses.add(extracted);
+		}
+		List<SpdxElement> elements = Lists.newArrayList();
+		List<SpdxFile> allFiles = Lists.newArrayList();
+		VerificationCodeGenerator verificationCodeGenerator;
+		try {
+			verificationCodeGenerator = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+		} catch (NoSuchAlgorithmException e) {
+			throw new InvalidSPDXAnalysisException("SHA-1 is not supported", e);
+		}
+		for (int i = 0; i < parameters.numPackages; i++) {
+			String packageName = "package" + i;
+			int numFiles = parameters.numFiles / parameters.numPackages +
+					(i < parameters.numFiles % parameters.numPackages ? 1 : 0);
+			SpdxFile[] files = new SpdxFile[numFiles];
+			Set<SimpleLicensingInfo> licensesFromFiles = Sets.newLinkedHashSet();
+			for (int j = 0; j < numFiles; j++) {
+				int extension = random.nextInt(FILE_EXTENSIONS.length);
+				String path = "./" + packageName + "/dir" + (j / FILES_PER_DIRECTORY) + "/file" + j + FILE_EXTENSIONS[extension];
+				SimpleLicensingInfo licenseInFile = licenses.get(random.nextInt(licenses.size()));
+				licensesFromFiles.add(licenseInFile);
+				files[j] = new SpdxFile(path, new FileType[] {EXTENSION_FILE_TYPES[extension]}, sha1(path),
+						createLicense(random.nextInt(parameters.licenseDepth + 1), licenses, random),
+						new AnyLicenseInfo[] {licenseInFile}, null, createCopyright(random), null, null);
+			}
+			SpdxPackageVerificationCode verificationCode;
+			try {
+				verificationCode = verificationCodeGenerator.generatePackageVerificationCode(files, new String[0]);
+			} catch (NoSuchAlgorithmException e) {
+				throw new InvalidSPDXAnalysisException("SHA-1 is not supported", e);
+			}
+			SpdxPackage pkg = new SpdxPackage(packageName, createLicense(parameters.licenseDepth, licenses, random),
+					licensesFromFiles.toArray(new AnyLicenseInfo[licensesFromFiles.size()]),
+					createCopyright(random), createLicense(parameters.licenseDepth, licenses, random),
+					"https://example.com/" + packageName + ".tar.gz", files, verificationCode);
+			pkg.setVersionInfo("1." + random.nextInt(10) + "." + random.nextInt(100));
+			pkg.setSupplier("Organization: Synthetic Supplier " + random.nextInt(100));
+			doc.addRelationship(new Relationship(pkg, RelationshipType.DESCRIBES, null));
+			elements.add(pkg);
+			for (SpdxFile file:files) {
+				elements.add(file);
+				allFiles.add(file);
+			}
+		}
+		for (int i = 0; i < parameters.numSnippets; i++) {
+			SpdxFile fromFile = allFiles.get(random.nextInt(allFiles.size()));
+			int startByte = random.nextInt(10000);
+			int startLine = random.nextInt(500) + 1;
+			SimpleLicensingInfo licenseInSnippet = licenses.get(random.nextInt(licenses.size()));
+			SpdxSnippet snippet = new SpdxSnippet("snippet" + i, null, null, null,
+					createLicense(random.nextInt(parameters.licenseDepth + 1), licenses, random),
+					new AnyLicenseInfo[] {licenseInSnippet}, createCopyright(random), null, fromFile,
+					new StartEndPointer(new ByteOffsetPointer(fromFile, startByte),
+							new ByteOffsetPointer(fromFile, startByte + 1 + random.nextInt(2000))),
+					new StartEndPointer(new LineCharPointer(fromFile, startLine),
+							new LineCharPointer(fromFile, startLine + random.nextInt(50))));
+			container.addElement(snippet);
+			elements.add(snippet);
+		}
+		if (elements.size() > 1) {
+			// group the relationships by source element to add all relationships for an element at once
+			Map<SpdxElement, List<Relationship>> relationships = Maps.newLinkedHashMap();
+			for (int i = 0; i < parameters.numRelationships; i++) {
+				int source = random.nextInt(elements.size());
+				int target = random.nextInt(elements.size() - 1);
+				if (target >= source) {
+					target++;
+				}
+				List<Relationship> sourceRelationships = relationships.get(elements.get(source));
+				if (sourceRelationships == null) {
+					sourceRelationships = Lists.newArrayList();
+					relationships.put(elements.get(source), sourceRelationships);
+				}
+				sourceRelationships.add(new Relationship(elements.get(target),
+						RELATIONSHIP_TYPES[random.nextInt(RELATIONSHIP_TYPES.length)], null));
+			}
+			for (Map.Entry<SpdxElement, List<Relationship>> entry:relationships.entrySet()) {
+				List<Relationship> sourceRelationships = Lists.newArrayList(entry.getKey().getRelationships());
+				sourceRelationships.addAll(entry.getValue());
+				entry.getKey().setRelationships(sourceRelationships.toArray(new Relationship[sourceRelationships.size()]));
+			}
+		}
+		return container;
+	}
+
+	/**
+	 * Create a license expression of a specific depth
+	 * @param depth depth of the license expression - 0 returns a single license
+	 * @param licenses licenses used in the expression
+	 * @param random
+	 * @return license expression with randomly chosen conjunctive and disjunctive license sets
+	 */
+	static AnyLicenseInfo createLicense(int depth, List<? extends AnyLicenseInfo> licenses, Random random) {
+		if (depth <= 0) {
+			return licenses.get(random.nextInt(licenses.size()));
+		}
+		AnyLicenseInfo[] members = new AnyLicenseInfo[2 + random.nextInt(2)];
+		for (int i = 0; i < members.length; i++) {
+			members[i] = createLicense(depth - 1, licenses, random);
+		}
+		if (random.nextBoolean()) {
+			return new ConjunctiveLicenseSet(members);
+		} else {
+			return new DisjunctiveLicenseSet(members);
+		}
+	}
+
+	private static String createCopyright(Random random) {
+		return "Copyright (c) " + (2000 + random.nextInt(20)) + " Contributor " + random.nextInt(1000);
+	}
+
+	/**
+	 * @param path
+	 * @return the hex SHA1 of the path - used in place of the SHA1 of the file content
+	 */
+	public static String sha1(String path) {
+		byte[] digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1").digest(path.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-1 is not supported", e);
+		}
+		StringBuilder sb = new StringBuilder();
+		for (byte b:digest) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	private static void usage() {
+		System.out.println("Usage: GenerateSyntheticDocument outputFile [format] [parameter=value ...]\n"
+				+ "Generates a synthetic SPDX 2.2 document.  The same parameters always generate the same document.\n"
+				+ "[format] must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLES, TURTLE, TAG, XLS or ALL.\n"
+				+ "  ALL writes the document in every format into the outputFile directory.\n"
+				+ "Parameters:\n"
+				+ "  packages=N           number of packages (default 1)\n"
+				+ "  files=N              total number of files (default 100)\n"
+				+ "  snippets=N           number of snippets (default 0)\n"
+				+ "  relationships=N      number of relationships between elements (default 0)\n"
+				+ "  extractedLicenses=N  number of extracted licenses (default 0)\n"
+				+ "  licenseDepth=N       maximum depth of the license expressions (default 1)\n"
+				+ "  seed=N               seed for the generated content (default 0)");
+	}
+}
@@ -17,26 +17,26 @@
 package org.spdx.tools;
 
 import java.io.File;
-import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import org.spdx.rdfparser.ArchiveVerificationCodeGenerator;
 import org.spdx.rdfparser.JavaSha1ChecksumGenerator;
 import org.spdx.rdfparser.SpdxPackageVerificationCode;
 import org.spdx.rdfparser.VerificationCodeGenerator;
 
-import com.google.common.collect.Lists;
-
 /**
- * Generates a verification code for a specific directory
+ * Generates a verification code for a specific directory or archive
  * @author Gary O'Neall
  *
  */
 public class GenerateVerificationCode {
 
 	/**
-	 * Print an SPDX Verification code for a directory of files
-	 * args[0] is the source directory containing the files
+	 * Print an SPDX Verification code for a directory of files or an archive
+	 * args[0] is the source directory containing the files or an archive file (e.g. .tar.gz, .tar.xz, .zip or .jar)
 	 * args[1] is an optional regular expression of skipped files.  The expression is applied against a file path relative the the source directory supplied
+	 * or the archive entry name
 	 * @param args
 	 */
 	public static void main(String[] args) {
@@ -49,19 +49,20 @@ public class GenerateVerificationCode {
 			error("Source directory "+args[0]+" does not exist.");
 			System.exit(1);
 		}
-		if (!sourceDirectory.isDirectory()) {
-			error("File "+args[0]+" is not a directory.");
-			System.exit(1);
-		}
-		String skippedRegex = null;
-		File[] skippedFiles = new File[0];
+		Predicate<String> skippedFilePredicate = relativePath -> false;
 		if (args.length > 1) {
-			skippedRegex = args[1];
-			skippedFiles = collectSkippedFiles(skippedRegex, sourceDirectory);
+			Pattern skippedPattern = Pattern.compile(args[1]);
+			skippedFilePredicate = relativePath -> skippedPattern.matcher(relativePath).matches();
 		}
 		try {
-			VerificationCodeGenerator vcg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
-			SpdxPackageVerificationCode verificationCode = vcg.generatePackageVerificationCode(sourceDirectory, skippedFiles);
+			SpdxPackageVerificationCode verificationCode;
+			if (sourceDirectory.isDirectory()) {
+				VerificationCodeGenerator vcg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+				verificationCode = vcg.generatePackageVerificationCode(sourceDirectory, skippedFilePredicate);
+			} else {
+				// read the files directly from the archive
+				verificationCode = new ArchiveVerificationCodeGenerator().generate(sourceDirectory, skippedFilePredicate).getVerificationCode();
+			}
 			printVerificationCode(verificationCode);
 			System.exit(0);
 		} catch (Exception ex) {
@@ -69,53 +70,6 @@ public class GenerateVerificationCode {
 		}
 	}
 
-	/**
-	 * Collect files to be skipped
-	 * @param skippedRegex Regular Expression for file paths to be skipped
-	 * @param dir Directory to scan for collecting skipped files
-	 * @return
-	 */
-	private static File[] collectSkippedFiles(String skippedRegex, File dir) {
-		Pattern skippedPattern = Pattern.compile(skippedRegex);
-		List<File> skippedFiles = Lists.newArrayList();
-		collectSkippedFiles(skippedPattern, skippedFiles, dir.getPath(), dir);
-		File[] retval = new File[skippedFiles.size()];
-		retval = skippedFiles.toArray(retval);
-		return retval;
-	}
-
-	/**
-	 * Internal method to recurse through the source directory collecting files to skip
-	 * @param skippedPattern
-	 * @param skippedFiles
-	 * @param rootPath
-	 * @param dir
-	 * @return
-	 */
-	private static void collectSkippedFiles(Pattern skippedPattern,
-			List<File> skippedFiles, String rootPath, File dir) {
-		if (dir.isFile()) {
-			String relativePath = dir.getPath().substring(rootPath.length()+1);
-			if (skippedPattern.matcher(relativePath).matches()) {
-				skippedFiles.add(dir);
-			}
-		} else if (dir.isDirectory()) {
-			File[] children = dir.listFiles();
-			if (children != null) {
-				for (int i = 0; i < children.length; i++) {
-					if (children[i].isFile()) {
-						String relativePath = children[i].getPath().substring(rootPath.length()+1);
-						if (skippedPattern.matcher(relativePath).matches()) {
-							skippedFiles.add(children[i]);
-						}
-					} else if (children[i].isDirectory()) {
-						collectSkippedFiles(skippedPattern, skippedFiles, rootPath, children[i]);
-					}
-				}
-			}
-		}
-	}
-
 	/**
 	 * @param verificationCode
 	 */
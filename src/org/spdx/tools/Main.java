@@ -49,6 +49,10 @@ public class Main {
 			Verify.main(args);
 		} else if (spdxTool.equalsIgnoreCase("GenerateVerificationCode")) {
 			GenerateVerificationCode.main(args);
+		} else if (spdxTool.equalsIgnoreCase("GenerateSyntheticDocument")) {
+			GenerateSyntheticDocument.main(args);
+		} else if (spdxTool.equalsIgnoreCase("RdfToStore")) {
+			RdfToStore.main(args);
 		} else if (spdxTool.equalsIgnoreCase("MergeSpdxDocs")) {
 			System.out.println("The merge tools are currently being upgraded to SPDX 2.0");
 		//	MergeSpdxDocs.main(args);
@@ -78,10 +82,13 @@ public class Main {
 						+ "SpreadsheetToRDF         inputFile outputFile              Examples/SPDXSpreadsheetExample.xls SpreadsheetToRDF.rdf \n"
 						+ "SpreadsheetToTag         inputFile outputFile              Examples/SPDXSpreadsheetExample.xls SpreadsheetToTag.tag \n"
 						+ "SPDXViewer               inputFile                         TestFiles/SPDXRdfExample.rdf \n"
-						+ "Verify                   inputFile                         TestFiles/SPDXRdfExample.rdf \n"
+						+ "Verify                   inputFile [VerificationCodes] [Parallel] TestFiles/SPDXRdfExample.rdf \n"
 						+ "CompareMultipleSpdxDocs  output.xls doc1 doc2 ... docN \n"
 						+ "CompareSpdxDocs          doc1 doc2 [output] \n"
-						+ "GenerateVerificationCode sourceDirectory\n"
+						+ "GenerateVerificationCode sourceDirectoryOrArchive [skippedFilesRegex]\n"
+						+ "GenerateSyntheticDocument outputFile [format] [parameter=value ...] \n"
+						+ "                         e.g. synthetic.rdf files=10000 snippets=100 \n"
+						+ "RdfToStore               inputFile storeDirectory          TestFiles/SPDXRdfExample.rdf SPDXRdfExampleStore \n"
 						+ "Version\n"
 						+ "MatchingStandardLicenses licenseTextFile");
 	}
@@ -20,23 +20,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.spdx.compare.SpdxCompareException;
-import org.spdx.merge.SpdxFileInfoMerger;
-import org.spdx.merge.SpdxLicenseInfoMerger;
-import org.spdx.merge.SpdxLicenseMapper;
-import org.spdx.merge.SpdxPackageInfoMerger;
+import org.spdx.merge.SpdxStreamingMerger;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
-import org.spdx.rdfparser.SPDXReview;
 import org.spdx.rdfparser.SpdxDocumentContainer;
-import org.spdx.rdfparser.license.ExtractedLicenseInfo;
 import org.spdx.rdfparser.model.SpdxDocument;
-import org.spdx.rdfparser.model.SpdxFile;
-import org.spdx.rdfparser.model.SpdxPackage;
-import org.spdx.spdxspreadsheet.InvalidLicenseStringException;
 
 import org.apache.jena.rdf.model.Model;
 
@@ -72,44 +63,6 @@ public class MergeSpdxDocs {
 				System.exit(ERROR_STATUS);
 			}
 
-			//store inputed SPDX documents in the array "mergeDocs" for later parsing
-			SpdxDocument[] mergeDocs = new SpdxDocument[args.length-1];
-
-			String[] docNames = new String[args.length-1];
-			@SuppressWarnings("unchecked")
-			List<String>[] verficationError = new List[args.length-1];
-
-			for(int i = 0; i < args.length-1; i++){
-				try{
-					List<String> warnings = new ArrayList<String>();
-					mergeDocs[i] = CompareSpdxDocs.openRdfOrTagDoc(args[i], warnings);
-					if (!warnings.isEmpty()) {
-						System.out.println("Verification errors were found in "+args[i].trim()+":");
-						if (!warnings.isEmpty()) {
-							System.out.println("The following warnings and or verification errors were found:");
-							for (String warning:warnings) {
-								System.out.println("\t"+warning);
-							}
-						}
-					}
-					docNames[i] = CompareSpdxDocs.convertDocName(args[i]);
-					verficationError[i] = mergeDocs[i].verify();
-					if(verficationError[i] != null && verficationError[i].size() > 0){
-						System.out.println("Warning: "+docNames[i]+" contains verfication errors.");
-					}
-				}catch(SpdxCompareException e){
-					System.out.println("Error opening SPDX document "+args[i]+" : "+e.getMessage());
-					System.exit(ERROR_STATUS);
-				}
-			}
-
-			//separate master document and sub-documents
-			SpdxDocument master = mergeDocs[0];
-			SpdxDocument[] subDocs = new SpdxDocument[mergeDocs.length-1];
-			for(int k = 0; k < subDocs.length; k++){
-				subDocs[k] = mergeDocs[k+1];
-			}
-
 			FileOutputStream out;
 			try{
 				out = new FileOutputStream(spdxRdfFile);
@@ -120,105 +73,42 @@ public class MergeSpdxDocs {
 				return;
 			}
 
-			//create outputDoc, then clone master into outputDoc
-			SpdxDocument outputDoc = null;
-			String masterDocUri = master.getDocumentContainer().getDocumentNamespace();
+			//the input documents are opened and merged one at a time so that only one
+			//input document is held in memory while the merged output is built
+			SpdxStreamingMerger merger = null;
 			Model model = null;
-			if(masterDocUri.endsWith("#")){
-				masterDocUri = masterDocUri.substring(0,masterDocUri.length()-1);
-			}
-			String outputDocURI = masterDocUri + "-merged";
-			try {
-				SpdxDocumentContainer container = new SpdxDocumentContainer(outputDocURI);
-				outputDoc = container.getSpdxDocument();
-				model = container.getModel();
-			} catch (InvalidSPDXAnalysisException e1) {
-				System.out.print("Error creating SPDX Analysis: "+e1.getMessage());
-				//System.exit(1); - Causes unit tests to block
-				try {
-					out.close();
-				} catch (IOException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
+			for(int i = 0; i < args.length-1; i++){
+				SpdxDocument inputDoc = openInputDoc(args[i]);
+				if (inputDoc == null) {
+					closeOutput(out);
+					spdxRdfFile.delete();
+					System.exit(ERROR_STATUS);
 				}
-				return;
-			}
-
-			//obtain package list from master document
-			List <SpdxPackage> packageInfoResult = null;
-			try {
-				 packageInfoResult = master.getDocumentContainer().findAllPackages();
-			} catch (InvalidSPDXAnalysisException e1) {
-				System.out.println("Error obtaining master's packages: "+e1.getMessage());
-			}
-
-			ExtractedLicenseInfo[] licInfoResult = null;
-			SpdxLicenseMapper licenseMapper = new SpdxLicenseMapper();
-
-			try{
-				SpdxLicenseInfoMerger nonStandardLicMerger = new SpdxLicenseInfoMerger(outputDoc, licenseMapper);
-				//merge non-standard license information
-				licInfoResult = nonStandardLicMerger.mergeNonStdLic(subDocs);
-			}catch(InvalidSPDXAnalysisException e){
-				System.out.println("Error merging documents' SPDX Non-standard License Information: "+e.getMessage());
-				System.exit(ERROR_STATUS);
-			}
-
-			SpdxFile[] fileInfoResult = null;
-			try{
-				SpdxFileInfoMerger fileInfoMerger = new SpdxFileInfoMerger(master, licenseMapper);
-				//merge file information
-				fileInfoResult = fileInfoMerger.mergeFileInfo(subDocs);
-			}catch(InvalidSPDXAnalysisException e){
-				System.out.println("Error merging SPDX files' Information: "+e.getMessage());
-				System.exit(ERROR_STATUS);
-			}
-
-			try{
-				SpdxPackageInfoMerger packInfoMerger = new SpdxPackageInfoMerger(packageInfoResult, subDocs, licenseMapper);
 				try {
-					packInfoMerger.mergePackagesInfo(fileInfoResult);
-				} catch (NoSuchAlgorithmException e) {
-					System.out.println("Error merging packages' information: "+e.getMessage());
-				} catch (InvalidLicenseStringException e) {
-					System.out.println("Error on package's license string "+e.getMessage());
+					if (merger == null) {
+						//create outputDoc based on the master document namespace
+						String masterDocUri = inputDoc.getDocumentContainer().getDocumentNamespace();
+						if(masterDocUri.endsWith("#")){
+							masterDocUri = masterDocUri.substring(0,masterDocUri.length()-1);
+						}
+						SpdxDocumentContainer container = new SpdxDocumentContainer(masterDocUri + "-merged");
+						model = container.getModel();
+						merger = new SpdxStreamingMerger(container);
+					}
+					merger.merge(inputDoc);
+				} catch (InvalidSPDXAnalysisException e) {
+					System.out.println("Error merging SPDX document "+args[i]+": "+e.getMessage());
+					//System.exit(ERROR_STATUS); - Causes unit tests to stop
+					closeOutput(out);
+					return;
 				}
-			}catch(InvalidSPDXAnalysisException e){
-				System.out.println("Error merging SPDX Non-standard License Information: "+e.getMessage());
-				System.exit(ERROR_STATUS);
 			}
 
-			try{
-				//set document review information as empty array
-				SPDXReview[] reviewInfoResult = new SPDXReview[0];
-				outputDoc.setReviewers(reviewInfoResult);
-				//set document SPDX version
-				outputDoc.setSpecVersion(master.getSpecVersion());
-				//set document creator information
-				outputDoc.setCreationInfo(master.getCreationInfo());
-				//set document comment information
-				outputDoc.setComment(master.getComment());
-				//set document data license information
-				outputDoc.setDataLicense(master.getDataLicense());
-				//set extracted license information
-				outputDoc.setExtractedLicenseInfos(licInfoResult);
-				//set package's declared license information
-//				outputDoc.getSpdxPackage().setLicenseDeclared(packageInfoResult.getLicenseDeclared());
-				//set package's file information
-//				outputDoc.getSpdxPackage().setFiles(fileInfoResult);
-				//set package's license comments information
-//				outputDoc.getSpdxPackage().setLicenseComments(packageInfoResult.getLicenseComments());
-				//set package's verification code
-//				outputDoc.getSpdxPackage().setPackageVerificationCode(packageInfoResult.getPackageVerificationCode());
-			}catch(InvalidSPDXAnalysisException e){
+			try {
+				merger.finish();
+			} catch (InvalidSPDXAnalysisException e) {
 				System.out.println("Error to set merged information into output document "+e.getMessage());
-				//System.exit(ERROR_STATUS); - Causes unit tests to stop
-				try {
-					out.close();
-				} catch (IOException e1) {
-					// TODO Auto-generated catch block
-					e1.printStackTrace();
-				}
+				closeOutput(out);
 				return;
 			}
 
@@ -227,15 +117,45 @@ public class MergeSpdxDocs {
 			}catch(Exception e){
 				System.out.println("Error writing to the output file "+e.getMessage());
 			}
-			finally{if (out != null) {
-				try {
-					out.close();
-				} catch (IOException e) {
-					System.out.println("Error closing RDF file: "+e.getMessage());
+			finally{
+				closeOutput(out);
+			}
+
+	}
+
+	/**
+	 * Open and verify an input document, printing any warnings or verification errors
+	 * @param docPath
+	 * @return the document or null if the document could not be opened
+	 */
+	private static SpdxDocument openInputDoc(String docPath) {
+		try{
+			List<String> warnings = new ArrayList<String>();
+			SpdxDocument retval = CompareSpdxDocs.openRdfOrTagDoc(docPath, warnings);
+			if (!warnings.isEmpty()) {
+				System.out.println("Verification errors were found in "+docPath.trim()+":");
+				System.out.println("The following warnings and or verification errors were found:");
+				for (String warning:warnings) {
+					System.out.println("\t"+warning);
 				}
-			 }
 			}
+			List<String> verificationErrors = retval.verify();
+			if(verificationErrors != null && verificationErrors.size() > 0){
+				System.out.println("Warning: "+CompareSpdxDocs.convertDocName(docPath)+" contains verfication errors.");
+			}
+			return retval;
+		}catch(SpdxCompareException e){
+			System.out.println("Error opening SPDX document "+docPath+" : "+e.getMessage());
+			return null;
+		}
+	}
 
+	private static void closeOutput(FileOutputStream out) {
+		try {
+			out.close();
+		} catch (IOException e) {
+			System.out.println("Error closing RDF file: "+e.getMessage());
+		}
 	}
 
     /**
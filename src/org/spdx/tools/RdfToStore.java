@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 agent
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.Tdb2ModelFactory;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+/**
+ * Imports an SPDX RDF file into an on-disk Jena TDB2 store.
+ *
+ * The document is parsed once and loaded in a single transaction.  The store directory can then
+ * be used in place of the SPDX file by the other tools (e.g. Verify, CompareMultipleSpdxDocs and
+ * RdfToTag) which open the stored document without parsing it again.
+ *
+ * Usage: RdfToStore inputFile storeDirectory
+ *
+ * @author agent
+ *
+ */
+public class RdfToStore {
+
+	static final Logger logger = LoggerFactory.getLogger(RdfToStore.class);
+
+	static final int MIN_ARGS = 2;
+	static final int MAX_ARGS = 2;
+
+	/**
+	 * @param args args[0] is the SPDX RDF file, args[1] is the store directory
+	 */
+	public static void main(String[] args) {
+		if (args.length < MIN_ARGS) {
+			usage();
+			return;
+		}
+		if (args.length > MAX_ARGS) {
+			System.out.printf("Warning: Extra arguments will be ignored%n");
+			usage();
+		}
+		try {
+			onlineFunction(args);
+		} catch (OnlineToolException e) {
+			System.out.println(e.getMessage());
+			usage();
+			return;
+		}
+	}
+
+	/**
+	 * @param args args[0] is the SPDX RDF file, args[1] is the store directory
+	 * @throws OnlineToolException
+	 */
+	public static void onlineFunction(String[] args) throws OnlineToolException {
+		File spdxRdfFile = new File(args[0]);
+		if (!spdxRdfFile.exists()) {
+			throw new OnlineToolException("RDF file " + args[0] +" does not exists.");
+		}
+		File storeDirectory = new File(args[1]);
+		if (storeDirectory.exists() && !storeDirectory.isDirectory()) {
+			throw new OnlineToolException(args[1]+" is not a directory");
+		}
+		String[] existingFiles = storeDirectory.list();
+		if (existingFiles != null && existingFiles.length > 0) {
+			throw new OnlineToolException("Error: Directory " + args[1] +" is not empty - please specify a new directory.");
+		}
+		try (Tdb2ModelFactory store = new Tdb2ModelFactory(storeDirectory)) {
+			long startTime = System.currentTimeMillis();
+			SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(args[0], store);
+			List<String> modelNames = store.getModelNames();
+			logger.info("Imported "+args[0]+" in "+String.valueOf(System.currentTimeMillis() - startTime)+" ms");
+			System.out.println("Imported SPDX document "+doc.getDocumentNamespace()+" into "+args[1]);
+			if (modelNames.size() != 1) {
+				logger.warn("Store contains "+String.valueOf(modelNames.size())+" models");
+			}
+		} catch (IOException e) {
+			throw new OnlineToolException("Unable to open file :"+args[0]+", "+e.getMessage());
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new OnlineToolException("Error creating SPDX Document: "+e.getMessage());
+		} catch (Exception e) {
+			throw new OnlineToolException("Error importing SPDX Document: "+e.getMessage(),e);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage: RdfToStore inputFile storeDirectory\n"
+				+ "Imports an SPDX RDF file into a new Jena TDB2 store in storeDirectory.\n"
+				+ "The storeDirectory can then be used in place of the SPDX file by the other tools.");
+	}
+}
@@ -25,6 +25,7 @@ import org.spdx.compare.SpdxCompareException;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SPDXDocumentFactory;
 import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxDocumentVerifier;
 
 /**
  * Verifies an SPDX document and lists any verification errors
@@ -34,24 +35,42 @@ import org.spdx.rdfparser.model.SpdxDocument;
 public class Verify {
 
 	static final int MIN_ARGS = 1;
-	static final int MAX_ARGS = 1;
+	static final int MAX_ARGS = 3;
 	static final int ERROR_STATUS = 1;
+	static final String CHECK_VERIFICATION_CODES = "VerificationCodes";
+	static final String PARALLEL = "Parallel";
 
 	/**
-	 * @param args Single argument SPDX file - can be tag/value or RDF
+	 * @param args SPDX file - can be tag/value or RDF - optionally followed by VerificationCodes to
+	 * recalculate the package verification codes from the file checksums and/or Parallel to verify
+	 * the document elements using one thread per available processor
 	 */
 	public static void main(String[] args) {
 		if (args.length < MIN_ARGS) {
 			System.err
-					.println("Usage:\n Verify file\nwhere file is the file path to an SPDX RDF XML or an SPDX Tag/Value file");
+					.println("Usage:\n Verify file ["+CHECK_VERIFICATION_CODES+"] ["+PARALLEL+"]\nwhere file is the file path to an SPDX RDF XML or an SPDX Tag/Value file,\n"+
+							CHECK_VERIFICATION_CODES+" checks the package verification codes against the package file checksums\n"+
+							"and "+PARALLEL+" verifies the document elements using one thread per available processor");
 			System.exit(ERROR_STATUS);
 		}
 		if (args.length > MAX_ARGS) {
 			System.out.printf("Warning: Extra arguments will be ignored");
 		}
+		boolean checkVerificationCodes = false;
+		int numThreads = 1;
+		for (int i = 1; i < args.length && i < MAX_ARGS; i++) {
+			if (CHECK_VERIFICATION_CODES.equalsIgnoreCase(args[i])) {
+				checkVerificationCodes = true;
+			} else if (PARALLEL.equalsIgnoreCase(args[i])) {
+				numThreads = Runtime.getRuntime().availableProcessors();
+			} else {
+				System.err.println("Unknown option "+args[i]+" - expected "+CHECK_VERIFICATION_CODES+" or "+PARALLEL);
+				System.exit(ERROR_STATUS);
+			}
+		}
 		List<String> verify = null;
 		try {
-			verify = verify(args[0]);
+			verify = verify(args[0], checkVerificationCodes, numThreads);
 		} catch (SpdxVerificationException e) {
 			System.out.println(e.getMessage());
 			System.exit(ERROR_STATUS);
@@ -74,6 +93,29 @@ public class Verify {
 	 * @throws Errors where the SPDX file can not be parsed or the filename is invalid
 	 */
 	public static List<String> verify(String filePath) throws SpdxVerificationException {
+		return verify(filePath, false);
+	}
+
+	/**
+	 * Verify a tag/value or SPDX file
+	 * @param filePath File path to the SPDX file to be verified
+	 * @param checkVerificationCodes if true, recalculate the package verification codes from the package file checksums
+	 * @return A list of verification errors - if empty, the SPDX file is valid
+	 * @throws Errors where the SPDX file can not be parsed or the filename is invalid
+	 */
+	public static List<String> verify(String filePath, boolean checkVerificationCodes) throws SpdxVerificationException {
+		return verify(filePath, checkVerificationCodes, 1);
+	}
+
+	/**
+	 * Verify a tag/value or SPDX file
+	 * @param filePath File path to the SPDX file to be verified
+	 * @param checkVerificationCodes if true, recalculate the package verification codes from the package file checksums
+	 * @param numThreads maximum number of threads used to verify the document elements
+	 * @return A list of verification errors - if empty, the SPDX file is valid
+	 * @throws Errors where the SPDX file can not be parsed or the filename is invalid
+	 */
+	public static List<String> verify(String filePath, boolean checkVerificationCodes, int numThreads) throws SpdxVerificationException {
 		SpdxDocument doc = null;
 		List<String> parserWarnings = new ArrayList<String>();
 		try {
@@ -81,7 +123,7 @@ public class Verify {
 		} catch (SpdxCompareException e) {
 			throw new SpdxVerificationException("Unable to parse the file: "+e.getMessage(),e);
 		}
-		List<String> verify = doc.verify();
+		List<String> verify = new SpdxDocumentVerifier(doc, numThreads, checkVerificationCodes).verify();
 		List<String> retval = new ArrayList<String>();
 		if (!verify.isEmpty()) {
 			retval.addAll(parserWarnings);